@@ -0,0 +1,110 @@
+package personal.ai.common.id;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * TSID (Time-Sorted ID)
+ * 시간순으로 정렬되는 정수 ID를 DB 왕복 없이 애플리케이션에서 발급 (Snowflake 방식)
+ *
+ * 구성 (상위 → 하위, 53비트):
+ * - 41비트: 기준 시각(2025-01-01 UTC) 이후 밀리초 (약 69년)
+ * - 5비트: 노드 ID (0~31, 인스턴스별)
+ * - 7비트: 같은 밀리초 안의 순번 (노드당 밀리초당 128개)
+ *
+ * - BIGINT 컬럼에 저장하되 53비트 이내로 유지: JSON 숫자를 double로 읽는 JS 클라이언트(브라우저, k6)에서도 정밀도 손실 없음
+ * - 순번이 넘치거나 시계가 뒤로 가면 마지막 시각에서 이어서 발급 (대기 없음, 노드 안에서 항상 증가)
+ * - 노드 ID: 환경 변수 TSID_NODE (0~31, 인스턴스를 여러 개 띄우면 인스턴스마다 다르게 지정 필수)
+ *   없으면 인스턴스 IP 주소의 하위 5비트 (같은 Docker 네트워크처럼 연속 주소를 받는 32개 이내 인스턴스에서만 서로 다름)
+ */
+@Slf4j
+public final class Tsid {
+
+    static final int NODE_BITS = 5;
+    static final int SEQUENCE_BITS = 7;
+    static final long EPOCH = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+
+    private static final long MAX_NODE = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final long node;
+    private final LongSupplier clock;
+    // 마지막 발급 상태: (밀리초 << SEQUENCE_BITS) | 순번
+    private final AtomicLong state = new AtomicLong();
+
+    Tsid(long node, LongSupplier clock) {
+        if (node < 0 || node > MAX_NODE) {
+            throw new IllegalArgumentException("TSID node must be between 0 and " + MAX_NODE + ": " + node);
+        }
+        this.node = node;
+        this.clock = clock;
+    }
+
+    /**
+     * 다음 ID 발급
+     */
+    public static long next() {
+        return Holder.INSTANCE.nextId();
+    }
+
+    long nextId() {
+        long current;
+        long next;
+        do {
+            current = state.get();
+            // 현재 시각의 첫 순번과 마지막 발급 다음 값 중 큰 값 (순번 초과 시 자연히 다음 밀리초로 넘어감)
+            next = Math.max(clock.getAsLong() << SEQUENCE_BITS, current + 1);
+        } while (!state.compareAndSet(current, next));
+
+        long millis = next >>> SEQUENCE_BITS;
+        return ((millis - EPOCH) << (NODE_BITS + SEQUENCE_BITS))
+                | (node << SEQUENCE_BITS)
+                | (next & SEQUENCE_MASK);
+    }
+
+    /**
+     * 노드 ID 결정
+     * - TSID_NODE가 있으면 그 값 (숫자가 아니거나 0~31 밖이면 첫 발급 시 실패)
+     * - 없으면 주소 하위 5비트 (호스트 이름 해시는 인스턴스 2개만으로도 충돌할 수 있어 사용하지 않음)
+     *
+     * @param configured TSID_NODE 값 (없으면 null)
+     * @param address 인스턴스 IP 주소
+     */
+    static long resolveNode(String configured, Supplier<byte[]> address) {
+        if (configured != null && !configured.isBlank()) {
+            try {
+                return Long.parseLong(configured.trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("TSID_NODE must be a number between 0 and " + MAX_NODE + ": " + configured, e);
+            }
+        }
+
+        byte[] bytes = address.get();
+        long node = bytes[bytes.length - 1] & MAX_NODE;
+        log.warn("TSID_NODE is not set, using node {} from the local address (set TSID_NODE per instance when running more than one)",
+                node);
+        return node;
+    }
+
+    private static byte[] localAddress() {
+        try {
+            return InetAddress.getLocalHost().getAddress();
+        } catch (UnknownHostException e) {
+            return InetAddress.getLoopbackAddress().getAddress();
+        }
+    }
+
+    /**
+     * 첫 발급 시 노드 ID 결정 (로거 초기화 이후)
+     */
+    private static final class Holder {
+        private static final Tsid INSTANCE = new Tsid(
+                resolveNode(System.getenv("TSID_NODE"), Tsid::localAddress), System::currentTimeMillis);
+    }
+}
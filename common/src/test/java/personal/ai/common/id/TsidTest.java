@@ -0,0 +1,138 @@
+package personal.ai.common.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tsid 발급 순서/비트 구성 테스트
+ */
+@DisplayName("TSID 발급 테스트")
+class TsidTest {
+
+    private static final long NODE = 5L;
+    private static final int TIMESTAMP_SHIFT = Tsid.NODE_BITS + Tsid.SEQUENCE_BITS;
+    private static final long SEQUENCE_PER_MILLI = 1L << Tsid.SEQUENCE_BITS;
+
+    @Test
+    @DisplayName("상위 비트부터 기준 시각 이후 밀리초, 노드 ID, 순번 순서로 구성된다")
+    void composesTimestampNodeAndSequence() {
+        // Given
+        Tsid tsid = new Tsid(NODE, () -> Tsid.EPOCH + 123);
+
+        // When
+        long first = tsid.nextId();
+        long second = tsid.nextId();
+
+        // Then
+        assertThat(first).isEqualTo((123L << TIMESTAMP_SHIFT) | (NODE << Tsid.SEQUENCE_BITS));
+        assertThat(millisOf(second)).isEqualTo(123L);
+        assertThat(nodeOf(second)).isEqualTo(NODE);
+        assertThat(sequenceOf(second)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("같은 밀리초 안에서도 발급 순서대로 증가한다")
+    void increasesMonotonically() {
+        // Given: 시각이 1ms마다 10번씩 호출 후 증가
+        AtomicLong calls = new AtomicLong();
+        Tsid tsid = new Tsid(NODE, () -> Tsid.EPOCH + calls.getAndIncrement() / 10);
+
+        // When & Then
+        long previous = tsid.nextId();
+        for (int i = 0; i < 1_000; i++) {
+            long next = tsid.nextId();
+            assertThat(next).isGreaterThan(previous);
+            previous = next;
+        }
+    }
+
+    @Test
+    @DisplayName("밀리초당 순번이 넘치면 대기 없이 다음 밀리초의 첫 순번으로 넘어간다")
+    void rollsOverToNextMilliWhenSequenceOverflows() {
+        // Given: 시계가 멈춘 상태
+        Tsid tsid = new Tsid(NODE, () -> Tsid.EPOCH + 1_000);
+
+        // When: 한 밀리초의 순번(128개)을 모두 쓴 뒤 1개 더 발급
+        long last = 0;
+        for (int i = 0; i < SEQUENCE_PER_MILLI; i++) {
+            last = tsid.nextId();
+        }
+        long overflowed = tsid.nextId();
+
+        // Then
+        assertThat(millisOf(last)).isEqualTo(1_000L);
+        assertThat(sequenceOf(last)).isEqualTo(SEQUENCE_PER_MILLI - 1);
+        assertThat(millisOf(overflowed)).isEqualTo(1_001L);
+        assertThat(sequenceOf(overflowed)).isZero();
+        assertThat(overflowed).isGreaterThan(last);
+    }
+
+    @Test
+    @DisplayName("시계가 뒤로 가도 마지막 발급 시각에서 이어서 증가한다")
+    void keepsIncreasingWhenClockMovesBackwards() {
+        // Given
+        AtomicLong now = new AtomicLong(Tsid.EPOCH + 2_000);
+        Tsid tsid = new Tsid(NODE, now::get);
+        long beforeRewind = tsid.nextId();
+
+        // When: 시계가 1초 뒤로 감
+        now.set(Tsid.EPOCH + 1_000);
+        long afterRewind = tsid.nextId();
+
+        // Then
+        assertThat(afterRewind).isGreaterThan(beforeRewind);
+        assertThat(millisOf(afterRewind)).isEqualTo(2_000L);
+        assertThat(sequenceOf(afterRewind)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("41비트 시각 범위 끝까지 53비트(JS 안전 정수) 이내로 발급된다")
+    void staysBelowTwoToThe53() {
+        // Given: 최대 노드, 41비트 시각의 마지막 밀리초
+        Tsid tsid = new Tsid((1L << Tsid.NODE_BITS) - 1, () -> Tsid.EPOCH + (1L << 41) - 1);
+
+        // When
+        long id = 0;
+        for (int i = 0; i < SEQUENCE_PER_MILLI; i++) {
+            id = tsid.nextId();
+        }
+
+        // Then
+        assertThat(id).isLessThan(1L << 53);
+        assertThat(Tsid.next()).isPositive().isLessThan(1L << 53);
+    }
+
+    @Test
+    @DisplayName("TSID_NODE가 있으면 그 값을, 없으면 주소 하위 5비트를 노드 ID로 쓴다")
+    void resolvesNodeFromEnvironmentOrAddress() {
+        // Given: 같은 Docker 네트워크의 연속 주소
+        byte[] first = {(byte) 172, 18, 0, 7};
+        byte[] second = {(byte) 172, 18, 0, 8};
+
+        // When & Then
+        assertThat(Tsid.resolveNode(" 12 ", () -> first)).isEqualTo(12L);
+        assertThat(Tsid.resolveNode(null, () -> first)).isEqualTo(7L);
+        assertThat(Tsid.resolveNode("", () -> second)).isEqualTo(8L);
+        assertThatThrownBy(() -> Tsid.resolveNode("node-1", () -> first))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new Tsid(32, System::currentTimeMillis))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static long millisOf(long id) {
+        return id >>> TIMESTAMP_SHIFT;
+    }
+
+    private static long nodeOf(long id) {
+        return (id >>> Tsid.SEQUENCE_BITS) & ((1L << Tsid.NODE_BITS) - 1);
+    }
+
+    private static long sequenceOf(long id) {
+        return id & (SEQUENCE_PER_MILLI - 1);
+    }
+}
@@ -0,0 +1,18 @@
+package personal.ai.core.adapter.out.persistence;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * TSID 식별자
+ * INSERT 전에 애플리케이션에서 ID를 발급 (IDENTITY와 달리 JDBC 배치 INSERT 가능)
+ */
+@IdGeneratorType(TsidIdentifierGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TsidId {
+}
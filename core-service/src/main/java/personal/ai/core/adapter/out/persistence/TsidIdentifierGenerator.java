@@ -0,0 +1,32 @@
+package personal.ai.core.adapter.out.persistence;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+import personal.ai.common.id.Tsid;
+
+import java.util.EnumSet;
+
+/**
+ * TSID Identifier Generator
+ * {@link TsidId} 식별자 발급 (이미 ID가 있으면 그대로 사용)
+ */
+public class TsidIdentifierGenerator implements BeforeExecutionGenerator {
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+                           EventType eventType) {
+        return currentValue != null ? currentValue : Tsid.next();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+
+    @Override
+    public boolean allowAssignedIdentifiers() {
+        return true;
+    }
+}
@@ -8,6 +8,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import personal.ai.core.admin.application.service.TestDataInitService;
+import personal.ai.core.booking.application.service.SeatQueryCacheService;
 
 import java.util.Map;
 
@@ -24,7 +25,10 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class AdminTestDataController {
 
+    private static final Long TEST_SCHEDULE_ID = 1L;
+
     private final TestDataInitService testDataInitService;
+    private final SeatQueryCacheService seatQueryCacheService;
 
     /**
      * 테스트 데이터 초기화
@@ -33,6 +37,7 @@ public class AdminTestDataController {
      * - 테스트용 Concert 1개 생성 (id=1)
      * - 테스트용 Schedule 1개 생성 (id=1, 2025-12-25 19:00)
      * - 테스트용 Seats 10,000개 생성 (VIP/R/S/A 각 2,500개, AVAILABLE)
+     * - 좌석 가용성 비트맵 폐기 (좌석 ID가 바뀌므로 다음 조회 시 재구성)
      *
      * @return 초기화 결과 (생성된 데이터 개수)
      */
@@ -42,6 +47,7 @@ public class AdminTestDataController {
 
         long startTime = System.currentTimeMillis();
         Map<String, Long> counts = testDataInitService.initializeTestData();
+        seatQueryCacheService.invalidate(TEST_SCHEDULE_ID);
         long duration = System.currentTimeMillis() - startTime;
 
         log.info("Test data initialized successfully in {}ms - Concerts: {}, Schedules: {}, Seats: {}",
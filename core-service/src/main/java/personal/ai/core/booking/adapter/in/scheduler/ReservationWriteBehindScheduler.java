@@ -0,0 +1,53 @@
+package personal.ai.core.booking.adapter.in.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import personal.ai.core.booking.application.port.in.FlushReservationWritesUseCase;
+
+/**
+ * Reservation Write-Behind Scheduler (Driving Adapter)
+ * 주기적으로 Redis에 선점된 예약을 DB에 저장하고, 확인되지 않은 항목을 복구
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "booking.reservation.write-behind.enabled", havingValue = "true")
+public class ReservationWriteBehindScheduler {
+
+    private final FlushReservationWritesUseCase flushReservationWritesUseCase;
+
+    /**
+     * 주기: application.yml의 booking.reservation.write-behind.flush-interval-ms
+     * 기본값: 100ms (선점 후 DB 저장까지의 지연 상한에 더해짐)
+     */
+    @Scheduled(fixedDelayString = "${booking.reservation.write-behind.flush-interval-ms:100}")
+    public void scheduleFlush() {
+        try {
+            int count = flushReservationWritesUseCase.flushPendingWrites();
+            if (count > 0) {
+                log.debug("Scheduled reservation write-behind completed. Count: {}", count);
+            }
+        } catch (Exception e) {
+            log.error("Failed to execute scheduled reservation write-behind", e);
+        }
+    }
+
+    /**
+     * 주기: application.yml의 booking.reservation.write-behind.recovery-interval-ms
+     * 시작 직후 1회 실행하여 재시작 전 미처리 항목과 다른 인스턴스의 방치된 항목을 가져옴
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${booking.reservation.write-behind.recovery-interval-ms:10000}")
+    public void scheduleRecovery() {
+        try {
+            int count = flushReservationWritesUseCase.recoverStaleWrites();
+            if (count > 0) {
+                log.info("Scheduled reservation write-behind recovery completed. Count: {}", count);
+            }
+        } catch (Exception e) {
+            log.error("Failed to execute scheduled reservation write-behind recovery", e);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package personal.ai.core.booking.adapter.in.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import personal.ai.core.booking.application.port.in.ReconcileSeatAvailabilityUseCase;
+
+/**
+ * Seat Availability Reconcile Scheduler (Driving Adapter)
+ * 주기적으로 Redis 좌석 가용성 비트맵을 DB 좌석 상태와 맞춤
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatAvailabilityReconcileScheduler {
+
+    private final ReconcileSeatAvailabilityUseCase reconcileSeatAvailabilityUseCase;
+
+    /**
+     * 주기: application.yml의 seat.availability.reconcile-interval-ms
+     * 기본값: 30초 (일정당 좌석 전체 조회 1회)
+     */
+    @Scheduled(fixedDelayString = "${seat.availability.reconcile-interval-ms:30000}")
+    public void scheduleReconcile() {
+        try {
+            int corrected = reconcileSeatAvailabilityUseCase.reconcileAll();
+            if (corrected > 0) {
+                log.info("Seat availability reconcile completed. Corrected: {}", corrected);
+            }
+        } catch (Exception e) {
+            log.error("Failed to execute seat availability reconcile", e);
+        }
+    }
+}
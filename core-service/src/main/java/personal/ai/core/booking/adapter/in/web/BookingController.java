@@ -3,18 +3,25 @@ package personal.ai.core.booking.adapter.in.web;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import personal.ai.common.dto.ApiResponse;
 import personal.ai.core.booking.adapter.in.web.dto.ReservationResponse;
 import personal.ai.core.booking.adapter.in.web.dto.ReserveSeatRequest;
-import personal.ai.core.booking.adapter.in.web.dto.SeatResponse;
+import personal.ai.core.booking.adapter.in.web.dto.SeatGradeSummaryResponse;
+import personal.ai.core.booking.adapter.in.web.service.SeatAvailabilityStreamService;
 import personal.ai.core.booking.application.port.in.GetAvailableSeatsUseCase;
 import personal.ai.core.booking.application.port.in.GetReservationUseCase;
 import personal.ai.core.booking.application.port.in.ReserveSeatCommand;
 import personal.ai.core.booking.application.port.in.ReserveSeatUseCase;
+import personal.ai.core.booking.application.port.in.SeatFilter;
+import personal.ai.core.booking.application.port.in.SeatMapDocument;
 import personal.ai.core.booking.domain.model.Reservation;
+import personal.ai.core.booking.domain.model.SeatGrade;
 
 import java.util.List;
 
@@ -28,35 +35,103 @@ import java.util.List;
 @RequiredArgsConstructor
 public class BookingController {
 
+    private static final String GZIP = "gzip";
+
     private final ReserveSeatUseCase reserveSeatUseCase;
     private final GetAvailableSeatsUseCase getAvailableSeatsUseCase;
     private final GetReservationUseCase getReservationUseCase;
+    private final SeatAvailabilityStreamService seatAvailabilityStreamService;
 
     /**
      * 예약 가능한 좌석 목록 조회
-     * GET /api/v1/schedules/{scheduleId}/seats
+     * GET /api/v1/schedules/{scheduleId}/seats?grade={grade}&section={section}
+     *
+     * grade/section을 주면 해당 등급/구역 좌석만 응답 (section = 좌석 번호의 마지막 '-' 앞부분, 예: VIP-0001 → VIP)
      *
-     * 성능 최적화: Response DTO를 직접 반환하여 매핑 단계 제거
+     * 성능 최적화: 비트맵 버전당 1회 직렬화한 JSON 바이트를 그대로 응답 (요청마다 Jackson 직렬화 없음)
+     * - ETag + If-None-Match 일치 시 304 (본문 없음, 토큰 검증은 항상 수행)
+     * - Accept-Encoding: gzip이면 미리 압축한 본문 응답
      */
     @GetMapping("/schedules/{scheduleId}/seats")
-    public ResponseEntity<List<SeatResponse>> getAvailableSeats(
+    public ResponseEntity<byte[]> getAvailableSeats(
             @PathVariable Long scheduleId,
+            @RequestParam(required = false) SeatGrade grade,
+            @RequestParam(required = false) String section,
             @RequestHeader("X-User-Id") Long userId,
-            @RequestHeader("X-Queue-Token") String queueToken
+            @RequestHeader("X-Queue-Token") String queueToken,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
     ) {
         long controllerStartTime = System.currentTimeMillis();
-        log.info("Get available seats: scheduleId={}, userId={}", scheduleId, userId);
+        log.info("Get available seats: scheduleId={}, userId={}, grade={}, section={}",
+                scheduleId, userId, grade, section);
 
         long serviceCallStart = System.currentTimeMillis();
-        List<SeatResponse> response = getAvailableSeatsUseCase.getAvailableSeats(scheduleId, userId, queueToken);
+        SeatMapDocument document = getAvailableSeatsUseCase.getAvailableSeats(
+                scheduleId, new SeatFilter(grade, section), userId, queueToken);
         long serviceCallTime = System.currentTimeMillis() - serviceCallStart;
 
         long totalControllerTime = System.currentTimeMillis() - controllerStartTime;
 
         log.info("Controller timing - scheduleId: {}, total: {}ms, serviceCall: {}ms, seatCount: {}",
-                scheduleId, totalControllerTime, serviceCallTime, response.size());
+                scheduleId, totalControllerTime, serviceCallTime, document.seatCount());
+
+        if (document.notModified(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(document.etag())
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (document.etag() != null) {
+            response.eTag(document.etag());
+        }
+
+        if (document.gzip() != null && acceptsGzip(acceptEncoding)) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, GZIP).body(document.gzip());
+        }
+        return response.body(document.json());
+    }
 
-        return ResponseEntity.ok(response);
+    /**
+     * 등급별 예매 가능 좌석 수와 가격 조회
+     * GET /api/v1/schedules/{scheduleId}/seats/summary
+     *
+     * 좌석 목록 대신 등급별 카운터만 응답 (좌석 선택 전 화면용)
+     */
+    @GetMapping("/schedules/{scheduleId}/seats/summary")
+    public ResponseEntity<List<SeatGradeSummaryResponse>> getSeatSummary(
+            @PathVariable Long scheduleId,
+            @RequestHeader("X-User-Id") Long userId,
+            @RequestHeader("X-Queue-Token") String queueToken
+    ) {
+        log.info("Get seat summary: scheduleId={}, userId={}", scheduleId, userId);
+
+        return ResponseEntity.ok(getAvailableSeatsUseCase.getSeatSummary(scheduleId, userId, queueToken));
+    }
+
+    /**
+     * 좌석 가용성 변경 실시간 구독 (SSE)
+     * GET /api/v1/schedules/{scheduleId}/seats/stream
+     *
+     * 좌석 목록 반복 조회 대신 연결 1개로 좌석 선택 화면 유지
+     * - snapshot: 구독 직후 전체 예매 가능 좌석
+     * - delta: 예약/만료/확정된 좌석 ID (버전이 연속되지 않으면 좌석 목록 재조회)
+     * - reset: 좌석 목록 재조회 필요
+     * 토큰은 구독 시작 시 검증 (연결 유지 시간은 seat.stream.timeout-ms로 제한)
+     */
+    @GetMapping(value = "/schedules/{scheduleId}/seats/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamSeatAvailability(
+            @PathVariable Long scheduleId,
+            @RequestHeader("X-User-Id") Long userId,
+            @RequestHeader("X-Queue-Token") String queueToken
+    ) {
+        log.info("Seat stream subscription request: scheduleId={}, userId={}", scheduleId, userId);
+
+        return seatAvailabilityStreamService.subscribe(scheduleId,
+                () -> getAvailableSeatsUseCase.getAvailableSeats(scheduleId, SeatFilter.ALL, userId, queueToken));
     }
 
     /**
@@ -98,4 +173,18 @@ public class BookingController {
 
         return ResponseEntity.ok(response);
     }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (GZIP.equalsIgnoreCase(parts[0].trim())) {
+                // gzip;q=0 은 거부
+                return parts.length < 2 || !parts[1].trim().matches("q=0(\\.0+)?");
+            }
+        }
+        return false;
+    }
 }
@@ -0,0 +1,17 @@
+package personal.ai.core.booking.adapter.in.web.dto;
+
+import java.util.List;
+
+/**
+ * 좌석 가용성 변경분 SSE 이벤트 DTO
+ *
+ * @param version 변경 후 가용성 비트맵 버전 (직전 버전 + 1이 아니면 유실이 있으므로 좌석 목록 재조회)
+ * @param available 예매 가능해진 좌석 ID (예약 만료)
+ * @param unavailable 예매 불가가 된 좌석 ID (예약, 결제 확정)
+ */
+public record SeatDeltaEvent(
+        long version,
+        List<Long> available,
+        List<Long> unavailable
+) {
+}
@@ -0,0 +1,21 @@
+package personal.ai.core.booking.adapter.in.web.dto;
+
+import personal.ai.core.booking.domain.model.SeatGrade;
+
+import java.math.BigDecimal;
+
+/**
+ * 등급별 좌석 요약 응답 DTO
+ *
+ * @param grade 좌석 등급
+ * @param price 등급 가격 (등급 안에서 가격이 다르면 최저가)
+ * @param availableCount 예매 가능 좌석 수
+ * @param totalCount 등급 전체 좌석 수
+ */
+public record SeatGradeSummaryResponse(
+        SeatGrade grade,
+        BigDecimal price,
+        int availableCount,
+        int totalCount
+) {
+}
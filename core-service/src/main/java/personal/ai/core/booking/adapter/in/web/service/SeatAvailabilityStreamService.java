@@ -0,0 +1,418 @@
+package personal.ai.core.booking.adapter.in.web.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import personal.ai.core.booking.adapter.in.web.dto.SeatDeltaEvent;
+import personal.ai.core.booking.application.port.in.SeatMapDocument;
+import personal.ai.core.booking.application.port.out.SeatAvailabilityRepository.Delta;
+import personal.ai.core.booking.application.service.SeatLayout;
+import personal.ai.core.booking.application.service.SeatQueryCacheService;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Seat Availability Stream Service (SSE)
+ * 좌석 선택 화면에 일정별 좌석 가용성 변경분을 실시간 전송 (좌석 목록 반복 조회 대체)
+ *
+ * 이벤트 (id = 가용성 비트맵 버전):
+ * - snapshot: 구독 직후 1회, {"version":v,"seats":[좌석 목록 응답과 같은 형식]}
+ * - delta: 예약/만료/확정 변경분, {"version":v,"available":[좌석 ID],"unavailable":[좌석 ID]}
+ * - reset: 비트맵 재적재/삭제 또는 변경분 유실, {"version":v} → 클라이언트가 좌석 목록 재조회
+ * 클라이언트는 delta 버전이 직전 버전 + 1이 아니면 좌석 목록을 다시 조회
+ *
+ * 전파:
+ * - 변경분은 Redis 방송(seat:availability:delta)으로 인스턴스마다 1회 수신되어
+ *   이 인스턴스의 같은 일정 구독자에게만 전송 (이벤트 JSON은 변경분당 1회 직렬화)
+ * - 세션마다 전송 대기열(outbox)에 수신 순서대로 넣고, 대기열은 세션당 Virtual Thread 1개가 순서대로 비움
+ *   (변경분 순서 유지, 느린 연결은 자기 대기열만 밀리고 Redis 구독 스레드와 다른 세션을 막지 않음)
+ * - 대기열이 한도(64)를 넘으면 이후 변경분은 버리고, 대기열을 비운 뒤 마지막 버전의 reset 전송
+ *
+ * 구독 시작 순서:
+ * - 세션을 먼저 등록한 뒤 스냅샷을 조회하므로 그 사이의 변경분은 세션에 보관했다가
+ *   스냅샷 전송 후 스냅샷보다 새 버전만 전송 (보관 한도를 넘으면 reset 전송)
+ *
+ * 메트릭:
+ * - seat.stream.connections: 열린 SSE 연결 수
+ * - seat.stream.events{type=delta|reset}: 구독자가 있는 일정의 변경분 전파 횟수 (연결 수와 무관)
+ */
+@Slf4j
+@Service
+public class SeatAvailabilityStreamService {
+
+    private static final String EVENT_SNAPSHOT = "snapshot";
+    private static final String EVENT_DELTA = "delta";
+    private static final String EVENT_RESET = "reset";
+    private static final int MAX_PENDING_EVENTS = 64;
+
+    private final SeatQueryCacheService seatQueryCacheService;
+    private final ObjectMapper objectMapper;
+    private final long timeoutMs;
+
+    // scheduleId -> 구독 세션
+    private final Map<Long, Set<SeatStreamSession>> sessionsBySchedule = new ConcurrentHashMap<>();
+    private final AtomicInteger sessionCount = new AtomicInteger();
+    // 세션별 전송 대기열 처리용 Executor (Virtual Thread)
+    private final Executor executor;
+
+    private final Counter deltaCounter;
+    private final Counter resetCounter;
+
+    @Autowired
+    public SeatAvailabilityStreamService(
+            SeatQueryCacheService seatQueryCacheService,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${seat.stream.timeout-ms:600000}") long timeoutMs) {
+        this(seatQueryCacheService, objectMapper, meterRegistry, timeoutMs,
+                Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    SeatAvailabilityStreamService(
+            SeatQueryCacheService seatQueryCacheService,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            long timeoutMs,
+            Executor executor) {
+        this.seatQueryCacheService = seatQueryCacheService;
+        this.objectMapper = objectMapper;
+        this.timeoutMs = timeoutMs;
+        this.executor = executor;
+
+        Gauge.builder("seat.stream.connections", sessionCount, AtomicInteger::get)
+                .description("Number of open seat availability SSE connections")
+                .register(meterRegistry);
+        this.deltaCounter = eventCounter(meterRegistry, EVENT_DELTA);
+        this.resetCounter = eventCounter(meterRegistry, EVENT_RESET);
+    }
+
+    /**
+     * 구독 시작
+     *
+     * @param scheduleId 일정 ID
+     * @param snapshot 최초 좌석 목록 (토큰 검증 포함, 실패하면 구독 없이 예외 전파)
+     */
+    public SseEmitter subscribe(Long scheduleId, Supplier<SeatMapDocument> snapshot) {
+        return subscribe(scheduleId, new SseEmitter(timeoutMs), snapshot);
+    }
+
+    SseEmitter subscribe(Long scheduleId, SseEmitter emitter, Supplier<SeatMapDocument> snapshot) {
+        SeatStreamSession session = register(scheduleId, emitter);
+
+        SeatMapDocument document;
+        try {
+            document = snapshot.get();
+        } catch (RuntimeException e) {
+            remove(session);
+            throw e;
+        }
+
+        String data = "{\"version\":" + document.version()
+                + ",\"seats\":" + new String(document.json(), StandardCharsets.UTF_8) + "}";
+        session.start(new StreamEvent(EVENT_SNAPSHOT, document.version(), data));
+
+        log.info("Seat stream subscription started: scheduleId={}, version={}, seats={}",
+                scheduleId, document.version(), document.seatCount());
+        return emitter;
+    }
+
+    /**
+     * 변경분 전파 (Redis 방송 수신 시, 인스턴스마다 1회)
+     */
+    public void publish(Delta delta) {
+        Set<SeatStreamSession> sessions = sessionsBySchedule.get(delta.scheduleId());
+        if (sessions == null || sessions.isEmpty()) {
+            return;
+        }
+
+        StreamEvent event = toEvent(delta);
+        (EVENT_RESET.equals(event.name()) ? resetCounter : deltaCounter).increment();
+        sessions.forEach(session -> session.enqueue(event));
+    }
+
+    /**
+     * 연결 유지 (프록시 유휴 타임아웃 방지 + 끊어진 연결 정리)
+     */
+    @Scheduled(fixedDelayString = "${seat.stream.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        sessionsBySchedule.values().forEach(sessions ->
+                sessions.forEach(session -> executor.execute(session::heartbeat)));
+    }
+
+    /**
+     * 애플리케이션 종료 시 모든 연결 종료
+     */
+    @PreDestroy
+    public void shutdown() {
+        List<SeatStreamSession> sessions = new ArrayList<>(sessionCount.get());
+        sessionsBySchedule.values().forEach(sessions::addAll);
+        sessions.forEach(session -> {
+            remove(session);
+            session.emitter.complete();
+        });
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdown();
+        }
+        log.info("SeatAvailabilityStreamService shutdown: closed {} connections", sessions.size());
+    }
+
+    private SeatStreamSession register(Long scheduleId, SseEmitter emitter) {
+        SeatStreamSession session = new SeatStreamSession(scheduleId, emitter);
+        // 그룹 생성과 세션 추가를 원자적으로 수행 (빈 그룹 제거와의 경합 방지)
+        sessionsBySchedule.compute(scheduleId, (key, sessions) -> {
+            Set<SeatStreamSession> group = sessions != null ? sessions : ConcurrentHashMap.newKeySet();
+            group.add(session);
+            return group;
+        });
+        sessionCount.incrementAndGet();
+
+        emitter.onCompletion(session);
+        emitter.onTimeout(session);
+        emitter.onError(session);
+        return session;
+    }
+
+    private void remove(SeatStreamSession session) {
+        boolean[] removed = new boolean[1];
+        sessionsBySchedule.computeIfPresent(session.scheduleId, (key, sessions) -> {
+            removed[0] = sessions.remove(session);
+            return sessions.isEmpty() ? null : sessions;
+        });
+        if (removed[0]) {
+            sessionCount.decrementAndGet();
+        }
+    }
+
+    /**
+     * 변경분 → SSE 이벤트 (좌석 서수를 좌석 ID로 변환)
+     * 배치가 없거나 배치에 없는 서수가 있으면 (좌석 구성 변경) reset으로 재조회 유도
+     */
+    private StreamEvent toEvent(Delta delta) {
+        Optional<SeatLayout> layout = seatQueryCacheService.findLayout(delta.scheduleId());
+        if (delta.reset() || layout.isEmpty()) {
+            return reset(delta.version());
+        }
+
+        List<Long> available = new ArrayList<>();
+        List<Long> unavailable = new ArrayList<>();
+        for (Map.Entry<Integer, Boolean> change : delta.changes().entrySet()) {
+            Long seatId = layout.get().seatIdOf(change.getKey());
+            if (seatId == null) {
+                return reset(delta.version());
+            }
+            (change.getValue() ? available : unavailable).add(seatId);
+        }
+
+        try {
+            String data = objectMapper.writeValueAsString(new SeatDeltaEvent(delta.version(), available, unavailable));
+            return new StreamEvent(EVENT_DELTA, delta.version(), data);
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to serialize seat delta, sending reset: scheduleId={}, error={}",
+                    delta.scheduleId(), e.getMessage());
+            return reset(delta.version());
+        }
+    }
+
+    private static StreamEvent reset(long version) {
+        return new StreamEvent(EVENT_RESET, version, "{\"version\":" + version + "}");
+    }
+
+    private static Counter eventCounter(MeterRegistry meterRegistry, String type) {
+        return Counter.builder("seat.stream.events")
+                .tag("type", type)
+                .description("Seat availability changes fanned out to SSE subscribers")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 전송할 SSE 이벤트 (변경분당 1회 생성, 모든 구독자가 공유)
+     */
+    private record StreamEvent(String name, long version, String data) {}
+
+    /**
+     * 구독 세션
+     * 스냅샷 전송 전 변경분 보관, 이미 전송한 버전 이하의 이벤트 무시, emitter 콜백 겸함
+     */
+    private final class SeatStreamSession implements Runnable, Consumer<Throwable> {
+        private final Long scheduleId;
+        private final SseEmitter emitter;
+        // 전송 대기열 (수신 순서 유지, draining이 true인 동안 Virtual Thread 1개만 비움)
+        private final ConcurrentLinkedQueue<StreamEvent> outbox = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger outboxSize = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        // 대기열 한도 초과로 버린 변경분 중 가장 높은 버전 (없으면 UNVERSIONED)
+        private final AtomicLong droppedVersion = new AtomicLong(SeatMapDocument.UNVERSIONED);
+        // 전송은 한 번에 하나씩 (Virtual Thread 고정을 피하기 위해 synchronized 대신 Lock)
+        private final ReentrantLock lock = new ReentrantLock();
+        private List<StreamEvent> pending = new ArrayList<>();
+        private boolean overflowed;
+        private long version = SeatMapDocument.UNVERSIONED;
+        private volatile boolean closed;
+
+        private SeatStreamSession(Long scheduleId, SseEmitter emitter) {
+            this.scheduleId = scheduleId;
+            this.emitter = emitter;
+        }
+
+        /**
+         * 스냅샷 전송 후 보관한 변경분 전송
+         */
+        void start(StreamEvent snapshot) {
+            lock.lock();
+            try {
+                send(snapshot);
+                version = snapshot.version();
+                List<StreamEvent> buffered = pending;
+                pending = null;
+                if (overflowed) {
+                    send(reset(version));
+                } else {
+                    buffered.forEach(this::deliverLocked);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * 전송 대기열에 추가하고, 비우는 스레드가 없으면 시작
+         */
+        void enqueue(StreamEvent event) {
+            if (closed) {
+                return;
+            }
+            if (outboxSize.incrementAndGet() > MAX_PENDING_EVENTS) {
+                outboxSize.decrementAndGet();
+                droppedVersion.accumulateAndGet(event.version(), Math::max);
+            } else {
+                outbox.add(event);
+            }
+            if (draining.compareAndSet(false, true)) {
+                executor.execute(this::drain);
+            }
+        }
+
+        /**
+         * 대기열을 순서대로 전송, 버린 변경분이 있으면 마지막에 reset 전송
+         * 종료 직전 추가된 이벤트를 놓치지 않도록 draining 해제 후 다시 확인
+         */
+        private void drain() {
+            do {
+                StreamEvent event;
+                while ((event = outbox.poll()) != null) {
+                    outboxSize.decrementAndGet();
+                    deliver(event);
+                }
+                long dropped = droppedVersion.getAndSet(SeatMapDocument.UNVERSIONED);
+                if (dropped != SeatMapDocument.UNVERSIONED) {
+                    deliver(reset(dropped));
+                }
+                draining.set(false);
+            } while ((!outbox.isEmpty() || droppedVersion.get() != SeatMapDocument.UNVERSIONED)
+                    && draining.compareAndSet(false, true));
+        }
+
+        void deliver(StreamEvent event) {
+            lock.lock();
+            try {
+                if (pending == null) {
+                    deliverLocked(event);
+                } else if (pending.size() < MAX_PENDING_EVENTS) {
+                    pending.add(event);
+                } else {
+                    overflowed = true;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void heartbeat() {
+            lock.lock();
+            try {
+                if (!closed) {
+                    emitter.send(SseEmitter.event().comment("ping"));
+                }
+            } catch (IOException | IllegalStateException e) {
+                close(e);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void deliverLocked(StreamEvent event) {
+            // 스냅샷 또는 이미 전송한 이벤트에 포함된 버전 (버전 없는 스냅샷이면 모두 전송)
+            if (version != SeatMapDocument.UNVERSIONED && event.version() <= version) {
+                return;
+            }
+            send(event);
+            version = event.version();
+        }
+
+        private void send(StreamEvent event) {
+            if (closed) {
+                return;
+            }
+            try {
+                emitter.send(SseEmitter.event()
+                        .name(event.name())
+                        .id(String.valueOf(event.version()))
+                        .data(event.data()));
+            } catch (IOException | IllegalStateException e) {
+                close(e);
+            }
+        }
+
+        private void close(Exception e) {
+            log.debug("Seat stream send failed, closing: scheduleId={}, error={}", scheduleId, e.getMessage());
+            closed = true;
+            remove(this);
+            emitter.completeWithError(e);
+        }
+
+        /**
+         * 완료/타임아웃 콜백
+         */
+        @Override
+        public void run() {
+            closed = true;
+            remove(this);
+        }
+
+        /**
+         * 오류 콜백
+         */
+        @Override
+        public void accept(Throwable e) {
+            log.debug("Seat stream connection error: scheduleId={}, error={}", scheduleId, e.getMessage());
+            closed = true;
+            remove(this);
+        }
+    }
+}
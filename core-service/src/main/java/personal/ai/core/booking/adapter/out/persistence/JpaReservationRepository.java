@@ -1,9 +1,24 @@
 package personal.ai.core.booking.adapter.out.persistence;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import personal.ai.core.booking.domain.model.ReservationStatus;
 
 /**
  * Spring Data JPA Repository for Reservation
  */
 public interface JpaReservationRepository extends JpaRepository<ReservationEntity, Long> {
+
+    /**
+     * 예약 상태 조건부 변경 (현재 상태가 일치할 때만)
+     *
+     * @return 변경된 행 수 (0 또는 1)
+     */
+    @Modifying
+    @Query("UPDATE ReservationEntity r SET r.status = :to WHERE r.id = :id AND r.status = :from")
+    int updateStatus(@Param("id") Long id,
+                     @Param("from") ReservationStatus from,
+                     @Param("to") ReservationStatus to);
 }
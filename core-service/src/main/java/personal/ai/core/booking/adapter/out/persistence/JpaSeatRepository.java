@@ -1,6 +1,7 @@
 package personal.ai.core.booking.adapter.out.persistence;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import personal.ai.core.booking.domain.model.SeatStatus;
@@ -20,10 +21,29 @@ public interface JpaSeatRepository extends JpaRepository<SeatEntity, Long> {
     List<SeatEntity> findByScheduleIdAndStatus(@Param("scheduleId") Long scheduleId,
                                                 @Param("status") SeatStatus status);
 
+    /**
+     * 특정 일정의 전체 좌석 조회 (ID 오름차순, 읽기 전용 Projection)
+     */
+    @Query("SELECT new personal.ai.core.booking.adapter.out.persistence.SeatQueryDTO(" +
+            "s.id, s.seatNumber, s.grade, s.price, s.status) " +
+            "FROM SeatEntity s WHERE s.scheduleId = :scheduleId ORDER BY s.id")
+    List<SeatQueryDTO> findAllByScheduleIdOrderById(@Param("scheduleId") Long scheduleId);
+
     /**
      * 특정 일정의 특정 좌석 번호 조회
      */
     @Query("SELECT s FROM SeatEntity s WHERE s.scheduleId = :scheduleId AND s.seatNumber = :seatNumber")
     Optional<SeatEntity> findByScheduleIdAndSeatNumber(@Param("scheduleId") Long scheduleId,
                                                          @Param("seatNumber") String seatNumber);
+
+    /**
+     * 좌석 상태 조건부 변경 (현재 상태가 일치할 때만)
+     *
+     * @return 변경된 행 수 (0 또는 1)
+     */
+    @Modifying
+    @Query("UPDATE SeatEntity s SET s.status = :to WHERE s.id = :id AND s.status = :from")
+    int updateStatus(@Param("id") Long id,
+                     @Param("from") SeatStatus from,
+                     @Param("to") SeatStatus to);
 }
@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import personal.ai.core.adapter.out.persistence.TsidId;
 import personal.ai.core.booking.domain.model.Reservation;
 import personal.ai.core.booking.domain.model.ReservationStatus;
 
@@ -24,7 +25,7 @@ import java.time.LocalDateTime;
 public class ReservationEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TsidId
     private Long id;
 
     @Column(name = "user_id", nullable = false)
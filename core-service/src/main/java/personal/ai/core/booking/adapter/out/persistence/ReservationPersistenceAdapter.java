@@ -1,11 +1,13 @@
 package personal.ai.core.booking.adapter.out.persistence;
 
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import personal.ai.core.booking.application.port.out.ReservationEventPort;
 import personal.ai.core.booking.application.port.out.ReservationRepository;
 import personal.ai.core.booking.domain.model.Reservation;
+import personal.ai.core.booking.domain.model.ReservationStatus;
 
 import java.util.Optional;
 
@@ -21,6 +23,7 @@ public class ReservationPersistenceAdapter implements ReservationRepository {
 
     private final JpaReservationRepository jpaReservationRepository;
     private final ReservationEventPort reservationEventPort;
+    private final EntityManager entityManager;
 
     @Override
     public Reservation save(Reservation reservation) {
@@ -36,6 +39,33 @@ public class ReservationPersistenceAdapter implements ReservationRepository {
         return savedReservation;
     }
 
+    @Override
+    public Reservation insert(Reservation reservation) {
+        log.debug("Inserting reservation: reservationId={}, seatId={}", reservation.id(), reservation.seatId());
+
+        // save()는 ID가 있으면 merge(SELECT 후 INSERT)하므로 persist로 바로 INSERT (flush 시 배치로 묶임)
+        entityManager.persist(ReservationEntity.fromDomain(reservation));
+
+        // Outbox 이벤트 발행 (Port 위임)
+        reservationEventPort.publishReservationEvent(reservation);
+
+        return reservation;
+    }
+
+    @Override
+    public boolean transition(Reservation reservation, ReservationStatus from) {
+        int updated = jpaReservationRepository.updateStatus(reservation.id(), from, reservation.status());
+        log.debug("Reservation status transition: reservationId={}, {} -> {}, updated={}",
+                reservation.id(), from, reservation.status(), updated);
+        if (updated == 0) {
+            return false;
+        }
+
+        // Outbox 이벤트 발행 (Port 위임)
+        reservationEventPort.publishReservationEvent(reservation);
+        return true;
+    }
+
     @Override
     public Optional<Reservation> findById(Long reservationId) {
         log.debug("Finding reservation: reservationId={}", reservationId);
@@ -37,6 +37,15 @@ public class SeatPersistenceAdapter implements SeatRepository {
                 .toList();
     }
 
+    @Override
+    public List<Seat> findAllByScheduleId(Long scheduleId) {
+        log.debug("Finding all seats for schedule: {}", scheduleId);
+        return jpaSeatRepository.findAllByScheduleIdOrderById(scheduleId)
+                .stream()
+                .map(seat -> seat.toDomain(scheduleId))
+                .toList();
+    }
+
     @Override
     public Seat save(Seat seat) {
         log.debug("Saving seat: seatId={}, status={}", seat.id(), seat.status());
@@ -44,4 +53,11 @@ public class SeatPersistenceAdapter implements SeatRepository {
         SeatEntity saved = jpaSeatRepository.save(entity);
         return saved.toDomain();
     }
+
+    @Override
+    public boolean transitionStatus(Long seatId, SeatStatus from, SeatStatus to) {
+        int updated = jpaSeatRepository.updateStatus(seatId, from, to);
+        log.debug("Seat status transition: seatId={}, {} -> {}, updated={}", seatId, from, to, updated);
+        return updated == 1;
+    }
 }
@@ -1,28 +1,32 @@
 package personal.ai.core.booking.adapter.out.redis;
 
-import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.data.redis.listener.PatternTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 
 /**
  * Redis Configuration
  * Redis Keyspace Notification 설정
+ * 좌석 가용성 변경분(Pub/Sub) 구독 설정
  */
 @Configuration
-@RequiredArgsConstructor
 public class RedisConfig {
 
-    private final RedisExpirationListener redisExpirationListener;
-
     /**
      * Redis Message Listener Container 설정
      * Keyspace Notification에서 expired 이벤트를 구독
+     *
+     * 리스너는 이 설정의 Lua Script 빈을 쓰는 서비스에 의존하므로 생성자가 아닌 메서드 파라미터로 주입
+     * (생성자 주입 시 설정 객체 생성 중에 Script 빈을 요청하는 순환 참조 발생)
      */
     @Bean
-    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            RedisExpirationListener redisExpirationListener,
+            RedisSeatAvailabilityDeltaListener redisSeatAvailabilityDeltaListener) {
         RedisMessageListenerContainer container = new RedisMessageListenerContainer();
         container.setConnectionFactory(connectionFactory);
 
@@ -30,6 +34,10 @@ public class RedisConfig {
         // 특정 DB만 구독하려면: __keyevent@0__:expired
         container.addMessageListener(redisExpirationListener, new PatternTopic("__keyevent@*__:expired"));
 
+        // 좌석 가용성 변경분 → 인스턴스 로컬 Near Cache
+        container.addMessageListener(redisSeatAvailabilityDeltaListener,
+                new ChannelTopic(RedisSeatAvailabilityAdapter.DELTA_CHANNEL));
+
         return container;
     }
 
@@ -39,4 +47,46 @@ public class RedisConfig {
                 "scripts/release_lock.lua");
         return org.springframework.data.redis.core.script.RedisScript.of(scriptSource, Long.class);
     }
+
+    @Bean
+    public org.springframework.data.redis.core.script.RedisScript<Long> seatAvailabilitySetBitsScript() {
+        org.springframework.core.io.ClassPathResource scriptSource = new org.springframework.core.io.ClassPathResource(
+                "scripts/seat_availability_set_bits.lua");
+        return org.springframework.data.redis.core.script.RedisScript.of(scriptSource, Long.class);
+    }
+
+    @Bean
+    public org.springframework.data.redis.core.script.RedisScript<Long> seatAvailabilityInitializeScript() {
+        org.springframework.core.io.ClassPathResource scriptSource = new org.springframework.core.io.ClassPathResource(
+                "scripts/seat_availability_initialize.lua");
+        return org.springframework.data.redis.core.script.RedisScript.of(scriptSource, Long.class);
+    }
+
+    @Bean
+    public org.springframework.data.redis.core.script.RedisScript<Long> seatAvailabilityDeleteScript() {
+        org.springframework.core.io.ClassPathResource scriptSource = new org.springframework.core.io.ClassPathResource(
+                "scripts/seat_availability_delete.lua");
+        return org.springframework.data.redis.core.script.RedisScript.of(scriptSource, Long.class);
+    }
+
+    @Bean
+    public org.springframework.data.redis.core.script.RedisScript<Long> reservationClaimScript() {
+        org.springframework.core.io.ClassPathResource scriptSource = new org.springframework.core.io.ClassPathResource(
+                "scripts/reservation_claim.lua");
+        return org.springframework.data.redis.core.script.RedisScript.of(scriptSource, Long.class);
+    }
+
+    @Bean
+    public org.springframework.data.redis.core.script.RedisScript<Long> reservationAcknowledgeScript() {
+        org.springframework.core.io.ClassPathResource scriptSource = new org.springframework.core.io.ClassPathResource(
+                "scripts/reservation_acknowledge.lua");
+        return org.springframework.data.redis.core.script.RedisScript.of(scriptSource, Long.class);
+    }
+
+    @Bean
+    public org.springframework.data.redis.core.script.RedisScript<Long> reservationRejectScript() {
+        org.springframework.core.io.ClassPathResource scriptSource = new org.springframework.core.io.ClassPathResource(
+                "scripts/reservation_reject.lua");
+        return org.springframework.data.redis.core.script.RedisScript.of(scriptSource, Long.class);
+    }
 }
@@ -5,6 +5,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.connection.Message;
 import org.springframework.data.redis.connection.MessageListener;
 import org.springframework.stereotype.Component;
+import personal.ai.core.booking.application.service.SeatQueryCacheService;
 import personal.ai.core.booking.domain.service.BookingManager;
 
 import java.nio.charset.StandardCharsets;
@@ -16,6 +17,7 @@ public class RedisExpirationListener implements MessageListener {
 
     private static final String RESERVATION_PREFIX = "reservation:";
     private final BookingManager bookingManager;
+    private final SeatQueryCacheService seatQueryCacheService;
 
     @Override
     public void onMessage(Message message, byte[] pattern) {
@@ -40,7 +42,9 @@ public class RedisExpirationListener implements MessageListener {
             log.info("Processing reservation expiration: reservationId={}", reservationId);
 
             // 1. 트랜잭션 처리 (DB 작업)
-            bookingManager.expireReservation(reservationId);
+            // 2. 커밋 후 해제된 좌석을 가용성 비트맵에 반영
+            bookingManager.expireReservation(reservationId)
+                    .ifPresent(expired -> seatQueryCacheService.markAvailable(expired.scheduleId(), expired.seatId()));
 
         } catch (Exception e) {
             log.error("Failed to handle reservation expiration: key={}", expiredKey, e);
@@ -0,0 +1,395 @@
+package personal.ai.core.booking.adapter.out.redis;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import personal.ai.core.booking.application.port.out.ReservationClaimRepository;
+import personal.ai.core.booking.domain.model.Reservation;
+import personal.ai.core.booking.domain.model.ReservationStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Redis Reservation Claim Adapter
+ * 좌석 선점 키: seat:claim:{scheduleId}:<seatId> (SET NX PX, 예약 ID)
+ * 예약 기록: reservation:records:{scheduleId} (Hash, 예약 ID → userId|seatId|scheduleId|expiresAt|createdAt)
+ * 저장 대기열: reservation:write-behind:{scheduleId} (일정별 Stream + 소비자 그룹)
+ * 거절 기록: reservation:rejected:{scheduleId}:<reservationId> (String, 예약 기록, 보관 시간 후 만료)
+ * 일정의 세 키는 같은 해시 태그를 써서 선점 Lua Script가 한 슬롯에서 수행되고, 일정마다 다른 슬롯으로 분산됨 (Redis Cluster)
+ *
+ * 색인 (해시 태그 없음, 선점 스크립트 밖에서 기록):
+ * - seat:claim:schedules (ZSet, 일정 ID → 마지막 선점 시각): 저장 대기열이 있는 일정 목록, 보관 기간이 지나면 정리
+ * - seat:claim:schedule:<reservationId> (String, 일정 ID): 예약 ID로 기록을 찾기 위한 색인, 선점 유지 시간 후 만료
+ *
+ * - 선점: Lua Script 1회로 선점 키 + 예약 기록 + 대기열 추가를 원자적으로 수행
+ * - 저장: 일정별 XREADGROUP으로 읽고, DB 저장 후 Lua Script 1회로 XACK + XDEL + HDEL
+ * - 복구: 일정별 XPENDING을 페이지 단위로 끝까지 확인해 오래된 미확인 항목을 찾아 XCLAIM (재시작 전 자신의 항목 포함)
+ * - 거절: DB가 거절한 항목은 Lua Script 1회로 XACK + XDEL + 선점 키 해제 + 기록을 거절 기록으로 이동
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisReservationClaimAdapter implements ReservationClaimRepository {
+
+    private static final String CLAIM_PREFIX = "seat:claim:";
+    private static final String SCHEDULES_KEY = "seat:claim:schedules";
+    private static final String SCHEDULE_INDEX_PREFIX = "seat:claim:schedule:";
+    private static final String RECORDS_PREFIX = "reservation:records:";
+    private static final String STREAM_PREFIX = "reservation:write-behind:";
+    private static final String REJECTED_PREFIX = "reservation:rejected:";
+    private static final String GROUP = "reservation-writers";
+    private static final String RESERVATION_ID_FIELD = "reservationId";
+    private static final String SEPARATOR = "|";
+    private static final long CLAIMED = 1L;
+    // 일정 목록 갱신 주기 (인스턴스별, 선점마다 ZADD하지 않음)와 마지막 선점 후 보관 기간
+    private static final long SCHEDULE_REFRESH_MS = Duration.ofMinutes(1).toMillis();
+    private static final long SCHEDULE_RETENTION_MS = Duration.ofDays(1).toMillis();
+    // 거절 기록 보관 시간 (사용자가 예약 결과를 확인할 수 있는 기간)
+    private static final long REJECTED_RETENTION_MS = Duration.ofMinutes(30).toMillis();
+    // 오래된 미확인 항목을 찾을 때 XPENDING 1회로 읽는 최소 항목 수
+    private static final int PENDING_PAGE_SIZE = 100;
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisScript<Long> reservationClaimScript;
+    private final RedisScript<Long> reservationAcknowledgeScript;
+    private final RedisScript<Long> reservationRejectScript;
+
+    // 소비자 그룹을 확인한 일정, 일정 목록에 마지막으로 기록한 시각
+    private final Set<Long> readyGroups = ConcurrentHashMap.newKeySet();
+    private final Map<Long, Long> scheduleRefreshedAt = new ConcurrentHashMap<>();
+    private final AtomicInteger scheduleCursor = new AtomicInteger();
+
+    @Override
+    public boolean claim(Reservation reservation, Duration ttl) {
+        Long scheduleId = reservation.scheduleId();
+        registerSchedule(scheduleId);
+        // 선점 스크립트보다 먼저 기록 (선점에 실패하면 사용되지 않은 채 만료)
+        redisTemplate.opsForValue().set(
+                SCHEDULE_INDEX_PREFIX + reservation.id(), String.valueOf(scheduleId), ttl);
+
+        Long result = redisTemplate.execute(
+                reservationClaimScript,
+                List.of(claimKey(scheduleId, reservation.seatId()), recordsKey(scheduleId), streamKey(scheduleId)),
+                String.valueOf(reservation.id()),
+                encode(reservation),
+                String.valueOf(ttl.toMillis()));
+
+        log.debug("Seat claim: reservationId={}, seatId={}, claimed={}",
+                reservation.id(), reservation.seatId(), result);
+        return result != null && result == CLAIMED;
+    }
+
+    @Override
+    public Optional<Reservation> findById(Long reservationId) {
+        String scheduleId = redisTemplate.opsForValue().get(SCHEDULE_INDEX_PREFIX + reservationId);
+        if (scheduleId == null) {
+            return Optional.empty();
+        }
+        Object record = redisTemplate.opsForHash().get(recordsKey(Long.parseLong(scheduleId)), String.valueOf(reservationId));
+        return Optional.ofNullable(record).map(value -> decode(reservationId, (String) value));
+    }
+
+    @Override
+    public Optional<Reservation> findRejected(Long reservationId) {
+        String scheduleId = redisTemplate.opsForValue().get(SCHEDULE_INDEX_PREFIX + reservationId);
+        if (scheduleId == null) {
+            return Optional.empty();
+        }
+        String record = redisTemplate.opsForValue().get(rejectedKey(Long.parseLong(scheduleId), reservationId));
+        return Optional.ofNullable(record).map(value -> decode(reservationId, value));
+    }
+
+    @Override
+    public Set<Long> findClaimedSeatIds(Long scheduleId, Collection<Long> seatIds) {
+        if (seatIds.isEmpty()) {
+            return Set.of();
+        }
+
+        // 같은 일정의 선점 키는 한 슬롯이므로 MGET 1회
+        List<Long> ids = List.copyOf(seatIds);
+        List<String> values = redisTemplate.opsForValue().multiGet(
+                ids.stream().map(seatId -> claimKey(scheduleId, seatId)).toList());
+        if (values == null) {
+            return Set.of();
+        }
+
+        Set<Long> claimed = new HashSet<>();
+        for (int i = 0; i < ids.size(); i++) {
+            if (values.get(i) != null) {
+                claimed.add(ids.get(i));
+            }
+        }
+        return claimed;
+    }
+
+    @Override
+    public List<PendingWrite> readPending(String consumer, int count) {
+        List<PendingWrite> writes = new ArrayList<>();
+        for (Long scheduleId : activeSchedules()) {
+            if (writes.size() >= count) {
+                break;
+            }
+            writes.addAll(readPending(scheduleId, consumer, count - writes.size()));
+        }
+        return writes;
+    }
+
+    private List<PendingWrite> readPending(Long scheduleId, String consumer, int count) {
+        ensureGroup(scheduleId);
+        try {
+            List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().read(
+                    Consumer.from(GROUP, consumer),
+                    StreamReadOptions.empty().count(count),
+                    StreamOffset.create(streamKey(scheduleId), ReadOffset.lastConsumed()));
+            return toPendingWrites(scheduleId, records);
+        } catch (RedisSystemException e) {
+            // Redis 초기화로 소비자 그룹이 사라진 경우 다음 호출에서 다시 생성
+            readyGroups.remove(scheduleId);
+            throw e;
+        }
+    }
+
+    @Override
+    public List<PendingWrite> claimStale(String consumer, Duration minIdle, int count) {
+        List<PendingWrite> writes = new ArrayList<>();
+        for (Long scheduleId : activeSchedules()) {
+            if (writes.size() >= count) {
+                break;
+            }
+            writes.addAll(claimStale(scheduleId, consumer, minIdle, count - writes.size()));
+        }
+        return writes;
+    }
+
+    private List<PendingWrite> claimStale(Long scheduleId, String consumer, Duration minIdle, int count) {
+        ensureGroup(scheduleId);
+        String streamKey = streamKey(scheduleId);
+        List<RecordId> stale = findStale(streamKey, minIdle, count);
+        if (stale.isEmpty()) {
+            return List.of();
+        }
+
+        RecordId[] staleIds = stale.toArray(RecordId[]::new);
+
+        List<MapRecord<String, Object, Object>> records =
+                redisTemplate.opsForStream().claim(streamKey, GROUP, consumer, minIdle, staleIds);
+        log.info("Stale reservation writes claimed: scheduleId={}, consumer={}, pending={}, claimed={}",
+                scheduleId, consumer, staleIds.length, records == null ? 0 : records.size());
+        return toPendingWrites(scheduleId, records);
+    }
+
+    /**
+     * 미확인 목록을 ID 순서로 페이지 단위 조회하며 min-idle 이상 지난 항목을 count개까지 수집
+     * (재전달된 앞쪽 항목이 최근 것이어도 그 뒤의 오래된 항목을 놓치지 않도록 목록 끝까지 확인)
+     */
+    private List<RecordId> findStale(String streamKey, Duration minIdle, int count) {
+        int pageSize = Math.max(count, PENDING_PAGE_SIZE);
+        List<RecordId> stale = new ArrayList<>(count);
+        String lastId = null;
+        while (stale.size() < count) {
+            Range<String> range = lastId == null
+                    ? Range.unbounded()
+                    : Range.rightUnbounded(Range.Bound.exclusive(lastId));
+            PendingMessages page = redisTemplate.opsForStream().pending(streamKey, GROUP, range, pageSize);
+            if (page == null || page.isEmpty()) {
+                break;
+            }
+
+            for (PendingMessage message : page) {
+                if (stale.size() < count && message.getElapsedTimeSinceLastDelivery().compareTo(minIdle) >= 0) {
+                    stale.add(message.getId());
+                }
+                lastId = message.getIdAsString();
+            }
+            if (page.size() < pageSize) {
+                break;
+            }
+        }
+        return stale;
+    }
+
+    @Override
+    public void acknowledge(List<PendingWrite> writes) {
+        Map<Long, List<PendingWrite>> writesBySchedule = new LinkedHashMap<>();
+        writes.forEach(write -> writesBySchedule.computeIfAbsent(write.scheduleId(), id -> new ArrayList<>()).add(write));
+
+        // 일정마다 Lua Script 1회 (확인만 되고 기록이 남는 등의 중간 상태 없음)
+        writesBySchedule.forEach((scheduleId, scheduleWrites) -> {
+            List<String> args = new ArrayList<>(scheduleWrites.size() * 2 + 2);
+            args.add(GROUP);
+            args.add(String.valueOf(scheduleWrites.size()));
+            scheduleWrites.forEach(write -> args.add(write.entryId()));
+            scheduleWrites.stream()
+                    .filter(write -> write.reservation() != null)
+                    .forEach(write -> args.add(String.valueOf(write.reservation().id())));
+
+            redisTemplate.execute(reservationAcknowledgeScript,
+                    List.of(streamKey(scheduleId), recordsKey(scheduleId)),
+                    args.toArray());
+        });
+    }
+
+    @Override
+    public void reject(List<PendingWrite> writes) {
+        Map<Long, List<PendingWrite>> writesBySchedule = new LinkedHashMap<>();
+        writes.stream()
+                .filter(write -> write.reservation() != null)
+                .forEach(write -> writesBySchedule.computeIfAbsent(write.scheduleId(), id -> new ArrayList<>()).add(write));
+
+        writesBySchedule.forEach((scheduleId, scheduleWrites) -> {
+            List<String> keys = new ArrayList<>(scheduleWrites.size() * 2 + 2);
+            List<String> args = new ArrayList<>(scheduleWrites.size() * 2 + 2);
+            keys.add(streamKey(scheduleId));
+            keys.add(recordsKey(scheduleId));
+            args.add(GROUP);
+            args.add(String.valueOf(REJECTED_RETENTION_MS));
+            for (PendingWrite write : scheduleWrites) {
+                Reservation reservation = write.reservation();
+                keys.add(claimKey(scheduleId, reservation.seatId()));
+                keys.add(rejectedKey(scheduleId, reservation.id()));
+                args.add(write.entryId());
+                args.add(String.valueOf(reservation.id()));
+            }
+
+            redisTemplate.execute(reservationRejectScript, keys, args.toArray());
+            // 사용자가 결과를 조회할 수 있도록 예약 ID 색인을 거절 기록과 같은 기간으로 연장
+            scheduleWrites.forEach(write -> redisTemplate.expire(
+                    SCHEDULE_INDEX_PREFIX + write.reservation().id(), Duration.ofMillis(REJECTED_RETENTION_MS)));
+        });
+    }
+
+    /**
+     * 저장 대기열이 있는 일정을 목록에 기록 (인스턴스별로 SCHEDULE_REFRESH_MS마다 1회)
+     * 목록이 Redis 초기화로 사라져도 다음 갱신 주기에 다시 기록됨
+     */
+    private void registerSchedule(Long scheduleId) {
+        long now = System.currentTimeMillis();
+        Long refreshedAt = scheduleRefreshedAt.get(scheduleId);
+        if (refreshedAt != null && now - refreshedAt < SCHEDULE_REFRESH_MS) {
+            return;
+        }
+        redisTemplate.opsForZSet().add(SCHEDULES_KEY, String.valueOf(scheduleId), now);
+        scheduleRefreshedAt.put(scheduleId, now);
+    }
+
+    /**
+     * 보관 기간 안에 선점이 있었던 일정 (호출마다 시작 위치를 돌려 한 일정이 일괄 크기를 독차지하지 않도록 함)
+     * 보관 기간이 지난 일정은 목록에서 제거 (대기열 항목은 보관 기간보다 훨씬 먼저 저장되므로 남은 항목 없음)
+     */
+    private List<Long> activeSchedules() {
+        long now = System.currentTimeMillis();
+        redisTemplate.opsForZSet().removeRangeByScore(SCHEDULES_KEY, 0, now - SCHEDULE_RETENTION_MS);
+        Set<String> members = redisTemplate.opsForZSet().range(SCHEDULES_KEY, 0, -1);
+        if (members == null || members.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> schedules = new ArrayList<>(members.size());
+        members.forEach(member -> schedules.add(Long.parseLong(member)));
+        Collections.rotate(schedules, -Math.floorMod(scheduleCursor.getAndIncrement(), schedules.size()));
+        return schedules;
+    }
+
+    private static String claimKey(Long scheduleId, Long seatId) {
+        return CLAIM_PREFIX + "{" + scheduleId + "}:" + seatId;
+    }
+
+    private static String recordsKey(Long scheduleId) {
+        return RECORDS_PREFIX + "{" + scheduleId + "}";
+    }
+
+    private static String streamKey(Long scheduleId) {
+        return STREAM_PREFIX + "{" + scheduleId + "}";
+    }
+
+    private static String rejectedKey(Long scheduleId, Long reservationId) {
+        return REJECTED_PREFIX + "{" + scheduleId + "}:" + reservationId;
+    }
+
+    private List<PendingWrite> toPendingWrites(Long scheduleId, List<MapRecord<String, Object, Object>> records) {
+        if (records == null || records.isEmpty()) {
+            return List.of();
+        }
+
+        List<Object> reservationIds = new ArrayList<>(records.size());
+        for (MapRecord<String, Object, Object> record : records) {
+            reservationIds.add(record.getValue().get(RESERVATION_ID_FIELD));
+        }
+        // 예약 기록은 HMGET 1회로 조회
+        List<Object> values = redisTemplate.opsForHash().multiGet(recordsKey(scheduleId), reservationIds);
+
+        List<PendingWrite> writes = new ArrayList<>(records.size());
+        for (int i = 0; i < records.size(); i++) {
+            MapRecord<String, Object, Object> record = records.get(i);
+            Object value = values.get(i);
+            Reservation reservation = value == null
+                    ? null
+                    : decode(Long.parseLong((String) reservationIds.get(i)), (String) value);
+            writes.add(new PendingWrite(scheduleId, record.getId().getValue(), reservation, record.getId().getTimestamp()));
+        }
+        return writes;
+    }
+
+    private void ensureGroup(Long scheduleId) {
+        if (readyGroups.contains(scheduleId)) {
+            return;
+        }
+        byte[] key = streamKey(scheduleId).getBytes(StandardCharsets.UTF_8);
+        try {
+            redisTemplate.execute((RedisCallback<String>) connection -> connection.streamCommands()
+                    .xGroupCreate(key, GROUP, ReadOffset.from("0"), true));
+        } catch (RedisSystemException e) {
+            // 다른 인스턴스가 이미 생성 (BUSYGROUP)
+            if (!String.valueOf(e.getMostSpecificCause().getMessage()).contains("BUSYGROUP")) {
+                throw e;
+            }
+        }
+        readyGroups.add(scheduleId);
+    }
+
+    static String encode(Reservation reservation) {
+        return reservation.userId() + SEPARATOR
+                + reservation.seatId() + SEPARATOR
+                + reservation.scheduleId() + SEPARATOR
+                + reservation.expiresAt() + SEPARATOR
+                + reservation.createdAt();
+    }
+
+    static Reservation decode(Long reservationId, String value) {
+        String[] fields = value.split("\\" + SEPARATOR);
+        return new Reservation(
+                reservationId,
+                Long.parseLong(fields[0]),
+                Long.parseLong(fields[1]),
+                Long.parseLong(fields[2]),
+                ReservationStatus.PENDING,
+                LocalDateTime.parse(fields[3]),
+                LocalDateTime.parse(fields[4]));
+    }
+}
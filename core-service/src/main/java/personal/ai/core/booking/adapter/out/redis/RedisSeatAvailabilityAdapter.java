@@ -0,0 +1,185 @@
+package personal.ai.core.booking.adapter.out.redis;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+import personal.ai.core.booking.application.port.out.SeatAvailabilityRepository;
+import personal.ai.core.booking.domain.model.SeatGrade;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.function.IntFunction;
+
+/**
+ * Redis Seat Availability Adapter
+ * 일정별 좌석 가용성 비트맵 (seat:availability:{scheduleId}) + 버전 (seat:availability:version:{scheduleId})
+ * 등급별 요약 카운터: seat:availability:summary:{scheduleId} (Hash, 등급 → 예매 가능 좌석 수)
+ * 세 키는 같은 해시 태그를 써서 Lua Script와 MGET이 한 슬롯에서 수행됨
+ * 재구성 리스: seat:availability:lease:{scheduleId} (SET NX PX, 소유권 확인 후 해제)
+ *
+ * - 조회: MGET 1회로 비트맵과 버전을 함께 조회 (10,000석 기준 약 1.2KB)
+ * - 적재/변경/삭제: Lua Script로 비트맵 변경 + 등급 카운터 갱신 + 버전 증가 + 변경분 방송(PUBLISH)을 원자적으로 수행
+ *   → 방송 순서 = 버전 순서, 각 인스턴스의 Near Cache가 버전 공백으로 유실을 감지
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisSeatAvailabilityAdapter implements SeatAvailabilityRepository {
+
+    public static final String DELTA_CHANNEL = "seat:availability:delta";
+
+    private static final String SEAT_AVAILABILITY_PREFIX = "seat:availability:";
+    private static final String SEAT_AVAILABILITY_VERSION_PREFIX = "seat:availability:version:";
+    private static final String SEAT_AVAILABILITY_LEASE_PREFIX = "seat:availability:lease:";
+    private static final String SEAT_AVAILABILITY_SUMMARY_PREFIX = "seat:availability:summary:";
+    private static final String AVAILABLE_BIT = "1";
+    private static final String UNAVAILABLE_BIT = "0";
+    private static final long MISSING = -1L;
+    private static final long UNCHANGED = 0L;
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisScript<Long> seatAvailabilitySetBitsScript;
+    private final RedisScript<Long> seatAvailabilityInitializeScript;
+    private final RedisScript<Long> seatAvailabilityDeleteScript;
+    private final RedisScript<Long> releaseLockScript;
+
+    @Override
+    public Optional<Snapshot> findSnapshot(Long scheduleId) {
+        byte[] key = bytes(key(scheduleId));
+        byte[] versionKey = bytes(versionKey(scheduleId));
+        List<byte[]> values = redisTemplate.execute(
+                (RedisCallback<List<byte[]>>) connection -> connection.stringCommands().mGet(key, versionKey));
+
+        if (values == null || values.isEmpty() || values.get(0) == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new Snapshot(values.get(0), parseVersion(values.get(1))));
+    }
+
+    @Override
+    public OptionalLong findVersion(Long scheduleId) {
+        String version = redisTemplate.opsForValue().get(versionKey(scheduleId));
+        return version == null ? OptionalLong.empty() : OptionalLong.of(Long.parseLong(version));
+    }
+
+    @Override
+    public boolean initializeBitmap(Long scheduleId, byte[] bitmap, Map<SeatGrade, Integer> availableCounts) {
+        List<byte[]> args = new ArrayList<>(3 + availableCounts.size() * 2);
+        args.add(bytes(DELTA_CHANNEL));
+        args.add(bytes(String.valueOf(scheduleId)));
+        args.add(bitmap);
+        availableCounts.forEach((grade, count) -> {
+            args.add(bytes(grade.name()));
+            args.add(bytes(String.valueOf(count)));
+        });
+
+        Long version = redisTemplate.execute(
+                seatAvailabilityInitializeScript,
+                RedisSerializer.byteArray(),
+                new GenericToStringSerializer<>(Long.class),
+                keys(scheduleId),
+                args.toArray());
+
+        log.debug("Seat availability bitmap initialize: scheduleId={}, bytes={}, version={}",
+                scheduleId, bitmap.length, version);
+        return version != null && version != MISSING;
+    }
+
+    @Override
+    public long setAvailability(Long scheduleId, Map<Integer, Boolean> changes, IntFunction<SeatGrade> gradeOf) {
+        if (changes.isEmpty()) {
+            return UNCHANGED;
+        }
+
+        String[] args = new String[2 + changes.size() * 3];
+        int i = 0;
+        args[i++] = DELTA_CHANNEL;
+        args[i++] = String.valueOf(scheduleId);
+        for (Map.Entry<Integer, Boolean> change : changes.entrySet()) {
+            args[i++] = String.valueOf(change.getKey());
+            args[i++] = change.getValue() ? AVAILABLE_BIT : UNAVAILABLE_BIT;
+            args[i++] = gradeOf.apply(change.getKey()).name();
+        }
+
+        Long version = redisTemplate.execute(
+                seatAvailabilitySetBitsScript,
+                keys(scheduleId),
+                (Object[]) args);
+
+        log.debug("Seat availability bits set: scheduleId={}, changes={}, version={}",
+                scheduleId, changes.size(), version);
+        return version == null ? MISSING : version;
+    }
+
+    @Override
+    public Optional<Map<SeatGrade, Integer>> findAvailableCounts(Long scheduleId) {
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(summaryKey(scheduleId));
+        if (entries.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Map<SeatGrade, Integer> counts = new EnumMap<>(SeatGrade.class);
+        entries.forEach((grade, count) ->
+                counts.put(SeatGrade.valueOf((String) grade), Integer.parseInt((String) count)));
+        return Optional.of(counts);
+    }
+
+    @Override
+    public void delete(Long scheduleId) {
+        redisTemplate.execute(
+                seatAvailabilityDeleteScript,
+                keys(scheduleId),
+                DELTA_CHANNEL, String.valueOf(scheduleId));
+    }
+
+    @Override
+    public boolean tryAcquireRebuildLease(Long scheduleId, String token, Duration ttl) {
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(leaseKey(scheduleId), token, ttl);
+        return Boolean.TRUE.equals(acquired);
+    }
+
+    @Override
+    public void releaseRebuildLease(Long scheduleId, String token) {
+        redisTemplate.execute(releaseLockScript, Collections.singletonList(leaseKey(scheduleId)), token);
+    }
+
+    private static List<String> keys(Long scheduleId) {
+        return List.of(key(scheduleId), versionKey(scheduleId), summaryKey(scheduleId));
+    }
+
+    private static String key(Long scheduleId) {
+        return SEAT_AVAILABILITY_PREFIX + "{" + scheduleId + "}";
+    }
+
+    private static String versionKey(Long scheduleId) {
+        return SEAT_AVAILABILITY_VERSION_PREFIX + "{" + scheduleId + "}";
+    }
+
+    private static String summaryKey(Long scheduleId) {
+        return SEAT_AVAILABILITY_SUMMARY_PREFIX + "{" + scheduleId + "}";
+    }
+
+    private static String leaseKey(Long scheduleId) {
+        return SEAT_AVAILABILITY_LEASE_PREFIX + "{" + scheduleId + "}";
+    }
+
+    private static long parseVersion(byte[] version) {
+        return version == null ? 0L : Long.parseLong(new String(version, StandardCharsets.UTF_8));
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,63 @@
+package personal.ai.core.booking.adapter.out.redis;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+import personal.ai.core.booking.adapter.in.web.service.SeatAvailabilityStreamService;
+import personal.ai.core.booking.application.port.out.SeatAvailabilityRepository.Delta;
+import personal.ai.core.booking.application.service.SeatMapNearCache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 좌석 가용성 변경분 구독 (seat:availability:delta)
+ * Lua Script가 방송한 변경분을 이 인스턴스의 Near Cache에 반영하고 SSE 구독자에게 전파
+ *
+ * 메시지 형식 (seat_availability_*.lua):
+ * - 비트 변경: "scheduleId|version|서수:비트,서수:비트"
+ * - 적재/삭제: "scheduleId|version|*"
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisSeatAvailabilityDeltaListener implements MessageListener {
+
+    private static final String RESET = "*";
+
+    private final SeatMapNearCache seatMapNearCache;
+    private final SeatAvailabilityStreamService seatAvailabilityStreamService;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String payload = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            Delta delta = parse(payload);
+            seatMapNearCache.apply(delta);
+            seatAvailabilityStreamService.publish(delta);
+        } catch (RuntimeException e) {
+            log.warn("Failed to apply seat availability delta: payload={}, error={}", payload, e.getMessage());
+        }
+    }
+
+    static Delta parse(String payload) {
+        String[] parts = payload.split("\\|", 3);
+        Long scheduleId = Long.parseLong(parts[0]);
+        long version = Long.parseLong(parts[1]);
+
+        if (RESET.equals(parts[2])) {
+            return new Delta(scheduleId, version, Map.of(), true);
+        }
+
+        Map<Integer, Boolean> changes = new HashMap<>();
+        for (String change : parts[2].split(",")) {
+            int separator = change.indexOf(':');
+            changes.put(Integer.parseInt(change.substring(0, separator)),
+                    change.charAt(separator + 1) == '1');
+        }
+        return new Delta(scheduleId, version, changes, false);
+    }
+}
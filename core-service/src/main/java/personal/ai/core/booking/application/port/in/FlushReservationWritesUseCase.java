@@ -0,0 +1,23 @@
+package personal.ai.core.booking.application.port.in;
+
+/**
+ * Flush Reservation Writes UseCase (Input Port)
+ * Redis에 선점된 예약을 DB에 저장하는 유스케이스 (쓰기 지연)
+ */
+public interface FlushReservationWritesUseCase {
+
+    /**
+     * 저장 대기열의 새 예약을 DB에 일괄 저장
+     * 스케줄러에 의해 주기적으로 호출됨
+     *
+     * @return 처리한 대기열 항목 수
+     */
+    int flushPendingWrites();
+
+    /**
+     * 오래 확인되지 않은 항목을 가져와 다시 저장 (재시작/장애 인스턴스 복구)
+     *
+     * @return 처리한 대기열 항목 수
+     */
+    int recoverStaleWrites();
+}
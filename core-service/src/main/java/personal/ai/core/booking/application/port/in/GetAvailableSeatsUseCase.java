@@ -1,6 +1,6 @@
 package personal.ai.core.booking.application.port.in;
 
-import personal.ai.core.booking.adapter.in.web.dto.SeatResponse;
+import personal.ai.core.booking.adapter.in.web.dto.SeatGradeSummaryResponse;
 
 import java.util.List;
 
@@ -8,7 +8,9 @@ import java.util.List;
  * Get Available Seats UseCase (Input Port)
  * 예매 가능한 좌석 조회 유스케이스
  *
- * 성능 최적화: Response DTO를 직접 반환하여 직렬화 오버헤드 최소화
+ * 성능 최적화: 비트맵 버전당 1회 직렬화한 응답 본문(JSON/gzip 바이트)을 그대로 반환
+ * - 등급/구역 범위 조회: 해당 범위 좌석만 응답 (범위별로 캐시)
+ * - 등급별 요약: 좌석 목록 대신 Redis 등급 카운터로 응답
  */
 public interface GetAvailableSeatsUseCase {
 
@@ -16,9 +18,20 @@ public interface GetAvailableSeatsUseCase {
      * 특정 일정의 예매 가능한 좌석 목록 조회
      *
      * @param scheduleId 콘서트 일정 ID
+     * @param filter 조회 범위 (등급/구역, 전체는 SeatFilter.ALL)
      * @param userId 사용자 ID
      * @param queueToken 대기열 토큰
-     * @return 예매 가능한 좌석 응답 DTO 목록 (캐시 최적화)
+     * @return 예매 가능한 좌석 목록 응답 본문 (List&lt;SeatResponse&gt; JSON + ETag)
      */
-    List<SeatResponse> getAvailableSeats(Long scheduleId, Long userId, String queueToken);
+    SeatMapDocument getAvailableSeats(Long scheduleId, SeatFilter filter, Long userId, String queueToken);
+
+    /**
+     * 특정 일정의 등급별 예매 가능 좌석 수와 가격 조회
+     *
+     * @param scheduleId 콘서트 일정 ID
+     * @param userId 사용자 ID
+     * @param queueToken 대기열 토큰
+     * @return 등급별 요약 (좌석이 있는 등급만, 등급 순서)
+     */
+    List<SeatGradeSummaryResponse> getSeatSummary(Long scheduleId, Long userId, String queueToken);
 }
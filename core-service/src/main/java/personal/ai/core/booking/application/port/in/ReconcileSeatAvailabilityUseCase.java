@@ -0,0 +1,16 @@
+package personal.ai.core.booking.application.port.in;
+
+/**
+ * Reconcile Seat Availability UseCase (Input Port)
+ * Redis 좌석 가용성 비트맵을 DB 좌석 상태와 맞추는 유스케이스
+ */
+public interface ReconcileSeatAvailabilityUseCase {
+
+    /**
+     * 이 인스턴스가 조회한 일정의 비트맵을 DB 기준으로 보정
+     * 스케줄러에 의해 주기적으로 호출됨
+     *
+     * @return 보정한 좌석 비트 수
+     */
+    int reconcileAll();
+}
@@ -0,0 +1,45 @@
+package personal.ai.core.booking.application.port.in;
+
+import personal.ai.core.booking.adapter.in.web.dto.SeatResponse;
+import personal.ai.core.booking.domain.model.Seat;
+import personal.ai.core.booking.domain.model.SeatGrade;
+
+/**
+ * Seat Filter
+ * 좌석 목록 조회 범위 (등급/구역, 둘 다 없으면 일정 전체)
+ *
+ * @param grade 좌석 등급 (null이면 전체)
+ * @param section 구역 (좌석 번호 접두어, null이면 전체)
+ */
+public record SeatFilter(
+        SeatGrade grade,
+        String section
+) {
+
+    public static final SeatFilter ALL = new SeatFilter(null, null);
+
+    public SeatFilter {
+        if (section != null && section.isBlank()) {
+            section = null;
+        }
+    }
+
+    public boolean isAll() {
+        return grade == null && section == null;
+    }
+
+    /**
+     * 좌석이 조회 범위에 포함되는지 확인 (배치 없이 좌석 목록을 거를 때)
+     */
+    public boolean matches(SeatResponse seat) {
+        return (grade == null || grade == seat.grade())
+                && (section == null || section.equals(Seat.sectionOf(seat.seatNumber())));
+    }
+
+    /**
+     * 응답 본문 캐시 키 (일정 + 버전과 함께 사용)
+     */
+    public String key() {
+        return (grade == null ? "*" : grade.name()) + "/" + (section == null ? "*" : section);
+    }
+}
@@ -0,0 +1,46 @@
+package personal.ai.core.booking.application.port.in;
+
+/**
+ * Seat Map Document
+ * 예매 가능 좌석 목록의 직렬화 완료 응답 본문 (일정 비트맵 버전당 1회 생성)
+ *
+ * @param version 가용성 비트맵 버전 (DB에서 직접 조회한 경우 -1)
+ * @param seatCount 예매 가능 좌석 수
+ * @param json UTF-8 JSON 본문 (List&lt;SeatResponse&gt;와 동일한 형식)
+ * @param gzip 미리 압축한 본문 (압축하지 않으면 null)
+ * @param etag 약한 ETag (버전이 없으면 null → 조건부 요청 미지원)
+ */
+public record SeatMapDocument(
+        long version,
+        int seatCount,
+        byte[] json,
+        byte[] gzip,
+        String etag
+) {
+
+    public static final long UNVERSIONED = -1L;
+
+    /**
+     * If-None-Match 헤더가 이 문서의 ETag와 일치하는지 확인 (약한 비교, 목록과 * 지원)
+     *
+     * @param ifNoneMatch If-None-Match 헤더 값 (없으면 null)
+     */
+    public boolean notModified(String ifNoneMatch) {
+        if (etag == null || ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+
+        String opaqueTag = opaque(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if ("*".equals(tag) || opaque(tag).equals(opaqueTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String opaque(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+}
@@ -0,0 +1,96 @@
+package personal.ai.core.booking.application.port.out;
+
+import personal.ai.core.booking.domain.model.Reservation;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Reservation Claim Repository (Output Port)
+ * Redis 우선 좌석 선점 + 예약 기록 + 쓰기 지연(Write-Behind) 큐 인터페이스
+ *
+ * - 선점: 좌석 선점 키, 예약 기록, 저장 대기열 항목을 한 번에 원자적으로 기록
+ * - 저장: 대기열 항목을 읽어 DB에 저장한 뒤 확인(ack), 확인되지 않은 항목은 복구 시 다시 처리
+ * - 거절: DB가 거절한 항목은 좌석 선점을 풀고 거절 기록으로 남겨 예약 조회가 실패를 알 수 있게 함
+ */
+public interface ReservationClaimRepository {
+
+    /**
+     * 좌석 선점 + 예약 기록 + 저장 대기열 추가 (원자적)
+     *
+     * @param reservation 예약 정보 (ID 필수)
+     * @param ttl 좌석 선점 유지 시간 (예약 만료 시간)
+     * @return true: 선점 성공, false: 이미 다른 예약이 선점한 좌석
+     */
+    boolean claim(Reservation reservation, Duration ttl);
+
+    /**
+     * 아직 DB에 저장되지 않은 예약 기록 조회 (Read-Your-Writes)
+     *
+     * @param reservationId 예약 ID
+     * @return 예약 기록 (저장이 끝났거나 없는 예약이면 empty)
+     */
+    Optional<Reservation> findById(Long reservationId);
+
+    /**
+     * DB가 거절한 예약 기록 조회 (보관 시간 동안만 유지)
+     *
+     * @param reservationId 예약 ID
+     * @return 거절된 예약 기록 (거절되지 않았거나 보관 시간이 지났으면 empty)
+     */
+    Optional<Reservation> findRejected(Long reservationId);
+
+    /**
+     * 선점 키가 남아 있는 좌석 (DB 저장 전일 수 있는 선점)
+     *
+     * @param scheduleId 일정 ID
+     * @param seatIds 확인할 좌석 ID
+     * @return 그중 선점 키가 있는 좌석 ID
+     */
+    Set<Long> findClaimedSeatIds(Long scheduleId, Collection<Long> seatIds);
+
+    /**
+     * 저장 대기열에서 새 항목 읽기 (이 소비자에게 할당)
+     *
+     * @param consumer 소비자 이름 (인스턴스별)
+     * @param count 최대 항목 수
+     */
+    List<PendingWrite> readPending(String consumer, int count);
+
+    /**
+     * 처리되지 않은 채 오래된 항목을 이 소비자로 가져오기 (재시작/장애 인스턴스 복구)
+     * 최근 항목 뒤에 있는 오래된 항목도 찾도록 미확인 목록을 끝까지 확인
+     *
+     * @param consumer 소비자 이름
+     * @param minIdle 최소 미처리 시간
+     * @param count 최대 항목 수
+     */
+    List<PendingWrite> claimStale(String consumer, Duration minIdle, int count);
+
+    /**
+     * 저장 완료 확인 (대기열 항목 확인/삭제와 예약 기록 제거를 원자적으로 수행)
+     */
+    void acknowledge(List<PendingWrite> writes);
+
+    /**
+     * DB가 거절한 항목 정리 (원자적)
+     * 대기열 확인/삭제 + 좌석 선점 키 해제 (이 예약이 잡고 있을 때만) + 예약 기록을 거절 기록으로 이동
+     *
+     * @param writes 예약 기록이 있는 항목
+     */
+    void reject(List<PendingWrite> writes);
+
+    /**
+     * 저장 대기열 항목
+     *
+     * @param scheduleId 일정 ID (일정별 대기열)
+     * @param entryId 대기열 항목 ID (일정 대기열 안에서 유일)
+     * @param reservation 예약 기록 (기록이 이미 제거됐으면 null)
+     * @param queuedAt 대기열 추가 시각 (epoch ms)
+     */
+    record PendingWrite(Long scheduleId, String entryId, Reservation reservation, long queuedAt) {
+    }
+}
@@ -1,6 +1,7 @@
 package personal.ai.core.booking.application.port.out;
 
 import personal.ai.core.booking.domain.model.Reservation;
+import personal.ai.core.booking.domain.model.ReservationStatus;
 
 import java.util.Optional;
 
@@ -25,4 +26,22 @@ public interface ReservationRepository {
      * @return 예약 정보
      */
     Optional<Reservation> findById(Long reservationId);
+
+    /**
+     * 예약 상태 조건부 변경 (UPDATE ... WHERE id = ? AND status = ? 1문장)
+     * 변경되면 Outbox 이벤트도 같은 트랜잭션에 저장
+     *
+     * @param reservation 변경 후 예약 (도메인 메서드 confirm/cancel/expire의 결과)
+     * @param from 변경 전 상태 (일치할 때만 변경)
+     * @return true: 변경됨, false: 조회 이후 다른 요청이 상태를 바꿈 (이벤트 저장 안 함)
+     */
+    boolean transition(Reservation reservation, ReservationStatus from);
+
+    /**
+     * ID가 정해진 예약 저장 (쓰기 지연: 선점 시 발급한 ID 그대로 INSERT)
+     *
+     * @param reservation 예약 정보 (ID 필수)
+     * @return 저장된 예약 정보
+     */
+    Reservation insert(Reservation reservation);
 }
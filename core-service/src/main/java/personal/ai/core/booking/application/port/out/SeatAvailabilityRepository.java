@@ -0,0 +1,120 @@
+package personal.ai.core.booking.application.port.out;
+
+import personal.ai.core.booking.domain.model.SeatGrade;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.function.IntFunction;
+
+/**
+ * Seat Availability Repository (Output Port)
+ * 일정별 좌석 가용성 비트맵 인덱스 인터페이스
+ *
+ * 비트 위치 = 좌석 서수 (일정 좌석을 ID 오름차순으로 정렬한 순서), 1 = 예매 가능
+ * 10,000석 기준 약 1.2KB
+ *
+ * 버전:
+ * - 비트가 바뀌거나 비트맵이 적재/삭제될 때마다 1씩 증가 (삭제되어도 버전은 유지)
+ * - 비트 변경은 같은 버전의 변경분(Delta)으로 모든 인스턴스에 방송되어 로컬 Near Cache에 반영
+ *
+ * 등급별 요약 카운터:
+ * - 등급 → 예매 가능 좌석 수, 비트맵 적재 시 함께 적재되고 비트가 실제로 바뀔 때만 ±1
+ * - 비트와 원자적으로 바뀌므로 좌석 목록을 세지 않고 요약 조회 가능
+ */
+public interface SeatAvailabilityRepository {
+
+    /**
+     * 비트맵과 버전을 함께 조회 (원자적)
+     *
+     * @param scheduleId 일정 ID
+     * @return 비트맵 스냅샷 (인덱스가 없으면 empty)
+     */
+    Optional<Snapshot> findSnapshot(Long scheduleId);
+
+    /**
+     * 현재 버전만 조회 (Near Cache 최신 여부 확인용)
+     *
+     * @param scheduleId 일정 ID
+     * @return 버전 (한 번도 적재되지 않았으면 empty)
+     */
+    OptionalLong findVersion(Long scheduleId);
+
+    /**
+     * 비트맵 적재 (인덱스가 없을 때만)
+     * 먼저 적재된 인덱스에 반영된 비트 변경을 덮어쓰지 않음
+     * 적재되면 버전이 증가하고 Near Cache 전체 재적재 신호가 방송됨
+     *
+     * @param scheduleId 일정 ID
+     * @param bitmap DB 기준 비트맵
+     * @param availableCounts 등급별 예매 가능 좌석 수 (비트맵과 같은 DB 조회로 집계)
+     * @return 적재 여부 (이미 있으면 false)
+     */
+    boolean initializeBitmap(Long scheduleId, byte[] bitmap, Map<SeatGrade, Integer> availableCounts);
+
+    /**
+     * 좌석 비트 원자적 변경 (인덱스가 있을 때만)
+     * 인덱스가 없을 때 비트를 쓰면 나머지 좌석이 모두 예매 불가(0)로 보이므로 무시
+     * 실제로 바뀐 비트가 있으면 버전이 증가하고 변경분이 방송됨
+     *
+     * @param scheduleId 일정 ID
+     * @param changes 좌석 서수 → 예매 가능 여부
+     * @param gradeOf 좌석 서수 → 좌석 등급 (바뀐 비트의 등급 카운터 갱신용)
+     * @return 변경 후 버전 (바뀐 비트가 없으면 0, 인덱스가 없으면 -1 → 다음 조회 시 재구성)
+     */
+    long setAvailability(Long scheduleId, Map<Integer, Boolean> changes, IntFunction<SeatGrade> gradeOf);
+
+    /**
+     * 등급별 예매 가능 좌석 수 조회
+     *
+     * @param scheduleId 일정 ID
+     * @return 등급 → 예매 가능 좌석 수 (카운터가 없으면 empty)
+     */
+    Optional<Map<SeatGrade, Integer>> findAvailableCounts(Long scheduleId);
+
+    /**
+     * 인덱스 삭제 (다음 조회 시 DB에서 재구성)
+     * 버전이 증가하고 Near Cache 전체 재적재 신호가 방송됨
+     *
+     * @param scheduleId 일정 ID
+     */
+    void delete(Long scheduleId);
+
+    /**
+     * 비트맵 재구성 리스 획득 (인스턴스 간 재구성 1회로 합치기)
+     * 리스를 얻은 인스턴스만 DB에서 적재하고, 나머지는 비트맵이 적재될 때까지 대기
+     *
+     * @param scheduleId 일정 ID
+     * @param token 소유자 토큰 (해제 시 소유권 확인)
+     * @param ttl 리스 만료 시간 (소유자 장애 시 자동 해제)
+     * @return 획득 여부
+     */
+    boolean tryAcquireRebuildLease(Long scheduleId, String token, Duration ttl);
+
+    /**
+     * 비트맵 재구성 리스 해제 (소유자일 때만)
+     *
+     * @param scheduleId 일정 ID
+     * @param token 소유자 토큰
+     */
+    void releaseRebuildLease(Long scheduleId, String token);
+
+    /**
+     * 비트맵 스냅샷
+     *
+     * @param bitmap 가용성 비트맵
+     * @param version 비트맵 버전
+     */
+    record Snapshot(byte[] bitmap, long version) {}
+
+    /**
+     * 방송된 비트맵 변경분
+     *
+     * @param scheduleId 일정 ID
+     * @param version 변경 후 버전
+     * @param changes 좌석 서수 → 예매 가능 여부 (reset이면 비어 있음)
+     * @param reset 비트맵 적재/삭제 (변경분 대신 전체 재적재 필요)
+     */
+    record Delta(Long scheduleId, long version, Map<Integer, Boolean> changes, boolean reset) {}
+}
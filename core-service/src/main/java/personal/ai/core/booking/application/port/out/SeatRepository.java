@@ -1,6 +1,7 @@
 package personal.ai.core.booking.application.port.out;
 
 import personal.ai.core.booking.domain.model.Seat;
+import personal.ai.core.booking.domain.model.SeatStatus;
 
 import java.util.List;
 import java.util.Optional;
@@ -27,6 +28,15 @@ public interface SeatRepository {
      */
     List<Seat> findAvailableByScheduleId(Long scheduleId);
 
+    /**
+     * 특정 일정의 전체 좌석 목록 조회 (상태 무관)
+     * 좌석 가용성 비트맵의 서수 기준이므로 ID 오름차순으로 반환
+     *
+     * @param scheduleId 일정 ID
+     * @return 전체 좌석 목록 (ID 오름차순)
+     */
+    List<Seat> findAllByScheduleId(Long scheduleId);
+
     /**
      * 좌석 저장 (상태 변경)
      *
@@ -34,4 +44,15 @@ public interface SeatRepository {
      * @return 저장된 좌석 정보
      */
     Seat save(Seat seat);
+
+    /**
+     * 좌석 상태 조건부 변경 (조회 없이 UPDATE ... WHERE id = ? AND status = ? 1문장)
+     * 허용되는 전이는 Seat 도메인 메서드(reserve/occupy/release)와 같아야 함
+     *
+     * @param seatId 좌석 ID
+     * @param from 현재 상태 (일치할 때만 변경)
+     * @param to 변경할 상태
+     * @return true: 변경됨, false: 좌석이 없거나 현재 상태가 from이 아님
+     */
+    boolean transitionStatus(Long seatId, SeatStatus from, SeatStatus to);
 }
@@ -3,8 +3,10 @@ package personal.ai.core.booking.application.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import personal.ai.core.booking.adapter.in.web.dto.SeatResponse;
+import personal.ai.core.booking.adapter.in.web.dto.SeatGradeSummaryResponse;
 import personal.ai.core.booking.application.port.in.GetAvailableSeatsUseCase;
+import personal.ai.core.booking.application.port.in.SeatFilter;
+import personal.ai.core.booking.application.port.in.SeatMapDocument;
 import personal.ai.core.booking.application.port.out.QueueServiceClient;
 import personal.ai.core.booking.domain.service.QueueTokenExtractor;
 
@@ -15,7 +17,9 @@ import java.util.List;
  * 단일 책임: 예약 가능 좌석 조회
  *
  * 성능 최적화:
- * - Redis 캐싱 적용 (TTL: 1초)
+ * - Redis 좌석 가용성 비트맵 + 좌석 배치 로컬 캐시로 조회 (SQL 없음)
+ * - 응답 본문은 비트맵 버전당 1회만 직렬화 (같은 버전 조회는 캐시된 바이트 반환)
+ * - 등급/구역 범위 조회와 등급별 요약으로 필요한 만큼만 응답
  * - @Transactional 제거하여 DB 커넥션 효율 개선
  *   (HTTP 호출 중 커넥션 홀딩 방지)
  */
@@ -28,27 +32,36 @@ public class AvailableSeatsQueryService implements GetAvailableSeatsUseCase {
     private final QueueServiceClient queueServiceClient;
 
     @Override
-    public List<SeatResponse> getAvailableSeats(Long scheduleId, Long userId, String queueToken) {
+    public SeatMapDocument getAvailableSeats(Long scheduleId, SeatFilter filter, Long userId, String queueToken) {
         long serviceStartTime = System.currentTimeMillis();
 
-        // 토큰에서 concertId 추출 (형식: concertId:userId:counter)
-        String concertId = QueueTokenExtractor.extractConcertId(queueToken);
-
         // Queue Service에 토큰 검증 요청 (캐시하면 안됨 - 보안)
         long queueValidationStart = System.currentTimeMillis();
-        queueServiceClient.validateToken(concertId, userId, queueToken);
+        validateToken(userId, queueToken);
         long queueValidationTime = System.currentTimeMillis() - queueValidationStart;
 
-        // 좌석 조회 (Redis 캐시 적용 - Response DTO 직접 반환)
+        // 좌석 조회 (Near Cache 가용성 비트맵 - 직렬화된 응답 본문 반환)
         long cacheQueryStart = System.currentTimeMillis();
-        var availableSeats = seatQueryCacheService.findAvailableSeats(scheduleId);
+        var availableSeats = seatQueryCacheService.findSeatMap(scheduleId, filter);
         long cacheQueryTime = System.currentTimeMillis() - cacheQueryStart;
 
         long totalServiceTime = System.currentTimeMillis() - serviceStartTime;
 
-        log.info("Service timing - scheduleId: {}, total: {}ms, queueValidation: {}ms, cache: {}ms",
-                scheduleId, totalServiceTime, queueValidationTime, cacheQueryTime);
+        log.info("Service timing - scheduleId: {}, filter: {}, total: {}ms, queueValidation: {}ms, cache: {}ms",
+                scheduleId, filter.key(), totalServiceTime, queueValidationTime, cacheQueryTime);
 
         return availableSeats;
     }
+
+    @Override
+    public List<SeatGradeSummaryResponse> getSeatSummary(Long scheduleId, Long userId, String queueToken) {
+        validateToken(userId, queueToken);
+        return seatQueryCacheService.findGradeSummary(scheduleId);
+    }
+
+    private void validateToken(Long userId, String queueToken) {
+        // 토큰에서 concertId 추출 (형식: concertId:userId:counter)
+        String concertId = QueueTokenExtractor.extractConcertId(queueToken);
+        queueServiceClient.validateToken(concertId, userId, queueToken);
+    }
 }
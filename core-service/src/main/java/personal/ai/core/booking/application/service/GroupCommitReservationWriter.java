@@ -0,0 +1,262 @@
+package personal.ai.core.booking.application.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import personal.ai.core.booking.application.port.in.ReserveSeatCommand;
+import personal.ai.core.booking.domain.model.Reservation;
+import personal.ai.core.booking.domain.service.BookingManager;
+import personal.ai.core.booking.domain.service.BookingManager.ReserveOutcome;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Group Commit Reservation Writer
+ * 동시에 들어온 좌석 예약을 짧은 구간 동안 모아 DB 트랜잭션 1개로 커밋 (booking.reservation.group-commit.enabled=true)
+ *
+ * - 모으기: 첫 요청부터 max-wait-ms 동안 또는 max-batch-size개가 찰 때까지 대기열에서 꺼냄 (전용 스레드 1개)
+ * - 커밋: BookingManager.reserveSeatsInTransaction으로 일괄 처리, 좌석 충돌은 해당 항목만 실패
+ * - 결과 전달: 커밋이 끝난 뒤 요청별 Future를 각자의 예약 또는 예외로 완료 (커밋 전에 성공을 알리지 않음)
+ * - 일괄 실패 (유니크 제약 위반, DB 연결 등): 항목별 트랜잭션으로 다시 처리하여 실패 항목만 분리
+ * - 대기 제한: 호출자는 좌석 락을 잡은 채 기다리므로 reserve-timeout-ms가 지나면 실패 처리
+ *   (아직 커밋 전이면 배치에서 제외, 커밋 중이었다면 저장된 예약을 즉시 만료시켜 좌석을 되돌림)
+ *
+ * 메트릭:
+ * - reservation.groupcommit.batch.size (커밋 1회에 묶인 예약 수)
+ * - reservation.groupcommit.commits{result=batched|fallback}
+ * - reservation.groupcommit.timeouts (대기 제한을 넘겨 실패한 예약 수)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "booking.reservation.group-commit.enabled", havingValue = "true")
+public class GroupCommitReservationWriter {
+
+    private static final long IDLE_POLL_MS = 100;
+    private static final long SHUTDOWN_TIMEOUT_MS = 5000;
+
+    private final BookingManager bookingManager;
+    private final int maxBatchSize;
+    private final long maxWaitNanos;
+    private final long reserveTimeoutMs;
+
+    private final BlockingQueue<PendingReservation> queue = new LinkedBlockingQueue<>();
+    private final Thread writerThread;
+    private volatile boolean running = true;
+
+    private final DistributionSummary batchSizeSummary;
+    private final Counter batchedCounter;
+    private final Counter fallbackCounter;
+    private final Counter timeoutCounter;
+
+    public GroupCommitReservationWriter(
+            BookingManager bookingManager,
+            MeterRegistry meterRegistry,
+            @Value("${booking.reservation.group-commit.max-batch-size:100}") int maxBatchSize,
+            @Value("${booking.reservation.group-commit.max-wait-ms:5}") long maxWaitMs,
+            @Value("${booking.reservation.group-commit.reserve-timeout-ms:3000}") long reserveTimeoutMs) {
+        this.bookingManager = bookingManager;
+        this.maxBatchSize = maxBatchSize;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMs);
+        this.reserveTimeoutMs = reserveTimeoutMs;
+
+        this.batchSizeSummary = DistributionSummary.builder("reservation.groupcommit.batch.size")
+                .description("Seat reservations applied per group commit transaction")
+                .register(meterRegistry);
+        this.batchedCounter = commitCounter(meterRegistry, "batched");
+        this.fallbackCounter = commitCounter(meterRegistry, "fallback");
+        this.timeoutCounter = Counter.builder("reservation.groupcommit.timeouts")
+                .description("Seat reservations failed after waiting longer than reserve-timeout-ms")
+                .register(meterRegistry);
+
+        this.writerThread = Thread.ofPlatform()
+                .name("reservation-group-commit")
+                .daemon()
+                .start(this::run);
+    }
+
+    /**
+     * 좌석 예약 (다른 요청과 함께 커밋될 때까지 최대 reserve-timeout-ms 대기)
+     *
+     * @return 저장된 예약
+     * @throws IllegalStateException 대기 제한 시간 초과 또는 종료 중
+     * @throws RuntimeException 이 요청의 예약 실패 원인 (좌석 예약 불가, 유니크 제약 위반 등)
+     */
+    public Reservation reserve(ReserveSeatCommand command) {
+        if (!running) {
+            throw new IllegalStateException("Group commit writer is shut down");
+        }
+
+        PendingReservation pending = new PendingReservation(command, new CompletableFuture<>());
+        queue.add(pending);
+        try {
+            return pending.result()
+                    .orTimeout(reserveTimeoutMs, TimeUnit.MILLISECONDS)
+                    .join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof TimeoutException) {
+                timeoutCounter.increment();
+                log.warn("Group commit reservation timed out: seatId={}, timeoutMs={}",
+                        command.seatId(), reserveTimeoutMs);
+                throw new IllegalStateException(String.format(
+                        "Group commit reservation timed out: seatId=%d", command.seatId()), e.getCause());
+            }
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 남은 요청을 모두 커밋한 뒤 중지
+     */
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        try {
+            writerThread.join(SHUTDOWN_TIMEOUT_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // 제한 시간 안에 처리하지 못한 요청은 대기가 끝나도록 실패 처리
+        List<PendingReservation> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        remaining.forEach(pending -> pending.result().completeExceptionally(
+                new IllegalStateException("Group commit writer is shut down")));
+        log.info("GroupCommitReservationWriter shutdown: abandoned {} reservations", remaining.size());
+    }
+
+    private void run() {
+        while (running || !queue.isEmpty()) {
+            try {
+                List<PendingReservation> batch = nextBatch();
+                if (!batch.isEmpty()) {
+                    commit(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                // commit()은 항목별로 결과를 완료하므로 여기까지 오는 예외는 없어야 함 (스레드 유지)
+                log.error("Group commit loop failed", e);
+            }
+        }
+    }
+
+    /**
+     * 첫 요청을 기다린 뒤, 모으기 구간이 끝나거나 최대 개수가 찰 때까지 추가로 꺼냄
+     */
+    private List<PendingReservation> nextBatch() throws InterruptedException {
+        PendingReservation first = queue.poll(IDLE_POLL_MS, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return List.of();
+        }
+
+        List<PendingReservation> batch = new ArrayList<>(maxBatchSize);
+        batch.add(first);
+        long deadline = System.nanoTime() + maxWaitNanos;
+        while (batch.size() < maxBatchSize) {
+            long remaining = deadline - System.nanoTime();
+            PendingReservation next = remaining > 0
+                    ? queue.poll(remaining, TimeUnit.NANOSECONDS)
+                    : queue.poll();
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    private void commit(List<PendingReservation> collected) {
+        // 대기 제한을 넘겨 이미 실패 처리된 요청은 호출자가 락을 풀었으므로 저장하지 않음
+        List<PendingReservation> batch = collected.stream()
+                .filter(pending -> !pending.result().isDone())
+                .toList();
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        List<ReserveSeatCommand> commands = batch.stream()
+                .map(PendingReservation::command)
+                .toList();
+
+        List<ReserveOutcome> outcomes;
+        try {
+            outcomes = bookingManager.reserveSeatsInTransaction(commands);
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                batch.get(0).result().completeExceptionally(e);
+                return;
+            }
+            log.warn("Group commit failed, retrying one by one: count={}, error={}", batch.size(), e.getMessage());
+            fallbackCounter.increment();
+            commitIndividually(batch);
+            return;
+        }
+
+        batchedCounter.increment();
+        batchSizeSummary.record(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            ReserveOutcome outcome = outcomes.get(i);
+            if (outcome.isReserved()) {
+                deliver(batch.get(i), outcome.reservation());
+            } else {
+                batch.get(i).result().completeExceptionally(outcome.failure());
+            }
+        }
+    }
+
+    private void commitIndividually(List<PendingReservation> batch) {
+        for (PendingReservation pending : batch) {
+            if (pending.result().isDone()) {
+                continue;
+            }
+            try {
+                deliver(pending, bookingManager.reserveSeatInTransaction(pending.command()));
+            } catch (RuntimeException e) {
+                pending.result().completeExceptionally(e);
+            }
+        }
+    }
+
+    /**
+     * 커밋된 예약 전달
+     * 커밋 중에 호출자가 대기 제한으로 실패를 받아갔다면 예약을 즉시 만료시켜 좌석을 되돌림
+     * (호출자는 이미 락을 풀었고 TTL도 등록하지 않았으므로 남겨두면 좌석이 RESERVED로 고정됨)
+     */
+    private void deliver(PendingReservation pending, Reservation reservation) {
+        if (pending.result().complete(reservation)) {
+            return;
+        }
+        log.warn("Reservation committed after caller timed out, expiring: reservationId={}, seatId={}",
+                reservation.id(), reservation.seatId());
+        try {
+            bookingManager.expireReservation(reservation.id());
+        } catch (RuntimeException e) {
+            log.error("Failed to expire timed-out reservation: reservationId={}", reservation.id(), e);
+        }
+    }
+
+    private static Counter commitCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("reservation.groupcommit.commits")
+                .tag("result", result)
+                .description("Group commit transactions by outcome")
+                .register(meterRegistry);
+    }
+
+    private record PendingReservation(ReserveSeatCommand command, CompletableFuture<Reservation> result) {}
+}
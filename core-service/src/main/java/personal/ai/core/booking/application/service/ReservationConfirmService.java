@@ -5,15 +5,29 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import personal.ai.core.booking.application.port.in.ConfirmReservationUseCase;
+import personal.ai.core.booking.application.port.out.ReservationClaimRepository;
 import personal.ai.core.booking.application.port.out.ReservationRepository;
 import personal.ai.core.booking.application.port.out.SeatRepository;
+import personal.ai.core.booking.domain.exception.ConcurrentReservationException;
 import personal.ai.core.booking.domain.exception.ReservationNotFoundException;
+import personal.ai.core.booking.domain.exception.SeatNotAvailableException;
 import personal.ai.core.booking.domain.exception.SeatNotFoundException;
 import personal.ai.core.booking.domain.model.Reservation;
+import personal.ai.core.booking.domain.model.ReservationStatus;
+import personal.ai.core.booking.domain.model.Seat;
+import personal.ai.core.booking.domain.model.SeatStatus;
+import personal.ai.core.booking.domain.service.BookingManager;
+
+import java.util.List;
+import java.util.Optional;
 
 /**
  * Reservation Confirm Service (SRP)
  * 단일 책임: 예약 확정 (결제 완료 후)
+ * 아직 DB에 저장되지 않은 쓰기 지연 예약은 같은 트랜잭션에서 먼저 저장 후 확정
+ * (대기열 항목은 남겨두며, 이후 쓰기 지연 저장은 이미 저장된 ID로 건너뜀)
+ *
+ * 상태 전이: 예약 조회 1회 + 조건부 UPDATE (예약 PENDING -> CONFIRMED, 좌석 RESERVED -> OCCUPIED)
  */
 @Slf4j
 @Service
@@ -22,11 +36,15 @@ public class ReservationConfirmService implements ConfirmReservationUseCase {
 
     private final ReservationRepository reservationRepository;
     private final SeatRepository seatRepository;
+    private final SeatQueryCacheService seatQueryCacheService;
+    private final ReservationClaimRepository reservationClaimRepository;
+    private final BookingManager bookingManager;
 
     @Override
     @Transactional
     public Reservation confirmReservation(ConfirmReservationCommand command) {
         var reservation = reservationRepository.findById(command.reservationId())
+                .or(() -> persistClaimed(command))
                 .orElseThrow(() -> {
                     log.warn("Reservation not found for confirmation: reservationId={}", command.reservationId());
                     return new ReservationNotFoundException(command.reservationId());
@@ -35,16 +53,46 @@ public class ReservationConfirmService implements ConfirmReservationUseCase {
         reservation.ensureOwnership(command.userId());
 
         var confirmedReservation = reservation.confirm();
-        var savedReservation = reservationRepository.save(confirmedReservation);
+        if (!reservationRepository.transition(confirmedReservation, ReservationStatus.PENDING)) {
+            // 조회 이후 다른 요청(만료/확정)이 먼저 상태를 바꿈 → 현재 상태 기준 도메인 예외
+            reservationRepository.findById(reservation.id())
+                    .orElseThrow(() -> new ReservationNotFoundException(reservation.id()))
+                    .ensurePending();
+            throw new ConcurrentReservationException(reservation.seatId());
+        }
+
+        occupySeat(reservation.seatId());
+        seatQueryCacheService.markOccupied(reservation.scheduleId(), reservation.seatId());
+
+        log.debug("Reservation confirmed: reservationId={}, seatId={}", confirmedReservation.id(), reservation.seatId());
 
-        var seat = seatRepository.findById(reservation.seatId())
-                .orElseThrow(() -> new SeatNotFoundException(reservation.seatId()));
+        return confirmedReservation;
+    }
 
-        var occupiedSeat = seat.occupy();
-        seatRepository.save(occupiedSeat);
+    /**
+     * 좌석 점유 (RESERVED -> OCCUPIED, Seat.occupy()와 같은 전이)
+     * 조건부 UPDATE가 일치하지 않을 때만 좌석을 조회하여 도메인 규칙으로 실패 원인 확인
+     */
+    private void occupySeat(Long seatId) {
+        if (seatRepository.transitionStatus(seatId, SeatStatus.RESERVED, SeatStatus.OCCUPIED)) {
+            return;
+        }
 
-        log.debug("Reservation confirmed: reservationId={}, seatId={}", savedReservation.id(), seat.id());
+        Seat seat = seatRepository.findById(seatId)
+                .orElseThrow(() -> new SeatNotFoundException(seatId));
+        seat.occupy();
+        // UPDATE 이후 조회 전에 다시 예약된 경우
+        throw new SeatNotAvailableException(seatId, seat.status());
+    }
 
-        return savedReservation;
+    private Optional<Reservation> persistClaimed(ConfirmReservationCommand command) {
+        Long reservationId = command.reservationId();
+        return reservationClaimRepository.findById(reservationId)
+                .map(claimed -> {
+                    claimed.ensureOwnership(command.userId());
+                    bookingManager.persistReservations(List.of(claimed));
+                    log.debug("Write-behind reservation persisted for confirmation: reservationId={}", reservationId);
+                    return claimed;
+                });
     }
 }
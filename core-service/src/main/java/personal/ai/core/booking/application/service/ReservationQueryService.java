@@ -5,13 +5,17 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import personal.ai.core.booking.application.port.in.GetReservationUseCase;
+import personal.ai.core.booking.application.port.out.ReservationClaimRepository;
 import personal.ai.core.booking.application.port.out.ReservationRepository;
+import personal.ai.core.booking.domain.exception.ConcurrentReservationException;
 import personal.ai.core.booking.domain.exception.ReservationNotFoundException;
 import personal.ai.core.booking.domain.model.Reservation;
 
 /**
  * Reservation Query Service (SRP)
  * 단일 책임: 예약 조회
+ * DB에 없으면 아직 저장 대기 중인 Redis 예약 기록 조회 (쓰기 지연 방식의 Read-Your-Writes)
+ * 쓰기 지연 저장을 DB가 거절한 예약은 거절 기록으로 확인하여 동시성 충돌로 실패 처리
  */
 @Slf4j
 @Service
@@ -20,14 +24,13 @@ import personal.ai.core.booking.domain.model.Reservation;
 public class ReservationQueryService implements GetReservationUseCase {
 
     private final ReservationRepository reservationRepository;
+    private final ReservationClaimRepository reservationClaimRepository;
 
     @Override
     public Reservation getReservation(Long reservationId, Long userId) {
         var reservation = reservationRepository.findById(reservationId)
-                .orElseThrow(() -> {
-                    log.warn("Reservation not found: reservationId={}", reservationId);
-                    return new ReservationNotFoundException(reservationId);
-                });
+                .or(() -> reservationClaimRepository.findById(reservationId))
+                .orElseThrow(() -> rejectedOrNotFound(reservationId, userId));
 
         reservation.ensureOwnership(userId);
 
@@ -35,4 +38,18 @@ public class ReservationQueryService implements GetReservationUseCase {
 
         return reservation;
     }
+
+    private RuntimeException rejectedOrNotFound(Long reservationId, Long userId) {
+        return reservationClaimRepository.findRejected(reservationId)
+                .<RuntimeException>map(rejected -> {
+                    rejected.ensureOwnership(userId);
+                    log.warn("Reservation rejected by database: reservationId={}, seatId={}",
+                            reservationId, rejected.seatId());
+                    return new ConcurrentReservationException(rejected.seatId());
+                })
+                .orElseGet(() -> {
+                    log.warn("Reservation not found: reservationId={}", reservationId);
+                    return new ReservationNotFoundException(reservationId);
+                });
+    }
 }
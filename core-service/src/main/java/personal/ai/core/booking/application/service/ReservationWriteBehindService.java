@@ -0,0 +1,213 @@
+package personal.ai.core.booking.application.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import personal.ai.core.booking.application.port.in.FlushReservationWritesUseCase;
+import personal.ai.core.booking.application.port.out.ReservationCacheRepository;
+import personal.ai.core.booking.application.port.out.ReservationClaimRepository;
+import personal.ai.core.booking.application.port.out.ReservationClaimRepository.PendingWrite;
+import personal.ai.core.booking.domain.exception.SeatNotAvailableException;
+import personal.ai.core.booking.domain.exception.SeatNotFoundException;
+import personal.ai.core.booking.domain.model.Reservation;
+import personal.ai.core.booking.domain.service.BookingManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reservation Write-Behind Service
+ * Redis에 선점된 예약을 DB에 일괄 저장 (booking.reservation.write-behind.enabled=true)
+ *
+ * - 일괄 저장: 대기열 항목 최대 batch-size개를 DB 트랜잭션 1회로 저장 → 커밋 후 만료 TTL 설정 → 대기열 확인(ack)
+ * - 멱등성: 예약 ID는 선점 시 정해지므로 이미 저장된 ID는 건너뜀 (ack 전 장애로 재처리돼도 중복 없음)
+ * - 일괄 실패: 항목별 트랜잭션으로 다시 저장하여 실패 항목만 분리
+ *   - 영구 실패 (DB에서 좌석이 이미 예약/점유, 좌석 없음, 유니크 제약 위반): 좌석 선점을 풀고 거절 기록으로 남김
+ *     (예약 조회는 거절 기록으로 실패를 알림, DB가 좌석을 예약/점유로 보고한 경우 외에는 비트맵도 예매 가능으로 되돌림)
+ *   - 일시 실패 (DB 연결 등): ack하지 않고 남겨 복구 주기에 재처리
+ *
+ * 메트릭:
+ * - reservation.writebehind.writes{result=persisted|rejected|failed}
+ * - reservation.writebehind.lag (선점부터 DB 저장까지 걸린 시간)
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "booking.reservation.write-behind.enabled", havingValue = "true")
+public class ReservationWriteBehindService implements FlushReservationWritesUseCase {
+
+    // 한 번 호출에서 처리하는 최대 일괄 수 (스케줄러 스레드를 다른 작업과 공유하므로 상한)
+    private static final int MAX_BATCHES_PER_FLUSH = 10;
+
+    private final ReservationClaimRepository reservationClaimRepository;
+    private final ReservationCacheRepository reservationCacheRepository;
+    private final BookingManager bookingManager;
+    private final SeatQueryCacheService seatQueryCacheService;
+    private final String consumer;
+    private final int batchSize;
+    private final Duration recoveryIdle;
+
+    private final Counter persistedCounter;
+    private final Counter rejectedCounter;
+    private final Counter failedCounter;
+    private final Timer lagTimer;
+
+    public ReservationWriteBehindService(
+            ReservationClaimRepository reservationClaimRepository,
+            ReservationCacheRepository reservationCacheRepository,
+            BookingManager bookingManager,
+            SeatQueryCacheService seatQueryCacheService,
+            MeterRegistry meterRegistry,
+            @Value("${booking.reservation.write-behind.consumer:core-service}") String consumer,
+            @Value("${booking.reservation.write-behind.batch-size:100}") int batchSize,
+            @Value("${booking.reservation.write-behind.recovery-idle-ms:30000}") long recoveryIdleMs) {
+        this.reservationClaimRepository = reservationClaimRepository;
+        this.reservationCacheRepository = reservationCacheRepository;
+        this.bookingManager = bookingManager;
+        this.seatQueryCacheService = seatQueryCacheService;
+        this.consumer = consumer;
+        this.batchSize = batchSize;
+        this.recoveryIdle = Duration.ofMillis(recoveryIdleMs);
+
+        this.persistedCounter = writeCounter(meterRegistry, "persisted");
+        this.rejectedCounter = writeCounter(meterRegistry, "rejected");
+        this.failedCounter = writeCounter(meterRegistry, "failed");
+        this.lagTimer = Timer.builder("reservation.writebehind.lag")
+                .description("Time from Redis seat claim to database persistence")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public int flushPendingWrites() {
+        int processed = 0;
+        for (int batch = 0; batch < MAX_BATCHES_PER_FLUSH; batch++) {
+            List<PendingWrite> writes = reservationClaimRepository.readPending(consumer, batchSize);
+            processed += persist(writes);
+            if (writes.size() < batchSize) {
+                break;
+            }
+        }
+        return processed;
+    }
+
+    @Override
+    public int recoverStaleWrites() {
+        List<PendingWrite> writes = reservationClaimRepository.claimStale(consumer, recoveryIdle, batchSize);
+        if (!writes.isEmpty()) {
+            log.info("Recovering stale reservation writes: consumer={}, count={}", consumer, writes.size());
+        }
+        return persist(writes);
+    }
+
+    private int persist(List<PendingWrite> writes) {
+        if (writes.isEmpty()) {
+            return 0;
+        }
+
+        // 기록이 없는 항목은 이미 저장 후 기록만 제거된 경우 (ack 도중 장애) → 그대로 ack
+        List<Reservation> reservations = writes.stream()
+                .map(PendingWrite::reservation)
+                .filter(Objects::nonNull)
+                .toList();
+
+        try {
+            afterCommit(bookingManager.persistReservations(reservations));
+            acknowledge(writes, writes);
+            persistedCounter.increment(reservations.size());
+            return writes.size();
+        } catch (RuntimeException e) {
+            log.warn("Reservation batch write failed, retrying one by one: count={}, error={}",
+                    reservations.size(), e.getMessage());
+        }
+
+        return persistIndividually(writes);
+    }
+
+    private int persistIndividually(List<PendingWrite> writes) {
+        List<PendingWrite> done = new ArrayList<>(writes.size());
+        List<PendingWrite> persisted = new ArrayList<>(writes.size());
+        List<PendingWrite> rejected = new ArrayList<>();
+        List<Reservation> released = new ArrayList<>();
+        for (PendingWrite write : writes) {
+            Reservation reservation = write.reservation();
+            if (reservation == null) {
+                done.add(write);
+                continue;
+            }
+
+            try {
+                afterCommit(bookingManager.persistReservations(List.of(reservation)));
+                persistedCounter.increment();
+                done.add(write);
+                persisted.add(write);
+
+            } catch (SeatNotAvailableException | SeatNotFoundException | DataIntegrityViolationException e) {
+                // 영구 실패: 재시도해도 같은 결과 → 선점을 풀고 거절 기록으로 남긴 뒤 대기열에서 제거
+                log.error("Reservation write rejected by database: reservationId={}, seatId={}, userId={}, error={}",
+                        reservation.id(), reservation.seatId(), reservation.userId(), e.getMessage());
+                rejectedCounter.increment();
+                rejected.add(write);
+                // DB에서 다른 예약이 좌석을 잡고 있으면 비트맵의 예매 불가가 맞으므로 그대로 둠
+                if (!(e instanceof SeatNotAvailableException)) {
+                    released.add(reservation);
+                }
+
+            } catch (RuntimeException e) {
+                // 일시 실패: ack하지 않음 → recovery-idle 후 복구 주기에 재처리
+                log.warn("Reservation write failed, will retry on recovery: reservationId={}, error={}",
+                        reservation.id(), e.getMessage());
+                failedCounter.increment();
+            }
+        }
+
+        if (!rejected.isEmpty()) {
+            reservationClaimRepository.reject(rejected);
+            released.forEach(reservation ->
+                    seatQueryCacheService.markAvailable(reservation.scheduleId(), reservation.seatId()));
+        }
+        acknowledge(done, persisted);
+        return done.size() + rejected.size();
+    }
+
+    /**
+     * 커밋 후 만료 처리 등록
+     * 저장이 늦어 이미 만료 시각이 지난 예약은 바로 만료 처리 (TTL 키 없이 PENDING으로 남지 않도록)
+     */
+    private void afterCommit(List<Reservation> pending) {
+        LocalDateTime now = LocalDateTime.now();
+        for (Reservation reservation : pending) {
+            if (reservation.expiresAt().isAfter(now)) {
+                reservationCacheRepository.setReservationTTL(reservation.id(), reservation.expiresAt());
+                continue;
+            }
+
+            log.warn("Reservation expired before write-behind persisted it: reservationId={}", reservation.id());
+            bookingManager.expireReservation(reservation.id())
+                    .ifPresent(expired -> seatQueryCacheService.markAvailable(expired.scheduleId(), expired.seatId()));
+        }
+    }
+
+    private void acknowledge(List<PendingWrite> done, List<PendingWrite> persisted) {
+        reservationClaimRepository.acknowledge(done);
+
+        long now = System.currentTimeMillis();
+        for (PendingWrite write : persisted) {
+            lagTimer.record(Math.max(0, now - write.queuedAt()), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private static Counter writeCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("reservation.writebehind.writes")
+                .tag("result", result)
+                .description("Write-behind reservation records by database persistence result")
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,249 @@
+package personal.ai.core.booking.application.service;
+
+import personal.ai.core.booking.adapter.in.web.dto.SeatResponse;
+import personal.ai.core.booking.application.port.in.SeatFilter;
+import personal.ai.core.booking.domain.model.Seat;
+import personal.ai.core.booking.domain.model.SeatGrade;
+import personal.ai.core.booking.domain.model.SeatStatus;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Seat Layout (정적 좌석 메타데이터)
+ * 일정의 좌석 번호/등급/가격은 판매 중 바뀌지 않으므로 인스턴스 메모리에 한 번만 적재하고,
+ * 매 조회는 Redis 가용성 비트맵과 합쳐 응답을 만듭니다.
+ *
+ * 좌석 서수: 일정 좌석을 ID 오름차순으로 정렬한 순서 (비트맵의 비트 위치)
+ * 비트 순서: Redis SETBIT과 동일 (바이트 안에서 최상위 비트가 서수 0)
+ *
+ * 등급/구역별 서수 목록을 미리 만들어, 범위 조회는 해당 좌석의 비트만 확인
+ */
+public final class SeatLayout {
+
+    private static final int NOT_FOUND = -1;
+    private static final int[] EMPTY = new int[0];
+
+    private final Long scheduleId;
+    private final List<SeatResponse> availableViews;
+    private final Map<Long, Integer> ordinals;
+    private final Map<SeatGrade, int[]> gradeOrdinals;
+    private final Map<String, int[]> sectionOrdinals;
+    private final Map<SeatGrade, GradeInfo> grades;
+
+    private SeatLayout(Long scheduleId, List<SeatResponse> availableViews, Map<Long, Integer> ordinals,
+                       Map<SeatGrade, int[]> gradeOrdinals, Map<String, int[]> sectionOrdinals,
+                       Map<SeatGrade, GradeInfo> grades) {
+        this.scheduleId = scheduleId;
+        this.availableViews = availableViews;
+        this.ordinals = ordinals;
+        this.gradeOrdinals = gradeOrdinals;
+        this.sectionOrdinals = sectionOrdinals;
+        this.grades = grades;
+    }
+
+    /**
+     * @param scheduleId 일정 ID
+     * @param seats 일정 전체 좌석 (ID 오름차순)
+     */
+    public static SeatLayout of(Long scheduleId, List<Seat> seats) {
+        List<SeatResponse> views = new ArrayList<>(seats.size());
+        Map<Long, Integer> ordinals = new HashMap<>(seats.size() * 2);
+        Map<SeatGrade, List<Integer>> byGrade = new EnumMap<>(SeatGrade.class);
+        Map<String, List<Integer>> bySection = new LinkedHashMap<>();
+        Map<SeatGrade, GradeInfo> grades = new EnumMap<>(SeatGrade.class);
+
+        for (Seat seat : seats) {
+            int ordinal = views.size();
+            ordinals.put(seat.id(), ordinal);
+            byGrade.computeIfAbsent(seat.grade(), grade -> new ArrayList<>()).add(ordinal);
+            bySection.computeIfAbsent(seat.section(), section -> new ArrayList<>()).add(ordinal);
+            grades.merge(seat.grade(), new GradeInfo(1, seat.price()), GradeInfo::merge);
+            // 응답 객체는 예매 가능 상태로 미리 만들어 조회마다 재사용
+            views.add(new SeatResponse(seat.id(), scheduleId, seat.seatNumber(), seat.grade(), seat.price(),
+                    SeatStatus.AVAILABLE));
+        }
+
+        Map<SeatGrade, int[]> gradeOrdinals = new EnumMap<>(SeatGrade.class);
+        byGrade.forEach((grade, list) -> gradeOrdinals.put(grade, toArray(list)));
+        Map<String, int[]> sectionOrdinals = new HashMap<>();
+        bySection.forEach((section, list) -> sectionOrdinals.put(section, toArray(list)));
+
+        return new SeatLayout(scheduleId, List.copyOf(views), ordinals, gradeOrdinals, sectionOrdinals, grades);
+    }
+
+    public Long scheduleId() {
+        return scheduleId;
+    }
+
+    public int size() {
+        return availableViews.size();
+    }
+
+    /**
+     * @return 좌석 ID (서수 범위를 벗어나면 null)
+     */
+    public Long seatIdOf(int ordinal) {
+        return ordinal >= 0 && ordinal < size() ? availableViews.get(ordinal).seatId() : null;
+    }
+
+    /**
+     * @return 좌석 등급 (서수 범위를 벗어나면 null)
+     */
+    public SeatGrade gradeOf(int ordinal) {
+        return ordinal >= 0 && ordinal < size() ? availableViews.get(ordinal).grade() : null;
+    }
+
+    /**
+     * @return 등급별 좌석 수와 가격 (좌석이 있는 등급만, 등급 순서)
+     */
+    public Map<SeatGrade, GradeInfo> grades() {
+        return grades;
+    }
+
+    /**
+     * @return 구역 존재 여부
+     */
+    public boolean hasSection(String section) {
+        return sectionOrdinals.containsKey(section);
+    }
+
+    /**
+     * @return 좌석 서수 (이 일정의 좌석이 아니면 -1)
+     */
+    public int ordinalOf(Long seatId) {
+        return ordinals.getOrDefault(seatId, NOT_FOUND);
+    }
+
+    /**
+     * 좌석 구성이 같은지 확인 (같은 좌석 ID가 같은 순서)
+     * 좌석이 추가/삭제되면 서수가 달라지므로 비트맵과 함께 다시 만들어야 함
+     */
+    public boolean matches(List<Seat> seats) {
+        if (seats.size() != size()) {
+            return false;
+        }
+        for (int i = 0; i < seats.size(); i++) {
+            if (!seats.get(i).id().equals(availableViews.get(i).seatId())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 좌석 상태로 비트맵 생성 (AVAILABLE = 1)
+     *
+     * @param seats 일정 전체 좌석 (ID 오름차순, 이 배치와 같은 구성)
+     */
+    public byte[] bitmapOf(List<Seat> seats) {
+        byte[] bitmap = new byte[(size() + 7) / 8];
+        for (Seat seat : seats) {
+            int ordinal = ordinalOf(seat.id());
+            if (ordinal != NOT_FOUND && seat.isAvailable()) {
+                bitmap[ordinal >> 3] |= (byte) (0x80 >>> (ordinal & 7));
+            }
+        }
+        return bitmap;
+    }
+
+    /**
+     * 좌석 상태로 등급별 예매 가능 좌석 수 집계 (비트맵 적재 시 요약 카운터 초기값)
+     */
+    public Map<SeatGrade, Integer> availableCountsOf(List<Seat> seats) {
+        Map<SeatGrade, Integer> counts = new EnumMap<>(SeatGrade.class);
+        grades.keySet().forEach(grade -> counts.put(grade, 0));
+        for (Seat seat : seats) {
+            if (seat.isAvailable()) {
+                counts.merge(seat.grade(), 1, Integer::sum);
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * 비트맵에서 예매 가능 좌석 응답 목록 생성
+     * 비트맵이 배치보다 짧으면 (Redis 인덱스가 좌석 추가 전 상태) 나머지 좌석은 예매 불가로 취급
+     */
+    public List<SeatResponse> availableSeats(byte[] bitmap) {
+        List<SeatResponse> seats = new ArrayList<>();
+        int limit = Math.min(size(), bitmap.length * 8);
+        for (int ordinal = 0; ordinal < limit; ordinal++) {
+            if (isAvailable(bitmap, ordinal)) {
+                seats.add(availableViews.get(ordinal));
+            }
+        }
+        return seats;
+    }
+
+    /**
+     * 조회 범위 안의 예매 가능 좌석 응답 목록 생성 (범위 좌석의 비트만 확인)
+     */
+    public List<SeatResponse> availableSeats(byte[] bitmap, SeatFilter filter) {
+        if (filter.isAll()) {
+            return availableSeats(bitmap);
+        }
+
+        // 구역이 있으면 구역 좌석(보통 더 좁은 범위)을 기준으로 등급만 추가 확인
+        int[] candidates = filter.section() != null
+                ? sectionOrdinals.getOrDefault(filter.section(), EMPTY)
+                : gradeOrdinals.getOrDefault(filter.grade(), EMPTY);
+
+        List<SeatResponse> seats = new ArrayList<>();
+        for (int ordinal : candidates) {
+            SeatResponse view = availableViews.get(ordinal);
+            if (isAvailable(bitmap, ordinal)
+                    && (filter.grade() == null || view.grade() == filter.grade())) {
+                seats.add(view);
+            }
+        }
+        return seats;
+    }
+
+    /**
+     * 두 비트맵이 다른 좌석 서수 → 기대 값(기준 비트맵)
+     *
+     * @param expected 기준 비트맵 (DB)
+     * @param actual 비교 비트맵 (Redis)
+     */
+    public Map<Integer, Boolean> differences(byte[] expected, byte[] actual) {
+        Map<Integer, Boolean> differences = new HashMap<>();
+        for (int ordinal = 0; ordinal < size(); ordinal++) {
+            boolean expectedBit = isAvailable(expected, ordinal);
+            if (expectedBit != isAvailable(actual, ordinal)) {
+                differences.put(ordinal, expectedBit);
+            }
+        }
+        return differences;
+    }
+
+    private static int[] toArray(List<Integer> ordinals) {
+        return ordinals.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * 비트맵에서 좌석 서수의 예매 가능 여부 확인
+     */
+    public static boolean isAvailable(byte[] bitmap, int ordinal) {
+        int index = ordinal >> 3;
+        return index < bitmap.length && (bitmap[index] & (0x80 >>> (ordinal & 7))) != 0;
+    }
+
+    /**
+     * 등급별 정적 정보
+     *
+     * @param total 등급 전체 좌석 수
+     * @param price 등급 최저가 (등급 안에서 가격이 같으면 그 가격)
+     */
+    public record GradeInfo(int total, BigDecimal price) {
+
+        GradeInfo merge(GradeInfo other) {
+            return new GradeInfo(total + other.total, price.min(other.price));
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package personal.ai.core.booking.application.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import personal.ai.core.booking.application.port.out.SeatAvailabilityRepository;
+import personal.ai.core.booking.application.port.out.SeatAvailabilityRepository.Delta;
+import personal.ai.core.booking.application.port.out.SeatAvailabilityRepository.Snapshot;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.function.LongSupplier;
+
+/**
+ * Seat Map Near Cache (인스턴스 로컬)
+ * 일정별 가용성 비트맵 + 버전을 메모리에 보관하여 좌석 조회를 Redis 왕복 없이 처리
+ *
+ * 갱신:
+ * - 예약/만료/확정의 비트 변경은 Redis에서 버전과 함께 방송되고, 다음 버전이면 로컬 비트맵에 바로 반영
+ * - 이미 반영한 버전은 무시, 버전 공백(유실)이 보이면 항목을 stale로 표시하고 스냅샷 재적재
+ * - 비트맵 적재/삭제(reset) 신호도 항목을 stale로 표시
+ *
+ * 최신 여부 확인:
+ * - 방송이 끊긴 동안 변경이 없으면 공백이 드러나지 않으므로,
+ *   마지막 확인 후 verify-interval이 지난 항목은 버전만 GET하여 같으면 그대로 사용
+ *
+ * 갱신 중 조회 (stale-while-revalidate):
+ * - stale 항목 또는 verify-interval이 지난 항목은 stale-window 동안 기존 비트맵으로 바로 응답하고
+ *   백그라운드에서 1회만 갱신 (Single Flight)
+ * - stale-window는 항목이 낡은 시점부터 계산 (공백/reset 수신 시각, 또는 마지막 확인 + verify-interval)
+ * - stale-window도 지났거나 항목이 없으면 동기로 갱신하되, 동시 요청은 같은 갱신 결과를 공유
+ *
+ * 동시성:
+ * - 비트맵은 변경하지 않고 변경분마다 복사본으로 교체 (조회는 잠금 없이 일관된 비트맵을 읽음)
+ *
+ * 메트릭:
+ * - seat.nearcache.requests{result=hit|stale|verified|reload}: 조회 결과 (verified/reload는 갱신 1회당 1)
+ * - seat.nearcache.deltas{result=applied|stale|gap|reset}: 변경분 처리 결과
+ */
+@Slf4j
+@Component
+public class SeatMapNearCache {
+
+    private final SeatAvailabilityRepository seatAvailabilityRepository;
+    private final long verifyIntervalMs;
+    private final long staleWindowMs;
+    private final LongSupplier clock;
+    private final Executor refreshExecutor;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final SingleFlight<Long, Optional<Snapshot>> refreshes = new SingleFlight<>();
+
+    private final Counter hitCounter;
+    private final Counter staleHitCounter;
+    private final Counter verifiedCounter;
+    private final Counter reloadCounter;
+    private final Counter appliedCounter;
+    private final Counter outdatedDeltaCounter;
+    private final Counter gapCounter;
+    private final Counter resetCounter;
+
+    @Autowired
+    public SeatMapNearCache(
+            SeatAvailabilityRepository seatAvailabilityRepository,
+            MeterRegistry meterRegistry,
+            @Value("${seat.availability.near-cache-verify-interval-ms:5000}") long verifyIntervalMs,
+            @Value("${seat.availability.near-cache-stale-window-ms:1000}") long staleWindowMs) {
+        this(seatAvailabilityRepository, meterRegistry, verifyIntervalMs, staleWindowMs,
+                System::currentTimeMillis, Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    SeatMapNearCache(
+            SeatAvailabilityRepository seatAvailabilityRepository,
+            MeterRegistry meterRegistry,
+            long verifyIntervalMs,
+            long staleWindowMs,
+            LongSupplier clock,
+            Executor refreshExecutor) {
+        this.seatAvailabilityRepository = seatAvailabilityRepository;
+        this.verifyIntervalMs = verifyIntervalMs;
+        this.staleWindowMs = staleWindowMs;
+        this.clock = clock;
+        this.refreshExecutor = refreshExecutor;
+
+        this.hitCounter = requestCounter(meterRegistry, "hit");
+        this.staleHitCounter = requestCounter(meterRegistry, "stale");
+        this.verifiedCounter = requestCounter(meterRegistry, "verified");
+        this.reloadCounter = requestCounter(meterRegistry, "reload");
+        this.appliedCounter = deltaCounter(meterRegistry, "applied");
+        this.outdatedDeltaCounter = deltaCounter(meterRegistry, "stale");
+        this.gapCounter = deltaCounter(meterRegistry, "gap");
+        this.resetCounter = deltaCounter(meterRegistry, "reset");
+    }
+
+    /**
+     * 가용성 비트맵과 버전 조회
+     * 로컬 항목이 최신이면 메모리에서, stale-window 안이면 기존 값으로 응답하며 백그라운드 갱신,
+     * 그 외에는 동기 갱신 (동시 요청은 1회로 합침)
+     *
+     * @param scheduleId 일정 ID
+     * @return 비트맵 스냅샷 (Redis에도 인덱스가 없으면 empty)
+     */
+    public Optional<Snapshot> get(Long scheduleId) {
+        Entry entry = entries.get(scheduleId);
+
+        if (entry != null) {
+            long now = clock.getAsLong();
+            long staleFor = now - (entry.stale() ? entry.staleSince() : entry.verifiedAt() + verifyIntervalMs);
+            if (!entry.stale() && staleFor < 0) {
+                hitCounter.increment();
+                return Optional.of(entry.snapshot());
+            }
+
+            if (staleFor < staleWindowMs) {
+                // 갱신 실패는 무시: stale-window가 지나면 동기 갱신에서 호출자에게 전달됨
+                staleHitCounter.increment();
+                refreshes.executeAsync(scheduleId, () -> refresh(scheduleId), refreshExecutor);
+                return Optional.of(entry.snapshot());
+            }
+        }
+
+        return refreshes.execute(scheduleId, () -> refresh(scheduleId));
+    }
+
+    /**
+     * Redis 기준으로 항목 갱신
+     * stale이 아닌 항목은 버전만 확인하고, 다르거나 stale이면 스냅샷 재적재
+     */
+    private Optional<Snapshot> refresh(Long scheduleId) {
+        long now = clock.getAsLong();
+        Entry entry = entries.get(scheduleId);
+
+        if (entry != null && !entry.stale()) {
+            OptionalLong version = seatAvailabilityRepository.findVersion(scheduleId);
+            if (version.isPresent() && version.getAsLong() == entry.version()) {
+                // 변경 없음: 같은 항목이 그대로 있을 때만 확인 시각 갱신 (그 사이 반영된 변경분 유지)
+                entries.replace(scheduleId, entry, entry.verifiedAt(now));
+                verifiedCounter.increment();
+                return Optional.of(entry.snapshot());
+            }
+        }
+
+        reloadCounter.increment();
+        Optional<Snapshot> snapshot = seatAvailabilityRepository.findSnapshot(scheduleId);
+        if (snapshot.isEmpty()) {
+            entries.remove(scheduleId);
+            return Optional.empty();
+        }
+
+        Entry loaded = Entry.verified(snapshot.get().version(), snapshot.get().bitmap(), now);
+        // 적재 중 변경분이 반영되어 항목이 바뀌었으면 더 최신 버전 유지
+        // 바뀌지 않았으면 스냅샷으로 교체 (Redis 초기화로 버전이 다시 시작된 경우 포함)
+        Entry current = entries.compute(scheduleId, (id, existing) ->
+                existing == null || existing == entry || existing.stale()
+                        || loaded.version() >= existing.version() ? loaded : existing);
+        log.debug("Seat map near cache loaded: scheduleId={}, version={}", scheduleId, current.version());
+        return Optional.of(current.snapshot());
+    }
+
+    /**
+     * 방송된 변경분 반영
+     *
+     * @param delta 변경분
+     */
+    public void apply(Delta delta) {
+        entries.computeIfPresent(delta.scheduleId(), (scheduleId, entry) -> {
+            long now = clock.getAsLong();
+            // reset은 버전과 무관하게 반영 (Redis 초기화/재적재로 버전이 다시 시작되면 기존보다 작거나 같음)
+            if (delta.reset()) {
+                resetCounter.increment();
+                return entry.markStale(now);
+            }
+            if (entry.stale() || delta.version() <= entry.version()) {
+                // stale 항목은 스냅샷 재적재를 기다림
+                outdatedDeltaCounter.increment();
+                return entry;
+            }
+            if (delta.version() != entry.version() + 1) {
+                gapCounter.increment();
+                log.info("Seat map near cache version gap: scheduleId={}, cached={}, received={}",
+                        scheduleId, entry.version(), delta.version());
+                return entry.markStale(now);
+            }
+
+            appliedCounter.increment();
+            return Entry.verified(delta.version(), withChanges(entry.bitmap(), delta.changes()), now);
+        });
+    }
+
+    /**
+     * 일정 항목 폐기 (다음 조회에서 스냅샷 재적재)
+     *
+     * @param scheduleId 일정 ID
+     */
+    public void invalidate(Long scheduleId) {
+        entries.remove(scheduleId);
+    }
+
+    /**
+     * 비트맵 복사본에 변경분 반영 (Redis SETBIT과 같은 비트 순서, 범위를 넘으면 확장)
+     */
+    static byte[] withChanges(byte[] bitmap, Map<Integer, Boolean> changes) {
+        int length = bitmap.length;
+        for (Integer ordinal : changes.keySet()) {
+            length = Math.max(length, (ordinal >> 3) + 1);
+        }
+
+        byte[] updated = Arrays.copyOf(bitmap, length);
+        for (Map.Entry<Integer, Boolean> change : changes.entrySet()) {
+            int ordinal = change.getKey();
+            byte mask = (byte) (0x80 >>> (ordinal & 7));
+            if (change.getValue()) {
+                updated[ordinal >> 3] |= mask;
+            } else {
+                updated[ordinal >> 3] &= (byte) ~mask;
+            }
+        }
+        return updated;
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("seat.nearcache.requests")
+                .tag("result", result)
+                .description("Seat map near cache lookups")
+                .register(meterRegistry);
+    }
+
+    private static Counter deltaCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("seat.nearcache.deltas")
+                .tag("result", result)
+                .description("Seat availability deltas received by the near cache")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param version 반영된 버전
+     * @param bitmap 가용성 비트맵 (변경하지 않음)
+     * @param verifiedAt 마지막으로 최신임을 확인한 시각 (스냅샷 적재, 연속 변경분 반영, 버전 확인)
+     * @param stale 버전 공백/reset 수신 (스냅샷 재적재 전까지 stale-window 동안만 사용)
+     * @param staleSince 처음 stale로 표시된 시각 (stale-window 기준, stale이 아니면 의미 없음)
+     */
+    private record Entry(long version, byte[] bitmap, long verifiedAt, boolean stale, long staleSince) {
+
+        static Entry verified(long version, byte[] bitmap, long now) {
+            return new Entry(version, bitmap, now, false, 0L);
+        }
+
+        Entry verifiedAt(long now) {
+            return new Entry(version, bitmap, now, stale, staleSince);
+        }
+
+        /**
+         * 이미 stale이면 처음 표시된 시각 유지 (공백/reset이 이어져도 stale-window가 늘어나지 않음)
+         */
+        Entry markStale(long now) {
+            return stale ? this : new Entry(version, bitmap, verifiedAt, true, now);
+        }
+
+        Snapshot snapshot() {
+            return new Snapshot(bitmap, version);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package personal.ai.core.booking.application.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import personal.ai.common.exception.BusinessException;
+import personal.ai.common.exception.ErrorCode;
+import personal.ai.core.booking.adapter.in.web.dto.SeatResponse;
+import personal.ai.core.booking.application.port.in.SeatFilter;
+import personal.ai.core.booking.application.port.in.SeatMapDocument;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.zip.CRC32C;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Seat Map Renderer
+ * 예매 가능 좌석 목록을 비트맵 버전당 1회만 JSON(+gzip) 바이트로 직렬화하여 재사용
+ *
+ * - 같은 버전 조회: 좌석 목록 생성/직렬화 없이 캐시된 바이트 반환
+ * - 새 버전: 같은 버전의 동시 직렬화는 Single Flight로 1회만 수행, 일정·조회 범위별 마지막 문서 1개만 보관
+ * - ETag: W/"버전-본문 CRC32C" (Redis 초기화로 버전이 다시 시작돼도 본문이 다르면 다른 값)
+ *
+ * 메트릭:
+ * - seat.map.renders{result=cached|rendered|unversioned}
+ */
+@Slf4j
+@Component
+public class SeatMapRenderer {
+
+    private final ObjectMapper objectMapper;
+    private final boolean gzipEnabled;
+    private final int gzipMinBytes;
+
+    private final Map<ViewKey, SeatMapDocument> documents = new ConcurrentHashMap<>();
+    private final SingleFlight<RenderKey, SeatMapDocument> renders = new SingleFlight<>();
+
+    private final Counter cachedCounter;
+    private final Counter renderedCounter;
+    private final Counter unversionedCounter;
+
+    public SeatMapRenderer(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${seat.map.gzip-enabled:true}") boolean gzipEnabled,
+            @Value("${seat.map.gzip-min-bytes:1024}") int gzipMinBytes) {
+        this.objectMapper = objectMapper;
+        this.gzipEnabled = gzipEnabled;
+        this.gzipMinBytes = gzipMinBytes;
+
+        this.cachedCounter = renderCounter(meterRegistry, "cached");
+        this.renderedCounter = renderCounter(meterRegistry, "rendered");
+        this.unversionedCounter = renderCounter(meterRegistry, "unversioned");
+    }
+
+    /**
+     * 일정 전체 좌석 목록 문서 (같은 버전이면 캐시 재사용)
+     *
+     * @param scheduleId 일정 ID
+     * @param version 가용성 비트맵 버전
+     * @param seats 좌석 목록 (새로 직렬화할 때만 호출)
+     */
+    public SeatMapDocument render(Long scheduleId, long version, Supplier<List<SeatResponse>> seats) {
+        return render(scheduleId, SeatFilter.ALL, version, seats);
+    }
+
+    /**
+     * 조회 범위의 좌석 목록 문서 (같은 범위·버전이면 캐시 재사용)
+     *
+     * @param scheduleId 일정 ID
+     * @param filter 조회 범위 (등급/구역)
+     * @param version 가용성 비트맵 버전
+     * @param seats 범위 좌석 목록 (새로 직렬화할 때만 호출)
+     */
+    public SeatMapDocument render(Long scheduleId, SeatFilter filter, long version,
+                                  Supplier<List<SeatResponse>> seats) {
+        ViewKey view = new ViewKey(scheduleId, filter.key());
+        SeatMapDocument cached = documents.get(view);
+        if (cached != null && cached.version() == version) {
+            cachedCounter.increment();
+            return cached;
+        }
+
+        return renders.execute(new RenderKey(view, version), () -> {
+            SeatMapDocument current = documents.get(view);
+            if (current != null && current.version() == version) {
+                return current;
+            }
+
+            SeatMapDocument document = serialize(version, seats.get());
+            // 인스턴스의 Near Cache 버전은 단조 증가하므로 마지막 문서만 보관
+            // (Redis 초기화로 버전이 다시 시작되는 경우도 그대로 교체)
+            documents.put(view, document);
+            renderedCounter.increment();
+            log.debug("Seat map rendered: scheduleId={}, filter={}, version={}, seats={}, bytes={}",
+                    scheduleId, view.filter(), version, document.seatCount(), document.json().length);
+            return document;
+        });
+    }
+
+    /**
+     * 버전이 없는 좌석 목록 문서 (DB 직접 조회 결과, 캐시하지 않음)
+     */
+    public SeatMapDocument renderUnversioned(List<SeatResponse> seats) {
+        unversionedCounter.increment();
+        return serialize(SeatMapDocument.UNVERSIONED, seats);
+    }
+
+    /**
+     * 일정 문서 폐기 (좌석 구성 변경 시)
+     */
+    public void invalidate(Long scheduleId) {
+        documents.keySet().removeIf(view -> view.scheduleId().equals(scheduleId));
+    }
+
+    private SeatMapDocument serialize(long version, List<SeatResponse> seats) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(seats);
+        } catch (JsonProcessingException e) {
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, e);
+        }
+
+        byte[] gzip = gzipEnabled && json.length >= gzipMinBytes ? gzip(json) : null;
+        String etag = version == SeatMapDocument.UNVERSIONED ? null : etag(version, json);
+        return new SeatMapDocument(version, seats.size(), json, gzip, etag);
+    }
+
+    private static String etag(long version, byte[] json) {
+        CRC32C crc = new CRC32C();
+        crc.update(json);
+        return "W/\"" + version + "-" + Long.toHexString(crc.getValue()) + "\"";
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4);
+        // 버전마다 압축하므로 압축률보다 속도 우선 (좌석 JSON은 반복이 많아 BEST_SPEED로도 충분히 줄어듦)
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_SPEED);
+            }
+        }) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static Counter renderCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("seat.map.renders")
+                .tag("result", result)
+                .description("Seat map response bodies served from cache or serialized")
+                .register(meterRegistry);
+    }
+
+    private record ViewKey(Long scheduleId, String filter) {}
+
+    private record RenderKey(ViewKey view, long version) {}
+}
@@ -1,75 +1,541 @@
 package personal.ai.core.booking.application.service;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import personal.ai.core.booking.adapter.in.web.dto.SeatGradeSummaryResponse;
 import personal.ai.core.booking.adapter.in.web.dto.SeatResponse;
+import personal.ai.core.booking.application.port.in.ReconcileSeatAvailabilityUseCase;
+import personal.ai.core.booking.application.port.in.SeatFilter;
+import personal.ai.core.booking.application.port.in.SeatMapDocument;
+import personal.ai.core.booking.application.port.out.ReservationClaimRepository;
+import personal.ai.core.booking.application.port.out.SeatAvailabilityRepository;
+import personal.ai.core.booking.application.port.out.SeatAvailabilityRepository.Snapshot;
 import personal.ai.core.booking.application.port.out.SeatRepository;
+import personal.ai.core.booking.domain.exception.SeatNotFoundException;
 import personal.ai.core.booking.domain.model.Seat;
+import personal.ai.core.booking.domain.model.SeatGrade;
 
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Seat Query Cache Service
  *
- * Spring AOP 프록시를 위해 별도 컴포넌트로 분리
- * (Self-invocation 문제 해결)
+ * 좌석 조회 = 정적 좌석 메타데이터(SeatLayout, 인스턴스 메모리) + 가용성 비트맵(Redis, 일정별 1키)
+ * - 조회: Near Cache(SeatMapNearCache)의 로컬 비트맵으로 좌석 목록 생성, Redis 왕복/SQL 없음
+ *   (로컬 항목이 없거나 버전 공백이 생긴 경우에만 Redis 스냅샷 재적재)
+ * - 응답 본문: 비트맵 버전당 1회만 직렬화하여 재사용 (SeatMapRenderer)
+ * - 등급/구역 범위 조회: 배치의 범위별 좌석 서수만 확인하고, 범위별 응답 본문을 따로 캐시
+ * - 등급별 요약: 비트와 함께 Lua Script로 갱신되는 Redis 등급 카운터 조회 (좌석 목록을 세지 않음)
+ * - 예약/만료/확정: 좌석 비트만 원자적으로 변경 (기존: 예약마다 캐시 삭제 → 다음 조회에서 10,000행 재조회)
+ *   변경분은 버전과 함께 방송되어 모든 인스턴스의 Near Cache에 반영
  *
- * 최적화: Response DTO를 직접 캐싱하여 직렬화/역직렬화 오버헤드 최소화
- * 
- * 캐시 전략:
- * - 조회: @Cacheable로 1초 TTL 캐싱
- * - 무효화: 좌석 예약 시 @CacheEvict로 즉시 무효화
+ * 재구성 (캐시 스탬피드 방지):
+ * - 비트맵이 없으면 일정 전체 좌석을 1회 조회하여 적재 (SET NX, 먼저 적재된 비트맵 유지)
+ * - 이 인스턴스에 배치가 없으면 같은 조회로 배치도 적재
+ * - 인스턴스 안: 같은 일정의 동시 재구성은 Single Flight로 1회만 실행하고 결과 공유
+ * - 인스턴스 간: 배치가 있는 인스턴스는 Redis 재구성 리스를 얻은 경우에만 DB를 조회하고,
+ *   못 얻으면 리스 만료 시간까지 비트맵 적재를 기다림 (시간 초과 시 직접 DB 조회)
+ *
+ * 보정 (ReconcileSeatAvailabilityUseCase):
+ * - 비트 변경은 DB 커밋 후 수행하므로 그 사이 장애 시 비트맵이 DB와 어긋날 수 있음
+ * - 주기적으로 Redis 비트맵 → DB 순서로 읽어 다른 비트만 DB 값으로 되돌림
+ *   (DB가 더 최신이므로, 커밋 후 아직 반영되지 않은 변경은 같은 값으로 덮어씀)
+ * - 예외: 선점 키가 남아 있는 좌석은 DB에 예매 가능이어도 되돌리지 않음
+ *   (쓰기 지연 저장 모드에서 선점 후 DB 저장 전인 좌석, 선점 키가 만료되거나 저장되면 다음 보정에 반영)
+ *
+ * 배치 보관:
+ * - 좌석이 없는 일정(존재하지 않는 scheduleId 등)은 배치/비트맵을 만들지 않음 (요청 경로의 임의 ID로 늘어나지 않도록)
+ * - layout-idle-ms 동안 조회/변경이 없던 일정은 보정 주기에 배치와 로컬 캐시를 정리 (다음 조회 시 다시 적재)
+ *
+ * 장애 대응:
+ * - Redis 오류 시 조회는 DB 좌석 상태로 응답, 비트 변경 실패는 로그만 남기고 보정에 맡김
+ *
+ * 메트릭:
+ * - seat.availability.drift{schedule_id}: 보정으로 되돌린 좌석 비트 수
+ * - seat.availability.rebuilds{result=database|lease_follower|lease_timeout}: 재구성 방식
+ *   (database = DB 적재 횟수, lease_timeout은 대기 시간 초과 후 DB 적재이므로 database에도 포함)
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
-public class SeatQueryCacheService {
+public class SeatQueryCacheService implements ReconcileSeatAvailabilityUseCase {
 
     private final SeatRepository seatRepository;
+    private final SeatAvailabilityRepository seatAvailabilityRepository;
+    private final SeatMapNearCache seatMapNearCache;
+    private final SeatMapRenderer seatMapRenderer;
+    private final MeterRegistry meterRegistry;
+    private final ReservationClaimRepository reservationClaimRepository;
+
+    private static final long LEASE_POLL_INTERVAL_MS = 50;
+
+    // 일정별 정적 좌석 메타데이터 (좌석 구성이 바뀌면 보정 시 교체), 마지막 사용 시각 (epoch ms)
+    private final Map<Long, SeatLayout> layouts = new ConcurrentHashMap<>();
+    private final Map<Long, Long> layoutUsedAt = new ConcurrentHashMap<>();
+
+    // 일정별 동시 재구성 1회로 합치기
+    private final SingleFlight<Long, List<SeatResponse>> rebuilds = new SingleFlight<>();
+
+    @Value("${seat.availability.rebuild-lease-ms:3000}")
+    private long rebuildLeaseMs;
+
+    // 0 이하이면 정리하지 않음
+    @Value("${seat.availability.layout-idle-ms:3600000}")
+    private long layoutIdleMs;
 
     /**
-     * 예약 가능 좌석 조회 (Redis 캐싱 - Response DTO 직접 캐싱)
+     * 예약 가능 좌석 응답 본문 조회 (Near Cache 가용성 비트맵 + 좌석 배치)
+     * 비트맵 버전이 바뀌지 않았으면 좌석 목록 생성과 직렬화 없이 캐시된 바이트 반환
      *
-     * 성능 최적화:
-     * - SeatResponse (DTO)를 직접 캐싱하여 Entity → DTO 변환 제거
-     * - 역직렬화 후 바로 HTTP 응답 가능
-     * - TTL: 1초 (티켓팅 실시간성 보장)
+     * @param filter 조회 범위 (등급/구역, 전체는 SeatFilter.ALL)
      */
-    @Cacheable(value = "availableSeats", key = "#scheduleId")
-    public List<SeatResponse> findAvailableSeats(Long scheduleId) {
-        long startTime = System.currentTimeMillis();
-        log.info("Cache MISS - Loading available seats from DB: scheduleId={}", scheduleId);
+    public SeatMapDocument findSeatMap(Long scheduleId, SeatFilter filter) {
+        SeatLayout layout = cachedLayout(scheduleId);
+        if (layout != null) {
+            if (filter.section() != null && !layout.hasSection(filter.section())) {
+                // 없는 구역: 임의 구역 이름으로 캐시 항목이 늘어나지 않도록 캐시하지 않음
+                return seatMapRenderer.renderUnversioned(List.of());
+            }
 
-        List<Seat> seats = seatRepository.findAvailableByScheduleId(scheduleId);
+            Optional<Snapshot> snapshot = readSnapshot(scheduleId);
+            if (snapshot.isPresent()) {
+                Snapshot current = snapshot.get();
+                return seatMapRenderer.render(scheduleId, filter, current.version(),
+                        () -> layout.availableSeats(current.bitmap(), filter));
+            }
+        }
 
-        long dbQueryTime = System.currentTimeMillis() - startTime;
+        List<SeatResponse> seats = rebuilds.execute(scheduleId, () -> rebuild(scheduleId));
+        return seatMapRenderer.renderUnversioned(
+                filter.isAll() ? seats : seats.stream().filter(filter::matches).toList());
+    }
+
+    /**
+     * 등급별 예매 가능 좌석 수와 가격 조회
+     * 가격/전체 좌석 수는 배치, 예매 가능 좌석 수는 Redis 등급 카운터 (HGETALL 1회)
+     * 카운터가 없으면 (인덱스 재구성 전, Redis 오류) 좌석 목록으로 집계
+     */
+    public List<SeatGradeSummaryResponse> findGradeSummary(Long scheduleId) {
+        Optional<Map<SeatGrade, Integer>> counters = cachedLayout(scheduleId) != null
+                ? readAvailableCounts(scheduleId)
+                : Optional.empty();
 
-        // DTO 변환 (캐시 저장 전 1회만 수행)
-        long mappingStart = System.currentTimeMillis();
-        List<SeatResponse> response = seats.stream()
-                .map(SeatResponse::from)
+        Map<SeatGrade, Integer> counts = counters.orElseGet(() -> countByGrade(findAvailableSeats(scheduleId)));
+        SeatLayout layout = layoutOf(scheduleId);
+
+        return layout.grades().entrySet().stream()
+                .map(grade -> new SeatGradeSummaryResponse(
+                        grade.getKey(),
+                        grade.getValue().price(),
+                        counts.getOrDefault(grade.getKey(), 0),
+                        grade.getValue().total()))
                 .toList();
-        long mappingTime = System.currentTimeMillis() - mappingStart;
+    }
+
+    /**
+     * 좌석 예매 가능 여부 빠른 확인 (Redis 선점 전 사전 검사)
+     * Near Cache 비트맵으로 DB에서 이미 예약/점유된 좌석을 거름, 비트맵이 없거나 배치에 없는 좌석이면 DB 좌석 상태 확인
+     *
+     * @throws SeatNotFoundException 이 일정의 좌석이 아닌 경우
+     */
+    public boolean isAvailable(Long scheduleId, Long seatId) {
+        SeatLayout layout = layoutOf(scheduleId);
+
+        int ordinal = layout.ordinalOf(seatId);
+        if (ordinal >= 0) {
+            Optional<Snapshot> snapshot = readSnapshot(scheduleId);
+            if (snapshot.isPresent()) {
+                return SeatLayout.isAvailable(snapshot.get().bitmap(), ordinal);
+            }
+        }
+
+        return seatRepository.findById(seatId)
+                .filter(seat -> seat.scheduleId().equals(scheduleId))
+                .orElseThrow(() -> new SeatNotFoundException(seatId))
+                .isAvailable();
+    }
+
+    /**
+     * 이 인스턴스에 적재된 좌석 배치 (좌석 서수 → 좌석 ID 변환용)
+     *
+     * @return 배치 (아직 조회되지 않은 일정이면 empty)
+     */
+    public Optional<SeatLayout> findLayout(Long scheduleId) {
+        return Optional.ofNullable(layouts.get(scheduleId));
+    }
+
+    /**
+     * 좌석 예약 반영 (AVAILABLE → RESERVED)
+     */
+    public void markReserved(Long scheduleId, Long seatId) {
+        updateAvailability(scheduleId, seatId, false);
+    }
+
+    /**
+     * 좌석 해제 반영 (RESERVED → AVAILABLE, 예약 만료)
+     */
+    public void markAvailable(Long scheduleId, Long seatId) {
+        updateAvailability(scheduleId, seatId, true);
+    }
+
+    /**
+     * 좌석 점유 반영 (RESERVED → OCCUPIED, 결제 완료)
+     * 예약 시 이미 0이지만, 예약 반영이 누락된 경우를 위해 다시 기록
+     */
+    public void markOccupied(Long scheduleId, Long seatId) {
+        updateAvailability(scheduleId, seatId, false);
+    }
+
+    /**
+     * 좌석 구성 변경 시 배치와 비트맵 폐기 (다음 조회 시 DB에서 재구성)
+     *
+     * @param scheduleId 일정 ID
+     */
+    public void invalidate(Long scheduleId) {
+        layouts.remove(scheduleId);
+        layoutUsedAt.remove(scheduleId);
+        seatMapNearCache.invalidate(scheduleId);
+        seatMapRenderer.invalidate(scheduleId);
+        try {
+            seatAvailabilityRepository.delete(scheduleId);
+        } catch (RuntimeException e) {
+            log.warn("Failed to delete seat availability bitmap: scheduleId={}, error={}", scheduleId, e.getMessage());
+        }
+        log.info("Seat availability index invalidated: scheduleId={}", scheduleId);
+    }
+
+    @Override
+    public int reconcileAll() {
+        evictIdleLayouts();
+
+        int corrected = 0;
+        for (Long scheduleId : List.copyOf(layouts.keySet())) {
+            try {
+                corrected += reconcile(scheduleId);
+            } catch (RuntimeException e) {
+                log.error("Failed to reconcile seat availability: scheduleId={}", scheduleId, e);
+            }
+        }
+        return corrected;
+    }
+
+    /**
+     * 일정 1개 보정
+     * Redis를 먼저 읽고 DB를 나중에 읽어, DB에는 커밋됐지만 비트가 아직 바뀌지 않은 좌석도 DB 값으로 맞춤
+     *
+     * @return 보정한 좌석 비트 수
+     */
+    private int reconcile(Long scheduleId) {
+        Optional<byte[]> actual = seatAvailabilityRepository.findSnapshot(scheduleId).map(Snapshot::bitmap);
+        List<Seat> seats = seatRepository.findAllByScheduleId(scheduleId);
+
+        SeatLayout layout = layouts.get(scheduleId);
+        if (layout == null || !layout.matches(seats) || actual.isEmpty() || countersMissing(layout)) {
+            // 좌석 구성 변경, 비트맵 또는 등급 카운터 없음: 배치와 비트맵을 DB 기준으로 다시 적재
+            log.info("Seat availability index rebuilt by reconciler: scheduleId={}, seats={}", scheduleId, seats.size());
+            seatAvailabilityRepository.delete(scheduleId);
+            load(scheduleId, seats);
+            return 0;
+        }
+
+        Map<Integer, Boolean> differences = layout.differences(layout.bitmapOf(seats), actual.get());
+        excludeInFlightClaims(layout, differences);
+        if (differences.isEmpty()) {
+            return 0;
+        }
+
+        // 등급 카운터도 실제로 바뀐 비트만큼 함께 보정됨
+        seatAvailabilityRepository.setAvailability(scheduleId, differences, layout::gradeOf);
+
+        Counter.builder("seat.availability.drift")
+                .tag("schedule_id", String.valueOf(scheduleId))
+                .description("Seat availability bits corrected from the database")
+                .register(meterRegistry)
+                .increment(differences.size());
+
+        log.warn("Seat availability drift corrected: scheduleId={}, seats={}", scheduleId, differences.size());
+        return differences.size();
+    }
+
+    /**
+     * layout-idle-ms 동안 사용하지 않은 일정의 배치와 로컬 캐시 정리 (Redis 비트맵은 다른 인스턴스가 쓸 수 있으므로 유지)
+     */
+    private void evictIdleLayouts() {
+        if (layoutIdleMs <= 0) {
+            return;
+        }
+
+        long idleBefore = System.currentTimeMillis() - layoutIdleMs;
+        for (Long scheduleId : List.copyOf(layouts.keySet())) {
+            if (layoutUsedAt.getOrDefault(scheduleId, 0L) >= idleBefore) {
+                continue;
+            }
+            layouts.remove(scheduleId);
+            layoutUsedAt.remove(scheduleId);
+            seatMapNearCache.invalidate(scheduleId);
+            seatMapRenderer.invalidate(scheduleId);
+            log.debug("Idle seat layout evicted: scheduleId={}", scheduleId);
+        }
+    }
+
+    /**
+     * DB에는 예매 가능이지만 선점 키가 남아 있는 좌석을 보정 대상에서 제외 (DB 저장 대기 중인 선점)
+     */
+    private void excludeInFlightClaims(SeatLayout layout, Map<Integer, Boolean> differences) {
+        Map<Long, Integer> releasedOrdinals = new HashMap<>();
+        differences.forEach((ordinal, available) -> {
+            if (available) {
+                releasedOrdinals.put(layout.seatIdOf(ordinal), ordinal);
+            }
+        });
+        if (releasedOrdinals.isEmpty()) {
+            return;
+        }
+
+        Set<Long> claimed = reservationClaimRepository.findClaimedSeatIds(layout.scheduleId(), releasedOrdinals.keySet());
+        claimed.forEach(seatId -> differences.remove(releasedOrdinals.get(seatId)));
+        if (!claimed.isEmpty()) {
+            log.debug("Seat availability reconcile skipped in-flight claims: scheduleId={}, seats={}",
+                    layout.scheduleId(), claimed.size());
+        }
+    }
+
+    private boolean countersMissing(SeatLayout layout) {
+        return layout.size() > 0 && seatAvailabilityRepository.findAvailableCounts(layout.scheduleId()).isEmpty();
+    }
+
+    /**
+     * 비트맵 재구성 (Single Flight 리더만 실행)
+     * 배치가 없으면 어차피 DB 조회가 필요하므로 리스 없이 적재하고,
+     * 배치가 있으면 리스를 얻은 인스턴스만 DB를 조회
+     */
+    private List<SeatResponse> rebuild(Long scheduleId) {
+        SeatLayout layout = cachedLayout(scheduleId);
+        if (layout == null) {
+            return loadFromDatabase(scheduleId);
+        }
+
+        String token = UUID.randomUUID().toString();
+        boolean leader;
+        try {
+            leader = seatAvailabilityRepository.tryAcquireRebuildLease(scheduleId, token,
+                    Duration.ofMillis(rebuildLeaseMs));
+        } catch (RuntimeException e) {
+            log.warn("Seat availability rebuild lease unavailable, loading from DB: scheduleId={}, error={}",
+                    scheduleId, e.getMessage());
+            return loadFromDatabase(scheduleId);
+        }
+
+        if (leader) {
+            try {
+                // 리스를 얻기 직전에 다른 인스턴스가 적재를 끝냈을 수 있으므로 한 번 더 확인
+                Optional<Snapshot> snapshot = readSnapshot(scheduleId);
+                if (snapshot.isPresent()) {
+                    return layout.availableSeats(snapshot.get().bitmap());
+                }
+                return loadFromDatabase(scheduleId);
+            } finally {
+                releaseLease(scheduleId, token);
+            }
+        }
+
+        Optional<byte[]> bitmap = awaitBitmap(scheduleId);
+        if (bitmap.isPresent()) {
+            rebuildCounter("lease_follower").increment();
+            return layout.availableSeats(bitmap.get());
+        }
+
+        log.warn("Seat availability rebuild lease wait timed out, loading from DB: scheduleId={}", scheduleId);
+        rebuildCounter("lease_timeout").increment();
+        return loadFromDatabase(scheduleId);
+    }
+
+    /**
+     * 다른 인스턴스가 비트맵을 적재할 때까지 대기 (최대 리스 만료 시간)
+     */
+    private Optional<byte[]> awaitBitmap(Long scheduleId) {
+        long deadline = System.currentTimeMillis() + rebuildLeaseMs;
+        while (System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(LEASE_POLL_INTERVAL_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return Optional.empty();
+            }
+
+            Optional<byte[]> bitmap = readSnapshot(scheduleId).map(Snapshot::bitmap);
+            if (bitmap.isPresent()) {
+                return bitmap;
+            }
+        }
+        return Optional.empty();
+    }
+
+    private void releaseLease(Long scheduleId, String token) {
+        try {
+            seatAvailabilityRepository.releaseRebuildLease(scheduleId, token);
+        } catch (RuntimeException e) {
+            log.warn("Failed to release seat availability rebuild lease (expires by TTL): scheduleId={}, error={}",
+                    scheduleId, e.getMessage());
+        }
+    }
+
+    private Counter rebuildCounter(String result) {
+        return Counter.builder("seat.availability.rebuilds")
+                .tag("result", result)
+                .description("Seat availability bitmap rebuilds by how the bitmap was obtained")
+                .register(meterRegistry);
+    }
+
+    /**
+     * DB에서 일정 전체 좌석을 읽어 배치와 비트맵 적재 후 예약 가능 좌석 반환
+     */
+    private List<SeatResponse> loadFromDatabase(Long scheduleId) {
+        rebuildCounter("database").increment();
+        long startTime = System.currentTimeMillis();
+        log.info("Seat availability index MISS - Loading seats from DB: scheduleId={}", scheduleId);
+
+        List<Seat> seats = seatRepository.findAllByScheduleId(scheduleId);
+        long dbQueryTime = System.currentTimeMillis() - startTime;
+
+        SeatLayout layout = load(scheduleId, seats);
 
-        log.info("DB query completed - scheduleId: {}, seatCount: {}, dbQueryTime: {}ms, mappingTime: {}ms",
-                scheduleId, seats.size(), dbQueryTime, mappingTime);
+        log.info("Seat availability index loaded - scheduleId: {}, seatCount: {}, dbQueryTime: {}ms",
+                scheduleId, seats.size(), dbQueryTime);
 
-        return response;
+        return layout.availableSeats(layout.bitmapOf(seats));
+    }
+
+    private SeatLayout load(Long scheduleId, List<Seat> seats) {
+        SeatLayout layout = SeatLayout.of(scheduleId, seats);
+        if (seats.isEmpty()) {
+            // 좌석이 없는 일정: 배치와 비트맵을 만들지 않음 (좌석이 모두 삭제된 경우 기존 배치도 제거)
+            layouts.remove(scheduleId);
+            layoutUsedAt.remove(scheduleId);
+            return layout;
+        }
+        layouts.put(scheduleId, layout);
+        layoutUsedAt.put(scheduleId, System.currentTimeMillis());
+
+        try {
+            seatAvailabilityRepository.initializeBitmap(scheduleId, layout.bitmapOf(seats),
+                    layout.availableCountsOf(seats));
+        } catch (RuntimeException e) {
+            log.warn("Failed to initialize seat availability bitmap: scheduleId={}, error={}",
+                    scheduleId, e.getMessage());
+        }
+        return layout;
+    }
+
+    private List<SeatResponse> findAvailableSeats(Long scheduleId) {
+        SeatLayout layout = cachedLayout(scheduleId);
+        if (layout != null) {
+            Optional<Snapshot> snapshot = readSnapshot(scheduleId);
+            if (snapshot.isPresent()) {
+                return layout.availableSeats(snapshot.get().bitmap());
+            }
+        }
+        return rebuilds.execute(scheduleId, () -> rebuild(scheduleId));
     }
 
     /**
-     * 좌석 예약 시 캐시 무효화
-     * 
-     * 좌석 예약이 완료되면 해당 스케줄의 availableSeats 캐시를 즉시 삭제
-     * → 다음 조회 시 DB에서 최신 데이터 로드
-     * 
-     * @param scheduleId 예약된 좌석의 스케줄 ID
+     * 이 인스턴스에 적재된 배치 (사용 시각 기록)
+     *
+     * @return 배치 (적재 전이면 null)
      */
-    @CacheEvict(value = "availableSeats", key = "#scheduleId")
-    public void evictAvailableSeatsCache(Long scheduleId) {
-        log.debug("Evicting availableSeats cache for scheduleId={}", scheduleId);
+    private SeatLayout cachedLayout(Long scheduleId) {
+        SeatLayout layout = layouts.get(scheduleId);
+        if (layout != null) {
+            layoutUsedAt.put(scheduleId, System.currentTimeMillis());
+        }
+        return layout;
+    }
+
+    /**
+     * 배치 조회, 없으면 DB에서 적재 (좌석이 없는 일정은 보관하지 않음)
+     */
+    private SeatLayout layoutOf(Long scheduleId) {
+        SeatLayout cached = cachedLayout(scheduleId);
+        if (cached != null) {
+            return cached;
+        }
+
+        SeatLayout layout = SeatLayout.of(scheduleId, seatRepository.findAllByScheduleId(scheduleId));
+        if (layout.size() == 0) {
+            return layout;
+        }
+        SeatLayout existing = layouts.putIfAbsent(scheduleId, layout);
+        layoutUsedAt.put(scheduleId, System.currentTimeMillis());
+        return existing != null ? existing : layout;
+    }
+
+    private static Map<SeatGrade, Integer> countByGrade(List<SeatResponse> seats) {
+        Map<SeatGrade, Integer> counts = new EnumMap<>(SeatGrade.class);
+        for (SeatResponse seat : seats) {
+            counts.merge(seat.grade(), 1, Integer::sum);
+        }
+        return counts;
+    }
+
+    private Optional<Map<SeatGrade, Integer>> readAvailableCounts(Long scheduleId) {
+        try {
+            return seatAvailabilityRepository.findAvailableCounts(scheduleId);
+        } catch (RuntimeException e) {
+            log.warn("Seat availability summary read failed, counting from seats: scheduleId={}, error={}",
+                    scheduleId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private Optional<Snapshot> readSnapshot(Long scheduleId) {
+        try {
+            return seatMapNearCache.get(scheduleId);
+        } catch (RuntimeException e) {
+            log.warn("Seat availability bitmap read failed, falling back to DB: scheduleId={}, error={}",
+                    scheduleId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void updateAvailability(Long scheduleId, Long seatId, boolean available) {
+        try {
+            SeatLayout layout = layoutOf(scheduleId);
+            if (layout.size() == 0) {
+                log.debug("Seat availability update for schedule without seats: scheduleId={}, seatId={}",
+                        scheduleId, seatId);
+                return;
+            }
+
+            int ordinal = layout.ordinalOf(seatId);
+            if (ordinal < 0) {
+                // 배치에 없는 좌석 (배치 적재 후 추가된 좌석): 좌석 구성이 바뀌었으므로 재구성
+                invalidate(scheduleId);
+                return;
+            }
+
+            Map<Integer, Boolean> changes = Map.of(ordinal, available);
+            long version = seatAvailabilityRepository.setAvailability(scheduleId, changes, layout::gradeOf);
+            if (version < 0) {
+                log.debug("Seat availability bitmap not loaded yet: scheduleId={}, seatId={}", scheduleId, seatId);
+            } else if (version > 0) {
+                // 방송을 기다리지 않고 이 인스턴스의 Near Cache에 바로 반영 (이후 도착하는 같은 버전은 무시됨)
+                seatMapNearCache.apply(new SeatAvailabilityRepository.Delta(scheduleId, version, changes, false));
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to update seat availability bit, reconciler will correct it: scheduleId={}, seatId={}, error={}",
+                    scheduleId, seatId, e.getMessage());
+        }
     }
 }
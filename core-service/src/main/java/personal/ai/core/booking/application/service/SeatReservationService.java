@@ -2,6 +2,7 @@ package personal.ai.core.booking.application.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import personal.ai.core.booking.application.port.in.ReserveSeatCommand;
@@ -15,17 +16,24 @@ import personal.ai.core.booking.domain.model.Reservation;
 import personal.ai.core.booking.domain.service.BookingManager;
 import personal.ai.core.booking.domain.service.QueueTokenExtractor;
 
+import java.util.Optional;
+
 /**
  * Seat Reservation Service (SRP)
  * 단일 책임: 좌석 예약 처리
  * 
  * 캐시 정합성:
- * - 좌석 예약 성공 시 availableSeats 캐시를 즉시 무효화
- * - 다음 조회 시 DB에서 최신 데이터 로드
+ * - 좌석 예약 성공(커밋) 후 좌석 가용성 비트맵에서 해당 좌석 비트만 0으로 변경
+ *
+ * 그룹 커밋 (booking.reservation.group-commit.enabled=true):
+ * - 좌석 락 획득 후 DB 저장을 GroupCommitReservationWriter에 맡겨 동시 요청과 트랜잭션 1개로 커밋
+ *
+ * 기본 예약 방식 (booking.reservation.write-behind.enabled=true이면 WriteBehindSeatReservationService 사용)
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "booking.reservation.write-behind.enabled", havingValue = "false", matchIfMissing = true)
 public class SeatReservationService implements ReserveSeatUseCase {
 
     private static final int SEAT_LOCK_TTL_SECONDS = 300;
@@ -35,6 +43,7 @@ public class SeatReservationService implements ReserveSeatUseCase {
     private final QueueServiceClient queueServiceClient;
     private final BookingManager bookingManager;
     private final SeatQueryCacheService seatQueryCacheService;
+    private final Optional<GroupCommitReservationWriter> groupCommitReservationWriter;
 
     @Override
     public Reservation reserveSeat(ReserveSeatCommand command) {
@@ -49,11 +58,13 @@ public class SeatReservationService implements ReserveSeatUseCase {
         }
 
         try {
-            var saved = bookingManager.reserveSeatInTransaction(command);
+            var saved = groupCommitReservationWriter
+                    .map(writer -> writer.reserve(command))
+                    .orElseGet(() -> bookingManager.reserveSeatInTransaction(command));
             reservationCacheRepository.setReservationTTL(saved.id(), saved.expiresAt());
 
-            // 캐시 무효화: 예약 성공 후 해당 스케줄의 좌석 캐시 삭제
-            seatQueryCacheService.evictAvailableSeatsCache(command.scheduleId());
+            // 좌석 가용성 비트맵 반영: 캐시 삭제 대신 좌석 비트 1개만 변경
+            seatQueryCacheService.markReserved(command.scheduleId(), command.seatId());
 
             log.debug("Seat reserved: reservationId={}, seatId={}, scheduleId={}",
                     saved.id(), command.seatId(), command.scheduleId());
@@ -0,0 +1,97 @@
+package personal.ai.core.booking.application.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * Single Flight (키별 동시 로딩 1회로 합치기)
+ * 같은 키로 동시에 들어온 요청 중 하나(리더)만 loader를 실행하고, 나머지는 리더의 결과를 공유
+ * 로딩이 끝나면 키를 비우므로 결과를 캐싱하지 않음 (캐싱은 호출자 책임)
+ *
+ * @param <K> 키 타입
+ * @param <V> 결과 타입
+ */
+public final class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * 동기 실행: 진행 중인 로딩이 있으면 그 결과를 기다리고, 없으면 현재 스레드에서 실행
+     *
+     * @param key 키
+     * @param loader 로더 (리더만 실행)
+     * @return 로딩 결과 (로더 예외는 모든 대기자에게 그대로 전달)
+     */
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            return join(existing);
+        }
+
+        try {
+            V value = loader.get();
+            created.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, created);
+        }
+    }
+
+    /**
+     * 비동기 실행: 진행 중인 로딩이 있으면 그 Future를, 없으면 executor에서 새로 실행
+     *
+     * @param key 키
+     * @param loader 로더
+     * @param executor 로더 실행 Executor
+     * @return 로딩 결과 Future
+     */
+    public CompletableFuture<V> executeAsync(K key, Supplier<V> loader, Executor executor) {
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            return existing;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    created.complete(loader.get());
+                } catch (RuntimeException e) {
+                    created.completeExceptionally(e);
+                } finally {
+                    inFlight.remove(key, created);
+                }
+            });
+        } catch (RuntimeException e) {
+            // Executor 거부: 대기자가 영원히 기다리지 않도록 실패로 완료
+            inFlight.remove(key, created);
+            created.completeExceptionally(e);
+        }
+        return created;
+    }
+
+    /**
+     * @return 키의 로딩이 진행 중인지 여부
+     */
+    public boolean isInFlight(K key) {
+        return inFlight.containsKey(key);
+    }
+
+    private static <V> V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package personal.ai.core.booking.application.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import personal.ai.common.id.Tsid;
+import personal.ai.core.booking.application.port.in.ReserveSeatCommand;
+import personal.ai.core.booking.application.port.in.ReserveSeatUseCase;
+import personal.ai.core.booking.application.port.out.QueueServiceClient;
+import personal.ai.core.booking.application.port.out.ReservationClaimRepository;
+import personal.ai.core.booking.domain.exception.SeatAlreadyReservedException;
+import personal.ai.core.booking.domain.model.Reservation;
+import personal.ai.core.booking.domain.service.BookingManager;
+import personal.ai.core.booking.domain.service.QueueTokenExtractor;
+
+import java.time.Duration;
+
+/**
+ * Write-Behind Seat Reservation Service (SRP)
+ * 단일 책임: Redis 우선 좌석 예약 (booking.reservation.write-behind.enabled=true)
+ *
+ * - 요청 경로: 토큰 검증 → 비트맵 사전 검사 → 예약 ID 발급 → Lua Script 1회로 선점 + 예약 기록 + 저장 대기열 추가
+ *   (DB 트랜잭션 없음, 좌석 락 획득/해제 왕복 없음)
+ * - DB 저장: ReservationWriteBehindService가 대기열을 일괄 저장하고 만료 TTL 설정
+ * - 사전 검사: 선점 키는 요청 간 경쟁만 막으므로, DB에서 이미 예약/점유된 좌석은 가용성 비트맵으로 거름
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "booking.reservation.write-behind.enabled", havingValue = "true")
+public class WriteBehindSeatReservationService implements ReserveSeatUseCase {
+
+    private final ReservationClaimRepository reservationClaimRepository;
+    private final QueueServiceClient queueServiceClient;
+    private final SeatQueryCacheService seatQueryCacheService;
+
+    @Override
+    public Reservation reserveSeat(ReserveSeatCommand command) {
+        // 토큰에서 concertId 추출 후 검증
+        String concertId = QueueTokenExtractor.extractConcertId(command.queueToken());
+        queueServiceClient.validateToken(concertId, command.userId(), command.queueToken());
+
+        if (!seatQueryCacheService.isAvailable(command.scheduleId(), command.seatId())) {
+            log.warn("Seat already reserved: seatId={}", command.seatId());
+            throw new SeatAlreadyReservedException(command.seatId());
+        }
+
+        Reservation reservation = Reservation.create(
+                command.userId(),
+                command.seatId(),
+                command.scheduleId(),
+                BookingManager.RESERVATION_TTL_MINUTES)
+                .withId(Tsid.next());
+
+        boolean claimed = reservationClaimRepository.claim(
+                reservation, Duration.ofMinutes(BookingManager.RESERVATION_TTL_MINUTES));
+        if (!claimed) {
+            log.warn("Seat already reserved: seatId={}", command.seatId());
+            throw new SeatAlreadyReservedException(command.seatId());
+        }
+
+        // 좌석 가용성 비트맵 반영 (DB 저장 전이지만 선점 시점에 바로 예매 불가로 표시)
+        seatQueryCacheService.markReserved(command.scheduleId(), command.seatId());
+
+        log.debug("Seat claimed: reservationId={}, seatId={}, scheduleId={}",
+                reservation.id(), command.seatId(), command.scheduleId());
+        return reservation;
+    }
+}
@@ -61,6 +61,13 @@ public record Reservation(
                 LocalDateTime.now());
     }
 
+    /**
+     * ID 부여 (DB 저장 전에 ID를 정하는 경우: Redis 선점 후 쓰기 지연 저장)
+     */
+    public Reservation withId(Long reservationId) {
+        return new Reservation(reservationId, userId, seatId, scheduleId, status, expiresAt, createdAt);
+    }
+
     /**
      * 예약 확정 (PENDING -> CONFIRMED)
      * 결제 완료 시 호출
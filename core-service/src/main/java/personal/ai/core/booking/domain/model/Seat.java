@@ -87,6 +87,22 @@ public record Seat(
         return new Seat(id, scheduleId, seatNumber, grade, price, SeatStatus.AVAILABLE);
     }
 
+    /**
+     * 구역 (좌석 번호의 마지막 '-' 앞부분, 예: VIP-0001 → VIP)
+     * 구역 컬럼이 없으므로 좌석 번호 규칙에서 파생, '-'가 없으면 좌석 번호 전체
+     */
+    public String section() {
+        return sectionOf(seatNumber);
+    }
+
+    /**
+     * 좌석 번호에서 구역 추출
+     */
+    public static String sectionOf(String seatNumber) {
+        int separator = seatNumber.lastIndexOf('-');
+        return separator > 0 ? seatNumber.substring(0, separator) : seatNumber;
+    }
+
     /**
      * 예약 가능 여부 확인
      */
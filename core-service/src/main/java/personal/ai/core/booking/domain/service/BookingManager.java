@@ -7,16 +7,26 @@ import org.springframework.transaction.annotation.Transactional;
 import personal.ai.core.booking.application.port.in.ReserveSeatCommand;
 import personal.ai.core.booking.application.port.out.ReservationRepository;
 import personal.ai.core.booking.application.port.out.SeatRepository;
+import personal.ai.core.booking.domain.exception.SeatNotAvailableException;
 import personal.ai.core.booking.domain.exception.SeatNotFoundException;
 import personal.ai.core.booking.domain.model.Reservation;
 import personal.ai.core.booking.domain.model.ReservationStatus;
 import personal.ai.core.booking.domain.model.Seat;
+import personal.ai.core.booking.domain.model.SeatStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * Booking Domain Service (Transaction Manager)
  * 트랜잭션 범위 분리를 위한 실행 전용 서비스
  * Domain Layer에 속하며 Port에만 의존
  * Outbox 처리는 ReservationRepository Adapter 내부에서 수행
+ *
+ * 상태 전이는 조건부 UPDATE 1문장 (WHERE id = ? AND status = ?)
+ * - 전이 규칙은 도메인 메서드(Seat.reserve, Reservation.expire 등)와 같고, 현재 상태 검증을 DB가 원자적으로 수행
+ * - 일치하지 않을 때만 조회하여 실패 원인을 도메인 예외로 변환
  */
 @Slf4j
 @Component
@@ -24,7 +34,7 @@ import personal.ai.core.booking.domain.model.Seat;
 public class BookingManager {
 
     // 예약 TTL (분)
-    private static final int RESERVATION_TTL_MINUTES = 5;
+    public static final int RESERVATION_TTL_MINUTES = 5;
     private final SeatRepository seatRepository;
     private final ReservationRepository reservationRepository;
 
@@ -35,15 +45,10 @@ public class BookingManager {
      */
     @Transactional
     public Reservation reserveSeatInTransaction(ReserveSeatCommand command) {
-        // 1. 좌석 조회 (일반 조회, 비관적 락 없음)
-        Seat seat = seatRepository.findById(command.seatId())
-                .orElseThrow(() -> new SeatNotFoundException(command.seatId()));
-
-        // 2. 도메인 로직: 좌석 예약 가능 검증 (AVAILABLE -> RESERVED)
-        Seat reservedSeat = seat.reserve();
-        seatRepository.save(reservedSeat);
+        // 1. 좌석 예약 (AVAILABLE -> RESERVED, 조건부 UPDATE 1회)
+        reserveSeat(command.seatId());
 
-        // 3. 예약 생성 (PENDING 상태, 5분 TTL)
+        // 2. 예약 생성 (PENDING 상태, 5분 TTL)
         // DB Unique Index (schedule_id, seat_id)가 2차 방어선 역할
         // Outbox 저장은 ReservationPersistenceAdapter 내부에서 자동 처리
         Reservation reservation = Reservation.create(
@@ -55,13 +60,65 @@ public class BookingManager {
         return reservationRepository.save(reservation);
     }
 
+    /**
+     * 여러 좌석 예약을 트랜잭션 1개로 처리 (그룹 커밋)
+     * 항목별 충돌 검사: 좌석 조건부 UPDATE가 일치하지 않은 항목만 실패로 기록하고 나머지는 계속 처리
+     * (예외를 트랜잭션 안에서 처리하므로 롤백 표시 없음, 같은 좌석이 여러 번 있으면 첫 항목만 성공)
+     *
+     * @return 요청 순서와 같은 항목별 결과
+     */
+    @Transactional
+    public List<ReserveOutcome> reserveSeatsInTransaction(List<ReserveSeatCommand> commands) {
+        List<ReserveOutcome> outcomes = new ArrayList<>(commands.size());
+        for (ReserveSeatCommand command : commands) {
+            try {
+                reserveSeat(command.seatId());
+                Reservation reservation = Reservation.create(
+                        command.userId(),
+                        command.seatId(),
+                        command.scheduleId(),
+                        RESERVATION_TTL_MINUTES);
+                outcomes.add(ReserveOutcome.reserved(reservationRepository.save(reservation)));
+            } catch (SeatNotAvailableException | SeatNotFoundException e) {
+                outcomes.add(ReserveOutcome.rejected(e));
+            }
+        }
+        return outcomes;
+    }
+
+    /**
+     * Redis에 선점된 예약 일괄 저장 (쓰기 지연, 트랜잭션 1개)
+     * 멱등성: 이미 저장된 예약 ID는 건너뜀 (재전달/복구 시 중복 저장 방지)
+     * Outbox 저장은 ReservationPersistenceAdapter 내부에서 자동 처리
+     *
+     * @return 만료 TTL 설정 대상 (새로 저장된 예약 + 이미 저장되어 아직 PENDING인 예약)
+     * @throws SeatNotAvailableException DB에서 좌석이 이미 예약/점유된 경우 (일괄 롤백)
+     */
+    @Transactional
+    public List<Reservation> persistReservations(List<Reservation> reservations) {
+        List<Reservation> pending = new ArrayList<>(reservations.size());
+        for (Reservation reservation : reservations) {
+            Optional<Reservation> existing = reservationRepository.findById(reservation.id());
+            if (existing.isPresent()) {
+                existing.filter(Reservation::isPending).ifPresent(pending::add);
+                continue;
+            }
+
+            reserveSeat(reservation.seatId());
+            pending.add(reservationRepository.insert(reservation));
+        }
+        return pending;
+    }
+
     /**
      * 예약 만료 처리 (트랜잭션)
-     * 1. 예약 상태 변경 (PENDING -> EXPIRED)
+     * 1. 예약 상태 변경 (PENDING -> EXPIRED) + Outbox 이벤트
      * 2. 좌석 상태 변경 (RESERVED -> AVAILABLE)
+     *
+     * @return 만료된 예약 (만료 처리하지 않았거나 좌석이 예약 상태가 아니어서 해제하지 않았으면 empty)
      */
     @Transactional
-    public void expireReservation(Long reservationId) {
+    public Optional<Reservation> expireReservation(Long reservationId) {
         log.info("Expiring reservation: reservationId={}", reservationId);
 
         Reservation reservation = reservationRepository.findById(reservationId)
@@ -69,33 +126,66 @@ public class BookingManager {
 
         if (reservation == null) {
             log.warn("Reservation not found for expiration: reservationId={}", reservationId);
-            return;
+            return Optional.empty();
         }
 
         // 이미 완료된 예약은 만료 처리하지 않음
         if (reservation.isConfirmed()) {
             log.warn("Reservation is already confirmed: reservationId={}", reservationId);
-            return;
+            return Optional.empty();
         }
 
         // 이미 만료된 경우 패스 (멱등성)
         if (reservation.status() == ReservationStatus.EXPIRED) {
             log.warn("Reservation is already expired: reservationId={}", reservationId);
+            return Optional.empty();
+        }
+
+        // 1. 예약 만료 처리 (조건부 UPDATE → Outbox Event 자동 발행)
+        // 조회 이후 결제 확정 등으로 상태가 바뀌었으면 만료하지 않음
+        if (!reservationRepository.transition(reservation.expire(), ReservationStatus.PENDING)) {
+            log.warn("Reservation status changed before expiration: reservationId={}", reservationId);
+            return Optional.empty();
+        }
+
+        // 2. 좌석 해제 (예약 상태일 때만)
+        if (!seatRepository.transitionStatus(reservation.seatId(), SeatStatus.RESERVED, SeatStatus.AVAILABLE)) {
+            return Optional.empty();
+        }
+
+        log.info("Seat released: seatId={}", reservation.seatId());
+        return Optional.of(reservation);
+    }
+
+    /**
+     * 좌석 예약 (AVAILABLE -> RESERVED, Seat.reserve()와 같은 전이)
+     * 조건부 UPDATE가 일치하지 않을 때만 좌석을 조회하여 없음/예약 불가를 구분
+     */
+    private void reserveSeat(Long seatId) {
+        if (seatRepository.transitionStatus(seatId, SeatStatus.AVAILABLE, SeatStatus.RESERVED)) {
             return;
         }
 
-        // 1. 예약 만료 처리 (상태 변경 -> save -> Outbox Event 자동 발행)
-        Reservation expiredReservation = reservation.expire();
-        reservationRepository.save(expiredReservation);
+        Seat seat = seatRepository.findById(seatId)
+                .orElseThrow(() -> new SeatNotFoundException(seatId));
+        throw new SeatNotAvailableException(seatId, seat.status());
+    }
+
+    /**
+     * 그룹 커밋 항목별 결과 (예약 또는 실패 원인 중 하나)
+     */
+    public record ReserveOutcome(Reservation reservation, RuntimeException failure) {
+
+        public static ReserveOutcome reserved(Reservation reservation) {
+            return new ReserveOutcome(reservation, null);
+        }
 
-        // 2. 좌석 해제
-        Seat seat = seatRepository.findById(reservation.seatId())
-                .orElseThrow(() -> new SeatNotFoundException(reservation.seatId()));
+        public static ReserveOutcome rejected(RuntimeException failure) {
+            return new ReserveOutcome(null, failure);
+        }
 
-        if (seat.isReserved()) {
-            Seat releasedSeat = seat.release();
-            seatRepository.save(releasedSeat);
-            log.info("Seat released: seatId={}", seat.id());
+        public boolean isReserved() {
+            return failure == null;
         }
     }
 }
@@ -9,14 +9,18 @@ import personal.ai.core.booking.application.port.out.SeatLockRepository;
 import personal.ai.core.booking.domain.exception.ReservationExpiredException;
 import personal.ai.core.booking.domain.exception.ReservationNotFoundException;
 import personal.ai.core.booking.domain.model.Reservation;
+import personal.ai.core.booking.domain.model.ReservationStatus;
 import personal.ai.core.payment.application.port.out.PaymentEventPort;
 import personal.ai.core.payment.application.port.out.PaymentRepository;
 import personal.ai.core.payment.application.port.out.PaymentResultHandlerPort;
+import personal.ai.core.payment.domain.exception.PaymentAlreadyCompletedException;
 import personal.ai.core.payment.domain.model.Payment;
+import personal.ai.core.payment.domain.model.PaymentStatus;
 
 /**
  * Payment Result Handler Adapter
  * 결제 결과 처리 구현체
+ * 결제/예약 상태 전이는 조건부 UPDATE 1문장 (WHERE id = ? AND status = ?)
  */
 @Slf4j
 @Component
@@ -40,24 +44,34 @@ public class PaymentResultHandlerAdapter implements PaymentResultHandlerPort {
         }
 
         var completedPayment = pendingPayment.complete();
-        var savedPayment = paymentRepository.save(completedPayment);
+        if (!paymentRepository.transition(completedPayment, PaymentStatus.PENDING)) {
+            // 다른 요청이 먼저 결제 상태를 바꿈 (중복 처리)
+            log.warn("Payment status changed concurrently: paymentId={}", pendingPayment.id());
+            throw new PaymentAlreadyCompletedException(pendingPayment.id());
+        }
 
-        paymentEventPort.publishPaymentCompleted(savedPayment, concertId);
+        paymentEventPort.publishPaymentCompleted(completedPayment, concertId);
 
-        log.debug("Payment success handled: paymentId={}", savedPayment.id());
-        return savedPayment;
+        log.debug("Payment success handled: paymentId={}", completedPayment.id());
+        return completedPayment;
     }
 
     @Override
     @Transactional
     public void handleFailure(Payment pendingPayment, Reservation reservation, Long userId) {
         var failedPayment = pendingPayment.fail();
-        paymentRepository.save(failedPayment);
+        if (!paymentRepository.transition(failedPayment, PaymentStatus.PENDING)) {
+            log.warn("Payment status changed concurrently, skip failure handling: paymentId={}", pendingPayment.id());
+            return;
+        }
 
         seatLockRepository.unlock(reservation.seatId(), userId);
 
+        // 결제 중 만료된 예약은 그대로 둠 (만료 처리가 좌석을 해제)
         var cancelledReservation = reservation.cancel();
-        reservationRepository.save(cancelledReservation);
+        if (!reservationRepository.transition(cancelledReservation, ReservationStatus.PENDING)) {
+            log.warn("Reservation status changed before cancellation: reservationId={}", reservation.id());
+        }
 
         log.warn("Payment failure handled: paymentId={}, reservationId={}",
                 failedPayment.id(), failedPayment.reservationId());
@@ -1,7 +1,12 @@
 package personal.ai.core.payment.adapter.out.persistence;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import personal.ai.core.payment.domain.model.PaymentStatus;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 /**
@@ -13,4 +18,16 @@ public interface JpaPaymentRepository extends JpaRepository<PaymentEntity, Long>
      * 예약 ID로 결제 조회
      */
     Optional<PaymentEntity> findByReservationId(Long reservationId);
+
+    /**
+     * 결제 상태 조건부 변경 (현재 상태가 일치할 때만)
+     *
+     * @return 변경된 행 수 (0 또는 1)
+     */
+    @Modifying
+    @Query("UPDATE PaymentEntity p SET p.status = :to, p.paidAt = :paidAt WHERE p.id = :id AND p.status = :from")
+    int updateStatus(@Param("id") Long id,
+                     @Param("from") PaymentStatus from,
+                     @Param("to") PaymentStatus to,
+                     @Param("paidAt") LocalDateTime paidAt);
 }
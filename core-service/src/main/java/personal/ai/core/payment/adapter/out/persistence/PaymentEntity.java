@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import personal.ai.core.adapter.out.persistence.TsidId;
 import personal.ai.core.payment.domain.model.Payment;
 import personal.ai.core.payment.domain.model.PaymentStatus;
 
@@ -30,7 +31,7 @@ import java.time.LocalDateTime;
 public class PaymentEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TsidId
     private Long id;
 
     @Column(name = "reservation_id", nullable = false)
@@ -5,6 +5,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import personal.ai.core.payment.application.port.out.PaymentRepository;
 import personal.ai.core.payment.domain.model.Payment;
+import personal.ai.core.payment.domain.model.PaymentStatus;
 
 import java.util.Optional;
 
@@ -27,6 +28,14 @@ public class PaymentPersistenceAdapter implements PaymentRepository {
         return saved.toDomain();
     }
 
+    @Override
+    public boolean transition(Payment payment, PaymentStatus from) {
+        int updated = jpaPaymentRepository.updateStatus(payment.id(), from, payment.status(), payment.paidAt());
+        log.debug("Payment status transition: paymentId={}, {} -> {}, updated={}",
+                payment.id(), from, payment.status(), updated);
+        return updated == 1;
+    }
+
     @Override
     public Optional<Payment> findById(Long id) {
         log.debug("Finding payment by id: {}", id);
@@ -3,15 +3,22 @@ package personal.ai.core.payment.adapter.out.validation;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import personal.ai.core.booking.application.port.out.ReservationClaimRepository;
 import personal.ai.core.booking.application.port.out.ReservationRepository;
 import personal.ai.core.booking.domain.exception.ReservationExpiredException;
 import personal.ai.core.booking.domain.exception.ReservationNotFoundException;
 import personal.ai.core.booking.domain.model.Reservation;
+import personal.ai.core.booking.domain.service.BookingManager;
 import personal.ai.core.payment.application.port.out.ReservationValidationPort;
 
+import java.util.List;
+import java.util.Optional;
+
 /**
  * Reservation Validation Adapter
  * 결제를 위한 예약 검증 구현체
+ * 아직 DB에 저장되지 않은 쓰기 지연 예약은 검증 전에 먼저 저장
+ * (이후 결제 결과 처리/예약 확정이 DB 기준으로 동작하도록)
  */
 @Slf4j
 @Component
@@ -19,10 +26,13 @@ import personal.ai.core.payment.application.port.out.ReservationValidationPort;
 public class ReservationValidationAdapter implements ReservationValidationPort {
 
     private final ReservationRepository reservationRepository;
+    private final ReservationClaimRepository reservationClaimRepository;
+    private final BookingManager bookingManager;
 
     @Override
     public Reservation validateForPayment(Long reservationId, Long userId) {
         var reservation = reservationRepository.findById(reservationId)
+                .or(() -> persistClaimed(reservationId, userId))
                 .orElseThrow(() -> {
                     log.warn("Reservation not found for payment: reservationId={}", reservationId);
                     return new ReservationNotFoundException(reservationId);
@@ -39,4 +49,14 @@ public class ReservationValidationAdapter implements ReservationValidationPort {
         log.debug("Reservation validated for payment: reservationId={}", reservationId);
         return reservation;
     }
+
+    private Optional<Reservation> persistClaimed(Long reservationId, Long userId) {
+        return reservationClaimRepository.findById(reservationId)
+                .map(claimed -> {
+                    claimed.ensureOwnership(userId);
+                    bookingManager.persistReservations(List.of(claimed));
+                    log.debug("Write-behind reservation persisted for payment: reservationId={}", reservationId);
+                    return claimed;
+                });
+    }
 }
@@ -1,6 +1,7 @@
 package personal.ai.core.payment.application.port.out;
 
 import personal.ai.core.payment.domain.model.Payment;
+import personal.ai.core.payment.domain.model.PaymentStatus;
 
 import java.util.Optional;
 
@@ -23,4 +24,13 @@ public interface PaymentRepository {
      * 예약 ID로 결제 조회
      */
     Optional<Payment> findByReservationId(Long reservationId);
+
+    /**
+     * 결제 상태 조건부 변경 (UPDATE ... WHERE id = ? AND status = ? 1문장, 결제 시각 포함)
+     *
+     * @param payment 변경 후 결제 (도메인 메서드 complete/fail/cancel의 결과)
+     * @param from 변경 전 상태 (일치할 때만 변경)
+     * @return true: 변경됨, false: 다른 요청이 먼저 상태를 바꿈
+     */
+    boolean transition(Payment payment, PaymentStatus from);
 }
@@ -0,0 +1,24 @@
+-- 저장 완료 확인 (원자적)
+-- KEYS[1]: reservation:write-behind:{scheduleId} (DB 저장 대기열 Stream)
+-- KEYS[2]: reservation:records:{scheduleId} (예약 ID → 예약 기록)
+-- ARGV[1]: 소비자 그룹, ARGV[2]: 대기열 항목 수 N
+-- ARGV[3..N+2]: 대기열 항목 ID, ARGV[N+3..]: 예약 ID (기록이 이미 없는 항목은 생략)
+-- 반환: 확인한 항목 수
+-- XACK + XDEL + HDEL을 한 스크립트에서 수행하므로 확인만 되고 항목/기록이 남는 중간 상태가 없음
+local count = tonumber(ARGV[2])
+local entryIds = {}
+for i = 3, count + 2 do
+    entryIds[#entryIds + 1] = ARGV[i]
+end
+
+local acked = redis.call("xack", KEYS[1], ARGV[1], unpack(entryIds))
+redis.call("xdel", KEYS[1], unpack(entryIds))
+
+if #ARGV > count + 2 then
+    local reservationIds = {}
+    for i = count + 3, #ARGV do
+        reservationIds[#reservationIds + 1] = ARGV[i]
+    end
+    redis.call("hdel", KEYS[2], unpack(reservationIds))
+end
+return acked
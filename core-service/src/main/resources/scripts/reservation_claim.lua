@@ -0,0 +1,14 @@
+-- 좌석 선점 + 예약 기록 + 쓰기 지연 대기열 추가 (원자적)
+-- KEYS[1]: seat:claim:{scheduleId}:<seatId> (좌석 선점 키)
+-- KEYS[2]: reservation:records:{scheduleId} (예약 ID → 예약 기록)
+-- KEYS[3]: reservation:write-behind:{scheduleId} (일정별 DB 저장 대기열 Stream)
+-- ARGV[1]: 예약 ID, ARGV[2]: 예약 기록, ARGV[3]: 선점 유지 시간 (ms)
+-- 반환: 1 = 선점 성공, 0 = 이미 선점된 좌석
+-- 세 키를 한 스크립트에서 쓰므로 선점만 되고 기록/대기열이 빠지는 중간 상태가 없음
+if not redis.call("set", KEYS[1], ARGV[1], "NX", "PX", ARGV[3]) then
+    return 0
+end
+
+redis.call("hset", KEYS[2], ARGV[1], ARGV[2])
+redis.call("xadd", KEYS[3], "*", "reservationId", ARGV[1])
+return 1
@@ -0,0 +1,30 @@
+-- DB가 거절한 쓰기 지연 예약 정리 (원자적)
+-- KEYS[1]: reservation:write-behind:{scheduleId} (DB 저장 대기열 Stream)
+-- KEYS[2]: reservation:records:{scheduleId} (예약 ID → 예약 기록)
+-- KEYS[2i+1]: seat:claim:{scheduleId}:<seatId> (i번째 항목의 좌석 선점 키)
+-- KEYS[2i+2]: reservation:rejected:{scheduleId}:<reservationId> (i번째 항목의 거절 기록)
+-- ARGV[1]: 소비자 그룹, ARGV[2]: 거절 기록 보관 시간 (ms)
+-- ARGV[2i+1]: i번째 대기열 항목 ID, ARGV[2i+2]: i번째 예약 ID
+-- 반환: 정리한 항목 수
+-- 좌석 선점 키는 이 예약이 잡고 있을 때만 해제 (만료 후 다른 예약이 다시 선점했을 수 있음)
+local count = (#ARGV - 2) / 2
+for i = 1, count do
+    local entryId = ARGV[2 * i + 1]
+    local reservationId = ARGV[2 * i + 2]
+    local claimKey = KEYS[2 * i + 1]
+    local rejectedKey = KEYS[2 * i + 2]
+
+    redis.call("xack", KEYS[1], ARGV[1], entryId)
+    redis.call("xdel", KEYS[1], entryId)
+
+    if redis.call("get", claimKey) == reservationId then
+        redis.call("del", claimKey)
+    end
+
+    local record = redis.call("hget", KEYS[2], reservationId)
+    if record then
+        redis.call("set", rejectedKey, record, "PX", ARGV[2])
+        redis.call("hdel", KEYS[2], reservationId)
+    end
+end
+return count
@@ -0,0 +1,11 @@
+-- 좌석 가용성 비트맵 삭제 (버전은 유지)
+-- KEYS[1]: seat:availability:{scheduleId}
+-- KEYS[2]: seat:availability:version:{scheduleId}
+-- KEYS[3]: seat:availability:summary:{scheduleId}
+-- ARGV[1]: 변경분 방송 채널, ARGV[2]: scheduleId
+-- 반환: 삭제 후 버전
+-- 비트맵과 등급 카운터를 함께 삭제하고 버전을 올린 뒤 "scheduleId|version|*" (전체 재적재 신호) 방송
+redis.call("del", KEYS[1], KEYS[3])
+local version = redis.call("incr", KEYS[2])
+redis.call("publish", ARGV[1], ARGV[2] .. "|" .. version .. "|*")
+return version
@@ -0,0 +1,20 @@
+-- 좌석 가용성 비트맵 적재 (인덱스가 없을 때만)
+-- KEYS[1]: seat:availability:{scheduleId}
+-- KEYS[2]: seat:availability:version:{scheduleId}
+-- KEYS[3]: seat:availability:summary:{scheduleId} (등급 → 예매 가능 좌석 수)
+-- ARGV[1]: 변경분 방송 채널, ARGV[2]: scheduleId, ARGV[3]: 비트맵
+-- ARGV[4..]: 좌석 등급, 예매 가능 좌석 수 쌍 반복 (비트맵과 같은 DB 조회로 집계)
+-- 반환: 적재 후 버전, 이미 있으면 -1
+-- 적재되면 등급 카운터를 함께 적재하고 버전을 올린 뒤 "scheduleId|version|*" (전체 재적재 신호) 방송
+if redis.call("set", KEYS[1], ARGV[3], "NX") == false then
+    return -1
+end
+
+redis.call("del", KEYS[3])
+if #ARGV >= 5 then
+    redis.call("hset", KEYS[3], unpack(ARGV, 4))
+end
+
+local version = redis.call("incr", KEYS[2])
+redis.call("publish", ARGV[1], ARGV[2] .. "|" .. version .. "|*")
+return version
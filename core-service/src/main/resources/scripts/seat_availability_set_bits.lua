@@ -0,0 +1,33 @@
+-- 좌석 가용성 비트 변경 (인덱스가 있을 때만)
+-- KEYS[1]: seat:availability:{scheduleId}
+-- KEYS[2]: seat:availability:version:{scheduleId}
+-- KEYS[3]: seat:availability:summary:{scheduleId} (등급 → 예매 가능 좌석 수)
+-- ARGV[1]: 변경분 방송 채널, ARGV[2]: scheduleId
+-- ARGV[3..]: 좌석 서수, 비트(1 = 예매 가능), 좌석 등급 3개씩 반복
+-- 반환: 변경 후 버전, 바뀐 비트가 없으면 0, 인덱스가 없으면 -1
+-- 실제로 바뀐 비트가 있을 때만 등급 카운터를 ±1 하고 버전을 올린 뒤 "scheduleId|version|서수:비트,..." 형식으로 방송
+-- (카운터는 비트와 같은 스크립트에서만 바뀌므로 항상 비트맵의 등급별 1 비트 수와 같음)
+if redis.call("exists", KEYS[1]) == 0 then
+    return -1
+end
+
+local hasSummary = redis.call("exists", KEYS[3]) == 1
+local changes = {}
+for i = 3, #ARGV, 3 do
+    local bit = tonumber(ARGV[i + 1])
+    local previous = redis.call("setbit", KEYS[1], ARGV[i], bit)
+    if previous ~= bit then
+        changes[#changes + 1] = ARGV[i] .. ":" .. ARGV[i + 1]
+        if hasSummary then
+            redis.call("hincrby", KEYS[3], ARGV[i + 2], bit == 1 and 1 or -1)
+        end
+    end
+end
+
+if #changes == 0 then
+    return 0
+end
+
+local version = redis.call("incr", KEYS[2])
+redis.call("publish", ARGV[1], ARGV[2] .. "|" .. version .. "|" .. table.concat(changes, ","))
+return version
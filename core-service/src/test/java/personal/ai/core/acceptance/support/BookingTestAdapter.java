@@ -13,6 +13,7 @@ import personal.ai.core.booking.adapter.out.persistence.JpaReservationRepository
 import personal.ai.core.booking.adapter.out.persistence.JpaSeatRepository;
 import personal.ai.core.booking.adapter.out.persistence.ReservationEntity;
 import personal.ai.core.booking.adapter.out.persistence.SeatEntity;
+import personal.ai.core.booking.application.service.SeatQueryCacheService;
 import personal.ai.core.booking.domain.model.*;
 import personal.ai.core.payment.adapter.in.web.dto.PaymentResponse;
 import personal.ai.core.payment.adapter.in.web.dto.ProcessPaymentRequest;
@@ -56,6 +57,7 @@ public class BookingTestAdapter {
     // 상수
     // ==========================================
     private final JpaPaymentOutboxRepository outboxRepository;
+    private final SeatQueryCacheService seatQueryCacheService;
     private final Environment environment;
 
     // ==========================================
@@ -82,6 +84,11 @@ public class BookingTestAdapter {
         outboxRepository.deleteAll();
         paymentRepository.deleteAll();
         reservationRepository.deleteAll();
+        // DB를 직접 변경하므로 좌석 가용성 비트맵도 폐기 (다음 조회 시 재구성)
+        seatRepository.findAll().stream()
+                .map(SeatEntity::getScheduleId)
+                .distinct()
+                .forEach(seatQueryCacheService::invalidate);
         seatRepository.deleteAll();
         userRepository.deleteAll();
         log.info(">>> Adapter: 데이터 초기화 완료");
@@ -135,6 +142,7 @@ public class BookingTestAdapter {
                         BigDecimal.valueOf(50000),
                         status));
         SeatEntity saved = seatRepository.save(seat);
+        seatQueryCacheService.invalidate(scheduleId);
         log.info(">>> Adapter: 좌석 생성 - id={}, number={}, status={}", saved.getId(), seatNumber, status);
         return saved.getId();
     }
@@ -199,6 +207,7 @@ public class BookingTestAdapter {
         // 좌석 상태를 RESERVED로 변경
         seat.updateStatus(SeatStatus.RESERVED);
         seatRepository.save(seat);
+        seatQueryCacheService.markReserved(seat.getScheduleId(), seatId);
 
         ReservationEntity saved = reservationRepository.save(reservation);
         log.info(">>> Adapter: 예약 생성 - id={}, userId={}, seatId={}, status={}",
@@ -0,0 +1,180 @@
+package personal.ai.core.booking.adapter.in.web.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import personal.ai.core.booking.application.port.in.SeatMapDocument;
+import personal.ai.core.booking.application.port.out.SeatAvailabilityRepository.Delta;
+import personal.ai.core.booking.application.service.SeatLayout;
+import personal.ai.core.booking.application.service.SeatQueryCacheService;
+import personal.ai.core.booking.domain.model.Seat;
+import personal.ai.core.booking.domain.model.SeatGrade;
+import personal.ai.core.booking.domain.model.SeatStatus;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * SeatAvailabilityStreamService 변경분 전송 순서 테스트
+ */
+@DisplayName("좌석 가용성 SSE 테스트")
+class SeatAvailabilityStreamServiceTest {
+
+    private static final Long SCHEDULE_ID = 1L;
+
+    private SeatQueryCacheService seatQueryCacheService;
+    private SeatAvailabilityStreamService streamService;
+
+    @BeforeEach
+    void setUp() {
+        seatQueryCacheService = mock(SeatQueryCacheService.class);
+        // 전송을 호출 스레드에서 바로 실행
+        streamService = new SeatAvailabilityStreamService(seatQueryCacheService, new ObjectMapper(),
+                new SimpleMeterRegistry(), 60_000, Runnable::run);
+    }
+
+    @Test
+    @DisplayName("스냅샷 조회 중 도착한 변경분은 스냅샷 뒤에 새 버전만 좌석 ID로 전송된다")
+    void buffersDeltasUntilSnapshotSent() {
+        // Given: 좌석 101~104 (서수 0~3)
+        given(seatQueryCacheService.findLayout(SCHEDULE_ID)).willReturn(Optional.of(layout()));
+        RecordingEmitter emitter = new RecordingEmitter();
+
+        // When: 스냅샷(버전 5) 조회 중 버전 5, 6 변경분 도착 → 구독 후 버전 7 도착
+        streamService.subscribe(SCHEDULE_ID, emitter, () -> {
+            streamService.publish(new Delta(SCHEDULE_ID, 5, Map.of(0, false), false));
+            streamService.publish(new Delta(SCHEDULE_ID, 6, Map.of(1, false), false));
+            return document(5);
+        });
+        streamService.publish(new Delta(SCHEDULE_ID, 7, Map.of(2, true), false));
+
+        // Then: 스냅샷에 포함된 버전 5는 전송하지 않음
+        assertThat(emitter.events).hasSize(3);
+        assertThat(emitter.events.get(0)).contains("event:snapshot", "id:5", "\"seats\":[]");
+        assertThat(emitter.events.get(1)).contains("event:delta", "id:6", "\"unavailable\":[102]");
+        assertThat(emitter.events.get(2)).contains("event:delta", "id:7", "\"available\":[103]");
+    }
+
+    @Test
+    @DisplayName("비트맵 재적재나 이 인스턴스에 배치가 없는 변경분은 reset으로 전송된다")
+    void sendsResetWhenDeltaCannotBeMapped() {
+        // Given
+        given(seatQueryCacheService.findLayout(SCHEDULE_ID)).willReturn(Optional.empty());
+        RecordingEmitter emitter = new RecordingEmitter();
+        streamService.subscribe(SCHEDULE_ID, emitter, () -> document(5));
+
+        // When
+        streamService.publish(new Delta(SCHEDULE_ID, 6, Map.of(0, false), false));
+        streamService.publish(new Delta(SCHEDULE_ID, 7, Map.of(), true));
+
+        // Then
+        assertThat(emitter.events).hasSize(3);
+        assertThat(emitter.events.get(1)).contains("event:reset", "id:6");
+        assertThat(emitter.events.get(2)).contains("event:reset", "id:7");
+    }
+
+    @Test
+    @DisplayName("동시에 쏟아지는 변경분도 세션마다 수신 순서대로 전송되고, 느린 연결이 다른 연결을 막지 않는다")
+    void keepsOrderPerSessionUnderConcurrentDeltas() {
+        // Given: 실제 Virtual Thread 전송, 첫 변경분 전송에서 멈춘 느린 연결과 일반 연결
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        SeatAvailabilityStreamService concurrentService = new SeatAvailabilityStreamService(seatQueryCacheService,
+                new ObjectMapper(), new SimpleMeterRegistry(), 60_000, executor);
+        given(seatQueryCacheService.findLayout(SCHEDULE_ID)).willReturn(Optional.of(layout()));
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter slow = new RecordingEmitter(release);
+        RecordingEmitter fast = new RecordingEmitter();
+        concurrentService.subscribe(SCHEDULE_ID, slow, () -> document(5));
+        concurrentService.subscribe(SCHEDULE_ID, fast, () -> document(5));
+
+        // When: 버전 6~45 연속 방송
+        List<String> expectedIds = LongStream.rangeClosed(6, 45).mapToObj(version -> "id:" + version).toList();
+        for (long version = 6; version <= 45; version++) {
+            concurrentService.publish(new Delta(SCHEDULE_ID, version, Map.of((int) (version % 4), version % 2 == 0), false));
+        }
+
+        // Then: 느린 연결이 멈춘 동안에도 일반 연결은 모두 순서대로 수신
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> assertThat(fast.ids()).containsExactlyElementsOf(expectedIds));
+        assertThat(slow.ids()).isEmpty();
+
+        // 느린 연결도 풀리면 같은 순서로 수신
+        release.countDown();
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> assertThat(slow.ids()).containsExactlyElementsOf(expectedIds));
+        executor.shutdown();
+    }
+
+    private static SeatLayout layout() {
+        List<Seat> seats = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            seats.add(new Seat(101L + i, SCHEDULE_ID, "A-" + (i + 1), SeatGrade.A, BigDecimal.valueOf(20000),
+                    SeatStatus.AVAILABLE));
+        }
+        return SeatLayout.of(SCHEDULE_ID, seats);
+    }
+
+    private static SeatMapDocument document(long version) {
+        return new SeatMapDocument(version, 0, "[]".getBytes(StandardCharsets.UTF_8), null, "W/\"" + version + "-0\"");
+    }
+
+    /**
+     * 전송한 이벤트를 SSE 텍스트로 기록하는 emitter
+     */
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<String> events = new CopyOnWriteArrayList<>();
+        // delta 전송 전에 기다릴 신호 (느린 연결 흉내, 없으면 바로 전송)
+        private final CountDownLatch deltaGate;
+
+        RecordingEmitter() {
+            this(new CountDownLatch(0));
+        }
+
+        RecordingEmitter(CountDownLatch deltaGate) {
+            this.deltaGate = deltaGate;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            String event = builder.build().stream()
+                    .map(data -> String.valueOf(data.getData()))
+                    .collect(Collectors.joining());
+            if (event.contains("event:delta")) {
+                try {
+                    deltaGate.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            events.add(event);
+        }
+
+        /**
+         * 전송한 delta 이벤트의 id 줄 (전송 순서)
+         */
+        List<String> ids() {
+            return events.stream()
+                    .filter(event -> event.contains("event:delta"))
+                    .map(event -> event.lines().filter(line -> line.startsWith("id:")).findFirst().orElseThrow())
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package personal.ai.core.booking.adapter.out.persistence;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+import personal.ai.core.booking.adapter.out.event.ReservationEventAdapter;
+import personal.ai.core.booking.application.port.in.ConfirmReservationUseCase.ConfirmReservationCommand;
+import personal.ai.core.booking.application.port.in.ReserveSeatCommand;
+import personal.ai.core.booking.application.port.out.ReservationClaimRepository;
+import personal.ai.core.booking.application.service.ReservationConfirmService;
+import personal.ai.core.booking.application.service.SeatQueryCacheService;
+import personal.ai.core.booking.domain.model.Reservation;
+import personal.ai.core.booking.domain.model.ReservationStatus;
+import personal.ai.core.booking.domain.model.Seat;
+import personal.ai.core.booking.domain.model.SeatGrade;
+import personal.ai.core.booking.domain.model.SeatStatus;
+import personal.ai.core.booking.domain.service.BookingManager;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상태 전이 유스케이스별 SQL 문장 수 테스트
+ * 조건부 UPDATE로 바꾼 뒤 조회/merge용 SELECT가 다시 생기지 않는지 Hibernate 통계로 확인
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Testcontainers
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({BookingManager.class, ReservationConfirmService.class, SeatPersistenceAdapter.class,
+        ReservationPersistenceAdapter.class, ReservationEventAdapter.class, OutboxEventFactory.class})
+@DisplayName("상태 전이 SQL 문장 수 테스트")
+class StatusTransitionStatementCountTest {
+
+    private static final Long SCHEDULE_ID = 1L;
+    private static final Long USER_ID = 100L;
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>(DockerImageName.parse("mysql:8.0.36"));
+
+    @MockBean
+    private SeatQueryCacheService seatQueryCacheService;
+
+    @MockBean
+    private ReservationClaimRepository reservationClaimRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JpaSeatRepository jpaSeatRepository;
+
+    @Autowired
+    private JpaReservationRepository jpaReservationRepository;
+
+    @Autowired
+    private SeatPersistenceAdapter seatPersistenceAdapter;
+
+    @Autowired
+    private BookingManager bookingManager;
+
+    @Autowired
+    private ReservationConfirmService reservationConfirmService;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("좌석 예약은 좌석 UPDATE + 예약 INSERT + Outbox INSERT 3문장이다")
+    void reserveSeatUsesThreeStatements() {
+        // Given
+        Long seatId = seat("A-1", SeatStatus.AVAILABLE);
+
+        // When
+        long statements = countStatements(() -> bookingManager.reserveSeatInTransaction(
+                new ReserveSeatCommand(USER_ID, seatId, SCHEDULE_ID, "token")));
+
+        // Then
+        assertThat(statements).isEqualTo(3);
+        assertThat(seatStatus(seatId)).isEqualTo(SeatStatus.RESERVED);
+    }
+
+    @Test
+    @DisplayName("예약 만료는 예약 SELECT + 예약 UPDATE + Outbox INSERT + 좌석 UPDATE 4문장이다")
+    void expireReservationUsesFourStatements() {
+        // Given
+        Long seatId = seat("A-2", SeatStatus.RESERVED);
+        Long reservationId = reservation(seatId);
+
+        // When
+        long statements = countStatements(() ->
+                assertThat(bookingManager.expireReservation(reservationId)).isPresent());
+
+        // Then
+        assertThat(statements).isEqualTo(4);
+        assertThat(reservationStatus(reservationId)).isEqualTo(ReservationStatus.EXPIRED);
+        assertThat(seatStatus(seatId)).isEqualTo(SeatStatus.AVAILABLE);
+    }
+
+    @Test
+    @DisplayName("예약 확정은 예약 SELECT + 예약 UPDATE + Outbox INSERT + 좌석 UPDATE 4문장이다")
+    void confirmReservationUsesFourStatements() {
+        // Given
+        Long seatId = seat("A-3", SeatStatus.RESERVED);
+        Long reservationId = reservation(seatId);
+
+        // When
+        long statements = countStatements(() -> reservationConfirmService.confirmReservation(
+                new ConfirmReservationCommand(reservationId, USER_ID, 1L)));
+
+        // Then
+        assertThat(statements).isEqualTo(4);
+        assertThat(reservationStatus(reservationId)).isEqualTo(ReservationStatus.CONFIRMED);
+        assertThat(seatStatus(seatId)).isEqualTo(SeatStatus.OCCUPIED);
+    }
+
+    @Test
+    @DisplayName("이미 예약된 좌석은 조건부 UPDATE가 일치하지 않아 예약되지 않는다")
+    void rejectsTransitionFromUnexpectedStatus() {
+        // Given
+        Long seatId = seat("A-4", SeatStatus.RESERVED);
+
+        // When
+        boolean transitioned = seatPersistenceAdapter.transitionStatus(seatId, SeatStatus.AVAILABLE, SeatStatus.RESERVED);
+
+        // Then
+        assertThat(transitioned).isFalse();
+        assertThat(seatStatus(seatId)).isEqualTo(SeatStatus.RESERVED);
+    }
+
+    private long countStatements(Runnable useCase) {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        useCase.run();
+        entityManager.flush();
+
+        long statements = statistics.getPrepareStatementCount();
+        entityManager.clear();
+        return statements;
+    }
+
+    private Long seat(String seatNumber, SeatStatus status) {
+        Seat seat = Seat.create(SCHEDULE_ID, seatNumber, SeatGrade.R, BigDecimal.valueOf(100000), status);
+        return jpaSeatRepository.save(SeatEntity.fromDomain(seat)).getId();
+    }
+
+    private Long reservation(Long seatId) {
+        Reservation reservation = Reservation.create(USER_ID, seatId, SCHEDULE_ID, BookingManager.RESERVATION_TTL_MINUTES);
+        return jpaReservationRepository.save(ReservationEntity.fromDomain(reservation)).getId();
+    }
+
+    private SeatStatus seatStatus(Long seatId) {
+        return jpaSeatRepository.findById(seatId).orElseThrow().getStatus();
+    }
+
+    private ReservationStatus reservationStatus(Long reservationId) {
+        return jpaReservationRepository.findById(reservationId).orElseThrow().getStatus();
+    }
+}
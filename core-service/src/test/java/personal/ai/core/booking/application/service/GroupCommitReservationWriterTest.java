@@ -0,0 +1,145 @@
+package personal.ai.core.booking.application.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import personal.ai.core.booking.application.port.in.ReserveSeatCommand;
+import personal.ai.core.booking.domain.exception.SeatNotAvailableException;
+import personal.ai.core.booking.domain.model.Reservation;
+import personal.ai.core.booking.domain.model.SeatStatus;
+import personal.ai.core.booking.domain.service.BookingManager;
+import personal.ai.core.booking.domain.service.BookingManager.ReserveOutcome;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * GroupCommitReservationWriter 일괄 커밋/항목별 결과 테스트
+ */
+@DisplayName("예약 그룹 커밋 테스트")
+class GroupCommitReservationWriterTest {
+
+    private static final Long SCHEDULE_ID = 1L;
+    private static final Long LOSING_SEAT_ID = 2L;
+
+    private BookingManager bookingManager;
+    private GroupCommitReservationWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        bookingManager = mock(BookingManager.class);
+        // 두 요청이 한 커밋에 묶이도록 모으기 구간을 넉넉히 두고 최대 2개에서 바로 커밋
+        writer = new GroupCommitReservationWriter(bookingManager, new SimpleMeterRegistry(), 2, 5_000, 5_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        writer.shutdown();
+    }
+
+    @Test
+    @DisplayName("동시 요청을 트랜잭션 1회로 커밋하고, 충돌한 좌석의 요청만 실패한다")
+    void commitsConcurrentRequestsTogether() {
+        // Given
+        given(bookingManager.reserveSeatsInTransaction(anyList())).willAnswer(invocation -> {
+            List<ReserveSeatCommand> commands = invocation.getArgument(0);
+            return commands.stream()
+                    .map(command -> command.seatId().equals(LOSING_SEAT_ID)
+                            ? ReserveOutcome.rejected(new SeatNotAvailableException(command.seatId(), SeatStatus.RESERVED))
+                            : ReserveOutcome.reserved(reservation(command)))
+                    .toList();
+        });
+
+        // When
+        CompletableFuture<Reservation> winner = CompletableFuture.supplyAsync(() -> writer.reserve(command(1L)));
+        CompletableFuture<Reservation> loser = CompletableFuture.supplyAsync(() -> writer.reserve(command(LOSING_SEAT_ID)));
+
+        // Then
+        assertThat(winner.join().seatId()).isEqualTo(1L);
+        assertThatThrownBy(loser::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(SeatNotAvailableException.class);
+        verify(bookingManager, times(1)).reserveSeatsInTransaction(anyList());
+    }
+
+    @Test
+    @DisplayName("일괄 커밋이 실패하면 항목별 트랜잭션으로 다시 처리하여 실패 항목만 분리한다")
+    void retriesOneByOneWhenBatchFails() {
+        // Given
+        ReserveSeatCommand first = command(1L);
+        ReserveSeatCommand second = command(LOSING_SEAT_ID);
+        given(bookingManager.reserveSeatsInTransaction(anyList()))
+                .willThrow(new DataIntegrityViolationException("uk_schedule_seat"));
+        given(bookingManager.reserveSeatInTransaction(first)).willReturn(reservation(first));
+        given(bookingManager.reserveSeatInTransaction(second))
+                .willThrow(new DataIntegrityViolationException("uk_schedule_seat"));
+
+        // When
+        CompletableFuture<Reservation> succeeded = CompletableFuture.supplyAsync(() -> writer.reserve(first));
+        CompletableFuture<Reservation> failed = CompletableFuture.supplyAsync(() -> writer.reserve(second));
+
+        // Then
+        assertThat(succeeded.join().seatId()).isEqualTo(1L);
+        assertThatThrownBy(failed::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    @DisplayName("커밋이 대기 제한을 넘기면 실패 처리하고, 늦게 커밋된 예약은 만료시키며 대기 중이던 요청은 저장하지 않는다")
+    void failsReservationsThatWaitTooLong() throws InterruptedException {
+        // Given: 한 건씩 커밋, 대기 제한 200ms, 첫 커밋이 풀어줄 때까지 멈춤
+        GroupCommitReservationWriter slowWriter = new GroupCommitReservationWriter(
+                bookingManager, new SimpleMeterRegistry(), 1, 0, 200);
+        ReserveSeatCommand committing = command(1L);
+        ReserveSeatCommand queued = command(LOSING_SEAT_ID);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(bookingManager.reserveSeatsInTransaction(anyList())).willAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            List<ReserveSeatCommand> commands = invocation.getArgument(0);
+            return commands.stream().map(command -> ReserveOutcome.reserved(reservation(command))).toList();
+        });
+
+        // When: 첫 요청이 커밋 중인 동안 두 번째 요청은 대기열에서 대기
+        CompletableFuture<Reservation> inCommit = CompletableFuture.supplyAsync(() -> slowWriter.reserve(committing));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Reservation> inQueue = CompletableFuture.supplyAsync(() -> slowWriter.reserve(queued));
+
+        // Then: 두 요청 모두 대기 제한으로 실패
+        assertThatThrownBy(inCommit::join).hasCauseInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(inQueue::join).hasCauseInstanceOf(IllegalStateException.class);
+
+        // 커밋이 끝나면 늦게 저장된 첫 예약은 만료, 두 번째 요청은 커밋하지 않음
+        release.countDown();
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() ->
+                verify(bookingManager).expireReservation(reservation(committing).id()));
+        slowWriter.shutdown();
+        verify(bookingManager, times(1)).reserveSeatsInTransaction(anyList());
+    }
+
+    private static ReserveSeatCommand command(Long seatId) {
+        return new ReserveSeatCommand(seatId * 10, seatId, SCHEDULE_ID, "token");
+    }
+
+    private static Reservation reservation(ReserveSeatCommand command) {
+        return Reservation.create(command.userId(), command.seatId(), command.scheduleId(),
+                BookingManager.RESERVATION_TTL_MINUTES).withId(command.seatId() * 100);
+    }
+}
@@ -0,0 +1,139 @@
+package personal.ai.core.booking.application.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import personal.ai.core.booking.application.port.out.ReservationCacheRepository;
+import personal.ai.core.booking.application.port.out.ReservationClaimRepository;
+import personal.ai.core.booking.application.port.out.ReservationClaimRepository.PendingWrite;
+import personal.ai.core.booking.domain.exception.SeatNotAvailableException;
+import personal.ai.core.booking.domain.model.Reservation;
+import personal.ai.core.booking.domain.model.SeatStatus;
+import personal.ai.core.booking.domain.service.BookingManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * ReservationWriteBehindService 일괄 저장/실패 분리 테스트
+ */
+@DisplayName("예약 쓰기 지연 저장 테스트")
+class ReservationWriteBehindServiceTest {
+
+    private static final int BATCH_SIZE = 100;
+
+    private ReservationClaimRepository claimRepository;
+    private ReservationCacheRepository cacheRepository;
+    private BookingManager bookingManager;
+    private SeatQueryCacheService seatQueryCacheService;
+    private ReservationWriteBehindService service;
+
+    @BeforeEach
+    void setUp() {
+        claimRepository = mock(ReservationClaimRepository.class);
+        cacheRepository = mock(ReservationCacheRepository.class);
+        bookingManager = mock(BookingManager.class);
+        seatQueryCacheService = mock(SeatQueryCacheService.class);
+        service = new ReservationWriteBehindService(claimRepository, cacheRepository, bookingManager,
+                seatQueryCacheService, new SimpleMeterRegistry(), "test", BATCH_SIZE, 30_000);
+    }
+
+    @Test
+    @DisplayName("대기열 항목을 트랜잭션 1회로 저장하고 만료 TTL 설정 후 모두 확인한다")
+    void persistsBatchInOneTransaction() {
+        // Given
+        List<PendingWrite> writes = List.of(write(1L), write(2L), write(3L));
+        List<Reservation> reservations = writes.stream().map(PendingWrite::reservation).toList();
+        given(claimRepository.readPending("test", BATCH_SIZE)).willReturn(writes);
+        given(bookingManager.persistReservations(reservations)).willReturn(reservations);
+
+        // When
+        int processed = service.flushPendingWrites();
+
+        // Then
+        assertThat(processed).isEqualTo(3);
+        verify(bookingManager).persistReservations(reservations);
+        reservations.forEach(reservation ->
+                verify(cacheRepository).setReservationTTL(reservation.id(), reservation.expiresAt()));
+        verify(claimRepository).acknowledge(writes);
+    }
+
+    @Test
+    @DisplayName("일괄 저장이 실패하면 항목별로 다시 저장하고, 일시 실패 항목만 확인하지 않는다")
+    void isolatesFailedWrites() {
+        // Given: 1 = 저장 성공, 2 = DB에서 좌석이 이미 예약됨 (영구 실패), 3 = DB 연결 오류 (일시 실패)
+        PendingWrite persisted = write(1L);
+        PendingWrite rejected = write(2L);
+        PendingWrite transientFailure = write(3L);
+        List<PendingWrite> writes = List.of(persisted, rejected, transientFailure);
+        given(claimRepository.readPending("test", BATCH_SIZE)).willReturn(writes);
+        given(bookingManager.persistReservations(writes.stream().map(PendingWrite::reservation).toList()))
+                .willThrow(new SeatNotAvailableException(2L, SeatStatus.RESERVED));
+        given(bookingManager.persistReservations(List.of(persisted.reservation())))
+                .willReturn(List.of(persisted.reservation()));
+        given(bookingManager.persistReservations(List.of(rejected.reservation())))
+                .willThrow(new SeatNotAvailableException(2L, SeatStatus.RESERVED));
+        given(bookingManager.persistReservations(List.of(transientFailure.reservation())))
+                .willThrow(new IllegalStateException("connection refused"));
+
+        // When
+        int processed = service.flushPendingWrites();
+
+        // Then: 거절 항목은 선점 해제 + 거절 기록, DB가 좌석을 예약 상태로 보고했으므로 비트맵은 그대로 둠
+        assertThat(processed).isEqualTo(2);
+        verify(cacheRepository).setReservationTTL(1L, persisted.reservation().expiresAt());
+        verify(cacheRepository, never()).setReservationTTL(2L, rejected.reservation().expiresAt());
+        verify(claimRepository).acknowledge(List.of(persisted));
+        verify(claimRepository).reject(List.of(rejected));
+        verify(seatQueryCacheService, never()).markAvailable(1L, rejected.reservation().seatId());
+    }
+
+    @Test
+    @DisplayName("유니크 제약 위반으로 거절된 예약은 선점을 풀고 좌석을 예매 가능으로 되돌린다")
+    void releasesSeatWhenWriteRejected() {
+        // Given
+        PendingWrite rejected = write(1L);
+        given(claimRepository.readPending("test", BATCH_SIZE)).willReturn(List.of(rejected));
+        given(bookingManager.persistReservations(List.of(rejected.reservation())))
+                .willThrow(new DataIntegrityViolationException("uk_reservation_id"));
+
+        // When
+        int processed = service.flushPendingWrites();
+
+        // Then
+        assertThat(processed).isEqualTo(1);
+        verify(claimRepository).reject(List.of(rejected));
+        verify(seatQueryCacheService).markAvailable(1L, rejected.reservation().seatId());
+        verify(claimRepository).acknowledge(List.of());
+    }
+
+    @Test
+    @DisplayName("대기열이 비어 있으면 DB에 접근하지 않는다")
+    void skipsEmptyQueue() {
+        // Given
+        given(claimRepository.readPending(anyString(), anyInt())).willReturn(List.of());
+
+        // When
+        int processed = service.flushPendingWrites();
+
+        // Then
+        assertThat(processed).isZero();
+        verify(bookingManager, never()).persistReservations(anyList());
+    }
+
+    private static PendingWrite write(Long reservationId) {
+        Reservation reservation = Reservation.create(10L + reservationId, 100L + reservationId, 1L,
+                BookingManager.RESERVATION_TTL_MINUTES).withId(reservationId);
+        return new PendingWrite(reservation.scheduleId(), "0-" + reservationId, reservation, System.currentTimeMillis());
+    }
+}
@@ -0,0 +1,116 @@
+package personal.ai.core.booking.application.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import personal.ai.core.booking.adapter.in.web.dto.SeatResponse;
+import personal.ai.core.booking.application.port.in.SeatFilter;
+import personal.ai.core.booking.domain.model.Seat;
+import personal.ai.core.booking.domain.model.SeatGrade;
+import personal.ai.core.booking.domain.model.SeatStatus;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SeatLayout 비트맵 변환 테스트
+ */
+@DisplayName("좌석 배치 비트맵 테스트")
+class SeatLayoutTest {
+
+    private static final Long SCHEDULE_ID = 1L;
+
+    @Test
+    @DisplayName("예매 가능 좌석만 비트가 켜지고, 비트맵에서 같은 좌석 목록을 복원한다")
+    void bitmapRoundTrip() {
+        // Given: 10개 좌석 중 0, 7, 8, 9번 서수만 예매 가능
+        List<Seat> seats = seats(10, 0, 7, 8, 9);
+        SeatLayout layout = SeatLayout.of(SCHEDULE_ID, seats);
+
+        // When
+        byte[] bitmap = layout.bitmapOf(seats);
+
+        // Then: Redis SETBIT 순서 (바이트 최상위 비트 = 서수 0), 10석 → 2바이트
+        assertThat(bitmap).containsExactly((byte) 0b1000_0001, (byte) 0b1100_0000);
+        assertThat(layout.availableSeats(bitmap))
+                .extracting(SeatResponse::seatId)
+                .containsExactly(101L, 108L, 109L, 110L);
+        assertThat(layout.availableSeats(bitmap))
+                .allMatch(seat -> seat.status() == SeatStatus.AVAILABLE);
+    }
+
+    @Test
+    @DisplayName("DB와 다른 비트만 DB 값으로 보정 대상이 된다")
+    void differencesAgainstDatabase() {
+        // Given: DB 기준 서수 1만 예약됨, Redis는 서수 1이 예매 가능이고 서수 2가 예약됨
+        List<Seat> dbSeats = seats(4, 0, 2, 3);
+        SeatLayout layout = SeatLayout.of(SCHEDULE_ID, dbSeats);
+        byte[] redisBitmap = layout.bitmapOf(seats(4, 0, 1, 3));
+
+        // When
+        var differences = layout.differences(layout.bitmapOf(dbSeats), redisBitmap);
+
+        // Then
+        assertThat(differences).containsOnlyKeys(1, 2);
+        assertThat(differences.get(1)).isFalse();
+        assertThat(differences.get(2)).isTrue();
+    }
+
+    @Test
+    @DisplayName("좌석 구성이 바뀌면 배치가 일치하지 않는다")
+    void detectsLayoutChange() {
+        SeatLayout layout = SeatLayout.of(SCHEDULE_ID, seats(3, 0));
+
+        assertThat(layout.matches(seats(3))).isTrue();
+        assertThat(layout.matches(seats(4))).isFalse();
+        assertThat(layout.ordinalOf(999L)).isNegative();
+    }
+
+    @Test
+    @DisplayName("등급/구역 범위 조회는 범위 안의 예매 가능 좌석만 반환하고, 등급별 좌석 수를 집계한다")
+    void filtersByGradeAndSection() {
+        // Given: VIP-1, VIP-2(예약됨), R-1, R-2
+        List<Seat> seats = List.of(
+                new Seat(101L, SCHEDULE_ID, "VIP-1", SeatGrade.VIP, BigDecimal.valueOf(150000), SeatStatus.AVAILABLE),
+                new Seat(102L, SCHEDULE_ID, "VIP-2", SeatGrade.VIP, BigDecimal.valueOf(150000), SeatStatus.RESERVED),
+                new Seat(103L, SCHEDULE_ID, "R-1", SeatGrade.R, BigDecimal.valueOf(120000), SeatStatus.AVAILABLE),
+                new Seat(104L, SCHEDULE_ID, "R-2", SeatGrade.R, BigDecimal.valueOf(110000), SeatStatus.AVAILABLE));
+        SeatLayout layout = SeatLayout.of(SCHEDULE_ID, seats);
+        byte[] bitmap = layout.bitmapOf(seats);
+
+        // When & Then: 범위 조회
+        assertThat(layout.availableSeats(bitmap, new SeatFilter(SeatGrade.R, null)))
+                .extracting(SeatResponse::seatId)
+                .containsExactly(103L, 104L);
+        assertThat(layout.availableSeats(bitmap, new SeatFilter(null, "VIP")))
+                .extracting(SeatResponse::seatId)
+                .containsExactly(101L);
+        assertThat(layout.availableSeats(bitmap, new SeatFilter(SeatGrade.R, "VIP"))).isEmpty();
+        assertThat(layout.hasSection("S")).isFalse();
+
+        // When & Then: 등급별 집계 (전체 좌석 수/최저가는 배치, 예매 가능 좌석 수는 좌석 상태)
+        assertThat(layout.availableCountsOf(seats))
+                .containsExactly(Map.entry(SeatGrade.VIP, 1), Map.entry(SeatGrade.R, 2));
+        assertThat(layout.grades().get(SeatGrade.R).total()).isEqualTo(2);
+        assertThat(layout.grades().get(SeatGrade.R).price()).isEqualByComparingTo("110000");
+        assertThat(layout.gradeOf(2)).isEqualTo(SeatGrade.R);
+    }
+
+    /**
+     * ID 101부터 count개 좌석 생성 (지정한 서수만 AVAILABLE, 나머지 RESERVED)
+     */
+    private static List<Seat> seats(int count, int... availableOrdinals) {
+        List<Seat> seats = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            final int ordinal = i;
+            boolean available = Arrays.stream(availableOrdinals).anyMatch(a -> a == ordinal);
+            seats.add(new Seat(101L + i, SCHEDULE_ID, "A-" + (i + 1), SeatGrade.A, BigDecimal.valueOf(20000),
+                    available ? SeatStatus.AVAILABLE : SeatStatus.RESERVED));
+        }
+        return seats;
+    }
+}
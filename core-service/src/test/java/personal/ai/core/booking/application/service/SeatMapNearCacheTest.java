@@ -0,0 +1,202 @@
+package personal.ai.core.booking.application.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import personal.ai.core.booking.application.port.out.SeatAvailabilityRepository;
+import personal.ai.core.booking.application.port.out.SeatAvailabilityRepository.Delta;
+import personal.ai.core.booking.domain.model.SeatGrade;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SeatMapNearCache 변경분 반영 테스트
+ */
+@DisplayName("좌석 Near Cache 테스트")
+class SeatMapNearCacheTest {
+
+    private static final Long SCHEDULE_ID = 1L;
+    private static final long VERIFY_INTERVAL_MS = 5_000;
+    private static final long STALE_WINDOW_MS = 1_000;
+
+    private FakeSeatAvailabilityRepository repository;
+    private AtomicLong now;
+    private SeatMapNearCache nearCache;
+
+    @BeforeEach
+    void setUp() {
+        repository = new FakeSeatAvailabilityRepository();
+        now = new AtomicLong(0);
+        // 백그라운드 갱신을 호출 스레드에서 바로 실행
+        nearCache = new SeatMapNearCache(repository, new SimpleMeterRegistry(), VERIFY_INTERVAL_MS, STALE_WINDOW_MS,
+                now::get, Runnable::run);
+    }
+
+    @Test
+    @DisplayName("다음 버전 변경분은 Redis 조회 없이 로컬 비트맵에 반영된다")
+    void appliesConsecutiveDelta() {
+        // Given: 버전 3, 서수 0~7 모두 예매 가능
+        repository.snapshot(new byte[]{(byte) 0xFF}, 3);
+        nearCache.get(SCHEDULE_ID);
+
+        // When: 서수 1 예약 (버전 4)
+        nearCache.apply(new Delta(SCHEDULE_ID, 4, Map.of(1, false), false));
+
+        // Then
+        assertThat(nearCache.get(SCHEDULE_ID)).hasValueSatisfying(
+                snapshot -> assertThat(snapshot.bitmap()).containsExactly((byte) 0b1011_1111));
+        assertThat(repository.snapshotReads).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("이미 반영한 버전은 무시하고, 버전 공백이 생기면 기존 값으로 응답하며 스냅샷을 다시 적재한다")
+    void reloadsOnVersionGap() {
+        // Given
+        repository.snapshot(new byte[]{(byte) 0xFF}, 3);
+        nearCache.get(SCHEDULE_ID);
+
+        // When: 같은 버전 재수신 → 무시, 버전 5 수신 (4 유실) → stale
+        nearCache.apply(new Delta(SCHEDULE_ID, 3, Map.of(0, false), false));
+        nearCache.apply(new Delta(SCHEDULE_ID, 5, Map.of(2, false), false));
+        repository.snapshot(new byte[]{(byte) 0b1101_1111}, 5);
+
+        // Then: 첫 조회는 기존 비트맵 (stale-while-revalidate), 갱신 후 조회는 새 스냅샷
+        assertThat(nearCache.get(SCHEDULE_ID)).hasValueSatisfying(
+                snapshot -> assertThat(snapshot.bitmap()).containsExactly((byte) 0xFF));
+        assertThat(nearCache.get(SCHEDULE_ID)).hasValueSatisfying(
+                snapshot -> assertThat(snapshot.bitmap()).containsExactly((byte) 0b1101_1111));
+        assertThat(repository.snapshotReads).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("확인 주기가 지나면 버전만 조회하고, 같으면 로컬 비트맵을 그대로 쓴다")
+    void verifiesVersionAfterInterval() {
+        // Given
+        repository.snapshot(new byte[]{(byte) 0xFF}, 3);
+        nearCache.get(SCHEDULE_ID);
+
+        // When
+        now.addAndGet(VERIFY_INTERVAL_MS);
+        nearCache.get(SCHEDULE_ID);
+
+        // Then
+        assertThat(repository.versionReads).isEqualTo(1);
+        assertThat(repository.snapshotReads).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("stale-window가 지나면 기존 값 대신 동기로 갱신한 값을 반환한다")
+    void refreshesSynchronouslyAfterStaleWindow() {
+        // Given
+        repository.snapshot(new byte[]{(byte) 0xFF}, 3);
+        nearCache.get(SCHEDULE_ID);
+        repository.snapshot(new byte[]{(byte) 0x0F}, 4);
+
+        // When
+        now.addAndGet(VERIFY_INTERVAL_MS + STALE_WINDOW_MS);
+
+        // Then
+        assertThat(nearCache.get(SCHEDULE_ID)).hasValueSatisfying(
+                snapshot -> assertThat(snapshot.bitmap()).containsExactly((byte) 0x0F));
+    }
+
+    @Test
+    @DisplayName("stale-window는 공백을 받은 시각부터 계산한다")
+    void staleWindowStartsWhenMarkedStale() {
+        // Given: 확인 직후 4초 뒤 버전 공백 수신
+        repository.snapshot(new byte[]{(byte) 0xFF}, 3);
+        nearCache.get(SCHEDULE_ID);
+        now.addAndGet(4_000);
+        nearCache.apply(new Delta(SCHEDULE_ID, 5, Map.of(2, false), false));
+        repository.snapshot(new byte[]{(byte) 0b1101_1111}, 5);
+
+        // When: 공백 수신 후 stale-window 경과 (마지막 확인 기준으로는 아직 verify-interval + stale-window 이내)
+        now.addAndGet(STALE_WINDOW_MS);
+
+        // Then: 기존 비트맵 대신 동기로 다시 적재한 값
+        assertThat(nearCache.get(SCHEDULE_ID)).hasValueSatisfying(
+                snapshot -> assertThat(snapshot.bitmap()).containsExactly((byte) 0b1101_1111));
+    }
+
+    @Test
+    @DisplayName("reset 신호는 버전이 같거나 낮아도 항목을 stale로 표시한다")
+    void resetMarksStaleRegardlessOfVersion() {
+        // Given: 버전 7 적재
+        repository.snapshot(new byte[]{(byte) 0xFF}, 7);
+        nearCache.get(SCHEDULE_ID);
+
+        // When: Redis 초기화 후 버전 1부터 다시 시작하며 reset 방송
+        nearCache.apply(new Delta(SCHEDULE_ID, 1, Map.of(), true));
+        repository.snapshot(new byte[]{(byte) 0x0F}, 1);
+
+        // Then: 기존 값으로 1회 응답 후 재적재한 스냅샷 사용
+        nearCache.get(SCHEDULE_ID);
+        assertThat(nearCache.get(SCHEDULE_ID)).hasValueSatisfying(snapshot -> {
+            assertThat(snapshot.bitmap()).containsExactly((byte) 0x0F);
+            assertThat(snapshot.version()).isEqualTo(1);
+        });
+        assertThat(repository.snapshotReads).isEqualTo(2);
+    }
+
+    /**
+     * 스냅샷/버전 조회 횟수를 세는 인메모리 저장소
+     */
+    private static class FakeSeatAvailabilityRepository implements SeatAvailabilityRepository {
+
+        private Snapshot snapshot;
+        private int snapshotReads;
+        private int versionReads;
+
+        void snapshot(byte[] bitmap, long version) {
+            this.snapshot = new Snapshot(bitmap, version);
+        }
+
+        @Override
+        public Optional<Snapshot> findSnapshot(Long scheduleId) {
+            snapshotReads++;
+            return Optional.ofNullable(snapshot);
+        }
+
+        @Override
+        public OptionalLong findVersion(Long scheduleId) {
+            versionReads++;
+            return snapshot == null ? OptionalLong.empty() : OptionalLong.of(snapshot.version());
+        }
+
+        @Override
+        public boolean initializeBitmap(Long scheduleId, byte[] bitmap, Map<SeatGrade, Integer> availableCounts) {
+            return false;
+        }
+
+        @Override
+        public long setAvailability(Long scheduleId, Map<Integer, Boolean> changes, IntFunction<SeatGrade> gradeOf) {
+            return -1;
+        }
+
+        @Override
+        public Optional<Map<SeatGrade, Integer>> findAvailableCounts(Long scheduleId) {
+            return Optional.empty();
+        }
+
+        @Override
+        public void delete(Long scheduleId) {
+        }
+
+        @Override
+        public boolean tryAcquireRebuildLease(Long scheduleId, String token, Duration ttl) {
+            return true;
+        }
+
+        @Override
+        public void releaseRebuildLease(Long scheduleId, String token) {
+        }
+    }
+}
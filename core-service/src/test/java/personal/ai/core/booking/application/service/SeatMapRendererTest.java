@@ -0,0 +1,80 @@
+package personal.ai.core.booking.application.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import personal.ai.core.booking.adapter.in.web.dto.SeatResponse;
+import personal.ai.core.booking.application.port.in.SeatMapDocument;
+import personal.ai.core.booking.domain.model.SeatGrade;
+import personal.ai.core.booking.domain.model.SeatStatus;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SeatMapRenderer 응답 본문 캐시 테스트
+ */
+@DisplayName("좌석 목록 응답 본문 테스트")
+class SeatMapRendererTest {
+
+    private static final Long SCHEDULE_ID = 1L;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SeatMapRenderer renderer = new SeatMapRenderer(objectMapper, new SimpleMeterRegistry(), true, 0);
+
+    @Test
+    @DisplayName("같은 버전은 한 번만 직렬화하고, 버전이 바뀌면 ETag도 바뀐다")
+    void rendersOncePerVersion() {
+        // Given
+        AtomicInteger listBuilds = new AtomicInteger();
+        List<SeatResponse> seats = List.of(seat(101L), seat(102L));
+
+        // When
+        SeatMapDocument first = renderer.render(SCHEDULE_ID, 7, () -> {
+            listBuilds.incrementAndGet();
+            return seats;
+        });
+        SeatMapDocument second = renderer.render(SCHEDULE_ID, 7, () -> {
+            listBuilds.incrementAndGet();
+            return seats;
+        });
+        SeatMapDocument next = renderer.render(SCHEDULE_ID, 8, () -> List.of(seat(101L)));
+
+        // Then
+        assertThat(listBuilds).hasValue(1);
+        assertThat(second).isSameAs(first);
+        assertThat(first.notModified(first.etag())).isTrue();
+        assertThat(first.notModified("\"other\", " + first.etag().substring(2))).isTrue();
+        assertThat(next.notModified(first.etag())).isFalse();
+    }
+
+    @Test
+    @DisplayName("JSON과 gzip 본문은 Jackson의 List<SeatResponse> 직렬화 결과와 같다")
+    void bodyMatchesJacksonSerialization() throws IOException {
+        // Given
+        List<SeatResponse> seats = List.of(seat(101L), seat(102L));
+
+        // When
+        SeatMapDocument document = renderer.render(SCHEDULE_ID, 1, () -> seats);
+
+        // Then
+        byte[] expected = objectMapper.writeValueAsBytes(seats);
+        assertThat(document.json()).isEqualTo(expected);
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(document.gzip()))) {
+            assertThat(gzip.readAllBytes()).isEqualTo(expected);
+        }
+        assertThat(renderer.renderUnversioned(seats).etag()).isNull();
+    }
+
+    private static SeatResponse seat(Long seatId) {
+        return new SeatResponse(seatId, SCHEDULE_ID, "A-" + seatId, SeatGrade.A, BigDecimal.valueOf(20000),
+                SeatStatus.AVAILABLE);
+    }
+}
@@ -0,0 +1,108 @@
+package personal.ai.core.booking.application.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import personal.ai.core.booking.application.port.in.SeatFilter;
+import personal.ai.core.booking.application.port.out.ReservationClaimRepository;
+import personal.ai.core.booking.application.port.out.SeatAvailabilityRepository;
+import personal.ai.core.booking.application.port.out.SeatAvailabilityRepository.Snapshot;
+import personal.ai.core.booking.application.port.out.SeatRepository;
+import personal.ai.core.booking.domain.model.Seat;
+import personal.ai.core.booking.domain.model.SeatGrade;
+import personal.ai.core.booking.domain.model.SeatStatus;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * SeatQueryCacheService 가용성 보정 테스트
+ */
+@DisplayName("좌석 가용성 보정 테스트")
+class SeatQueryCacheServiceTest {
+
+    private static final Long SCHEDULE_ID = 1L;
+    private static final Long CLAIMED_SEAT_ID = 101L;
+
+    private SeatRepository seatRepository;
+    private SeatAvailabilityRepository seatAvailabilityRepository;
+    private ReservationClaimRepository reservationClaimRepository;
+    private SeatQueryCacheService seatQueryCacheService;
+
+    @BeforeEach
+    void setUp() {
+        seatRepository = mock(SeatRepository.class);
+        seatAvailabilityRepository = mock(SeatAvailabilityRepository.class);
+        reservationClaimRepository = mock(ReservationClaimRepository.class);
+        seatQueryCacheService = new SeatQueryCacheService(seatRepository, seatAvailabilityRepository,
+                mock(SeatMapNearCache.class), mock(SeatMapRenderer.class), new SimpleMeterRegistry(),
+                reservationClaimRepository);
+    }
+
+    @Test
+    @DisplayName("DB에 아직 저장되지 않은 선점 좌석은 DB 기준으로 되돌리지 않는다")
+    void skipsSeatsWithInFlightClaims() {
+        // Given: DB에는 좌석 101~103 모두 예매 가능, 비트맵은 101(선점 후 저장 대기), 102(반영 누락)가 예매 불가
+        List<Seat> seats = List.of(seat(101L), seat(102L), seat(103L));
+        given(seatRepository.findAllByScheduleId(SCHEDULE_ID)).willReturn(seats);
+        seatQueryCacheService.findSeatMap(SCHEDULE_ID, SeatFilter.ALL);
+
+        given(seatAvailabilityRepository.findSnapshot(SCHEDULE_ID))
+                .willReturn(Optional.of(new Snapshot(new byte[]{(byte) 0b0010_0000}, 3)));
+        given(seatAvailabilityRepository.findAvailableCounts(SCHEDULE_ID))
+                .willReturn(Optional.of(Map.of(SeatGrade.A, 1)));
+        given(reservationClaimRepository.findClaimedSeatIds(eq(SCHEDULE_ID), anyCollection()))
+                .willReturn(Set.of(CLAIMED_SEAT_ID));
+
+        // When
+        int corrected = seatQueryCacheService.reconcileAll();
+
+        // Then: 선점 키가 없는 102만 보정
+        assertThat(corrected).isEqualTo(1);
+        verify(seatAvailabilityRepository).setAvailability(eq(SCHEDULE_ID), eq(Map.of(1, true)), any());
+    }
+
+    @Test
+    @DisplayName("좌석이 없는 일정은 배치와 비트맵을 만들지 않고, 오래 쓰지 않은 배치는 보정 주기에 정리된다")
+    void keepsOnlyLayoutsInUse() throws InterruptedException {
+        // Given: 없는 일정 999와 실제 일정 1을 조회
+        Long unknownScheduleId = 999L;
+        given(seatRepository.findAllByScheduleId(unknownScheduleId)).willReturn(List.of());
+        given(seatRepository.findAllByScheduleId(SCHEDULE_ID)).willReturn(List.of(seat(101L)));
+        seatQueryCacheService.findSeatMap(unknownScheduleId, SeatFilter.ALL);
+        seatQueryCacheService.findSeatMap(SCHEDULE_ID, SeatFilter.ALL);
+
+        // Then: 없는 일정은 보관하지 않고 비트맵도 적재하지 않음
+        assertThat(seatQueryCacheService.findLayout(unknownScheduleId)).isEmpty();
+        assertThat(seatQueryCacheService.findLayout(SCHEDULE_ID)).isPresent();
+        verify(seatAvailabilityRepository, never()).initializeBitmap(eq(unknownScheduleId), any(), any());
+
+        // When: 사용 제한 시간이 지난 뒤 보정
+        ReflectionTestUtils.setField(seatQueryCacheService, "layoutIdleMs", 1L);
+        Thread.sleep(5);
+        seatQueryCacheService.reconcileAll();
+
+        // Then: 배치가 정리되어 보정 대상에서도 빠짐 (처음 적재 때 1회만 DB 조회)
+        assertThat(seatQueryCacheService.findLayout(SCHEDULE_ID)).isEmpty();
+        verify(seatRepository, times(1)).findAllByScheduleId(SCHEDULE_ID);
+    }
+
+    private static Seat seat(Long seatId) {
+        return new Seat(seatId, SCHEDULE_ID, "A-" + seatId, SeatGrade.A, BigDecimal.valueOf(20000), SeatStatus.AVAILABLE);
+    }
+}
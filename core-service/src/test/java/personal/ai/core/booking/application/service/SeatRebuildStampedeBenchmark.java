@@ -0,0 +1,436 @@
+package personal.ai.core.booking.application.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.test.util.ReflectionTestUtils;
+import personal.ai.core.booking.application.port.in.SeatFilter;
+import personal.ai.core.booking.application.port.out.ReservationClaimRepository;
+import personal.ai.core.booking.application.port.out.SeatAvailabilityRepository;
+import personal.ai.core.booking.application.port.out.SeatRepository;
+import personal.ai.core.booking.domain.model.Seat;
+import personal.ai.core.booking.domain.model.SeatGrade;
+import personal.ai.core.booking.domain.model.SeatStatus;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 좌석 캐시 스탬피드 벤치마크
+ * 여러 인스턴스의 SeatQueryCacheService(+ SeatMapNearCache, SeatMapRenderer)가 Redis 비트맵을 공유할 때
+ * 동시 조회가 몰리는 상황별 DB 조회 수, Redis 스냅샷 조회 수, 커넥션 획득 실패 수, 지연 시간 측정
+ *
+ * 상황:
+ * - per-request load (before): 기존 방식, 캐시 미스마다 일정 전체 좌석 조회
+ * - cold start: 배치/비트맵 없음 → 인스턴스 안에서만 Single Flight (배치가 없으므로 리스 없이 인스턴스당 1회)
+ * - bitmap lost: 배치는 있고 비트맵이 사라짐 (Redis 축출/재시작) → 재구성 리스로 클러스터 전체 1회
+ * - stale-while-revalidate: 비트맵 재적재(reset) 방송 직후 → stale-window 안이면 기존 비트맵으로 응답
+ * - sync refresh: 같은 reset 후 stale-window가 지난 경우 → 동기 갱신 (인스턴스당 1회로 합침)
+ *
+ * 실행: RUN_BENCHMARKS=true ./gradlew :core-service:test --tests "*SeatRebuildStampedeBenchmark"
+ * 옵션: STAMPEDE_BENCHMARK_REQUESTS (기본 500), STAMPEDE_BENCHMARK_INSTANCES (기본 4)
+ *
+ * DB는 HikariCP 풀(maximum-pool-size 50, 획득 대기 1초)과 일정 전체 좌석 조회(10,000석, 100ms)로,
+ * Redis는 왕복 5ms의 공유 메모리 저장소(비트맵, 버전, 재구성 리스, reset 방송)로 모사
+ * 요청은 인스턴스에 번갈아 분배
+ */
+@DisplayName("좌석 캐시 스탬피드 벤치마크")
+@EnabledIfEnvironmentVariable(named = "RUN_BENCHMARKS", matches = "true")
+class SeatRebuildStampedeBenchmark {
+
+    private static final int POOL_SIZE = 50;
+    private static final long CONNECTION_TIMEOUT_MS = 1_000;
+    private static final long QUERY_TIME_MS = 100;
+    private static final long REDIS_TIME_MS = 5;
+    private static final int SEAT_COUNT = 10_000;
+    private static final long VERIFY_INTERVAL_MS = 5_000;
+    private static final long STALE_WINDOW_MS = 1_000;
+    private static final long REBUILD_LEASE_MS = 3_000;
+    private static final Long SCHEDULE_ID = 1L;
+
+    @Test
+    @DisplayName("동시 조회 시 DB/Redis 조회 수와 지연 시간")
+    void measureStampede() throws Exception {
+        int requestCount = Integer.parseInt(System.getenv().getOrDefault("STAMPEDE_BENCHMARK_REQUESTS", "500"));
+        int instanceCount = Integer.parseInt(System.getenv().getOrDefault("STAMPEDE_BENCHMARK_INSTANCES", "4"));
+
+        SimulatedDatabase baseline = new SimulatedDatabase();
+        Timings baselineTimings = run(requestCount, i -> baseline.findAllByScheduleId(SCHEDULE_ID));
+        Result naive = new Result(baseline.queries.get(), 0, baselineTimings);
+
+        Result cold = new Cluster(instanceCount).measure(requestCount);
+
+        Cluster lostCluster = new Cluster(instanceCount);
+        lostCluster.warmUp();
+        lostCluster.redis.delete(SCHEDULE_ID);
+        lostCluster.advanceClock(STALE_WINDOW_MS);
+        Result lost = lostCluster.measure(requestCount);
+
+        Cluster staleCluster = new Cluster(instanceCount);
+        staleCluster.warmUp();
+        staleCluster.redis.reinitialize(SCHEDULE_ID);
+        Result stale = staleCluster.measure(requestCount);
+
+        Cluster syncCluster = new Cluster(instanceCount);
+        syncCluster.warmUp();
+        syncCluster.redis.reinitialize(SCHEDULE_ID);
+        syncCluster.advanceClock(STALE_WINDOW_MS);
+        Result sync = syncCluster.measure(requestCount);
+
+        System.out.printf("%n[Seat cache stampede] concurrent requests=%,d, instances=%d, pool=%d, query=%dms, redis=%dms%n",
+                requestCount, instanceCount, POOL_SIZE, QUERY_TIME_MS, REDIS_TIME_MS);
+        report("per-request load (before)", naive);
+        report("cold start (no layout)", cold);
+        report("bitmap lost (rebuild lease)", lost);
+        report("stale-while-revalidate", stale);
+        report("sync refresh (past window)", sync);
+        System.out.printf("  rebuild lease: database=%d, lease_follower=%d, lease_timeout=%d%n",
+                lostCluster.rebuilds("database"), lostCluster.rebuilds("lease_follower"),
+                lostCluster.rebuilds("lease_timeout"));
+
+        // 배치가 없으면 인스턴스마다 1회, 배치가 있으면 리스로 클러스터 전체 1회
+        assertThat(cold.queries()).isEqualTo(instanceCount);
+        assertThat(cold.queries()).isLessThan(naive.queries());
+        assertThat(lost.queries()).isEqualTo(1);
+        assertThat(lostCluster.rebuilds("lease_timeout")).isZero();
+
+        // reset 후 갱신은 stale-window 안팎 모두 인스턴스당 스냅샷 1회, DB 조회 없음
+        assertThat(stale.queries()).isZero();
+        assertThat(stale.snapshotReads()).isEqualTo(instanceCount);
+        assertThat(sync.queries()).isZero();
+        assertThat(sync.snapshotReads()).isEqualTo(instanceCount);
+
+        for (Result result : List.of(cold, lost, stale, sync)) {
+            assertThat(result.poolTimeouts()).isZero();
+        }
+    }
+
+    private void report(String label, Result result) {
+        System.out.printf("  %-30s queries=%,5d snapshots=%,5d poolTimeouts=%,5d p50=%,5dms p99=%,5dms%n",
+                label, result.queries(), result.snapshotReads(), result.poolTimeouts(),
+                result.percentile(50), result.percentile(99));
+    }
+
+    /**
+     * 동시 요청 실행 (모든 요청이 같은 시점에 시작)
+     *
+     * @param request 요청 번호 → 요청 처리
+     */
+    private static Timings run(int requestCount, IntConsumer request) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        long[] latencies = new long[requestCount];
+        AtomicInteger failures = new AtomicInteger();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>(requestCount);
+            for (int i = 0; i < requestCount; i++) {
+                final int index = i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    long begin = System.nanoTime();
+                    try {
+                        request.accept(index);
+                    } catch (IllegalStateException e) {
+                        failures.incrementAndGet();
+                    }
+                    latencies[index] = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin);
+                    return null;
+                }));
+            }
+
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        Arrays.sort(latencies);
+        return new Timings(latencies, failures.get());
+    }
+
+    private static List<Seat> seats() {
+        SeatGrade[] grades = SeatGrade.values();
+        List<Seat> seats = new ArrayList<>(SEAT_COUNT);
+        for (int i = 1; i <= SEAT_COUNT; i++) {
+            seats.add(new Seat((long) i, SCHEDULE_ID, "A-" + i, grades[i % grades.length],
+                    BigDecimal.valueOf(20000), SeatStatus.AVAILABLE));
+        }
+        return List.copyOf(seats);
+    }
+
+    /**
+     * 같은 DB와 Redis를 공유하는 인스턴스 묶음 (측정 1회용)
+     * Near Cache 시계는 실제 시각 + offset (stale-window 경과 모사)
+     */
+    private static class Cluster {
+
+        private final SimulatedDatabase database = new SimulatedDatabase();
+        private final SimulatedRedis redis = new SimulatedRedis();
+        private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        private final AtomicLong clockOffset = new AtomicLong();
+        private final ExecutorService refreshExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        private final List<SeatQueryCacheService> instances = new ArrayList<>();
+
+        Cluster(int instanceCount) {
+            for (int i = 0; i < instanceCount; i++) {
+                SeatMapNearCache nearCache = new SeatMapNearCache(redis, meterRegistry, VERIFY_INTERVAL_MS,
+                        STALE_WINDOW_MS, () -> System.currentTimeMillis() + clockOffset.get(), refreshExecutor);
+                redis.subscribers.add(nearCache);
+
+                SeatQueryCacheService service = new SeatQueryCacheService(database, redis, nearCache,
+                        new SeatMapRenderer(new ObjectMapper(), meterRegistry, false, 0), meterRegistry,
+                        mock(ReservationClaimRepository.class));
+                ReflectionTestUtils.setField(service, "rebuildLeaseMs", REBUILD_LEASE_MS);
+                instances.add(service);
+            }
+        }
+
+        /**
+         * 인스턴스마다 배치, 비트맵, Near Cache 항목 적재 (첫 조회는 DB 적재, 두 번째 조회는 Near Cache 적재)
+         */
+        void warmUp() {
+            for (SeatQueryCacheService instance : instances) {
+                instance.findSeatMap(SCHEDULE_ID, SeatFilter.ALL);
+                instance.findSeatMap(SCHEDULE_ID, SeatFilter.ALL);
+            }
+        }
+
+        void advanceClock(long millis) {
+            clockOffset.addAndGet(millis);
+        }
+
+        /**
+         * 동시 조회 측정 후 백그라운드 갱신이 끝날 때까지 대기 (대기 후 클러스터는 다시 쓰지 않음)
+         */
+        Result measure(int requestCount) throws Exception {
+            int queriesBefore = database.queries.get();
+            int snapshotReadsBefore = redis.snapshotReads.get();
+
+            Timings timings = run(requestCount,
+                    i -> instances.get(i % instances.size()).findSeatMap(SCHEDULE_ID, SeatFilter.ALL));
+            refreshExecutor.close();
+
+            return new Result(database.queries.get() - queriesBefore,
+                    redis.snapshotReads.get() - snapshotReadsBefore, timings);
+        }
+
+        long rebuilds(String result) {
+            Counter counter = meterRegistry.find("seat.availability.rebuilds").tag("result", result).counter();
+            return counter == null ? 0 : (long) counter.count();
+        }
+    }
+
+    /**
+     * 커넥션 풀 + 일정 전체 좌석 조회 모사
+     */
+    private static class SimulatedDatabase implements SeatRepository {
+
+        private final Semaphore pool = new Semaphore(POOL_SIZE);
+        private final AtomicInteger queries = new AtomicInteger();
+        private final List<Seat> seats = seats();
+
+        @Override
+        public List<Seat> findAllByScheduleId(Long scheduleId) {
+            try {
+                if (!pool.tryAcquire(CONNECTION_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                    throw new IllegalStateException("Connection is not available, request timed out");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+
+            try {
+                queries.incrementAndGet();
+                Thread.sleep(QUERY_TIME_MS);
+                return seats;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            } finally {
+                pool.release();
+            }
+        }
+
+        @Override
+        public Optional<Seat> findById(Long seatId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<Seat> findAvailableByScheduleId(Long scheduleId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Seat save(Seat seat) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean transitionStatus(Long seatId, SeatStatus from, SeatStatus to) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * 공유 Redis 모사 (일정 1개)
+     * 비트맵 적재/삭제 시 버전을 올리고 모든 인스턴스의 Near Cache에 reset을 바로 방송
+     */
+    private static class SimulatedRedis implements SeatAvailabilityRepository {
+
+        private final List<SeatMapNearCache> subscribers = new CopyOnWriteArrayList<>();
+        private final AtomicInteger snapshotReads = new AtomicInteger();
+
+        private byte[] bitmap;
+        private Map<SeatGrade, Integer> availableCounts;
+        private long version;
+        private String leaseOwner;
+        private long leaseExpiresAt;
+
+        /**
+         * 비트맵 재적재 모사 (보정기 재구성 등): 비트는 그대로, 버전 증가 + reset 방송
+         */
+        void reinitialize(Long scheduleId) {
+            synchronized (this) {
+                version++;
+            }
+            publishReset(scheduleId);
+        }
+
+        @Override
+        public Optional<Snapshot> findSnapshot(Long scheduleId) {
+            roundTrip();
+            snapshotReads.incrementAndGet();
+            synchronized (this) {
+                return bitmap == null ? Optional.empty() : Optional.of(new Snapshot(bitmap, version));
+            }
+        }
+
+        @Override
+        public OptionalLong findVersion(Long scheduleId) {
+            roundTrip();
+            synchronized (this) {
+                return version == 0 ? OptionalLong.empty() : OptionalLong.of(version);
+            }
+        }
+
+        @Override
+        public boolean initializeBitmap(Long scheduleId, byte[] bitmap, Map<SeatGrade, Integer> availableCounts) {
+            roundTrip();
+            synchronized (this) {
+                if (this.bitmap != null) {
+                    return false;
+                }
+                this.bitmap = bitmap.clone();
+                this.availableCounts = new EnumMap<>(availableCounts);
+                version++;
+            }
+            publishReset(scheduleId);
+            return true;
+        }
+
+        @Override
+        public long setAvailability(Long scheduleId, Map<Integer, Boolean> changes, IntFunction<SeatGrade> gradeOf) {
+            // 벤치마크에서 좌석 상태를 바꾸지 않음
+            return -1;
+        }
+
+        @Override
+        public synchronized Optional<Map<SeatGrade, Integer>> findAvailableCounts(Long scheduleId) {
+            return Optional.ofNullable(availableCounts);
+        }
+
+        @Override
+        public void delete(Long scheduleId) {
+            roundTrip();
+            synchronized (this) {
+                bitmap = null;
+                availableCounts = null;
+                version++;
+            }
+            publishReset(scheduleId);
+        }
+
+        @Override
+        public boolean tryAcquireRebuildLease(Long scheduleId, String token, Duration ttl) {
+            roundTrip();
+            synchronized (this) {
+                long now = System.currentTimeMillis();
+                if (leaseOwner != null && leaseExpiresAt > now) {
+                    return false;
+                }
+                leaseOwner = token;
+                leaseExpiresAt = now + ttl.toMillis();
+                return true;
+            }
+        }
+
+        @Override
+        public void releaseRebuildLease(Long scheduleId, String token) {
+            roundTrip();
+            synchronized (this) {
+                if (token.equals(leaseOwner)) {
+                    leaseOwner = null;
+                }
+            }
+        }
+
+        private void publishReset(Long scheduleId) {
+            long current;
+            synchronized (this) {
+                current = version;
+            }
+            Delta reset = new Delta(scheduleId, current, Map.of(), true);
+            subscribers.forEach(nearCache -> nearCache.apply(reset));
+        }
+
+        private static void roundTrip() {
+            try {
+                Thread.sleep(REDIS_TIME_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private record Timings(long[] sortedLatencies, int failures) {
+    }
+
+    private record Result(int queries, int snapshotReads, int poolTimeouts, long[] sortedLatencies) {
+
+        Result(int queries, int snapshotReads, Timings timings) {
+            this(queries, snapshotReads, timings.failures(), timings.sortedLatencies());
+        }
+
+        long percentile(int percentile) {
+            int index = (int) Math.ceil(percentile / 100.0 * sortedLatencies.length) - 1;
+            return sortedLatencies[Math.max(index, 0)];
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package personal.ai.core.payment.application.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import personal.ai.core.booking.application.port.out.ReservationClaimRepository;
+import personal.ai.core.booking.application.port.out.ReservationRepository;
+import personal.ai.core.booking.application.port.out.SeatLockRepository;
+import personal.ai.core.booking.domain.model.Reservation;
+import personal.ai.core.booking.domain.service.BookingManager;
+import personal.ai.core.payment.adapter.out.handler.PaymentResultHandlerAdapter;
+import personal.ai.core.payment.adapter.out.validation.ReservationValidationAdapter;
+import personal.ai.core.payment.application.port.in.ProcessPaymentUseCase.ProcessPaymentCommand;
+import personal.ai.core.payment.application.port.out.PaymentEventPort;
+import personal.ai.core.payment.application.port.out.PaymentRepository;
+import personal.ai.core.payment.domain.model.Payment;
+import personal.ai.core.payment.domain.model.PaymentStatus;
+import personal.ai.core.payment.domain.service.PaymentMockService;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * PaymentProcessingService 결제 처리 테스트 (예약 검증/결과 처리 어댑터 포함)
+ */
+@DisplayName("결제 처리 테스트")
+class PaymentProcessingServiceTest {
+
+    private static final Long RESERVATION_ID = 1_000L;
+    private static final Long USER_ID = 10L;
+    private static final String CONCERT_ID = "concert-1";
+
+    private ReservationRepository reservationRepository;
+    private ReservationClaimRepository reservationClaimRepository;
+    private BookingManager bookingManager;
+    private PaymentRepository paymentRepository;
+    private PaymentEventPort paymentEventPort;
+    private PaymentMockService paymentMockService;
+    private PaymentProcessingService paymentProcessingService;
+
+    @BeforeEach
+    void setUp() {
+        reservationRepository = mock(ReservationRepository.class);
+        reservationClaimRepository = mock(ReservationClaimRepository.class);
+        bookingManager = mock(BookingManager.class);
+        paymentRepository = mock(PaymentRepository.class);
+        paymentEventPort = mock(PaymentEventPort.class);
+        paymentMockService = mock(PaymentMockService.class);
+
+        paymentProcessingService = new PaymentProcessingService(
+                paymentRepository,
+                paymentMockService,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                new ReservationValidationAdapter(reservationRepository, reservationClaimRepository, bookingManager),
+                new PaymentResultHandlerAdapter(paymentRepository, reservationRepository,
+                        mock(SeatLockRepository.class), paymentEventPort));
+    }
+
+    @Test
+    @DisplayName("아직 DB에 저장되지 않은 쓰기 지연 예약도 먼저 저장한 뒤 결제를 완료한다")
+    void paysForClaimNotYetPersisted() {
+        // Given: Redis에만 선점 기록이 있고, 저장 후에는 DB에서 조회됨
+        Reservation claimed = Reservation.create(USER_ID, 7L, 1L, BookingManager.RESERVATION_TTL_MINUTES)
+                .withId(RESERVATION_ID);
+        given(reservationRepository.findById(RESERVATION_ID))
+                .willReturn(Optional.empty(), Optional.of(claimed));
+        given(reservationClaimRepository.findById(RESERVATION_ID)).willReturn(Optional.of(claimed));
+        given(bookingManager.persistReservations(List.of(claimed))).willReturn(List.of(claimed));
+        given(paymentRepository.findByReservationId(RESERVATION_ID)).willReturn(Optional.empty());
+        given(paymentRepository.save(any())).willAnswer(invocation -> {
+            Payment payment = invocation.getArgument(0);
+            return new Payment(1L, payment.reservationId(), payment.userId(), payment.amount(),
+                    payment.status(), payment.paymentMethod(), payment.paidAt(), payment.createdAt());
+        });
+        given(paymentMockService.processPayment(eq(USER_ID), eq(RESERVATION_ID), anyLong())).willReturn(true);
+        given(paymentRepository.transition(any(), eq(PaymentStatus.PENDING))).willReturn(true);
+
+        // When
+        Payment payment = paymentProcessingService.processPayment(new ProcessPaymentCommand(
+                RESERVATION_ID, USER_ID, BigDecimal.valueOf(20000), "CARD", CONCERT_ID));
+
+        // Then: 검증 단계에서 선점 기록을 저장하고 결제 완료 이벤트 발행
+        assertThat(payment.status()).isEqualTo(PaymentStatus.COMPLETED);
+        verify(bookingManager).persistReservations(List.of(claimed));
+        verify(paymentEventPort).publishPaymentCompleted(payment, CONCERT_ID);
+    }
+}
@@ -22,6 +22,8 @@ import java.util.Map;
 @EnableKafka
 public class KafkaConsumerConfig {
 
+    private static final int MAX_POLL_RECORDS = 100;
+
     @Value("${spring.kafka.bootstrap-servers}")
     private String bootstrapServers;
 
@@ -31,8 +33,15 @@ public class KafkaConsumerConfig {
     @Value("${spring.kafka.consumer.auto-offset-reset:earliest}")
     private String autoOffsetReset;
 
+    @Value("${queue.removal.batch-max-poll-records:500}")
+    private int batchMaxPollRecords;
+
     @Bean
     public ConsumerFactory<String, String> consumerFactory() {
+        return new DefaultKafkaConsumerFactory<>(consumerProps(MAX_POLL_RECORDS));
+    }
+
+    private Map<String, Object> consumerProps(int maxPollRecords) {
         Map<String, Object> props = new HashMap<>();
 
         // Broker 설정
@@ -58,9 +67,9 @@ public class KafkaConsumerConfig {
         props.put(ConsumerConfig.SESSION_TIMEOUT_MS_CONFIG, 30000);
 
         // Max Poll Records (한 번에 가져올 레코드 수)
-        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 100);
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
 
-        return new DefaultKafkaConsumerFactory<>(props);
+        return props;
     }
 
     @Bean
@@ -81,4 +90,26 @@ public class KafkaConsumerConfig {
 
         return factory;
     }
+
+    /**
+     * 배치 리스너 Container Factory
+     * poll 1회분 레코드를 List로 전달하고, 리스너가 처리 후 배치 전체를 한 번에 Ack
+     * 단건 리스너보다 poll 1회에 많은 레코드를 가져옴 (queue.removal.batch-max-poll-records)
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, String> batchKafkaListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, String> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+
+        factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(consumerProps(batchMaxPollRecords)));
+        factory.setBatchListener(true);
+
+        // Manual Ack Mode (배치 단위 커밋)
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+
+        // Concurrency (병렬 처리 스레드 수)
+        factory.setConcurrency(3);
+
+        return factory;
+    }
 }
@@ -0,0 +1,114 @@
+package personal.ai.queue.adapter.in.consumer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+import personal.ai.queue.application.port.in.RemoveFromQueueUseCase;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Payment Event Kafka Batch Consumer (Inbound Adapter)
+ * 결제 완료 이벤트를 poll 1회 단위로 받아 대기열에서 일괄 제거
+ *
+ * 처리 방식:
+ * - 배치 전체를 역직렬화한 뒤 콘서트별로 묶어 콘서트당 스크립트 1회로 제거 (RemoveFromQueueUseCase.removeAllFromQueue)
+ * - 처리 후 배치 전체를 한 번에 Ack (이벤트 1건당 Redis 왕복 1회 + 커밋 1회 → 배치당 콘서트 수만큼 왕복 + 커밋 1회)
+ * - 제거 실패 시 Ack하지 않고 예외를 던져 배치 전체를 재처리 (eventId 기준 멱등이므로 이미 반영된 이벤트는 건너뜀)
+ * - 역직렬화할 수 없거나 필수 값이 없는 레코드는 재시도해도 성공할 수 없으므로 로그/메트릭만 남기고 제외
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "queue.removal.batch-listener-enabled", havingValue = "true", matchIfMissing = true)
+public class PaymentEventBatchConsumer {
+
+    private final RemoveFromQueueUseCase removeFromQueueUseCase;
+    private final ObjectMapper objectMapper;
+    private final Counter invalidEventCounter;
+    private final DistributionSummary batchSizeSummary;
+
+    public PaymentEventBatchConsumer(RemoveFromQueueUseCase removeFromQueueUseCase,
+                                     ObjectMapper objectMapper,
+                                     MeterRegistry meterRegistry) {
+        this.removeFromQueueUseCase = removeFromQueueUseCase;
+        this.objectMapper = objectMapper;
+        this.invalidEventCounter = Counter.builder("queue.removal.invalid.events")
+                .description("Payment completed events skipped because they could not be parsed")
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("queue.removal.batch.size")
+                .description("Number of payment completed events handled in one batch")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 결제 완료 이벤트 배치 처리
+     * Topic: booking.payment.completed
+     */
+    @KafkaListener(
+            topics = "${kafka.topic.payment-completed:booking.payment.completed}",
+            groupId = "${spring.kafka.consumer.group-id}",
+            containerFactory = "batchKafkaListenerContainerFactory"
+    )
+    public void handlePaymentCompletedBatch(List<ConsumerRecord<String, String>> records,
+                                            Acknowledgment acknowledgment) {
+
+        List<RemoveFromQueueUseCase.RemoveFromQueueCommand> commands = new ArrayList<>(records.size());
+        for (ConsumerRecord<String, String> record : records) {
+            PaymentCompletedEvent event = parse(record);
+            if (event != null) {
+                commands.add(new RemoveFromQueueUseCase.RemoveFromQueueCommand(
+                        event.concertId(),
+                        event.userId(),
+                        event.eventId()));
+            }
+        }
+
+        try {
+            long removed = commands.isEmpty() ? 0L : removeFromQueueUseCase.removeAllFromQueue(commands);
+            batchSizeSummary.record(records.size());
+
+            log.info("Processed payment completed batch: records={}, commands={}, removed={}",
+                    records.size(), commands.size(), removed);
+
+        } catch (Exception e) {
+            log.error("Failed to process payment completed batch: records={}, first={}",
+                    records.size(), describe(records.get(0)), e);
+
+            // 에러 발생 시 Ack하지 않음 -> 배치 재처리 (eventId 기준 멱등)
+            throw new RuntimeException("Payment event batch processing failed", e);
+        }
+
+        // Manual Ack (배치 전체 처리 완료 확인)
+        if (acknowledgment != null) {
+            acknowledgment.acknowledge();
+        }
+    }
+
+    private PaymentCompletedEvent parse(ConsumerRecord<String, String> record) {
+        try {
+            PaymentCompletedEvent event = objectMapper.readValue(record.value(), PaymentCompletedEvent.class);
+            if (event.concertId() != null && event.userId() != null) {
+                return event;
+            }
+            log.error("Skipping payment completed event without concertId/userId: {}", describe(record));
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            log.error("Skipping unreadable payment completed event: {}", describe(record), e);
+        }
+
+        invalidEventCounter.increment();
+        return null;
+    }
+
+    private static String describe(ConsumerRecord<String, String> record) {
+        return "topic=" + record.topic() + ", partition=" + record.partition() + ", offset=" + record.offset();
+    }
+}
@@ -3,6 +3,7 @@ package personal.ai.queue.adapter.in.consumer;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.kafka.support.KafkaHeaders;
@@ -14,9 +15,11 @@ import personal.ai.queue.application.port.in.RemoveFromQueueUseCase;
 /**
  * Payment Event Kafka Consumer (Inbound Adapter)
  * 결제 완료 이벤트를 구독하여 대기열에서 유저 제거
+ * 이벤트 1건씩 처리 (queue.removal.batch-listener-enabled=false일 때만 사용, 기본은 PaymentEventBatchConsumer)
  */
 @Slf4j
 @Component
+@ConditionalOnProperty(name = "queue.removal.batch-listener-enabled", havingValue = "false")
 @RequiredArgsConstructor
 public class PaymentEventConsumer {
 
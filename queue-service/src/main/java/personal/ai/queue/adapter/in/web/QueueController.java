@@ -3,18 +3,26 @@ package personal.ai.queue.adapter.in.web;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import personal.ai.common.dto.ApiResponse;
 import personal.ai.queue.adapter.in.web.dto.*;
+import personal.ai.queue.adapter.in.web.service.PollingIntervalPolicy;
+import personal.ai.queue.adapter.in.web.service.QueueLongPollingService;
 import personal.ai.queue.adapter.in.web.service.QueuePollingService;
 import personal.ai.queue.application.port.in.*;
 import personal.ai.queue.domain.model.QueuePosition;
+import personal.ai.queue.domain.model.QueueStatus;
 import personal.ai.queue.domain.model.QueueToken;
 
+import java.time.Duration;
+
 /**
  * Queue REST Controller
  * 대기열 API 엔드포인트
@@ -28,15 +36,21 @@ public class QueueController {
 
         private final EnterQueueUseCase enterQueueUseCase;
         private final GetQueueStatusUseCase getQueueStatusUseCase;
+        private final GetQueueStatusVersionUseCase getQueueStatusVersionUseCase;
         private final ActivateTokenUseCase activateTokenUseCase;
         private final ExtendTokenUseCase extendTokenUseCase;
         private final ValidateTokenUseCase validateTokenUseCase;
         private final RemoveFromQueueUseCase removeFromQueueUseCase;
         private final QueuePollingService queuePollingService;
+        private final QueueLongPollingService queueLongPollingService;
+        private final PollingIntervalPolicy pollingIntervalPolicy;
 
         /**
          * 대기열 진입
          * POST /api/v1/queue/enter
+         *
+         * 판매 오픈 전(로비)에는 202와 함께 서명된 도착 티켓(token)을 반환하고,
+         * 오픈 후 티켓과 함께 재진입하면 로비 도착 시각 기준 순번을 받음
          */
         @PostMapping("/enter")
         public ResponseEntity<ApiResponse<QueuePositionResponse>> enterQueue(
@@ -47,11 +61,19 @@ public class QueueController {
 
                 EnterQueueUseCase.EnterQueueCommand command = new EnterQueueUseCase.EnterQueueCommand(
                                 request.concertId(),
-                                request.userId());
+                                request.userId(),
+                                request.arrivalTicket());
 
                 QueuePosition position = enterQueueUseCase.enter(command);
                 QueuePositionResponse response = QueuePositionResponse.from(position);
 
+                // 오픈 전 로비: 도착 티켓만 발급 (오픈 후 Wait Queue에 적재)
+                if (QueueStatus.LOBBY.name().equals(position.status())) {
+                        return ResponseEntity
+                                        .status(HttpStatus.ACCEPTED)
+                                        .body(ApiResponse.success("오픈 전 로비에 입장했습니다.", response));
+                }
+
                 return ResponseEntity
                                 .status(HttpStatus.CREATED)
                                 .body(ApiResponse.success("대기열에 진입했습니다.", response));
@@ -60,22 +82,68 @@ public class QueueController {
         /**
          * 대기열 상태 조회
          * GET /api/v1/queue/status?concertId={concertId}&userId={userId}
+         *
+         * 조건부 요청 지원:
+         * - WAITING 응답에는 ETag(Activation Epoch 기반)를 포함
+         * - If-None-Match의 Epoch가 현재와 같으면 토큰 Hash/순번 조회 없이 304 응답
+         * - Cache-Control max-age로 권장 폴링 간격을 안내
          */
         @GetMapping("/status")
         public ResponseEntity<ApiResponse<QueueTokenResponse>> getQueueStatus(
                         @RequestParam @jakarta.validation.constraints.NotBlank String concertId,
-                        @RequestParam @jakarta.validation.constraints.NotBlank String userId) {
+                        @RequestParam @jakarta.validation.constraints.NotBlank String userId,
+                        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
 
                 log.debug("Get queue status: concertId={}, userId={}", concertId, userId);
 
+                // Epoch를 상태보다 먼저 읽어야 그 사이의 전환이 다음 요청에서 감지됨
+                long epoch = getQueueStatusVersionUseCase.getStatusVersion(concertId);
+
+                String matchingETag = QueueStatusETag.findMatching(ifNoneMatch, epoch);
+                if (matchingETag != null) {
+                        log.debug("Queue status not modified: concertId={}, userId={}, epoch={}",
+                                        concertId, userId, epoch);
+                        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                                        .eTag(matchingETag)
+                                        .cacheControl(pollingCacheControl(pollingIntervalPolicy.minIntervalMs()))
+                                        .build();
+                }
+
                 GetQueueStatusUseCase.GetQueueStatusQuery query = new GetQueueStatusUseCase.GetQueueStatusQuery(
                                 concertId, userId);
 
                 QueueToken token = getQueueStatusUseCase.getStatus(query);
-                QueueTokenResponse response = QueueTokenResponse.from(token);
+                long recommendedInterval = pollingIntervalPolicy.recommendedIntervalMs(token);
+                QueueTokenResponse response = QueueTokenResponse.from(
+                                token, recommendedInterval, pollingIntervalPolicy.minIntervalMs());
 
-                return ResponseEntity.ok(
-                                ApiResponse.success("대기열 상태 조회 완료", response));
+                ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                                .cacheControl(pollingCacheControl(recommendedInterval));
+                if (token.status() == QueueStatus.WAITING) {
+                        builder.eTag(QueueStatusETag.of(epoch, token.position()));
+                }
+
+                return builder.body(ApiResponse.success("대기열 상태 조회 완료", response));
+        }
+
+        /**
+         * 대기열 상태 Long Polling
+         * GET /api/v1/queue/status/long-poll?concertId={concertId}&userId={userId}&lastPosition={lastPosition}
+         *
+         * SSE가 불안정한 환경(기업 프록시, 모바일 네트워크)용
+         * - READY 전환, 순번의 의미 있는 변화, 타임아웃 중 하나가 발생할 때까지 응답을 보류
+         * - 응답을 받으면 즉시 다시 호출 (변화 1회당 요청 1회)
+         */
+        @GetMapping("/status/long-poll")
+        public DeferredResult<ResponseEntity<ApiResponse<QueueTokenResponse>>> longPollQueueStatus(
+                        @RequestParam @jakarta.validation.constraints.NotBlank String concertId,
+                        @RequestParam @jakarta.validation.constraints.NotBlank String userId,
+                        @RequestParam(required = false) Long lastPosition) {
+
+                log.debug("Long poll queue status: concertId={}, userId={}, lastPosition={}",
+                                concertId, userId, lastPosition);
+
+                return queueLongPollingService.poll(concertId, userId, lastPosition);
         }
 
         /**
@@ -184,4 +252,11 @@ public class QueueController {
                 return ResponseEntity.ok(
                                 ApiResponse.success("대기열에서 제거되었습니다.", null));
         }
+
+        /**
+         * 폴링 간격 기반 Cache-Control (private, 사용자별 응답)
+         */
+        private CacheControl pollingCacheControl(long intervalMs) {
+                return CacheControl.maxAge(Duration.ofMillis(intervalMs)).cachePrivate();
+        }
 }
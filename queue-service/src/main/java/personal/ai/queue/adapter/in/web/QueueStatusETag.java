@@ -0,0 +1,67 @@
+package personal.ai.queue.adapter.in.web;
+
+/**
+ * 대기열 상태 조회 ETag
+ * 형식: W/"{activationEpoch}-{position}"
+ *
+ * - activationEpoch: 콘서트의 Wait Queue 순번 버전 (같으면 WAITING 순번도 동일)
+ * - position: 발급 당시 사용자의 대기 순번 (디버깅/표시용, 비교에는 사용하지 않음)
+ *
+ * WAITING 응답에만 발급하며, If-None-Match의 Epoch가 현재 Epoch와 같으면 304로 응답
+ */
+final class QueueStatusETag {
+
+    private static final String WEAK_PREFIX = "W/";
+    private static final char QUOTE = '"';
+    private static final char SEPARATOR = '-';
+
+    private QueueStatusETag() {
+    }
+
+    /**
+     * ETag 생성
+     */
+    static String of(long epoch, Long position) {
+        return WEAK_PREFIX + QUOTE + epoch + SEPARATOR + (position != null ? position : 0L) + QUOTE;
+    }
+
+    /**
+     * If-None-Match 헤더에 현재 Epoch로 발급된 ETag가 있는지 확인
+     *
+     * @param ifNoneMatch If-None-Match 헤더 값 (여러 개일 경우 콤마 구분)
+     * @param currentEpoch 현재 Activation Epoch
+     * @return 일치하는 ETag (없으면 null)
+     */
+    static String findMatching(String ifNoneMatch, long currentEpoch) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return null;
+        }
+
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            Long epoch = parseEpoch(tag);
+            if (epoch != null && epoch == currentEpoch) {
+                return tag;
+            }
+        }
+        return null;
+    }
+
+    private static Long parseEpoch(String tag) {
+        String value = tag.startsWith(WEAK_PREFIX) ? tag.substring(WEAK_PREFIX.length()) : tag;
+        if (value.length() < 2 || value.charAt(0) != QUOTE || value.charAt(value.length() - 1) != QUOTE) {
+            return null;
+        }
+
+        int separatorIndex = value.indexOf(SEPARATOR);
+        if (separatorIndex < 0) {
+            return null;
+        }
+
+        try {
+            return Long.parseLong(value.substring(1, separatorIndex));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
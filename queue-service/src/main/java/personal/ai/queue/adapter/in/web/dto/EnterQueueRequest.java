@@ -10,5 +10,8 @@ public record EnterQueueRequest(
         String concertId,
 
         @NotBlank(message = "사용자 ID는 필수입니다.")
-        String userId
+        String userId,
+
+        // 오픈 전 로비에서 발급받은 도착 티켓 (선택)
+        String arrivalTicket
 ) {}
@@ -5,13 +5,12 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.ClassPathResource;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.http.HttpStatus;
-import org.springframework.scripting.support.ResourceScriptSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
+import personal.ai.queue.adapter.out.redis.RedisScriptRegistry;
 import personal.ai.queue.application.config.QueueConfigProperties;
 
 import java.io.IOException;
@@ -34,32 +33,29 @@ import java.util.Collections;
  */
 @Slf4j
 @Component
+@ConditionalOnProperty(name = "queue.store", havingValue = "redis", matchIfMissing = true)
 public class RateLimitFilter extends OncePerRequestFilter {
 
     private static final String RATE_LIMIT_KEY_PREFIX = "rate_limit:queue:";
     private static final String SUBSCRIBE_PATH = "/api/v1/queue/subscribe";
-    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisScriptRegistry scriptRegistry;
     private final QueueConfigProperties configProperties;
-    private final DefaultRedisScript<Long> rateLimitScript;
+    private final RedisScript<Long> rateLimitScript;
 
     /**
-     * 생성자: Lua Script 초기화
-     * Rate Limiting을 위한 Lua Script를 로드하여 원자성을 보장
+     * 생성자: Lua Script 주입
+     * Rate Limiting을 위한 Lua Script로 원자성을 보장
      * - 기존 방식(GET + CHECK + DECR)은 Race Condition 발생 가능
      * - Lua Script는 Redis에서 단일 스레드로 실행되어 원자성 보장
+     * - 스크립트는 RedisScriptRegistry가 시작 시 적재하며, 요청마다 EVALSHA로만 실행
      */
-    public RateLimitFilter(RedisTemplate<String, String> redisTemplate,
+    public RateLimitFilter(RedisScriptRegistry scriptRegistry,
+                           RedisScript<Long> rateLimitCheckScript,
                            QueueConfigProperties configProperties) {
-        this.redisTemplate = redisTemplate;
+        this.scriptRegistry = scriptRegistry;
+        this.rateLimitScript = rateLimitCheckScript;
         this.configProperties = configProperties;
 
-        // Lua Script 로드 및 초기화
-        this.rateLimitScript = new DefaultRedisScript<>();
-        this.rateLimitScript.setScriptSource(
-                new ResourceScriptSource(new ClassPathResource("scripts/rate_limit_check.lua"))
-        );
-        this.rateLimitScript.setResultType(Long.class);
-
         log.info("RateLimitFilter initialized with Lua script for atomic operations");
     }
 
@@ -134,7 +130,7 @@ public class RateLimitFilter extends OncePerRequestFilter {
             // ARGV[2]: Refill Rate (초당 리필 토큰 수)
             // ARGV[3]: Current Time (현재 시간, epoch seconds)
             // Return: 1 (허용) or 0 (거부)
-            Long result = redisTemplate.execute(
+            Long result = scriptRegistry.execute(
                     rateLimitScript,
                     Collections.singletonList(key),
                     String.valueOf(pollingConfig.rateLimitCapacity()),
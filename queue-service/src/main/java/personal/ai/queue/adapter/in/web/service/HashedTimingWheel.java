@@ -0,0 +1,369 @@
+package personal.ai.queue.adapter.in.web.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * Hashed Timing Wheel
+ * 대량의 짧은 타이머(SSE 폴링)를 위한 O(1) 등록/취소 스케줄러
+ *
+ * ScheduledThreadPoolExecutor 대비:
+ * - 등록/취소: 힙(O(log n)) + 락 경합 → Lock-free 큐 적재 O(1)
+ * - 만료 처리: 타이머별 개별 실행 → 슬롯 단위로 모아서 한 번에 전달 (배치 처리)
+ * - 메모리: ScheduledFutureTask + 힙 배열 → 연결 리스트 노드 1개
+ *
+ * 동작:
+ * - 단일 워커 스레드가 tickMs마다 슬롯 하나를 처리하며 버킷을 독점 (버킷 접근에 락 불필요)
+ * - 등록/취소 요청은 MPSC 큐에 쌓였다가 다음 틱에 워커가 반영
+ * - 휠 한 바퀴보다 긴 지연은 remainingRounds로 처리
+ * - 만료된 항목은 슬롯별 리스트로 핸들러에 전달 (핸들러는 블로킹 없이 위임해야 함)
+ *
+ * @param <T> 타이머 항목 타입
+ */
+@Slf4j
+public final class HashedTimingWheel<T> implements AutoCloseable {
+
+    // 한 틱에 버킷으로 옮길 최대 등록 건수 (등록 폭주 시 틱 지연 방지)
+    private static final int MAX_TRANSFER_PER_TICK = 100_000;
+
+    private final long tickNanos;
+    private final int mask;
+    private final Bucket<T>[] wheel;
+    private final ExpiredHandler<T> handler;
+
+    private final Queue<Timeout<T>> pendingTimeouts = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout<T>> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+
+    private final Thread workerThread;
+    private final long startTime;
+    private volatile boolean running = true;
+    private volatile long lastTickLagMillis;
+    private long tick;
+
+    /**
+     * 슬롯 만료 핸들러
+     */
+    @FunctionalInterface
+    public interface ExpiredHandler<T> {
+        /**
+         * 한 슬롯에서 동시에 만료된 항목들
+         * 워커 스레드에서 호출되므로 오래 걸리는 작업은 별도 Executor로 위임해야 함
+         */
+        void onExpired(List<T> items);
+    }
+
+    @SuppressWarnings("unchecked")
+    public HashedTimingWheel(String name, long tickMs, int wheelSize, ExpiredHandler<T> handler) {
+        if (tickMs <= 0) {
+            throw new IllegalArgumentException("tickMs must be positive (> 0), but was: " + tickMs);
+        }
+        if (wheelSize <= 0) {
+            throw new IllegalArgumentException("wheelSize must be positive (> 0), but was: " + wheelSize);
+        }
+
+        int normalizedSize = normalizeWheelSize(wheelSize);
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMs);
+        this.mask = normalizedSize - 1;
+        this.wheel = new Bucket[normalizedSize];
+        for (int i = 0; i < normalizedSize; i++) {
+            wheel[i] = new Bucket<>();
+        }
+        this.handler = handler;
+        this.startTime = System.nanoTime();
+
+        this.workerThread = Thread.ofPlatform()
+                .name(name)
+                .daemon(true)
+                .unstarted(this::runWorker);
+        this.workerThread.start();
+    }
+
+    /**
+     * 타이머 등록 (O(1), 모든 스레드에서 호출 가능)
+     *
+     * @param item 만료 시 전달할 항목
+     * @param delayMs 지연 시간 (밀리초)
+     * @return 취소용 핸들
+     */
+    public Timeout<T> schedule(T item, long delayMs) {
+        if (!running) {
+            throw new IllegalStateException("Timing wheel is stopped");
+        }
+
+        long deadline = System.nanoTime() - startTime + TimeUnit.MILLISECONDS.toNanos(Math.max(delayMs, 0));
+        Timeout<T> timeout = new Timeout<>(this, item, deadline);
+        pendingCount.incrementAndGet();
+        pendingTimeouts.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * 대기 중인 타이머 수 (점유율)
+     */
+    public int pendingTimeouts() {
+        return pendingCount.get();
+    }
+
+    /**
+     * 마지막 틱이 예정 시각보다 늦게 처리된 시간 (밀리초)
+     */
+    public long lastTickLagMillis() {
+        return lastTickLagMillis;
+    }
+
+    /**
+     * 슬롯 수 (2의 거듭제곱)
+     */
+    public int wheelSize() {
+        return wheel.length;
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        workerThread.interrupt();
+        try {
+            workerThread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void runWorker() {
+        while (running) {
+            long deadline = waitForNextTick();
+            if (deadline < 0) {
+                break;
+            }
+
+            lastTickLagMillis = TimeUnit.NANOSECONDS.toMillis(Math.max(0, System.nanoTime() - startTime - deadline));
+
+            processCancelledTimeouts();
+            transferPendingTimeouts();
+
+            Bucket<T> bucket = wheel[(int) (tick & mask)];
+            List<T> expired = bucket.expireTimeouts(deadline);
+            tick++;
+
+            if (!expired.isEmpty()) {
+                try {
+                    handler.onExpired(expired);
+                } catch (Exception e) {
+                    log.error("Timing wheel handler failed: expired={}", expired.size(), e);
+                }
+            }
+        }
+    }
+
+    /**
+     * 다음 틱 시각까지 대기
+     * @return 이번 틱의 기준 시각 (startTime 기준 나노초), 중단 시 -1
+     */
+    private long waitForNextTick() {
+        long deadline = tickNanos * (tick + 1);
+
+        while (true) {
+            long currentTime = System.nanoTime() - startTime;
+            long sleepNanos = deadline - currentTime;
+
+            if (sleepNanos <= 0) {
+                return currentTime;
+            }
+
+            try {
+                TimeUnit.NANOSECONDS.sleep(sleepNanos);
+            } catch (InterruptedException e) {
+                if (!running) {
+                    return -1;
+                }
+            }
+        }
+    }
+
+    private void transferPendingTimeouts() {
+        for (int i = 0; i < MAX_TRANSFER_PER_TICK; i++) {
+            Timeout<T> timeout = pendingTimeouts.poll();
+            if (timeout == null) {
+                break;
+            }
+            if (timeout.state() == Timeout.ST_CANCELLED) {
+                continue;
+            }
+
+            long calculated = timeout.deadline / tickNanos;
+            timeout.remainingRounds = (calculated - tick) / wheel.length;
+
+            // 이미 지난 타이머는 현재 슬롯에 넣어 즉시 만료
+            long ticks = Math.max(calculated, tick);
+            wheel[(int) (ticks & mask)].add(timeout);
+        }
+    }
+
+    private void processCancelledTimeouts() {
+        while (true) {
+            Timeout<T> timeout = cancelledTimeouts.poll();
+            if (timeout == null) {
+                return;
+            }
+            Bucket<T> bucket = timeout.bucket;
+            if (bucket != null) {
+                bucket.remove(timeout);
+            }
+        }
+    }
+
+    private static int normalizeWheelSize(int wheelSize) {
+        int normalized = 1;
+        while (normalized < wheelSize) {
+            normalized <<= 1;
+        }
+        return normalized;
+    }
+
+    /**
+     * 타이머 핸들
+     * 버킷 내 이중 연결 리스트 노드를 겸하므로 취소 시 O(1) 제거
+     */
+    public static final class Timeout<T> {
+
+        private static final int ST_INIT = 0;
+        private static final int ST_CANCELLED = 1;
+        private static final int ST_EXPIRED = 2;
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicIntegerFieldUpdater<Timeout> STATE_UPDATER =
+                AtomicIntegerFieldUpdater.newUpdater(Timeout.class, "state");
+
+        private final HashedTimingWheel<T> timer;
+        private final T item;
+        private final long deadline;
+        private volatile int state = ST_INIT;
+
+        // 워커 스레드 전용 필드
+        private long remainingRounds;
+        private Timeout<T> next;
+        private Timeout<T> prev;
+        private Bucket<T> bucket;
+
+        private Timeout(HashedTimingWheel<T> timer, T item, long deadline) {
+            this.timer = timer;
+            this.item = item;
+            this.deadline = deadline;
+        }
+
+        public T item() {
+            return item;
+        }
+
+        /**
+         * 타이머 취소 (O(1))
+         * 실제 버킷 제거는 워커 스레드가 다음 틱에 수행
+         *
+         * @return 취소 성공 여부 (이미 만료/취소된 경우 false)
+         */
+        @SuppressWarnings("unchecked")
+        public boolean cancel() {
+            if (!STATE_UPDATER.compareAndSet(this, ST_INIT, ST_CANCELLED)) {
+                return false;
+            }
+            timer.pendingCount.decrementAndGet();
+            timer.cancelledTimeouts.add(this);
+            return true;
+        }
+
+        public boolean isCancelled() {
+            return state == ST_CANCELLED;
+        }
+
+        public boolean isExpired() {
+            return state == ST_EXPIRED;
+        }
+
+        private int state() {
+            return state;
+        }
+
+        @SuppressWarnings("unchecked")
+        private boolean expire() {
+            if (!STATE_UPDATER.compareAndSet(this, ST_INIT, ST_EXPIRED)) {
+                return false;
+            }
+            timer.pendingCount.decrementAndGet();
+            return true;
+        }
+    }
+
+    /**
+     * 슬롯 (워커 스레드 전용 이중 연결 리스트)
+     */
+    private static final class Bucket<T> {
+        private Timeout<T> head;
+        private Timeout<T> tail;
+
+        private void add(Timeout<T> timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        private List<T> expireTimeouts(long deadline) {
+            List<T> expired = new ArrayList<>();
+            Timeout<T> timeout = head;
+
+            while (timeout != null) {
+                Timeout<T> next = timeout.next;
+                if (timeout.remainingRounds <= 0 && timeout.deadline <= deadline) {
+                    remove(timeout);
+                    if (timeout.expire()) {
+                        expired.add(timeout.item);
+                    }
+                } else if (timeout.isCancelled()) {
+                    remove(timeout);
+                } else if (timeout.remainingRounds > 0) {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+
+            return expired;
+        }
+
+        private void remove(Timeout<T> timeout) {
+            if (timeout.bucket != this) {
+                return;
+            }
+
+            Timeout<T> next = timeout.next;
+            if (timeout.prev != null) {
+                timeout.prev.next = next;
+            }
+            if (next != null) {
+                next.prev = timeout.prev;
+            }
+
+            if (timeout == head) {
+                head = next;
+            }
+            if (timeout == tail) {
+                tail = timeout.prev;
+            }
+
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package personal.ai.queue.adapter.in.web.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import personal.ai.queue.application.config.QueueConfigProperties;
+import personal.ai.queue.domain.model.QueueStatus;
+import personal.ai.queue.domain.model.QueueToken;
+
+/**
+ * 폴링 간격 정책
+ * SSE 폴링과 HTTP 상태 조회(Cache-Control)가 동일한 권장 간격을 사용하도록 공유
+ */
+@Component
+@RequiredArgsConstructor
+public class PollingIntervalPolicy {
+
+    private final QueueConfigProperties configProperties;
+
+    /**
+     * 동적 폴링 간격 계산
+     * - WAITING 상태: 순번에 따라 3초 또는 10초
+     * - READY/ACTIVE 상태: 빠른 폴링 (3초)
+     * - 기타 상태: 느린 폴링 (10초)
+     */
+    public long recommendedIntervalMs(QueueToken token) {
+        QueueConfigProperties.Polling pollingConfig = configProperties.polling();
+
+        // READY 또는 ACTIVE 상태는 빠른 폴링
+        if (token.status() == QueueStatus.READY || token.status() == QueueStatus.ACTIVE) {
+            return pollingConfig.fastIntervalMs();
+        }
+
+        // WAITING 상태는 순번에 따라 차등
+        if (token.status() == QueueStatus.WAITING && token.position() != null) {
+            if (token.position() <= pollingConfig.fastThreshold()) {
+                return pollingConfig.fastIntervalMs();  // 1~1000번: 3초
+            } else {
+                return pollingConfig.slowIntervalMs();  // 1001번 이상: 10초
+            }
+        }
+
+        // 기타 상태 (EXPIRED, NOT_FOUND 등)는 느린 폴링
+        return pollingConfig.slowIntervalMs();
+    }
+
+    /**
+     * 클라이언트 권장 최소 폴링 간격 (Rate Limit)
+     */
+    public long minIntervalMs() {
+        return configProperties.polling().minIntervalMs();
+    }
+}
@@ -0,0 +1,342 @@
+package personal.ai.queue.adapter.in.web.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.async.DeferredResult;
+import personal.ai.common.dto.ApiResponse;
+import personal.ai.queue.adapter.in.web.dto.QueueTokenResponse;
+import personal.ai.queue.application.config.QueueConfigProperties;
+import personal.ai.queue.application.port.in.GetQueueStatusUseCase;
+import personal.ai.queue.application.port.in.GetQueueStatusVersionUseCase;
+import personal.ai.queue.domain.model.QueueStatus;
+import personal.ai.queue.domain.model.QueueToken;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Queue Long Polling Service
+ * SSE를 사용할 수 없는 클라이언트를 위해 의미 있는 상태 변화가 있을 때까지 요청을 보류 (Async Servlet)
+ *
+ * 응답 조건:
+ * - 상태가 WAITING이 아님 (READY/ACTIVE/EXPIRED/NOT_FOUND)
+ * - 순번이 기준 이상 당겨짐 (max(minPositionDelta, 순번 * positionDeltaRatio))
+ * - 타임아웃
+ *
+ * 변경 감지:
+ * - 스케줄러가 Wait → Active 전환 시 증가시키는 콘서트별 Activation Epoch를 주기적으로 확인
+ * - Epoch 증가량 = 앞에서 빠져나간 인원이므로, Redis 조회 없이 대기자별 순번을 추정
+ * - 추정 순번이 기준을 넘은 대기자만 실제 상태를 조회하여 응답
+ * - 재조회는 콘서트별로 모아 배치 조회(getStatuses, 파이프라인 1회당 batchMaxSize명)
+ * - 재조회 중인 대기자는 다음 Epoch 확인에서 다시 제출하지 않음 (대기자별 in-flight 플래그)
+ */
+@Slf4j
+@Service
+public class QueueLongPollingService {
+
+    private static final String MESSAGE_STATUS = "대기열 상태 조회 완료";
+
+    private final GetQueueStatusUseCase getQueueStatusUseCase;
+    private final GetQueueStatusVersionUseCase getQueueStatusVersionUseCase;
+    private final PollingIntervalPolicy pollingIntervalPolicy;
+    private final QueueConfigProperties.LongPoll longPollConfig;
+    private final int batchMaxSize;
+
+    // 콘서트별 보류 중인 요청
+    private final Map<String, Set<Waiter>> waiters = new ConcurrentHashMap<>();
+    // 콘서트별 마지막으로 확인한 Epoch
+    private final Map<String, Long> lastSeenEpochs = new ConcurrentHashMap<>();
+    // 상태 재조회용 Executor (기본: Virtual Thread)
+    private final Executor evaluator;
+
+    @Autowired
+    public QueueLongPollingService(GetQueueStatusUseCase getQueueStatusUseCase,
+                                   GetQueueStatusVersionUseCase getQueueStatusVersionUseCase,
+                                   PollingIntervalPolicy pollingIntervalPolicy,
+                                   QueueConfigProperties configProperties,
+                                   MeterRegistry meterRegistry) {
+        this(getQueueStatusUseCase, getQueueStatusVersionUseCase, pollingIntervalPolicy,
+                configProperties.longPoll(), configProperties.polling().batchMaxSize(),
+                meterRegistry, Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    QueueLongPollingService(GetQueueStatusUseCase getQueueStatusUseCase,
+                            GetQueueStatusVersionUseCase getQueueStatusVersionUseCase,
+                            PollingIntervalPolicy pollingIntervalPolicy,
+                            QueueConfigProperties.LongPoll longPollConfig,
+                            int batchMaxSize,
+                            MeterRegistry meterRegistry,
+                            Executor evaluator) {
+        this.getQueueStatusUseCase = getQueueStatusUseCase;
+        this.getQueueStatusVersionUseCase = getQueueStatusVersionUseCase;
+        this.pollingIntervalPolicy = pollingIntervalPolicy;
+        this.longPollConfig = longPollConfig;
+        this.batchMaxSize = batchMaxSize;
+        this.evaluator = evaluator;
+
+        Gauge.builder("queue.longpoll.parked", this, QueueLongPollingService::parkedCount)
+                .description("Number of parked long-poll status requests")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Long Polling 상태 조회
+     *
+     * @param concertId 콘서트 ID
+     * @param userId 사용자 ID
+     * @param lastPosition 클라이언트가 마지막으로 받은 순번 (없으면 현재 순번 기준)
+     * @return 의미 있는 변화 또는 타임아웃 시 완료되는 응답
+     */
+    public DeferredResult<ResponseEntity<ApiResponse<QueueTokenResponse>>> poll(
+            String concertId, String userId, Long lastPosition) {
+
+        DeferredResult<ResponseEntity<ApiResponse<QueueTokenResponse>>> result =
+                new DeferredResult<>(longPollConfig.timeoutMs());
+
+        // Epoch를 상태보다 먼저 읽어야 그 사이의 전환이 누락되지 않음
+        long epoch = getQueueStatusVersionUseCase.getStatusVersion(concertId);
+        QueueToken token = fetchStatus(concertId, userId);
+        long knownPosition = lastPosition != null ? lastPosition : positionOf(token);
+
+        if (isMeaningfulChange(token, knownPosition)) {
+            result.setResult(toResponse(token));
+            return result;
+        }
+
+        Waiter waiter = new Waiter(concertId, userId, knownPosition, positionOf(token), epoch, result);
+        // 빈 대기자 집합 정리(watchEpochs)와 같은 Key 잠금 안에서 추가 (정리된 집합에 추가되어 유실되지 않도록)
+        waiters.compute(concertId, (key, concertWaiters) -> {
+            Set<Waiter> target = concertWaiters != null ? concertWaiters : ConcurrentHashMap.newKeySet();
+            target.add(waiter);
+            return target;
+        });
+        lastSeenEpochs.putIfAbsent(concertId, epoch);
+
+        result.onTimeout(() -> result.setResult(toResponse(fetchStatus(concertId, userId))));
+        result.onError(e -> log.debug("Long poll error: concertId={}, userId={}", concertId, userId, e));
+        result.onCompletion(() -> removeWaiter(waiter));
+
+        log.debug("Long poll parked: concertId={}, userId={}, position={}, targetPosition={}",
+                concertId, userId, waiter.position, waiter.targetPosition);
+
+        return result;
+    }
+
+    /**
+     * 콘서트별 Activation Epoch 확인
+     * Epoch가 증가한 콘서트만 대기자 순번을 추정하고, 기준을 넘은 대기자만 콘서트별로 모아 재조회
+     */
+    @Scheduled(fixedDelayString = "${queue.long-poll.watch-interval-ms:500}")
+    public void watchEpochs() {
+        for (Map.Entry<String, Set<Waiter>> entry : waiters.entrySet()) {
+            String concertId = entry.getKey();
+            Set<Waiter> concertWaiters = entry.getValue();
+
+            if (concertWaiters.isEmpty()) {
+                removeIfEmpty(concertId);
+                continue;
+            }
+
+            try {
+                long epoch = getQueueStatusVersionUseCase.getStatusVersion(concertId);
+                Long lastSeen = lastSeenEpochs.put(concertId, epoch);
+                if (lastSeen != null && lastSeen == epoch) {
+                    continue;
+                }
+
+                List<Waiter> candidates = new ArrayList<>();
+                for (Waiter waiter : concertWaiters) {
+                    if (waiter.estimatePosition(epoch) <= waiter.targetPosition && waiter.tryStartEvaluation()) {
+                        candidates.add(waiter);
+                    }
+                }
+                if (!candidates.isEmpty()) {
+                    submitEvaluation(concertId, candidates, epoch);
+                }
+            } catch (Exception e) {
+                log.error("Long poll epoch watch failed: concertId={}", concertId, e);
+            }
+        }
+    }
+
+    private void submitEvaluation(String concertId, List<Waiter> candidates, long epoch) {
+        try {
+            evaluator.execute(() -> evaluate(concertId, candidates, epoch));
+        } catch (RuntimeException e) {
+            candidates.forEach(Waiter::finishEvaluation);
+            throw e;
+        }
+    }
+
+    /**
+     * 대기자 실제 상태 재조회 (콘서트별 배치)
+     * 추정이 빗나간 경우(예: 뒤쪽 사용자 이탈) 실제 순번으로 기준점을 갱신하고 계속 보류
+     */
+    private void evaluate(String concertId, List<Waiter> candidates, long epoch) {
+        try {
+            List<Waiter> pending = candidates.stream()
+                    .filter(waiter -> !waiter.result.isSetOrExpired())
+                    .toList();
+            for (int from = 0; from < pending.size(); from += batchMaxSize) {
+                evaluateBatch(concertId, pending.subList(from, Math.min(from + batchMaxSize, pending.size())), epoch);
+            }
+        } finally {
+            candidates.forEach(Waiter::finishEvaluation);
+        }
+    }
+
+    private void evaluateBatch(String concertId, List<Waiter> batch, long epoch) {
+        try {
+            List<QueueToken> tokens = getQueueStatusUseCase.getStatuses(
+                    concertId, batch.stream().map(waiter -> waiter.userId).toList());
+
+            for (int i = 0; i < batch.size(); i++) {
+                Waiter waiter = batch.get(i);
+                QueueToken token = tokens.get(i);
+                if (isMeaningfulChange(token, waiter.knownPosition)) {
+                    waiter.result.setResult(toResponse(token));
+                } else {
+                    waiter.rebase(positionOf(token), epoch);
+                }
+            }
+        } catch (Exception e) {
+            log.error("Long poll evaluation failed: concertId={}, size={}", concertId, batch.size(), e);
+            batch.forEach(waiter -> waiter.result.setErrorResult(e));
+        }
+    }
+
+    private boolean isMeaningfulChange(QueueToken token, long knownPosition) {
+        if (token.status() != QueueStatus.WAITING) {
+            return true;
+        }
+        return positionOf(token) <= targetPositionFor(knownPosition);
+    }
+
+    private long targetPositionFor(long knownPosition) {
+        long delta = Math.max(longPollConfig.minPositionDelta(),
+                (long) Math.ceil(knownPosition * longPollConfig.positionDeltaRatio()));
+        return knownPosition - delta;
+    }
+
+    private QueueToken fetchStatus(String concertId, String userId) {
+        return getQueueStatusUseCase.getStatus(
+                new GetQueueStatusUseCase.GetQueueStatusQuery(concertId, userId));
+    }
+
+    private ResponseEntity<ApiResponse<QueueTokenResponse>> toResponse(QueueToken token) {
+        QueueTokenResponse response = QueueTokenResponse.from(
+                token,
+                pollingIntervalPolicy.recommendedIntervalMs(token),
+                pollingIntervalPolicy.minIntervalMs());
+        return ResponseEntity.ok(ApiResponse.success(MESSAGE_STATUS, response));
+    }
+
+    private static long positionOf(QueueToken token) {
+        return token.position() != null ? token.position() : 0L;
+    }
+
+    /**
+     * 대기자가 없는 콘서트 정리
+     * 비어 있는지 확인과 제거를 poll의 추가와 같은 Key 잠금 안에서 수행 (확인 후 추가된 대기자를 함께 지우지 않도록)
+     */
+    private void removeIfEmpty(String concertId) {
+        waiters.computeIfPresent(concertId, (key, concertWaiters) -> {
+            if (!concertWaiters.isEmpty()) {
+                return concertWaiters;
+            }
+            lastSeenEpochs.remove(concertId);
+            return null;
+        });
+    }
+
+    private void removeWaiter(Waiter waiter) {
+        Set<Waiter> concertWaiters = waiters.get(waiter.concertId);
+        if (concertWaiters != null) {
+            concertWaiters.remove(waiter);
+        }
+    }
+
+    private double parkedCount() {
+        return waiters.values().stream().mapToInt(Set::size).sum();
+    }
+
+    /**
+     * 애플리케이션 종료 시 보류 중인 요청 정리
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (!(evaluator instanceof ExecutorService executorService)) {
+            return;
+        }
+        executorService.shutdown();
+        try {
+            if (!executorService.awaitTermination(5, TimeUnit.SECONDS)) {
+                executorService.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executorService.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 보류 중인 요청
+     * position/epoch는 재조회 시 기준점이 갱신되므로 volatile
+     * evaluating: 재조회가 끝나기 전에는 다시 제출하지 않음 (중복 조회 및 이전 결과로의 기준점 역전 방지)
+     */
+    private final class Waiter {
+        private final String concertId;
+        private final String userId;
+        private final long knownPosition;
+        private final long targetPosition;
+        private final DeferredResult<ResponseEntity<ApiResponse<QueueTokenResponse>>> result;
+        private volatile long position;
+        private volatile long epoch;
+        private final AtomicBoolean evaluating = new AtomicBoolean(false);
+
+        private Waiter(String concertId, String userId, long knownPosition, long position, long epoch,
+                       DeferredResult<ResponseEntity<ApiResponse<QueueTokenResponse>>> result) {
+            this.concertId = concertId;
+            this.userId = userId;
+            this.knownPosition = knownPosition;
+            this.targetPosition = targetPositionFor(knownPosition);
+            this.position = position;
+            this.epoch = epoch;
+            this.result = result;
+        }
+
+        /**
+         * Epoch 증가량만큼 앞에서 빠져나갔다고 보고 현재 순번 추정
+         */
+        private long estimatePosition(long currentEpoch) {
+            return position - (currentEpoch - epoch);
+        }
+
+        private void rebase(long newPosition, long newEpoch) {
+            this.position = newPosition;
+            this.epoch = newEpoch;
+        }
+
+        private boolean tryStartEvaluation() {
+            return evaluating.compareAndSet(false, true);
+        }
+
+        private void finishEvaluation() {
+            evaluating.set(false);
+        }
+    }
+}
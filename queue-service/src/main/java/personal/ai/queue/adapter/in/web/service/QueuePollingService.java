@@ -1,16 +1,25 @@
 package personal.ai.queue.adapter.in.web.service;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import personal.ai.queue.adapter.in.web.dto.QueueTokenResponse;
+import personal.ai.queue.adapter.in.web.service.SseSessionRegistry.SseSession;
 import personal.ai.queue.application.config.QueueConfigProperties;
 import personal.ai.queue.application.port.in.GetQueueStatusUseCase;
+import personal.ai.queue.application.service.ConcertBulkheads;
+import personal.ai.queue.application.service.ConcertBulkheads.Lane;
 import personal.ai.queue.domain.model.QueueStatus;
 import personal.ai.queue.domain.model.QueueToken;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.*;
 
@@ -18,6 +27,13 @@ import java.util.concurrent.*;
  * Queue Polling Service (SSE)
  * 클라이언트에게 대기열 상태를 실시간으로 전송
  * 동적 폴링 간격 지원 (순번 1~1000: 3초, 1001~: 10초)
+ *
+ * 폴링 타이머: Hashed Timing Wheel
+ * - 연결별 ScheduledFuture 대신 휠 슬롯에 O(1)로 등록/취소
+ * - 같은 슬롯에서 만료된 폴링을 콘서트별로 묶어 파이프라인 1회로 상태 조회
+ *
+ * 연결 관리: SseSessionRegistry
+ * - 콘서트별 그룹 + 세션 객체 1개가 콜백과 폴링 항목을 겸함 (연결당 메모리 최소화)
  */
 @Slf4j
 @Service
@@ -30,62 +46,78 @@ public class QueuePollingService {
     private static final String EVENT_TYPE_ERROR = "error";
     private final GetQueueStatusUseCase getQueueStatusUseCase;
     private final QueueConfigProperties configProperties;
-    // SSE 연결 관리 (concertId:userId -> SseEmitter)
-    private final Map<String, SseEmitter> emitters = new ConcurrentHashMap<>();
-    // 폴링 스케줄 관리 (연결별로 스케줄을 취소할 수 있도록)
-    private final Map<String, ScheduledFuture<?>> pollingSchedules = new ConcurrentHashMap<>();
-    // Virtual Thread Executor for polling
-    private final ScheduledExecutorService executor;
+    private final PollingIntervalPolicy pollingIntervalPolicy;
+    private final ConcertBulkheads concertBulkheads;
+    // SSE 연결 관리 (concertId -> userId -> SseSession)
+    private final SseSessionRegistry sessions = new SseSessionRegistry();
+    // 폴링 타이머 (슬롯 단위 배치 만료)
+    private final HashedTimingWheel<SseSession> timingWheel;
+    // 배치 폴링 실행용 Virtual Thread Executor
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    // 동시에 실행되는 배치 수 제한 (인스턴스 전체 Redis 파이프라인 동시성, 콘서트별 한도는 ConcertBulkheads)
+    private final Semaphore batchPermits;
+    private final DistributionSummary batchSizeSummary;
+
     /**
-     * 생성자: 설정값으로부터 Executor 초기화
+     * 생성자: 설정값으로부터 타이밍 휠 초기화
      */
     public QueuePollingService(GetQueueStatusUseCase getQueueStatusUseCase,
-                               QueueConfigProperties configProperties) {
+                               QueueConfigProperties configProperties,
+                               PollingIntervalPolicy pollingIntervalPolicy,
+                               ConcertBulkheads concertBulkheads,
+                               MeterRegistry meterRegistry) {
         this.getQueueStatusUseCase = getQueueStatusUseCase;
         this.configProperties = configProperties;
+        this.pollingIntervalPolicy = pollingIntervalPolicy;
+        this.concertBulkheads = concertBulkheads;
 
-        int poolSize = configProperties.polling().executorPoolSize();
-        this.executor = Executors.newScheduledThreadPool(poolSize, Thread.ofVirtual().factory());
-
-        log.info("QueuePollingService initialized with executor pool size: {}", poolSize);
+        QueueConfigProperties.Polling pollingConfig = configProperties.polling();
+        this.batchPermits = new Semaphore(pollingConfig.executorPoolSize());
+        this.timingWheel = new HashedTimingWheel<>(
+                "sse-poll-wheel",
+                pollingConfig.wheelTickMs(),
+                pollingConfig.wheelSize(),
+                this::onSlotExpired);
+
+        Gauge.builder("queue.polling.wheel.pending", timingWheel, HashedTimingWheel::pendingTimeouts)
+                .description("Number of poll timers registered in the timing wheel")
+                .register(meterRegistry);
+        Gauge.builder("queue.polling.wheel.lag.ms", timingWheel, HashedTimingWheel::lastTickLagMillis)
+                .description("Delay between a wheel tick's deadline and its processing")
+                .register(meterRegistry);
+        Gauge.builder("queue.polling.connections", sessions, SseSessionRegistry::size)
+                .description("Number of open SSE polling connections")
+                .register(meterRegistry);
+        Gauge.builder("queue.polling.concerts", sessions, SseSessionRegistry::concertCount)
+                .description("Number of concerts with open SSE polling connections")
+                .register(meterRegistry);
+        Gauge.builder("queue.polling.session.footprint.bytes", sessions, SseSessionRegistry::footprintBytesPerSession)
+                .description("Estimated registry heap bytes per open SSE session (excluding the emitter)")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("queue.polling.batch.size")
+                .description("Number of polls fetched in one pipelined status read")
+                .register(meterRegistry);
+
+        log.info("QueuePollingService initialized: wheelTick={}ms, wheelSize={}, batchConcurrency={}",
+                pollingConfig.wheelTickMs(), timingWheel.wheelSize(), pollingConfig.executorPoolSize());
     }
 
     /**
      * 클라이언트 구독 시작
      */
     public SseEmitter subscribe(String concertId, String userId) {
-        String key = generateKey(concertId, userId);
-
-        // 기존 연결이 있다면 완전히 정리 (emitter + polling schedule)
-        cleanupConnection(key);
-
-        // 새 SSE Emitter 생성
+        // 새 SSE Emitter 생성 (기존 연결이 있다면 레지스트리가 닫고 교체)
         SseEmitter emitter = new SseEmitter(SSE_TIMEOUT_MS);
-        emitters.put(key, emitter);
+        SseSession session = sessions.register(concertId, userId, emitter);
 
         log.info("SSE subscription started: concertId={}, userId={}", concertId, userId);
 
-        // 연결 종료 시 정리
-        emitter.onCompletion(() -> {
-            cleanupConnection(key);
-            log.info("SSE connection completed: concertId={}, userId={}", concertId, userId);
-        });
-
-        emitter.onTimeout(() -> {
-            cleanupConnection(key);
-            log.info("SSE connection timeout: concertId={}, userId={}", concertId, userId);
-        });
-
-        emitter.onError((e) -> {
-            cleanupConnection(key);
-            log.error("SSE connection error: concertId={}, userId={}", concertId, userId, e);
-        });
-
         // 최초 상태 전송
         sendInitialStatus(concertId, userId, emitter);
 
-        // 주기적 폴링 시작 (Virtual Thread)
-        startPolling(concertId, userId, key);
+        // 주기적 폴링 시작 (타이밍 휠)
+        startPolling(session);
 
         return emitter;
     }
@@ -118,79 +150,128 @@ public class QueuePollingService {
      * 동적 폴링 시작 (재귀적 스케줄링)
      * 각 폴링마다 상태에 따라 다음 폴링 간격을 동적으로 조정
      */
-    private void startPolling(String concertId, String userId, String key) {
+    private void startPolling(SseSession session) {
         // 초기 폴링 간격은 빠른 폴링으로 시작
         long initialPollingInterval = configProperties.polling().fastIntervalMs();
-        scheduleNextPoll(concertId, userId, key, initialPollingInterval);
+        session.schedulePoll(timingWheel, initialPollingInterval);
+    }
+
+    /**
+     * 슬롯 만료 처리 (타이밍 휠 워커 스레드)
+     * 콘서트별로 묶어 배치 폴링을 Virtual Thread에 위임
+     */
+    private void onSlotExpired(List<SseSession> expired) {
+        Map<String, List<SseSession>> sessionsByConcert = new LinkedHashMap<>();
+        for (SseSession session : expired) {
+            sessionsByConcert.computeIfAbsent(session.concertId(), k -> new ArrayList<>()).add(session);
+        }
+
+        int batchMaxSize = configProperties.polling().batchMaxSize();
+        sessionsByConcert.forEach((concertId, concertSessions) -> {
+            for (int from = 0; from < concertSessions.size(); from += batchMaxSize) {
+                List<SseSession> batch = concertSessions.subList(from, Math.min(from + batchMaxSize, concertSessions.size()));
+                executor.execute(() -> pollBatch(concertId, batch));
+            }
+        });
     }
 
     /**
-     * 다음 폴링 스케줄링 (재귀적)
+     * 콘서트 단위 배치 폴링
+     * 파이프라인 1회로 상태를 조회한 뒤 연결별로 이벤트 전송 및 다음 폴링 등록
+     * 콘서트의 폴링 허가가 모두 사용 중이면 조회 없이 최소 간격 후로 미룸 (다른 콘서트의 배치는 영향 없음)
      */
-    private void scheduleNextPoll(String concertId, String userId, String key, long delay) {
-        ScheduledFuture<?> future = executor.schedule(() -> {
+    private void pollBatch(String concertId, List<SseSession> batch) {
+        // 연결이 끊어졌거나 재구독으로 교체된 폴링은 제외
+        List<SseSession> liveSessions = batch.stream()
+                .filter(session -> !session.isClosed())
+                .toList();
+        if (liveSessions.isEmpty()) {
+            return;
+        }
+
+        if (!concertBulkheads.tryAcquire(concertId, Lane.POLLING)) {
+            long deferMs = pollingIntervalPolicy.minIntervalMs();
+            liveSessions.forEach(session -> session.schedulePoll(timingWheel, deferMs));
+            return;
+        }
+
+        List<QueueToken> tokens;
+        try {
+            batchPermits.acquire();
             try {
-                SseEmitter emitter = emitters.get(key);
-                if (emitter == null) {
-                    // 연결이 끊어졌으면 폴링 중지
-                    pollingSchedules.remove(key);
-                    log.debug("Polling stopped: connection closed - concertId={}, userId={}",
-                            concertId, userId);
-                    return;
-                }
-
-                // 현재 상태 조회
-                QueueToken token = getQueueStatusUseCase.getStatus(
-                        new GetQueueStatusUseCase.GetQueueStatusQuery(concertId, userId)
-                );
-
-                // READY 상태가 되면 특별 이벤트 전송 후 종료
-                if (token.status() == QueueStatus.READY || token.status() == QueueStatus.ACTIVE) {
-                    sendReadyEvent(emitter, token);
-                    emitter.complete();
-                    cleanupConnection(key);
-                    log.info("Polling completed: user became READY - concertId={}, userId={}",
-                            concertId, userId);
-                    return;
-                }
-
-                // 일반 상태 업데이트
-                sendStatusUpdate(emitter, token);
-
-                // 다음 폴링 간격 계산 (현재 상태 기반)
-                long nextInterval = calculateRecommendedPollInterval(token);
-
-                log.debug("Next poll scheduled: concertId={}, userId={}, position={}, nextInterval={}ms",
-                        concertId, userId, token.position(), nextInterval);
-
-                // 다음 폴링 재귀적으로 스케줄링
-                scheduleNextPoll(concertId, userId, key, nextInterval);
-
-            } catch (Exception e) {
-                log.error("Polling error: concertId={}, userId={}", concertId, userId, e);
-                SseEmitter emitter = emitters.get(key);
-                if (emitter != null) {
-                    try {
-                        emitter.send(SseEmitter.event()
-                                .name(EVENT_TYPE_ERROR)
-                                .data("Polling error occurred"));
-                        emitter.completeWithError(e);
-                    } catch (IOException ex) {
-                        log.error("Failed to send error event", ex);
-                    }
-                }
-                cleanupConnection(key);
+                tokens = getQueueStatusUseCase.getStatuses(
+                        concertId,
+                        liveSessions.stream().map(SseSession::userId).toList());
+            } finally {
+                batchPermits.release();
             }
-        }, delay, TimeUnit.MILLISECONDS);
+            batchSizeSummary.record(liveSessions.size());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (Exception e) {
+            log.error("Batch polling error: concertId={}, size={}", concertId, liveSessions.size(), e);
+            liveSessions.forEach(session -> handlePollingError(session, e));
+            return;
+        } finally {
+            concertBulkheads.release(concertId, Lane.POLLING);
+        }
 
-        // 스케줄 저장 (이전 스케줄이 있다면 취소)
-        ScheduledFuture<?> oldFuture = pollingSchedules.put(key, future);
-        if (oldFuture != null && !oldFuture.isDone()) {
-            oldFuture.cancel(false);
-            log.debug("Previous polling schedule cancelled: key={}", key);
+        for (int i = 0; i < liveSessions.size(); i++) {
+            handlePollResult(liveSessions.get(i), tokens.get(i));
         }
     }
 
+    /**
+     * 개별 폴링 결과 처리
+     */
+    private void handlePollResult(SseSession session, QueueToken token) {
+        SseEmitter emitter = session.emitter();
+        try {
+            // READY 상태가 되면 특별 이벤트 전송 후 종료
+            if (token.status() == QueueStatus.READY || token.status() == QueueStatus.ACTIVE) {
+                sendReadyEvent(emitter, token);
+                emitter.complete();
+                sessions.remove(session);
+                log.info("Polling completed: user became READY - concertId={}, userId={}",
+                        session.concertId(), session.userId());
+                return;
+            }
+
+            // 일반 상태 업데이트
+            sendStatusUpdate(emitter, token);
+
+            // 다음 폴링 간격 계산 (현재 상태 기반)
+            long nextInterval = pollingIntervalPolicy.recommendedIntervalMs(token);
+
+            log.debug("Next poll scheduled: concertId={}, userId={}, position={}, nextInterval={}ms",
+                    session.concertId(), session.userId(), token.position(), nextInterval);
+
+            // 다음 폴링 등록
+            session.schedulePoll(timingWheel, nextInterval);
+
+        } catch (Exception e) {
+            handlePollingError(session, e);
+        }
+    }
+
+    /**
+     * 폴링 오류 처리 (에러 이벤트 전송 후 연결 종료)
+     */
+    private void handlePollingError(SseSession session, Exception e) {
+        log.error("Polling error: concertId={}, userId={}", session.concertId(), session.userId(), e);
+        SseEmitter emitter = session.emitter();
+        try {
+            emitter.send(SseEmitter.event()
+                    .name(EVENT_TYPE_ERROR)
+                    .data("Polling error occurred"));
+            emitter.completeWithError(e);
+        } catch (Exception ex) {
+            log.error("Failed to send error event", ex);
+        }
+        sessions.remove(session);
+    }
+
     /**
      * 상태 업데이트 전송
      */
@@ -217,61 +298,12 @@ public class QueuePollingService {
                 token.concertId(), token.userId(), token.token());
     }
 
-    /**
-     * 키 생성
-     */
-    private String generateKey(String concertId, String userId) {
-        return concertId + ":" + userId;
-    }
-
-    /**
-     * 연결 정리 (emitter + polling schedule)
-     */
-    private void cleanupConnection(String key) {
-        // Emitter 제거
-        emitters.remove(key);
-
-        // 스케줄된 폴링 취소
-        ScheduledFuture<?> future = pollingSchedules.remove(key);
-        if (future != null && !future.isDone()) {
-            future.cancel(false);
-            log.debug("Polling schedule cancelled: key={}", key);
-        }
-    }
-
-    /**
-     * 동적 폴링 간격 계산
-     * - WAITING 상태: 순번에 따라 3초 또는 10초
-     * - READY/ACTIVE 상태: 빠른 폴링 (3초)
-     * - 기타 상태: 느린 폴링 (10초)
-     */
-    private long calculateRecommendedPollInterval(QueueToken token) {
-        QueueConfigProperties.Polling pollingConfig = configProperties.polling();
-
-        // READY 또는 ACTIVE 상태는 빠른 폴링
-        if (token.status() == QueueStatus.READY || token.status() == QueueStatus.ACTIVE) {
-            return pollingConfig.fastIntervalMs();
-        }
-
-        // WAITING 상태는 순번에 따라 차등
-        if (token.status() == QueueStatus.WAITING && token.position() != null) {
-            if (token.position() <= pollingConfig.fastThreshold()) {
-                return pollingConfig.fastIntervalMs();  // 1~1000번: 3초
-            } else {
-                return pollingConfig.slowIntervalMs();  // 1001번 이상: 10초
-            }
-        }
-
-        // 기타 상태 (EXPIRED, NOT_FOUND 등)는 느린 폴링
-        return pollingConfig.slowIntervalMs();
-    }
-
     /**
      * 폴링 간격 정보를 포함한 응답 생성
      */
     private QueueTokenResponse createResponseWithPollingInterval(QueueToken token) {
-        long recommendedInterval = calculateRecommendedPollInterval(token);
-        long minInterval = configProperties.polling().minIntervalMs();
+        long recommendedInterval = pollingIntervalPolicy.recommendedIntervalMs(token);
+        long minInterval = pollingIntervalPolicy.minIntervalMs();
 
         return QueueTokenResponse.from(token, recommendedInterval, minInterval);
     }
@@ -284,9 +316,10 @@ public class QueuePollingService {
         log.info("Shutting down QueuePollingService...");
 
         // 모든 활성 연결 정리
-        emitters.keySet().forEach(this::cleanupConnection);
+        sessions.closeAll();
 
-        // Executor 종료
+        // 타이밍 휠 및 Executor 종료
+        timingWheel.close();
         executor.shutdown();
         try {
             if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
@@ -0,0 +1,227 @@
+package personal.ai.queue.adapter.in.web.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * SSE 세션 레지스트리
+ * 대기 중인 SSE 연결을 콘서트별로 묶어 관리
+ *
+ * 연결당 메모리 절감:
+ * - concertId + ":" + userId 복합 키 문자열을 만들지 않음 (콘서트 키 인스턴스는 그룹이 공유)
+ * - emitter 맵 + 타이머 맵 2개 → 콘서트 그룹 내 Map 노드 1개
+ * - 콜백 람다 3개 + 폴링 작업 객체 → SseSession 1개가 콜백과 타이밍 휠 항목을 겸함
+ *
+ * 재구독 처리:
+ * - 같은 사용자의 새 연결이 등록되면 이전 세션을 닫음
+ * - 제거는 세션 인스턴스 기준 (늦게 도착한 이전 연결의 완료 콜백이 새 연결을 지우지 않음)
+ *
+ * 세션당 메모리 (footprintBytesPerSession):
+ * - userId 키는 클라이언트가 보내는 임의 문자열이라 숫자 등으로 더 압축하지 않고, 실제 길이로 바이트를 집계
+ * - 레지스트리 구조(SseSession, Map 노드, 타이밍 휠 타이머)는 객체 레이아웃 기준 고정값 (64bit, Compressed Oops)
+ * - SseEmitter와 Tomcat 요청/커넥션 객체는 포함하지 않음 (전체 사용량은 SseSessionFootprintBenchmark로 측정)
+ */
+@Slf4j
+class SseSessionRegistry {
+
+    // SseSession 40 + ConcurrentHashMap 노드 32 + 테이블 슬롯 8 + 타이밍 휠 Timeout 56
+    static final int STRUCTURE_BYTES_PER_SESSION = 136;
+    // String 객체 24 + byte[] 헤더 16
+    private static final int STRING_OVERHEAD_BYTES = 40;
+
+    // concertId -> (userId -> SseSession)
+    private final Map<String, Map<String, SseSession>> sessionsByConcert = new ConcurrentHashMap<>();
+    private final AtomicInteger sessionCount = new AtomicInteger();
+    // 등록된 세션의 userId 키 바이트 합계
+    private final AtomicLong keyBytes = new AtomicLong();
+
+    /**
+     * 세션 등록
+     * 같은 사용자의 기존 세션이 있다면 닫고 교체
+     *
+     * @return 새 세션 (emitter 콜백 등록 완료)
+     */
+    SseSession register(String concertId, String userId, SseEmitter emitter) {
+        SseSession[] replaced = new SseSession[1];
+        SseSession[] created = new SseSession[1];
+
+        // 그룹 생성과 세션 추가를 원자적으로 수행 (빈 그룹 제거와의 경합 방지)
+        sessionsByConcert.compute(concertId, (key, sessions) -> {
+            Map<String, SseSession> group = sessions != null ? sessions : new ConcurrentHashMap<>();
+            created[0] = new SseSession(this, key, userId, emitter);
+            replaced[0] = group.put(userId, created[0]);
+            return group;
+        });
+
+        if (replaced[0] != null) {
+            replaced[0].markClosed();
+            keyBytes.addAndGet(keyBytesOf(userId) - keyBytesOf(replaced[0].userId()));
+        } else {
+            sessionCount.incrementAndGet();
+            keyBytes.addAndGet(keyBytesOf(userId));
+        }
+
+        SseSession session = created[0];
+        emitter.onCompletion(session);
+        emitter.onTimeout(session);
+        emitter.onError(session);
+        return session;
+    }
+
+    /**
+     * 세션 제거 (중복 호출 안전)
+     *
+     * @return 이번 호출로 제거되었는지 여부
+     */
+    boolean remove(SseSession session) {
+        session.markClosed();
+
+        boolean[] removed = new boolean[1];
+        sessionsByConcert.computeIfPresent(session.concertId(), (key, sessions) -> {
+            removed[0] = sessions.remove(session.userId(), session);
+            return sessions.isEmpty() ? null : sessions;
+        });
+
+        if (removed[0]) {
+            sessionCount.decrementAndGet();
+            keyBytes.addAndGet(-keyBytesOf(session.userId()));
+        }
+        return removed[0];
+    }
+
+    /**
+     * 전체 세션 수
+     */
+    int size() {
+        return sessionCount.get();
+    }
+
+    /**
+     * SSE 연결이 있는 콘서트 수
+     */
+    int concertCount() {
+        return sessionsByConcert.size();
+    }
+
+    /**
+     * 세션당 레지스트리 메모리 (바이트, 세션이 없으면 0)
+     * 고정 구조 크기 + 실제 userId 키 크기 평균
+     */
+    double footprintBytesPerSession() {
+        int count = sessionCount.get();
+        if (count == 0) {
+            return 0;
+        }
+        return STRUCTURE_BYTES_PER_SESSION + (double) keyBytes.get() / count;
+    }
+
+    /**
+     * userId 문자열 크기 (Compact Strings: Latin-1은 문자당 1바이트, 그 외 2바이트, 8바이트 정렬)
+     */
+    static long keyBytesOf(String userId) {
+        boolean latin1 = userId.chars().allMatch(c -> c < 0x100);
+        long valueBytes = (long) userId.length() * (latin1 ? 1 : 2);
+        return STRING_OVERHEAD_BYTES + ((valueBytes + 7) & ~7L);
+    }
+
+    /**
+     * 모든 세션 제거 (애플리케이션 종료 시)
+     */
+    void closeAll() {
+        List<SseSession> sessions = new ArrayList<>(sessionCount.get());
+        sessionsByConcert.values().forEach(group -> sessions.addAll(group.values()));
+        sessions.forEach(this::remove);
+    }
+
+    /**
+     * SSE 세션
+     * emitter 완료/타임아웃/오류 콜백과 타이밍 휠 폴링 항목을 한 객체로 겸함
+     */
+    static final class SseSession implements Runnable, Consumer<Throwable> {
+        private final SseSessionRegistry registry;
+        private final String concertId;
+        private final String userId;
+        private final SseEmitter emitter;
+        private volatile HashedTimingWheel.Timeout<SseSession> pollTimeout;
+        private volatile boolean closed;
+
+        private SseSession(SseSessionRegistry registry, String concertId, String userId, SseEmitter emitter) {
+            this.registry = registry;
+            this.concertId = concertId;
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        String concertId() {
+            return concertId;
+        }
+
+        String userId() {
+            return userId;
+        }
+
+        SseEmitter emitter() {
+            return emitter;
+        }
+
+        /**
+         * 연결이 닫혔거나 재구독으로 교체되었는지 여부
+         */
+        boolean isClosed() {
+            return closed;
+        }
+
+        /**
+         * 다음 폴링 타이머 등록
+         * 등록 직후 세션이 닫혔다면 즉시 취소
+         */
+        void schedulePoll(HashedTimingWheel<SseSession> timingWheel, long delayMs) {
+            if (closed) {
+                return;
+            }
+            pollTimeout = timingWheel.schedule(this, delayMs);
+            if (closed) {
+                cancelPoll();
+            }
+        }
+
+        private void markClosed() {
+            closed = true;
+            cancelPoll();
+        }
+
+        private void cancelPoll() {
+            HashedTimingWheel.Timeout<SseSession> timeout = pollTimeout;
+            if (timeout != null && timeout.cancel()) {
+                log.debug("Polling schedule cancelled: concertId={}, userId={}", concertId, userId);
+            }
+        }
+
+        /**
+         * 완료/타임아웃 콜백
+         */
+        @Override
+        public void run() {
+            if (registry.remove(this)) {
+                log.info("SSE connection closed: concertId={}, userId={}", concertId, userId);
+            }
+        }
+
+        /**
+         * 오류 콜백
+         */
+        @Override
+        public void accept(Throwable e) {
+            log.error("SSE connection error: concertId={}, userId={}", concertId, userId, e);
+            registry.remove(this);
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package personal.ai.queue.adapter.out.memory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 순번 조회가 O(log n)인 score 순서 대기열 (콘서트 1개분, ZSET 대응)
+ *
+ * 구조:
+ * - (score, userId) 순서대로 1부터 증가하는 번호표(ticket)를 발급
+ * - Fenwick Tree로 번호표별 대기 여부(1/0)의 누적합을 유지 → 순번 = 앞 번호표 중 대기 중인 인원 수
+ * - 중간 이탈은 해당 번호표만 0으로 바꾸므로 뒤 사람의 재배치가 없음
+ * - 가장 앞 번호표(head)는 앞으로만 이동하므로 Pop은 분할 상환 O(1)
+ *
+ * 정렬 (ZSET과 동일: score, 같으면 userId 사전순):
+ * - 맨 뒤 이후에 들어오는 항목(일반 진입)은 번호표 발급만으로 O(log n)
+ * - 맨 뒤보다 앞에 들어오는 항목(로비 적재, 도착 티켓 진입)은 대기자 전체에 번호표를 다시 발급 (O(n), 배치당 1회)
+ *
+ * 번호표 공간은 2배씩 늘리며, 대기열이 비면 처음 크기로 되돌립니다.
+ *
+ * 스레드 안전하지 않으므로 InMemoryConcertQueue의 락 안에서만 사용합니다.
+ */
+final class FenwickWaitQueue {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private static final Comparator<Member> ORDER =
+            Comparator.comparingLong(Member::score).thenComparing(Member::userId);
+
+    private final Map<String, Integer> tickets = new HashMap<>();
+    private int capacity;
+    private int[] tree;
+    private String[] members;
+    private long[] scores;
+    private int nextTicket;
+    private int head;
+
+    FenwickWaitQueue() {
+        reset();
+    }
+
+    int size() {
+        return tickets.size();
+    }
+
+    boolean contains(String userId) {
+        return tickets.containsKey(userId);
+    }
+
+    /**
+     * 대기 순번 (0-based, ZRANK와 동일)
+     *
+     * @return 순번 (대기 중이 아니면 null)
+     */
+    Long rank(String userId) {
+        Integer ticket = tickets.get(userId);
+        return ticket != null ? (long) prefixSum(ticket - 1) : null;
+    }
+
+    /**
+     * @return 대기 중인 사용자의 score (없으면 null, ZSCORE와 동일)
+     */
+    Long score(String userId) {
+        Integer ticket = tickets.get(userId);
+        return ticket != null ? scores[ticket] : null;
+    }
+
+    /**
+     * @return 맨 뒤 대기자의 score (비어 있으면 null)
+     */
+    Long tailScore() {
+        int ticket = tailTicket();
+        return ticket >= head ? scores[ticket] : null;
+    }
+
+    /**
+     * score 순서에 맞게 추가 (이미 대기 중이면 무시, ZADD NX와 동일)
+     *
+     * @return 추가 여부
+     */
+    boolean add(String userId, long score) {
+        if (tickets.containsKey(userId)) {
+            return false;
+        }
+        addAll(List.of(new Member(userId, score)));
+        return true;
+    }
+
+    /**
+     * 여러 사용자를 score 순서에 맞게 추가 (이미 대기 중이면 새 score로 옮김, ZADD와 동일)
+     * 맨 뒤보다 앞에 들어가는 항목이 있으면 대기자 전체를 한 번만 재배치
+     */
+    void addAll(List<Member> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        entries.forEach(entry -> remove(entry.userId()));
+
+        List<Member> sorted = entries.stream().sorted(ORDER).toList();
+        int tail = tailTicket();
+        if (tail < head || ORDER.compare(sorted.get(0), new Member(members[tail], scores[tail])) > 0) {
+            sorted.forEach(this::append);
+        } else {
+            rebuild(sorted);
+        }
+    }
+
+    /**
+     * 대기열에서 제거 (ZREM과 동일)
+     *
+     * @return 제거 여부
+     */
+    boolean remove(String userId) {
+        Integer ticket = tickets.remove(userId);
+        if (ticket == null) {
+            return false;
+        }
+
+        members[ticket] = null;
+        update(ticket, -1);
+        resetIfEmpty();
+        return true;
+    }
+
+    /**
+     * 앞에서부터 최대 count명을 꺼냄 (ZPOPMIN과 동일)
+     */
+    List<String> pollFirst(int count) {
+        List<String> polled = new ArrayList<>(Math.min(count, tickets.size()));
+
+        while (polled.size() < count && !tickets.isEmpty()) {
+            while (members[head] == null) {
+                head++;
+            }
+
+            String userId = members[head];
+            members[head] = null;
+            tickets.remove(userId);
+            update(head, -1);
+            polled.add(userId);
+        }
+
+        resetIfEmpty();
+        return polled;
+    }
+
+    private void append(Member member) {
+        int ticket = nextTicket++;
+        ensureCapacity(ticket);
+        members[ticket] = member.userId();
+        scores[ticket] = member.score();
+        tickets.put(member.userId(), ticket);
+        update(ticket, 1);
+    }
+
+    /**
+     * 기존 대기자와 새 항목(정렬됨)을 병합하여 번호표를 처음부터 다시 발급
+     */
+    private void rebuild(List<Member> sorted) {
+        List<Member> merged = new ArrayList<>(tickets.size() + sorted.size());
+        int next = 0;
+        for (int ticket = head; ticket < nextTicket; ticket++) {
+            if (members[ticket] == null) {
+                continue;
+            }
+            Member existing = new Member(members[ticket], scores[ticket]);
+            while (next < sorted.size() && ORDER.compare(sorted.get(next), existing) < 0) {
+                merged.add(sorted.get(next++));
+            }
+            merged.add(existing);
+        }
+        merged.addAll(sorted.subList(next, sorted.size()));
+
+        tickets.clear();
+        reset();
+        merged.forEach(this::append);
+    }
+
+    /**
+     * @return 맨 뒤 대기자의 번호표 (비어 있으면 head보다 작은 값)
+     */
+    private int tailTicket() {
+        int ticket = nextTicket - 1;
+        while (ticket >= head && members[ticket] == null) {
+            ticket--;
+        }
+        return ticket;
+    }
+
+    private int prefixSum(int ticket) {
+        int sum = 0;
+        for (int i = ticket; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    private void update(int ticket, int delta) {
+        for (int i = ticket; i <= capacity; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    /**
+     * 번호표 공간 2배 확장
+     * capacity가 2의 거듭제곱이면 새 구간 중 tree[2 * capacity]만 전체 합(= tree[capacity])을 갖고 나머지는 0
+     */
+    private void ensureCapacity(int ticket) {
+        while (ticket > capacity) {
+            int grown = capacity * 2;
+            tree = Arrays.copyOf(tree, grown + 1);
+            tree[grown] = tree[capacity];
+            members = Arrays.copyOf(members, grown + 1);
+            scores = Arrays.copyOf(scores, grown + 1);
+            capacity = grown;
+        }
+    }
+
+    private void resetIfEmpty() {
+        if (tickets.isEmpty() && nextTicket > 1) {
+            reset();
+        }
+    }
+
+    private void reset() {
+        capacity = INITIAL_CAPACITY;
+        tree = new int[capacity + 1];
+        members = new String[capacity + 1];
+        scores = new long[capacity + 1];
+        nextTicket = 1;
+        head = 1;
+    }
+
+    /**
+     * 대기자 (ZSET member, score)
+     */
+    record Member(String userId, long score) {}
+}
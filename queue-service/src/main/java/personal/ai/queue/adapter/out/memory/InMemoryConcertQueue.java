@@ -0,0 +1,567 @@
+package personal.ai.queue.adapter.out.memory;
+
+import personal.ai.queue.application.port.out.QueueRepository.ActivationBatch;
+import personal.ai.queue.application.port.out.QueueRepository.ActiveRemoval;
+import personal.ai.queue.application.port.out.QueueRepository.QueueEntrySnapshot;
+import personal.ai.queue.application.port.out.QueueRepository.TokenTransition;
+import personal.ai.queue.application.port.out.QueueRepository.TransitionOutcome;
+import personal.ai.queue.domain.model.ArrivalTicket;
+import personal.ai.queue.domain.model.QueueStatus;
+import personal.ai.queue.domain.model.QueueToken;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 콘서트 1개분의 인메모리 대기열 상태
+ * Redis에서 같은 Hash Slot에 있던 키들을 하나의 객체로 묶고, Lua 스크립트의 원자성을 콘서트 락으로 대신합니다.
+ *
+ * Redis 구조 대응:
+ * - queue:wait:{concertId} (ZSET, score = 진입/도착 시각 ms) → FenwickWaitQueue (score 순서, 순번 O(log n))
+ * - queue:lobby-tickets:{concertId} (Set + PEXPIREAT) → lobbyTickets (기한이 지나면 일괄 폐기)
+ * - queue:active:{concertId} (ZSET, score = 만료 시각) → activeScores + expiryIndex (만료 인덱스)
+ * - active:token:{concertId}:userId (Hash + TTL) → tokens (만료 시각 + 1분 이후 조회 시 제거)
+ * - queue:epoch:{concertId} → activationEpoch
+ * - queue:removed-events:{concertId} (ZSET, score = 처리 시각) → processedEvents (처리 순서 = 시각 순서)
+ *
+ * 동시성:
+ * - 쓰기 작업은 쓰기 락, 순번/토큰 조회는 읽기 락
+ * - 대기 인원, 활성 인원, Epoch는 락 없이 읽는 카운터
+ */
+final class InMemoryConcertQueue {
+
+    /**
+     * Redis 토큰 Hash TTL 버퍼와 동일 (RedisTokenConverter.calculateRemainingTtlSeconds)
+     */
+    private static final long TOKEN_TTL_BUFFER_SECONDS = 60L;
+
+    /**
+     * 처리한 제거 이벤트 보관 기간 (queue.removal.processed-event-retention-seconds 기본값과 동일)
+     */
+    private static final long PROCESSED_EVENT_RETENTION_SECONDS = 3600L;
+
+    private static final Comparator<ActiveEntry> EXPIRY_ORDER =
+            Comparator.comparingLong(ActiveEntry::expiredAt).thenComparing(ActiveEntry::userId);
+
+    private final String concertId;
+    private final Clock clock;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final FenwickWaitQueue waitQueue = new FenwickWaitQueue();
+    private final Map<String, Long> activeScores = new HashMap<>();
+    private final NavigableSet<ActiveEntry> expiryIndex = new TreeSet<>(EXPIRY_ORDER);
+    private final Map<String, StoredToken> tokens = new ConcurrentHashMap<>();
+    private final LinkedHashMap<String, Long> processedEvents = new LinkedHashMap<>();
+    private final Set<String> lobbyTickets = new HashSet<>();
+    private long lobbyTicketsExpireAtMs = Long.MAX_VALUE;
+
+    private final AtomicLong waitSize = new AtomicLong();
+    private final AtomicLong activeSize = new AtomicLong();
+    private final AtomicLong activationEpoch = new AtomicLong();
+
+    InMemoryConcertQueue(String concertId, Clock clock) {
+        this.concertId = concertId;
+        this.clock = clock;
+    }
+
+    // ========== 락 없이 읽는 카운터 ==========
+
+    long waitSize() {
+        return waitSize.get();
+    }
+
+    long activeSize() {
+        return activeSize.get();
+    }
+
+    long activationEpoch() {
+        return activationEpoch.get();
+    }
+
+    boolean isEmpty() {
+        return waitSize.get() == 0 && activeSize.get() == 0;
+    }
+
+    // ========== Wait Queue ==========
+
+    /**
+     * 대기열 진입 (enter_queue.lua)
+     * 미만료 Active Token이 있으면 토큰, 대기 중이면 기존 순번, 아니면 score(진입 시각 ms) 순서로 추가 후 순번
+     */
+    EntryResult enter(String userId, long score) {
+        return write(() -> enterLocked(userId, () -> score));
+    }
+
+    /**
+     * 로비 도착 티켓 진입 (enter_queue.lua 티켓 모드)
+     * 신규 진입일 때 티켓을 처음 쓰면 도착 시각, 이미 썼으면 현재 시각을 score로 사용
+     * 기존 대기자의 맨 뒤보다 앞에 들어가면 Activation Epoch 증가
+     */
+    EntryResult enterWithTicket(String userId, long arrivedAtMs, long ticketValidUntilMs) {
+        return write(() -> enterLocked(userId, () -> {
+            long nowMs = clock.millis();
+            long score = useTicketLocked(userId, nowMs) ? arrivedAtMs : nowMs;
+            lobbyTicketsExpireAtMs = ticketValidUntilMs;
+
+            Long tailScore = waitQueue.tailScore();
+            if (tailScore != null && score < tailScore) {
+                activationEpoch.incrementAndGet();
+            }
+            return score;
+        }));
+    }
+
+    private EntryResult enterLocked(String userId, LongSupplier scoreOnNewEntry) {
+        long now = now();
+        StoredToken stored = liveToken(userId, now);
+        if (stored != null && stored.expiredAt() > now) {
+            return new EntryResult(stored.toRawToken(concertId, userId), 0L, 0L, false);
+        }
+
+        if (waitQueue.contains(userId)) {
+            return new EntryResult(null, waitQueue.rank(userId), (long) waitQueue.size(), false);
+        }
+
+        waitQueue.add(userId, scoreOnNewEntry.getAsLong());
+        waitSize.set(waitQueue.size());
+        return new EntryResult(null, waitQueue.rank(userId), (long) waitQueue.size(), true);
+    }
+
+    /**
+     * 로비 도착자 일괄 적재 (load_arrivals.lua)
+     * 미만료 Active Token 보유자는 건너뛰고, 도착 시각 순서로 추가 (이미 대기 중이면 더 이른 도착 시각만 반영)
+     * 적재 대상은 티켓 사용으로 기록하고, 맨 뒤보다 앞에 넣거나 당긴 인원만큼 Activation Epoch 증가
+     *
+     * @return 새로 적재된 인원
+     */
+    long loadArrivals(List<ArrivalTicket> arrivals, long ticketValidUntilMs) {
+        return write(() -> {
+            long now = now();
+            long nowMs = clock.millis();
+            Long tailScore = waitQueue.tailScore();
+            Map<String, Long> changes = new LinkedHashMap<>();
+            long loaded = 0;
+            long insertedAhead = 0;
+
+            for (ArrivalTicket arrival : arrivals) {
+                String userId = arrival.userId();
+                long score = arrival.arrivedAt().toEpochMilli();
+                useTicketLocked(userId, nowMs);
+
+                StoredToken stored = liveToken(userId, now);
+                if (stored != null && stored.expiredAt() > now) {
+                    continue;
+                }
+
+                Long currentScore = changes.containsKey(userId) ? changes.get(userId) : waitQueue.score(userId);
+                if (currentScore == null) {
+                    loaded++;
+                } else if (score >= currentScore) {
+                    continue;
+                }
+                changes.put(userId, score);
+
+                if (tailScore != null && score < tailScore) {
+                    insertedAhead++;
+                } else if (tailScore == null || score > tailScore) {
+                    tailScore = score;
+                }
+            }
+
+            waitQueue.addAll(changes.entrySet().stream()
+                    .map(change -> new FenwickWaitQueue.Member(change.getKey(), change.getValue()))
+                    .toList());
+            waitSize.set(waitQueue.size());
+            activationEpoch.addAndGet(insertedAhead);
+            lobbyTicketsExpireAtMs = ticketValidUntilMs;
+            return loaded;
+        });
+    }
+
+    /**
+     * 일반 추가 (ZADD NX, score = 현재 시각 ms)
+     */
+    Long addToWaitQueue(String userId) {
+        return write(() -> {
+            waitQueue.add(userId, clock.millis());
+            waitSize.set(waitQueue.size());
+            return waitQueue.rank(userId);
+        });
+    }
+
+    Long waitQueuePosition(String userId) {
+        return read(() -> waitQueue.rank(userId));
+    }
+
+    List<String> popFromWaitQueue(int count) {
+        return write(() -> {
+            List<String> polled = waitQueue.pollFirst(count);
+            waitSize.set(waitQueue.size());
+            return polled;
+        });
+    }
+
+    /**
+     * 뒤에 있던 사용자들의 순번이 당겨지므로 제거 시 Epoch 증가
+     */
+    void removeFromWaitQueue(String userId) {
+        write(() -> {
+            if (waitQueue.remove(userId)) {
+                waitSize.set(waitQueue.size());
+                activationEpoch.incrementAndGet();
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 티켓 사용 기록 (queue:lobby-tickets SADD, 기한이 지난 기록은 키 만료처럼 일괄 폐기)
+     *
+     * @return 처음 사용한 티켓인지 여부
+     */
+    private boolean useTicketLocked(String userId, long nowMs) {
+        if (nowMs >= lobbyTicketsExpireAtMs) {
+            lobbyTickets.clear();
+            lobbyTicketsExpireAtMs = Long.MAX_VALUE;
+        }
+        return lobbyTickets.add(userId);
+    }
+
+    // ========== Active Queue ==========
+
+    /**
+     * Active Queue 직접 추가 (add_to_active_queue.lua)
+     */
+    void addToActiveQueue(String userId, String token, Instant expiredAt) {
+        write(() -> {
+            long expiredAtSeconds = expiredAt.getEpochSecond();
+            putActiveLocked(userId, expiredAtSeconds);
+            tokens.put(userId, new StoredToken(token, QueueStatus.READY, 0, expiredAtSeconds,
+                    evictAt(expiredAtSeconds, now())));
+            return null;
+        });
+    }
+
+    Optional<QueueToken> activeToken(String userId) {
+        return read(() -> Optional.ofNullable(liveToken(userId, now()))
+                .map(stored -> stored.toQueueToken(concertId, userId)));
+    }
+
+    /**
+     * Active Token 또는 Wait Queue 순번 (get_queue_status.lua)
+     */
+    QueueEntrySnapshot snapshot(String userId) {
+        return read(() -> {
+            StoredToken stored = liveToken(userId, now());
+            if (stored != null) {
+                return new QueueEntrySnapshot(stored.toQueueToken(concertId, userId), null);
+            }
+            return new QueueEntrySnapshot(null, waitQueue.rank(userId));
+        });
+    }
+
+    List<QueueEntrySnapshot> snapshots(List<String> userIds) {
+        return read(() -> {
+            long now = now();
+            List<QueueEntrySnapshot> snapshots = new ArrayList<>(userIds.size());
+            for (String userId : userIds) {
+                StoredToken stored = liveToken(userId, now);
+                snapshots.add(stored != null
+                        ? new QueueEntrySnapshot(stored.toQueueToken(concertId, userId), null)
+                        : new QueueEntrySnapshot(null, waitQueue.rank(userId)));
+            }
+            return snapshots;
+        });
+    }
+
+    /**
+     * 토큰 상태 변경 (update_token_status.lua) - 토큰이 없으면 쓰지 않음
+     */
+    boolean updateTokenStatus(String userId, QueueStatus status) {
+        return write(() -> {
+            StoredToken stored = liveToken(userId, now());
+            if (stored == null) {
+                return false;
+            }
+            tokens.put(userId, stored.withStatus(status));
+            return true;
+        });
+    }
+
+    /**
+     * 토큰 연장 (extend_token.lua)
+     * 연장 조건: 횟수 미만, 미만료, READY/ACTIVE
+     */
+    Optional<TokenTransition> extendToken(String userId, Instant newExpiredAt, int maxExtendCount) {
+        return write(() -> {
+            long now = now();
+            StoredToken stored = liveToken(userId, now);
+            if (stored == null) {
+                return Optional.empty();
+            }
+
+            if (stored.extendCount() >= maxExtendCount
+                    || stored.expiredAt() < now
+                    || (stored.status() != QueueStatus.ACTIVE && stored.status() != QueueStatus.READY)) {
+                return Optional.of(new TokenTransition(TransitionOutcome.REJECTED,
+                        stored.toQueueToken(concertId, userId)));
+            }
+
+            long expiredAtSeconds = newExpiredAt.getEpochSecond();
+            StoredToken extended = stored.withExpiration(stored.status(), stored.extendCount() + 1,
+                    expiredAtSeconds, now);
+            tokens.put(userId, extended);
+            putActiveLocked(userId, expiredAtSeconds);
+            return Optional.of(new TokenTransition(TransitionOutcome.APPLIED,
+                    extended.toQueueToken(concertId, userId)));
+        });
+    }
+
+    /**
+     * READY → ACTIVE 전환 (activate_token.lua)
+     */
+    Optional<TokenTransition> activateToken(String userId, Instant newExpiredAt) {
+        return write(() -> {
+            long now = now();
+            StoredToken stored = liveToken(userId, now);
+            if (stored == null) {
+                return Optional.empty();
+            }
+
+            if (stored.status() == QueueStatus.ACTIVE) {
+                return Optional.of(new TokenTransition(TransitionOutcome.ALREADY_APPLIED,
+                        stored.toQueueToken(concertId, userId)));
+            }
+            if (stored.status() != QueueStatus.READY) {
+                return Optional.of(new TokenTransition(TransitionOutcome.REJECTED,
+                        stored.toQueueToken(concertId, userId)));
+            }
+
+            long expiredAtSeconds = newExpiredAt.getEpochSecond();
+            StoredToken activated = stored.withExpiration(QueueStatus.ACTIVE, stored.extendCount(),
+                    expiredAtSeconds, now);
+            tokens.put(userId, activated);
+            putActiveLocked(userId, expiredAtSeconds);
+            return Optional.of(new TokenTransition(TransitionOutcome.APPLIED,
+                    activated.toQueueToken(concertId, userId)));
+        });
+    }
+
+    /**
+     * 만료 시각이 지난 토큰 일괄 제거 (remove_expired_tokens.lua)
+     */
+    long removeExpiredTokens() {
+        return write(() -> {
+            long now = now();
+            long removed = 0;
+
+            while (!expiryIndex.isEmpty() && expiryIndex.first().expiredAt() <= now) {
+                ActiveEntry entry = expiryIndex.pollFirst();
+                activeScores.remove(entry.userId());
+                tokens.remove(entry.userId());
+                removed++;
+            }
+
+            activeSize.set(activeScores.size());
+            return removed;
+        });
+    }
+
+    /**
+     * Active Queue와 토큰 제거 (remove_from_active_queue.lua)
+     */
+    void removeFromActiveQueue(String userId) {
+        write(() -> {
+            Long score = activeScores.remove(userId);
+            if (score != null) {
+                expiryIndex.remove(new ActiveEntry(score, userId));
+                activeSize.set(activeScores.size());
+            }
+            tokens.remove(userId);
+            return null;
+        });
+    }
+
+    /**
+     * 처음 보는 eventId만 Active Queue와 토큰 제거 (remove_from_active_queue_batch.lua)
+     */
+    long removeFromActiveQueue(List<ActiveRemoval> removals) {
+        return write(() -> {
+            long now = now();
+            pruneProcessedEvents(now);
+
+            long removed = 0;
+            for (ActiveRemoval removal : removals) {
+                if (removal.eventId() != null && processedEvents.putIfAbsent(removal.eventId(), now) != null) {
+                    continue;
+                }
+
+                String userId = removal.userId();
+                Long score = activeScores.remove(userId);
+                if (score != null) {
+                    expiryIndex.remove(new ActiveEntry(score, userId));
+                }
+                if (tokens.remove(userId) != null || score != null) {
+                    removed++;
+                }
+            }
+
+            activeSize.set(activeScores.size());
+            return removed;
+        });
+    }
+
+    /**
+     * Active Queue 여유분만큼 Wait Queue에서 꺼내 READY 토큰 발급 (move_to_active_queue.lua)
+     */
+    ActivationBatch moveToActiveQueue(int activeMaxSize, Instant expiredAt, Supplier<Long> tokenSequence) {
+        return write(() -> {
+            int batchSize = activeMaxSize - activeScores.size();
+            List<String> moved = batchSize > 0 ? waitQueue.pollFirst(batchSize) : List.of();
+
+            long now = now();
+            long expiredAtSeconds = expiredAt.getEpochSecond();
+            for (String userId : moved) {
+                String token = concertId + ":" + userId + ":" + tokenSequence.get();
+                putActiveLocked(userId, expiredAtSeconds);
+                tokens.put(userId, new StoredToken(token, QueueStatus.READY, 0, expiredAtSeconds,
+                        evictAt(expiredAtSeconds, now)));
+            }
+
+            waitSize.set(waitQueue.size());
+            if (!moved.isEmpty()) {
+                activationEpoch.addAndGet(moved.size());
+            }
+            return new ActivationBatch(moved, activeScores.size(), waitQueue.size());
+        });
+    }
+
+    /**
+     * ZADD와 동일: 이미 있으면 만료 시각(score)만 갱신
+     */
+    private void putActiveLocked(String userId, long expiredAtSeconds) {
+        Long previous = activeScores.put(userId, expiredAtSeconds);
+        if (previous != null) {
+            expiryIndex.remove(new ActiveEntry(previous, userId));
+        }
+        expiryIndex.add(new ActiveEntry(expiredAtSeconds, userId));
+        activeSize.set(activeScores.size());
+    }
+
+    /**
+     * TTL이 지난 토큰은 조회 시점에 제거 (Redis Hash 키 만료와 동일)
+     * tokens는 ConcurrentHashMap이므로 읽기 락에서도 제거 가능
+     */
+    private StoredToken liveToken(String userId, long now) {
+        StoredToken stored = tokens.get(userId);
+        if (stored != null && stored.evictAt() <= now) {
+            tokens.remove(userId, stored);
+            return null;
+        }
+        return stored;
+    }
+
+    private void pruneProcessedEvents(long now) {
+        Iterator<Long> processedAt = processedEvents.values().iterator();
+        while (processedAt.hasNext() && processedAt.next() <= now - PROCESSED_EVENT_RETENTION_SECONDS) {
+            processedAt.remove();
+        }
+    }
+
+    private static long evictAt(long expiredAtSeconds, long now) {
+        return Math.max(expiredAtSeconds + TOKEN_TTL_BUFFER_SECONDS, now);
+    }
+
+    private long now() {
+        return clock.instant().getEpochSecond();
+    }
+
+    private <T> T read(Supplier<T> action) {
+        lock.readLock().lock();
+        try {
+            return action.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private <T> T write(Supplier<T> action) {
+        lock.writeLock().lock();
+        try {
+            return action.get();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 대기열 진입 결과
+     * @param activeToken 미만료 Active Token (있으면 순번은 0)
+     * @param position 대기 순번 (0-based)
+     * @param totalWaiting 전체 대기 인원
+     * @param newEntry 이번 요청으로 새로 추가되었는지 여부
+     */
+    record EntryResult(QueueToken activeToken, Long position, Long totalWaiting, boolean newEntry) {}
+
+    /**
+     * Active Queue 만료 인덱스 항목 (score, member)
+     */
+    private record ActiveEntry(long expiredAt, String userId) {}
+
+    /**
+     * active:token Hash 대응
+     * @param evictAt Hash 키 만료 시각 (epoch seconds)
+     */
+    private record StoredToken(String token, QueueStatus status, int extendCount, long expiredAt, long evictAt) {
+
+        StoredToken withStatus(QueueStatus newStatus) {
+            return new StoredToken(token, newStatus, extendCount, expiredAt, evictAt);
+        }
+
+        /**
+         * 스크립트와 동일하게 남은 TTL이 있을 때만 키 만료 시각 갱신
+         */
+        StoredToken withExpiration(QueueStatus newStatus, int newExtendCount, long newExpiredAt, long now) {
+            long newEvictAt = newExpiredAt + TOKEN_TTL_BUFFER_SECONDS;
+            return new StoredToken(token, newStatus, newExtendCount, newExpiredAt,
+                    newEvictAt > now ? newEvictAt : evictAt);
+        }
+
+        /**
+         * RedisTokenConverter.toQueueToken과 동일한 변환 (READY/ACTIVE 외 상태는 NOT_FOUND)
+         */
+        QueueToken toQueueToken(String concertId, String userId) {
+            Instant expiredAtInstant = Instant.ofEpochSecond(expiredAt);
+            return switch (status) {
+                case READY -> QueueToken.ready(concertId, userId, token, expiredAtInstant)
+                        .withExtension(expiredAtInstant, extendCount);
+                case ACTIVE -> QueueToken.active(concertId, userId, token, expiredAtInstant, extendCount);
+                default -> QueueToken.notFound(concertId, userId);
+            };
+        }
+
+        /**
+         * 진입 스크립트 결과와 동일하게 저장된 상태를 그대로 사용
+         */
+        QueueToken toRawToken(String concertId, String userId) {
+            return new QueueToken(concertId, userId, token, status, null,
+                    Instant.ofEpochSecond(expiredAt), extendCount);
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package personal.ai.queue.adapter.out.memory;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+import personal.ai.queue.application.port.out.QueueRepository;
+import personal.ai.queue.domain.model.ArrivalTicket;
+import personal.ai.queue.domain.model.QueueConfig;
+import personal.ai.queue.domain.model.QueuePosition;
+import personal.ai.queue.domain.model.QueueStatus;
+import personal.ai.queue.domain.model.QueueToken;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-Memory Queue Repository
+ * Redis 없이 프로세스 안에서 동작하는 QueueRepository 구현체
+ *
+ * 용도:
+ * - 단일 노드 배포 (소규모 공연): queue.store=memory
+ * - Redis 없이 애플리케이션 계층 처리량 벤치마크
+ *
+ * 의미론:
+ * - Lua 스크립트와 같은 판정/결과를 콘서트 단위 락 안에서 처리 (InMemoryConcertQueue)
+ * - 대기 순서는 Redis와 같이 진입 시각 ms(score) 순서, 같은 ms면 userId 사전순
+ * - 로비 적재와 도착 티켓 진입은 도착 시각으로 정렬되어 맨 뒤보다 앞에 들어갈 수 있음 (Activation Epoch 증가)
+ * - 조회 목적(ReadPurpose)은 저장소가 하나이므로 무시
+ *
+ * 시각:
+ * - 만료 판정은 주입한 Clock 기준 (기본 UTC 시스템 시계, 시뮬레이터는 가상 시계)
+ *
+ * 제약:
+ * - 프로세스 재시작 시 대기열이 사라지고, 여러 인스턴스가 대기열을 공유할 수 없음
+ */
+@Slf4j
+@Repository
+@ConditionalOnProperty(name = "queue.store", havingValue = "memory")
+public class InMemoryQueueRepository implements QueueRepository {
+
+    private static final int POSITION_DISPLAY_OFFSET = 1;
+
+    private final QueueConfig queueConfig;
+    private final Clock clock;
+    private final Map<String, InMemoryConcertQueue> concerts = new ConcurrentHashMap<>();
+    private final AtomicLong tokenSequence = new AtomicLong();
+
+    @Autowired
+    public InMemoryQueueRepository(QueueConfig queueConfig) {
+        this(queueConfig, Clock.systemUTC());
+    }
+
+    public InMemoryQueueRepository(QueueConfig queueConfig, Clock clock) {
+        this.queueConfig = queueConfig;
+        this.clock = clock;
+    }
+
+    // ========== 진입 ==========
+
+    /**
+     * 현재 시각(주입한 Clock)으로 진입 (티켓 진입의 현재 시각 score와 같은 시간축 유지)
+     */
+    @Override
+    public QueuePosition enterQueue(String concertId, String userId) {
+        return enterQueue(concertId, userId, clock.instant());
+    }
+
+    /**
+     * 대기 순서 기준은 arrivedAt (Redis score와 동일하게 ms 단위, 같으면 userId 사전순)
+     */
+    @Override
+    public QueuePosition enterQueue(String concertId, String userId, Instant arrivedAt) {
+        return toQueuePosition(concertId, userId, concert(concertId).enter(userId, arrivedAt.toEpochMilli()));
+    }
+
+    /**
+     * 티켓을 처음 쓰면 도착 시각, 이미 썼거나 로비 적재로 들어온 적이 있으면 현재 시각으로 진입
+     */
+    @Override
+    public QueuePosition enterQueueWithTicket(String concertId, String userId, Instant arrivedAt,
+                                              Instant ticketValidUntil) {
+        return toQueuePosition(concertId, userId, concert(concertId).enterWithTicket(
+                userId, arrivedAt.toEpochMilli(), ticketValidUntil.toEpochMilli()));
+    }
+
+    @Override
+    public long loadArrivals(String concertId, List<ArrivalTicket> arrivals, Instant ticketValidUntil) {
+        if (arrivals.isEmpty()) {
+            return 0L;
+        }
+        return concert(concertId).loadArrivals(arrivals, ticketValidUntil.toEpochMilli());
+    }
+
+    private QueuePosition toQueuePosition(String concertId, String userId, InMemoryConcertQueue.EntryResult result) {
+        if (result.activeToken() != null) {
+            return QueuePosition.alreadyActive(result.activeToken());
+        }
+
+        long position = result.position() + POSITION_DISPLAY_OFFSET;
+        return result.newEntry()
+                ? QueuePosition.newEntry(concertId, userId, position, result.totalWaiting(),
+                        queueConfig.activeMaxSize(), queueConfig.activationIntervalSeconds())
+                : QueuePosition.alreadyWaiting(concertId, userId, position, result.totalWaiting(),
+                        queueConfig.activeMaxSize(), queueConfig.activationIntervalSeconds());
+    }
+
+    // ========== Wait Queue 관련 메서드 ==========
+
+    @Override
+    public Long addToWaitQueue(String concertId, String userId) {
+        return concert(concertId).addToWaitQueue(userId);
+    }
+
+    @Override
+    public Long getWaitQueuePosition(String concertId, String userId, ReadPurpose purpose) {
+        var queue = concerts.get(concertId);
+        return queue != null ? queue.waitQueuePosition(userId) : null;
+    }
+
+    @Override
+    public Long getWaitQueueSize(String concertId, ReadPurpose purpose) {
+        var queue = concerts.get(concertId);
+        return queue != null ? queue.waitSize() : 0L;
+    }
+
+    @Override
+    public List<String> popFromWaitQueue(String concertId, int count) {
+        return concert(concertId).popFromWaitQueue(count);
+    }
+
+    @Override
+    public void removeFromWaitQueue(String concertId, String userId) {
+        var queue = concerts.get(concertId);
+        if (queue != null) {
+            queue.removeFromWaitQueue(userId);
+        }
+    }
+
+    @Override
+    public long getActivationEpoch(String concertId, ReadPurpose purpose) {
+        var queue = concerts.get(concertId);
+        return queue != null ? queue.activationEpoch() : 0L;
+    }
+
+    // ========== Active Queue 관련 메서드 ==========
+
+    @Override
+    public void addToActiveQueue(String concertId, String userId, String token, Instant expiredAt) {
+        concert(concertId).addToActiveQueue(userId, token, expiredAt);
+    }
+
+    @Override
+    public Optional<QueueToken> getActiveToken(String concertId, String userId, ReadPurpose purpose) {
+        var queue = concerts.get(concertId);
+        return queue != null ? queue.activeToken(userId) : Optional.empty();
+    }
+
+    @Override
+    public QueueEntrySnapshot getQueueEntrySnapshot(String concertId, String userId, ReadPurpose purpose) {
+        var queue = concerts.get(concertId);
+        return queue != null ? queue.snapshot(userId) : new QueueEntrySnapshot(null, null);
+    }
+
+    @Override
+    public List<QueueEntrySnapshot> getQueueEntrySnapshots(String concertId, List<String> userIds) {
+        var queue = concerts.get(concertId);
+        if (queue == null) {
+            return userIds.stream().map(userId -> new QueueEntrySnapshot(null, null)).toList();
+        }
+        return queue.snapshots(userIds);
+    }
+
+    @Override
+    public boolean updateTokenStatus(String concertId, String userId, QueueStatus status) {
+        var queue = concerts.get(concertId);
+        return queue != null && queue.updateTokenStatus(userId, status);
+    }
+
+    @Override
+    public Optional<TokenTransition> extendTokenAtomic(String concertId, String userId, Instant newExpiredAt,
+                                                       int maxExtendCount) {
+        var queue = concerts.get(concertId);
+        return queue != null ? queue.extendToken(userId, newExpiredAt, maxExtendCount) : Optional.empty();
+    }
+
+    @Override
+    public Long getActiveQueueSize(String concertId) {
+        var queue = concerts.get(concertId);
+        return queue != null ? queue.activeSize() : 0L;
+    }
+
+    @Override
+    public Long removeExpiredTokens(String concertId) {
+        var queue = concerts.get(concertId);
+        long removed = queue != null ? queue.removeExpiredTokens() : 0L;
+
+        if (removed > 0) {
+            log.debug("Removed expired tokens: concertId={}, count={}", concertId, removed);
+        }
+        return removed;
+    }
+
+    @Override
+    public void removeFromActiveQueue(String concertId, String userId) {
+        var queue = concerts.get(concertId);
+        if (queue != null) {
+            queue.removeFromActiveQueue(userId);
+        }
+    }
+
+    @Override
+    public long removeFromActiveQueueBatch(String concertId, List<ActiveRemoval> removals) {
+        return concert(concertId).removeFromActiveQueue(removals);
+    }
+
+    // ========== 배치 작업 메서드 ==========
+
+    @Override
+    public ActivationBatch moveToActiveQueueAtomic(String concertId, int activeMaxSize, Instant expiredAt) {
+        var queue = concerts.get(concertId);
+        if (queue == null) {
+            return new ActivationBatch(List.of(), 0L, 0L);
+        }
+        return queue.moveToActiveQueue(activeMaxSize, expiredAt, tokenSequence::incrementAndGet);
+    }
+
+    @Override
+    public Optional<TokenTransition> activateTokenAtomic(String concertId, String userId, Instant newExpiredAt) {
+        var queue = concerts.get(concertId);
+        return queue != null ? queue.activateToken(userId, newExpiredAt) : Optional.empty();
+    }
+
+    // ========== 조회 메서드 ==========
+
+    /**
+     * Wait Queue 또는 Active Queue에 인원이 있는 콘서트 (Redis에서 빈 ZSET 키가 사라지는 것과 동일)
+     */
+    @Override
+    public List<String> getActiveConcertIds() {
+        return concerts.entrySet().stream()
+                .filter(entry -> !entry.getValue().isEmpty())
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    private InMemoryConcertQueue concert(String concertId) {
+        return concerts.computeIfAbsent(concertId, id -> new InMemoryConcertQueue(id, clock));
+    }
+}
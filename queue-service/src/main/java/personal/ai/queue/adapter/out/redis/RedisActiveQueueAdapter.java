@@ -2,8 +2,14 @@ package personal.ai.queue.adapter.out.redis;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
+import personal.ai.queue.application.config.QueueConfigProperties;
+import personal.ai.queue.application.port.out.QueueRepository.ActivationBatch;
+import personal.ai.queue.application.port.out.QueueRepository.ActiveRemoval;
+import personal.ai.queue.application.port.out.QueueRepository.ReadPurpose;
+import personal.ai.queue.application.port.out.QueueRepository.TokenTransition;
 import personal.ai.queue.domain.exception.QueueDataCorruptionException;
 import personal.ai.queue.domain.model.QueueStatus;
 import personal.ai.queue.domain.model.QueueToken;
@@ -18,17 +24,17 @@ import java.util.Optional;
  */
 @Slf4j
 @Component
+@ConditionalOnProperty(name = "queue.store", havingValue = "redis", matchIfMissing = true)
 @RequiredArgsConstructor
 public class RedisActiveQueueAdapter {
 
-    private static final String FIELD_STATUS = "status";
-    private static final String FIELD_EXTEND_COUNT = "extend_count";
-    private static final long INCREMENT_VALUE = 1L;
-
     private final RedisTemplate<String, String> redisTemplate;
     private final RedisTokenConverter tokenConverter;
     private final RedisLuaScriptExecutor luaScriptExecutor;
     private final RedisConcertIdScanner concertIdScanner;
+    private final RedisReadRouter readRouter;
+    private final RedisTokenTrackingCache tokenCache;
+    private final QueueConfigProperties configProperties;
 
     /**
      * Active Queue에 토큰을 추가합니다.
@@ -52,6 +58,8 @@ public class RedisActiveQueueAdapter {
                 ttlSeconds
         );
 
+        tokenCache.invalidate(tokenKey);
+
         if (!success) {
             log.warn("Failed to add to active queue: concertId={}, userId={}", concertId, userId);
         }
@@ -64,11 +72,28 @@ public class RedisActiveQueueAdapter {
      *
      * @param concertId 콘서트 ID
      * @param userId 사용자 ID
+     * @param purpose 조회 목적 (토큰 검증 등 입장 판정은 ADMISSION → Master)
      * @return QueueToken (없으면 Optional.empty())
      */
-    public Optional<QueueToken> getActiveToken(String concertId, String userId) {
+    public Optional<QueueToken> getActiveToken(String concertId, String userId, ReadPurpose purpose) {
         var tokenKey = RedisKeyGenerator.activeTokenKey(concertId, userId);
-        var redisHashData = redisTemplate.opsForHash().entries(tokenKey);
+
+        // 입장 판정은 Master 값을 캐싱하여 같은 유저의 반복 검증은 네트워크 없이 처리
+        if (purpose == ReadPurpose.ADMISSION) {
+            return tokenCache.get(tokenKey, () -> loadActiveToken(tokenKey, concertId, userId, purpose));
+        }
+
+        // 표시용은 캐시 적중 시에만 사용 (Replica 조회 결과는 캐싱하지 않음)
+        var cached = tokenCache.getIfPresent(tokenKey);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        return loadActiveToken(tokenKey, concertId, userId, purpose);
+    }
+
+    private Optional<QueueToken> loadActiveToken(String tokenKey, String concertId, String userId,
+                                                 ReadPurpose purpose) {
+        var redisHashData = readRouter.templateFor(purpose, concertId).opsForHash().entries(tokenKey);
 
         if (redisHashData.isEmpty()) {
             return Optional.empty();
@@ -87,34 +112,35 @@ public class RedisActiveQueueAdapter {
     }
 
     /**
-     * 토큰의 만료 시간을 업데이트합니다.
+     * 토큰을 원자적으로 연장합니다.
      *
      * @param concertId 콘서트 ID
      * @param userId 사용자 ID
-     * @param expiredAt 새로운 만료 시각
+     * @param newExpiredAt 새로운 만료 시각
+     * @param maxExtendCount 최대 연장 횟수
+     * @return 전환 결과 (토큰 없으면 Optional.empty())
      */
-    public void updateTokenExpiration(String concertId, String userId, Instant expiredAt) {
+    public Optional<TokenTransition> extendTokenAtomic(String concertId, String userId, Instant newExpiredAt,
+                                                       int maxExtendCount) {
         var activeQueueKey = RedisKeyGenerator.activeQueueKey(concertId);
         var tokenKey = RedisKeyGenerator.activeTokenKey(concertId, userId);
-        var ttlSeconds = tokenConverter.calculateRemainingTtlSeconds(expiredAt);
+        var ttlSeconds = tokenConverter.calculateRemainingTtlSeconds(newExpiredAt);
 
-        var success = luaScriptExecutor.executeUpdateTokenExpiration(
+        var jsonResult = luaScriptExecutor.executeExtendToken(
                 activeQueueKey,
                 tokenKey,
                 userId,
-                expiredAt,
-                ttlSeconds
+                newExpiredAt,
+                ttlSeconds,
+                maxExtendCount
         );
+        tokenCache.invalidate(tokenKey);
 
-        if (success) {
-            log.debug("Updated token expiration: concertId={}, userId={}, expiredAt={}",
-                    concertId, userId, expiredAt);
-        } else {
-            log.warn("Failed to update token expiration");
-            if (log.isDebugEnabled()) {
-                log.debug("Token expiration update failed: concertId={}, userId={}", concertId, userId);
-            }
-        }
+        var transition = tokenConverter.parseTokenTransition(jsonResult, concertId, userId);
+        log.debug("Token extension processed: concertId={}, userId={}, outcome={}",
+                concertId, userId, transition.map(TokenTransition::outcome).orElse(null));
+
+        return transition;
     }
 
     /**
@@ -123,28 +149,17 @@ public class RedisActiveQueueAdapter {
      * @param concertId 콘서트 ID
      * @param userId 사용자 ID
      * @param status 새로운 상태
+     * @return 변경 여부 (토큰이 없으면 false)
      */
-    public void updateTokenStatus(String concertId, String userId, QueueStatus status) {
-        var tokenKey = RedisKeyGenerator.activeTokenKey(concertId, userId);
-        redisTemplate.opsForHash().put(tokenKey, FIELD_STATUS, status.name());
-
-        log.debug("Updated token status: concertId={}, userId={}, status={}", concertId, userId, status);
-    }
-
-    /**
-     * 토큰의 연장 횟수를 1 증가시킵니다.
-     *
-     * @param concertId 콘서트 ID
-     * @param userId 사용자 ID
-     * @return 증가 후의 연장 횟수
-     */
-    public Integer incrementExtendCount(String concertId, String userId) {
+    public boolean updateTokenStatus(String concertId, String userId, QueueStatus status) {
         var tokenKey = RedisKeyGenerator.activeTokenKey(concertId, userId);
-        var newCount = redisTemplate.opsForHash().increment(tokenKey, FIELD_EXTEND_COUNT, INCREMENT_VALUE);
+        var updated = luaScriptExecutor.executeUpdateTokenStatus(tokenKey, status);
+        tokenCache.invalidate(tokenKey);
 
-        log.debug("Incremented extend count: concertId={}, userId={}, count={}", concertId, userId, newCount);
+        log.debug("Updated token status: concertId={}, userId={}, status={}, updated={}",
+                concertId, userId, status, updated);
 
-        return newCount.intValue();
+        return updated;
     }
 
     /**
@@ -186,6 +201,7 @@ public class RedisActiveQueueAdapter {
         var tokenKey = RedisKeyGenerator.activeTokenKey(concertId, userId);
 
         var success = luaScriptExecutor.executeRemoveFromActiveQueue(activeQueueKey, tokenKey, userId);
+        tokenCache.invalidate(tokenKey);
 
         if (success) {
             log.debug("Removed from active queue: concertId={}, userId={}", concertId, userId);
@@ -195,36 +211,63 @@ public class RedisActiveQueueAdapter {
     }
 
     /**
-     * Wait Queue에서 Active Queue로 토큰들을 원자적으로 이동합니다.
+     * 여러 유저를 Active Queue에서 일괄 제거합니다 (콘서트당 스크립트 1회).
+     * 처리한 eventId는 queue.removal.processed-event-retention-seconds 동안 기록하여 재전달 이벤트를 건너뜁니다.
+     *
+     * @param concertId 콘서트 ID
+     * @param removals 제거 대상
+     * @return 실제 제거된 인원 수
+     */
+    public long removeFromActiveQueueBatch(String concertId, List<ActiveRemoval> removals) {
+        if (removals.isEmpty()) {
+            return 0L;
+        }
+
+        List<String> tokenKeys = removals.stream()
+                .map(removal -> RedisKeyGenerator.activeTokenKey(concertId, removal.userId()))
+                .toList();
+
+        long removed = luaScriptExecutor.executeRemoveFromActiveQueueBatch(
+                RedisKeyGenerator.activeQueueKey(concertId),
+                RedisKeyGenerator.removedEventsKey(concertId),
+                tokenKeys,
+                removals,
+                configProperties.removal().processedEventRetentionSeconds());
+        tokenKeys.forEach(tokenCache::invalidate);
+
+        log.debug("Removed from active queue in batch: concertId={}, requested={}, removed={}",
+                concertId, removals.size(), removed);
+        return removed;
+    }
+
+    /**
+     * Wait Queue에서 Active Queue로 여유분만큼 토큰들을 원자적으로 이동합니다.
      *
      * @param concertId 콘서트 ID
-     * @param count 이동할 개수
+     * @param activeMaxSize Active Queue 최대 인원
      * @param expiredAt 만료 시각
-     * @return 이동된 사용자 ID 리스트
+     * @return 이동된 사용자 ID 리스트와 처리 후 Queue 크기
      */
-    public List<String> moveToActiveQueueAtomic(String concertId, int count, Instant expiredAt) {
+    public ActivationBatch moveToActiveQueueAtomic(String concertId, int activeMaxSize, Instant expiredAt) {
         var waitQueueKey = RedisKeyGenerator.waitQueueKey(concertId);
         var activeQueueKey = RedisKeyGenerator.activeQueueKey(concertId);
+        var epochKey = RedisKeyGenerator.activationEpochKey(concertId);
         var ttlSeconds = tokenConverter.calculateRemainingTtlSeconds(expiredAt);
 
         var jsonResult = luaScriptExecutor.executeMoveToActiveQueue(
                 waitQueueKey,
                 activeQueueKey,
+                epochKey,
                 concertId,
-                count,
+                activeMaxSize,
                 expiredAt,
                 ttlSeconds
         );
 
-        if (jsonResult == null || jsonResult.isEmpty() || jsonResult.equals("[]") || jsonResult.equals("{}")) {
-            log.debug("No users moved: concertId={}", concertId);
-            return List.of();
-        }
-
         try {
-            var movedUserIds = tokenConverter.parseUserIdsFromJson(jsonResult);
-            log.debug("Moved users atomically: concertId={}, count={}", concertId, movedUserIds.size());
-            return movedUserIds;
+            var batch = tokenConverter.parseActivationBatch(jsonResult);
+            log.debug("Moved users atomically: concertId={}, count={}", concertId, batch.movedUserIds().size());
+            return batch;
         } catch (Exception e) {
             // CRITICAL: Lua 스크립트는 성공했지만 결과 파싱 실패
             // 실제로 사용자들이 이동되었을 수 있으므로 데이터 불일치 상태
@@ -241,31 +284,27 @@ public class RedisActiveQueueAdapter {
      * @param concertId 콘서트 ID
      * @param userId 사용자 ID
      * @param newExpiredAt 새로운 만료 시각
-     * @return 성공 여부
+     * @return 전환 결과 (토큰 없으면 Optional.empty())
      */
-    public boolean activateTokenAtomic(String concertId, String userId, Instant newExpiredAt) {
+    public Optional<TokenTransition> activateTokenAtomic(String concertId, String userId, Instant newExpiredAt) {
         var activeQueueKey = RedisKeyGenerator.activeQueueKey(concertId);
         var tokenKey = RedisKeyGenerator.activeTokenKey(concertId, userId);
         var ttlSeconds = tokenConverter.calculateRemainingTtlSeconds(newExpiredAt);
 
-        var success = luaScriptExecutor.executeActivateToken(
+        var jsonResult = luaScriptExecutor.executeActivateToken(
                 activeQueueKey,
                 tokenKey,
                 userId,
                 newExpiredAt,
                 ttlSeconds
         );
+        tokenCache.invalidate(tokenKey);
 
-        if (success) {
-            log.debug("Token activated atomically: concertId={}, userId={}", concertId, userId);
-        } else {
-            log.warn("Failed to activate token");
-            if (log.isDebugEnabled()) {
-                log.debug("Token activation failed: concertId={}, userId={}", concertId, userId);
-            }
-        }
+        var transition = tokenConverter.parseTokenTransition(jsonResult, concertId, userId);
+        log.debug("Token activation processed: concertId={}, userId={}, outcome={}",
+                concertId, userId, transition.map(TokenTransition::outcome).orElse(null));
 
-        return success;
+        return transition;
     }
 
     /**
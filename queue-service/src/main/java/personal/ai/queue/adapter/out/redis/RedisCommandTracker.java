@@ -0,0 +1,360 @@
+package personal.ai.queue.adapter.out.redis;
+
+import io.lettuce.core.protocol.CommandArgs;
+import io.lettuce.core.protocol.CommandArgsAccessor;
+import io.lettuce.core.protocol.RedisCommand;
+import io.lettuce.core.tracing.TraceContext;
+import io.lettuce.core.tracing.TraceContextProvider;
+import io.lettuce.core.tracing.Tracer;
+import io.lettuce.core.tracing.TracerProvider;
+import io.lettuce.core.tracing.Tracing;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import personal.ai.queue.adapter.out.redis.RedisHotKeySampler.HotKey;
+import personal.ai.queue.application.config.QueueConfigProperties;
+
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Redis 명령 추적기
+ * Lettuce Tracing 확장점으로 명령 전송(start) ~ 응답 완료(finish) 구간을 노드(원격 주소)별로 집계합니다.
+ *
+ * In-flight:
+ * - 공유 연결 모드에서는 노드당 연결이 하나이므로 노드별 In-flight = 연결의 응답 대기 명령 수이며,
+ *   ClientOptions.requestQueueSize(노드당 상한)에 가까워지면 곧 거절이 시작된다는 신호입니다.
+ *
+ * 명령 지연:
+ * - 명령 종류, 노드, Key 계열(Hash Tag 앞부분)별 Timer
+ * - EVALSHA는 RedisScriptRegistry가 등록한 SHA1로 스크립트 이름을 붙여 스크립트별 노드 지연을 구분
+ *   (redis.script.duration은 NOSCRIPT 재시도를 포함한 호출 단위, 이 Timer는 명령 1건 단위)
+ *
+ * 핫 키:
+ * - N개 명령 중 1개만 샘플링하여 RedisHotKeySampler에 기록하고, 집계 주기마다 상위 키의 추정 초당 명령 수를 노출
+ * - 메트릭 태그에는 Key 계열과 순위만 붙임 (Key에 사용자 ID가 들어가고, 주기마다 새 시계열이 생기지 않도록)
+ * - 실제 Key는 집계 주기마다 로그(INFO)로 남김
+ *
+ * 메트릭:
+ * - queue.redis.inflight{node}: 노드별 응답 대기 명령 수
+ * - queue.redis.pending: 전체 노드의 응답 대기 명령 수
+ * - queue.redis.command.duration{node, command, key_family, script, outcome}: 명령 전송 ~ 응답 시간
+ * - queue.redis.hotkey.ops{node, key_family, rank}: 상위 키의 추정 초당 명령 수 (rank = 1..hot-key-top-n, 집계 주기마다 교체)
+ *
+ * 분산 추적용 구현이 아니므로 TraceContext는 사용하지 않습니다.
+ */
+@Slf4j
+@Component
+public class RedisCommandTracker implements Tracing {
+
+    private static final QueueConfigProperties.RedisMetrics DEFAULT_METRICS =
+            new QueueConfigProperties.RedisMetrics(true, 100, 10, 256, 10_000);
+    private static final String NO_SCRIPT = "none";
+    private static final String EVALSHA = "EVALSHA";
+
+    private final MeterRegistry meterRegistry;
+    private final QueueConfigProperties.RedisMetrics config;
+    private final Map<String, NodeEndpoint> endpoints = new ConcurrentHashMap<>();
+    private final Map<String, String> scriptNames = new ConcurrentHashMap<>();
+    private final Map<CommandMeterKey, Timer> commandTimers = new ConcurrentHashMap<>();
+    private final RedisHotKeySampler hotKeySampler;
+    private final MultiGauge hotKeyGauge;
+    private final CommandTracer tracer = new CommandTracer();
+    private long lastHotKeyPublishNanos = System.nanoTime();
+
+    public RedisCommandTracker(MeterRegistry meterRegistry) {
+        this(meterRegistry, DEFAULT_METRICS);
+    }
+
+    @Autowired
+    public RedisCommandTracker(MeterRegistry meterRegistry, QueueConfigProperties configProperties) {
+        this(meterRegistry, configProperties.redisMetrics() != null ? configProperties.redisMetrics() : DEFAULT_METRICS);
+    }
+
+    private RedisCommandTracker(MeterRegistry meterRegistry, QueueConfigProperties.RedisMetrics config) {
+        this.meterRegistry = meterRegistry;
+        this.config = config;
+        this.hotKeySampler = new RedisHotKeySampler(config.hotKeyCapacity());
+        this.hotKeyGauge = MultiGauge.builder("queue.redis.hotkey.ops")
+                .description("Estimated commands per second on the hottest sampled Redis keys")
+                .register(meterRegistry);
+
+        Gauge.builder("queue.redis.pending", endpoints, RedisCommandTracker::pendingCommands)
+                .description("Redis commands written to any node and awaiting a reply")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 노드의 현재 In-flight 명령 수
+     *
+     * @param node host:port
+     * @return 응답 대기 명령 수 (모르는 노드는 0)
+     */
+    public int inFlight(String node) {
+        NodeEndpoint endpoint = endpoints.get(node);
+        return endpoint != null ? endpoint.inFlight.get() : 0;
+    }
+
+    /**
+     * EVALSHA 명령에 스크립트 이름을 붙이기 위해 SHA1 등록
+     *
+     * @param sha1 스크립트 SHA1
+     * @param name 스크립트 이름 (메트릭 태그)
+     */
+    public void registerScript(String sha1, String name) {
+        scriptNames.put(sha1, name);
+    }
+
+    /**
+     * 집계 구간의 상위 핫 키를 게이지로 교체
+     * 샘플 수 × 샘플링 간격 / 구간 길이 = 추정 초당 명령 수
+     */
+    @Scheduled(fixedDelayString = "${queue.redis-metrics.hot-key-window-ms:10000}")
+    public void publishHotKeys() {
+        if (config.hotKeySampleEvery() <= 0) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        double windowSeconds = Math.max(1, now - lastHotKeyPublishNanos) / 1_000_000_000.0;
+        lastHotKeyPublishNanos = now;
+
+        List<HotKey> hotKeys = hotKeySampler.drainTop(config.hotKeyTopN());
+        List<MultiGauge.Row<?>> rows = new ArrayList<>(hotKeys.size());
+        StringBuilder summary = new StringBuilder();
+        for (int i = 0; i < hotKeys.size(); i++) {
+            HotKey hotKey = hotKeys.get(i);
+            double opsPerSecond = hotKey.samples() * config.hotKeySampleEvery() / windowSeconds;
+            rows.add(MultiGauge.Row.of(
+                    Tags.of("node", hotKey.node(),
+                            "key_family", RedisKeyGenerator.keyFamily(hotKey.key()),
+                            "rank", String.valueOf(i + 1)),
+                    opsPerSecond));
+            summary.append(i == 0 ? "" : ", ")
+                    .append(i + 1).append('=').append(hotKey.key())
+                    .append('@').append(hotKey.node())
+                    .append(' ').append(Math.round(opsPerSecond)).append("/s");
+        }
+        hotKeyGauge.register(rows, true);
+
+        if (!hotKeys.isEmpty()) {
+            log.info("Redis hot keys (window {}s): {}", Math.round(windowSeconds), summary);
+        }
+    }
+
+    @Override
+    public TracerProvider getTracerProvider() {
+        return () -> tracer;
+    }
+
+    @Override
+    public TraceContextProvider initialTraceContextProvider() {
+        return () -> TraceContext.EMPTY;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public boolean includeCommandArgsInSpanTags() {
+        return false;
+    }
+
+    @Override
+    public Endpoint createEndpoint(SocketAddress socketAddress) {
+        return endpoints.computeIfAbsent(nodeName(socketAddress), this::registerNode);
+    }
+
+    private NodeEndpoint registerNode(String node) {
+        NodeEndpoint endpoint = new NodeEndpoint(node);
+        Gauge.builder("queue.redis.inflight", endpoint.inFlight, AtomicInteger::get)
+                .description("Redis commands written to a node and awaiting a reply")
+                .tag("node", node)
+                .register(meterRegistry);
+        log.info("Tracking in-flight Redis commands: node={}", node);
+        return endpoint;
+    }
+
+    /**
+     * 응답을 받은 명령 1건 기록 (명령 Timer + 핫 키 샘플)
+     */
+    private void recordCommand(NodeEndpoint endpoint, String command, String key, String script,
+                               boolean failed, long durationNanos) {
+        if (config.commandTimersEnabled()) {
+            CommandMeterKey meterKey = new CommandMeterKey(endpoint.node, command,
+                    RedisKeyGenerator.keyFamily(key), script, failed);
+            commandTimers.computeIfAbsent(meterKey, this::registerCommandTimer)
+                    .record(durationNanos, TimeUnit.NANOSECONDS);
+        }
+
+        int sampleEvery = config.hotKeySampleEvery();
+        if (key != null && sampleEvery > 0 && ThreadLocalRandom.current().nextInt(sampleEvery) == 0) {
+            hotKeySampler.record(endpoint.node, key);
+        }
+    }
+
+    private Timer registerCommandTimer(CommandMeterKey meterKey) {
+        return Timer.builder("queue.redis.command.duration")
+                .description("Time from writing a Redis command to receiving its reply")
+                .tag("node", meterKey.node())
+                .tag("command", meterKey.command())
+                .tag("key_family", meterKey.keyFamily())
+                .tag("script", meterKey.script())
+                .tag("outcome", meterKey.failed() ? "error" : "success")
+                .register(meterRegistry);
+    }
+
+    private String scriptName(RedisCommand<?, ?, ?> command, String commandName) {
+        if (!EVALSHA.equals(commandName) || command.getArgs() == null) {
+            return NO_SCRIPT;
+        }
+        String sha1 = CommandArgsAccessor.getFirstString(command.getArgs());
+        return sha1 != null ? scriptNames.getOrDefault(sha1, "unknown") : "unknown";
+    }
+
+    private static String firstKey(RedisCommand<?, ?, ?> command) {
+        CommandArgs<?, ?> args = command.getArgs();
+        if (args == null) {
+            return null;
+        }
+        ByteBuffer key = args.getFirstEncodedKey();
+        return key != null ? StandardCharsets.UTF_8.decode(key.duplicate()).toString() : null;
+    }
+
+    private static int pendingCommands(Map<String, NodeEndpoint> endpoints) {
+        int pending = 0;
+        for (NodeEndpoint endpoint : endpoints.values()) {
+            pending += endpoint.inFlight.get();
+        }
+        return pending;
+    }
+
+    private static String nodeName(SocketAddress socketAddress) {
+        if (socketAddress instanceof InetSocketAddress inet) {
+            return inet.getHostString() + ":" + inet.getPort();
+        }
+        return String.valueOf(socketAddress);
+    }
+
+    private record CommandMeterKey(String node, String command, String keyFamily, String script, boolean failed) {}
+
+    /**
+     * 노드 (Lettuce Endpoint)
+     */
+    private static final class NodeEndpoint implements Endpoint {
+        private final String node;
+        private final AtomicInteger inFlight = new AtomicInteger();
+
+        private NodeEndpoint(String node) {
+            this.node = node;
+        }
+
+        @Override
+        public String toString() {
+            return node;
+        }
+    }
+
+    private final class CommandTracer extends Tracer {
+
+        @Override
+        public Span nextSpan() {
+            return new CommandSpan();
+        }
+
+        @Override
+        public Span nextSpan(TraceContext traceContext) {
+            return new CommandSpan();
+        }
+    }
+
+    /**
+     * 명령 1건의 전송 ~ 완료 구간
+     * start와 remoteEndpoint 호출 순서와 무관하게 한 번만 증가, 한 번만 감소/기록
+     */
+    private final class CommandSpan extends Tracer.Span {
+        private NodeEndpoint endpoint;
+        private String command;
+        private String key;
+        private String script;
+        private long startNanos;
+        private boolean started;
+        private boolean counted;
+        private boolean failed;
+        private boolean finished;
+
+        @Override
+        public synchronized Tracer.Span start(RedisCommand<?, ?, ?> command) {
+            started = true;
+            startNanos = System.nanoTime();
+            this.command = String.valueOf(command.getType());
+            this.key = firstKey(command);
+            this.script = scriptName(command, this.command);
+            countIfReady();
+            return this;
+        }
+
+        @Override
+        public synchronized Tracer.Span remoteEndpoint(Endpoint endpoint) {
+            if (endpoint instanceof NodeEndpoint nodeEndpoint) {
+                this.endpoint = nodeEndpoint;
+                countIfReady();
+            }
+            return this;
+        }
+
+        @Override
+        public synchronized void finish() {
+            if (counted && !finished) {
+                endpoint.inFlight.decrementAndGet();
+                recordCommand(endpoint, command, key, script, failed, System.nanoTime() - startNanos);
+            }
+            finished = true;
+        }
+
+        private void countIfReady() {
+            if (started && endpoint != null && !counted && !finished) {
+                endpoint.inFlight.incrementAndGet();
+                counted = true;
+            }
+        }
+
+        @Override
+        public Tracer.Span name(String name) {
+            return this;
+        }
+
+        @Override
+        public Tracer.Span annotate(String value) {
+            return this;
+        }
+
+        @Override
+        public Tracer.Span tag(String key, String value) {
+            return this;
+        }
+
+        @Override
+        public synchronized Tracer.Span error(Throwable throwable) {
+            failed = true;
+            return this;
+        }
+    }
+}
@@ -11,6 +11,9 @@ import org.springframework.data.redis.serializer.StringRedisSerializer;
  * String Key, String Value 기반 RedisTemplate 설정
  *
  * Queue Redis: Active Queue + Waiting Queue (통합)
+ *
+ * Lua 스크립트는 RedisScript 빈으로 정의하며, RedisScriptRegistry가 모든 빈을 수집해
+ * 시작 시 SCRIPT LOAD하고 EVALSHA로만 실행합니다. (빈 이름이 메트릭 태그: extendTokenScript → extend_token)
  */
 @Configuration
 public class RedisConfig {
@@ -19,7 +22,15 @@ public class RedisConfig {
     public RedisTemplate<String, String> redisTemplate(RedisConnectionFactory connectionFactory) {
         RedisTemplate<String, String> template = new RedisTemplate<>();
         template.setConnectionFactory(connectionFactory);
+        applyStringSerializers(template);
+        template.afterPropertiesSet();
+        return template;
+    }
 
+    /**
+     * String 직렬화 설정 (Replica 읽기용 템플릿과 공유)
+     */
+    static void applyStringSerializers(RedisTemplate<String, String> template) {
         // Key Serializer: String
         StringRedisSerializer stringSerializer = new StringRedisSerializer();
         template.setKeySerializer(stringSerializer);
@@ -28,9 +39,6 @@ public class RedisConfig {
         // Value Serializer: String (Hash도 String으로 저장)
         template.setValueSerializer(stringSerializer);
         template.setHashValueSerializer(stringSerializer);
-
-        template.afterPropertiesSet();
-        return template;
     }
 
     @Bean
@@ -47,13 +55,35 @@ public class RedisConfig {
         return org.springframework.data.redis.core.script.RedisScript.of(scriptSource, Long.class);
     }
 
+    /**
+     * extend_token.lua 스크립트
+     * 토큰 조회 + 연장 횟수 증가 + 만료 시간 갱신 3회 호출을 1회로 통합
+     */
     @Bean
-    public org.springframework.data.redis.core.script.RedisScript<Long> updateTokenExpirationScript() {
+    public org.springframework.data.redis.core.script.RedisScript<String> extendTokenScript() {
         org.springframework.core.io.ClassPathResource scriptSource = new org.springframework.core.io.ClassPathResource(
-                "scripts/update_token_expiration.lua");
+                "scripts/extend_token.lua");
+        return org.springframework.data.redis.core.script.RedisScript.of(scriptSource, String.class);
+    }
+
+    @Bean
+    public org.springframework.data.redis.core.script.RedisScript<Long> updateTokenStatusScript() {
+        org.springframework.core.io.ClassPathResource scriptSource = new org.springframework.core.io.ClassPathResource(
+                "scripts/update_token_status.lua");
         return org.springframework.data.redis.core.script.RedisScript.of(scriptSource, Long.class);
     }
 
+    /**
+     * get_queue_status.lua 스크립트
+     * Active Token 조회 + Wait Queue 순번 조회 2회 호출을 1회로 통합
+     */
+    @Bean
+    public org.springframework.data.redis.core.script.RedisScript<String> getQueueStatusScript() {
+        org.springframework.core.io.ClassPathResource scriptSource = new org.springframework.core.io.ClassPathResource(
+                "scripts/get_queue_status.lua");
+        return org.springframework.data.redis.core.script.RedisScript.of(scriptSource, String.class);
+    }
+
     @Bean
     public org.springframework.data.redis.core.script.RedisScript<Long> removeFromActiveQueueScript() {
         org.springframework.core.io.ClassPathResource scriptSource = new org.springframework.core.io.ClassPathResource(
@@ -61,6 +91,23 @@ public class RedisConfig {
         return org.springframework.data.redis.core.script.RedisScript.of(scriptSource, Long.class);
     }
 
+    /**
+     * Wait Queue 제거 + Activation Epoch 증가 스크립트
+     */
+    @Bean
+    public org.springframework.data.redis.core.script.RedisScript<Long> removeFromWaitQueueScript() {
+        org.springframework.core.io.ClassPathResource scriptSource = new org.springframework.core.io.ClassPathResource(
+                "scripts/remove_from_wait_queue.lua");
+        return org.springframework.data.redis.core.script.RedisScript.of(scriptSource, Long.class);
+    }
+
+    @Bean
+    public org.springframework.data.redis.core.script.RedisScript<Long> removeFromActiveQueueBatchScript() {
+        org.springframework.core.io.ClassPathResource scriptSource = new org.springframework.core.io.ClassPathResource(
+                "scripts/remove_from_active_queue_batch.lua");
+        return org.springframework.data.redis.core.script.RedisScript.of(scriptSource, Long.class);
+    }
+
     @Bean
     public org.springframework.data.redis.core.script.RedisScript<String> moveToActiveQueueScript() {
         org.springframework.core.io.ClassPathResource scriptSource = new org.springframework.core.io.ClassPathResource(
@@ -69,9 +116,19 @@ public class RedisConfig {
     }
 
     @Bean
-    public org.springframework.data.redis.core.script.RedisScript<Long> activateTokenScript() {
+    public org.springframework.data.redis.core.script.RedisScript<String> activateTokenScript() {
         org.springframework.core.io.ClassPathResource scriptSource = new org.springframework.core.io.ClassPathResource(
                 "scripts/activate_token.lua");
+        return org.springframework.data.redis.core.script.RedisScript.of(scriptSource, String.class);
+    }
+
+    /**
+     * rate_limit_check.lua 스크립트 (SSE 구독 Token Bucket)
+     */
+    @Bean
+    public org.springframework.data.redis.core.script.RedisScript<Long> rateLimitCheckScript() {
+        org.springframework.core.io.ClassPathResource scriptSource = new org.springframework.core.io.ClassPathResource(
+                "scripts/rate_limit_check.lua");
         return org.springframework.data.redis.core.script.RedisScript.of(scriptSource, Long.class);
     }
 
@@ -85,4 +142,15 @@ public class RedisConfig {
                 "scripts/enter_queue.lua");
         return org.springframework.data.redis.core.script.RedisScript.of(scriptSource, String.class);
     }
+
+    /**
+     * 로비 도착자 일괄 적재 스크립트
+     * 오픈 시각에 도착 순서대로 Wait Queue에 적재 (미만료 Active Token 보유자 제외, 이른 도착 시각 우선)
+     */
+    @Bean
+    public org.springframework.data.redis.core.script.RedisScript<Long> loadArrivalsScript() {
+        org.springframework.core.io.ClassPathResource scriptSource = new org.springframework.core.io.ClassPathResource(
+                "scripts/load_arrivals.lua");
+        return org.springframework.data.redis.core.script.RedisScript.of(scriptSource, Long.class);
+    }
 }
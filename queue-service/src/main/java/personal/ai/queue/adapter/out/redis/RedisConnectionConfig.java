@@ -0,0 +1,82 @@
+package personal.ai.queue.adapter.out.redis;
+
+import io.lettuce.core.ClientOptions;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.data.redis.ClientResourcesBuilderCustomizer;
+import org.springframework.boot.autoconfigure.data.redis.LettuceClientConfigurationBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import personal.ai.queue.application.config.QueueConfigProperties;
+import personal.ai.queue.application.config.QueueConfigProperties.RedisConnection.Mode;
+
+/**
+ * Redis 연결 모드 설정 (Lettuce)
+ *
+ * SHARED (기본):
+ * - 노드당 하나의 공유 연결에 모든 요청의 명령을 멀티플렉싱
+ * - 명령은 쓰는 즉시 flush되어 응답을 기다리지 않고 연달아 전송 (자동 파이프라이닝)
+ * - 가상 스레드가 연결 풀 반납을 기다리지 않음
+ *
+ * POOLED:
+ * - 요청마다 풀에서 전용 연결을 빌려 사용 (기존 방식, 비교/롤백용)
+ *
+ * 백프레셔:
+ * - ClientOptions.requestQueueSize로 연결(노드)당 응답 대기 명령 수를 제한
+ * - 상한을 넘는 명령은 대기 없이 즉시 거절되어 Redis 지연이 요청 스레드 적체로 번지지 않음
+ * - 노드별 In-flight 명령 수는 RedisCommandTracker가 queue.redis.inflight로 노출
+ */
+@Slf4j
+@Configuration
+public class RedisConnectionConfig {
+
+    /**
+     * 명령 추적기(노드별 In-flight, 명령 지연, 핫 키)를 Lettuce ClientResources에 등록
+     */
+    @Bean
+    public ClientResourcesBuilderCustomizer commandTrackingCustomizer(RedisCommandTracker commandTracker) {
+        return builder -> builder.tracing(commandTracker);
+    }
+
+    /**
+     * 연결당 응답 대기 명령 상한 적용
+     * Spring Boot가 만든 ClientOptions(Cluster 토폴로지 갱신 등)를 유지한 채 상한만 추가
+     */
+    @Bean
+    public LettuceClientConfigurationBuilderCustomizer backpressureCustomizer(QueueConfigProperties configProperties) {
+        int maxInFlightPerNode = configProperties.redisConnection().maxInFlightPerNode();
+
+        return builder -> {
+            if (maxInFlightPerNode <= 0) {
+                return;
+            }
+
+            ClientOptions current = builder.build().getClientOptions().orElseGet(ClientOptions::create);
+            builder.clientOptions(current.mutate()
+                    .requestQueueSize(maxInFlightPerNode)
+                    .build());
+        };
+    }
+
+    /**
+     * 연결 모드 적용
+     * SHARED는 공유 네이티브 연결, POOLED는 요청마다 전용(풀) 연결 사용
+     */
+    @Bean
+    public static BeanPostProcessor redisConnectionModePostProcessor(
+            ObjectProvider<QueueConfigProperties> configProperties) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof LettuceConnectionFactory connectionFactory) {
+                    Mode mode = configProperties.getObject().redisConnection().mode();
+                    connectionFactory.setShareNativeConnection(mode == Mode.SHARED);
+                    log.info("Redis connection mode: bean={}, mode={}", beanName, mode);
+                }
+                return bean;
+            }
+        };
+    }
+}
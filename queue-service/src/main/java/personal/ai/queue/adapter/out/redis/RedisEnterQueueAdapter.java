@@ -4,15 +4,17 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
+import personal.ai.queue.domain.model.ArrivalTicket;
 import personal.ai.queue.domain.model.QueueConfig;
 import personal.ai.queue.domain.model.QueuePosition;
 import personal.ai.queue.domain.model.QueueStatus;
 import personal.ai.queue.domain.model.QueueToken;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -33,14 +35,16 @@ import java.util.List;
  */
 @Slf4j
 @Component
+@ConditionalOnProperty(name = "queue.store", havingValue = "redis", matchIfMissing = true)
 @RequiredArgsConstructor
 public class RedisEnterQueueAdapter {
 
     private static final int POSITION_DISPLAY_OFFSET = 1;
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
-    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisScriptRegistry scriptRegistry;
     private final RedisScript<String> enterQueueScript;
+    private final RedisScript<Long> loadArrivalsScript;
     private final QueueConfig queueConfig;
 
     /**
@@ -48,27 +52,48 @@ public class RedisEnterQueueAdapter {
      *
      * @param concertId 콘서트 ID
      * @param userId 사용자 ID
+     * @param arrivedAt 대기 순서 기준 시각 (Wait Queue score)
      * @return QueuePosition (ACTIVE | WAITING | NEW)
      */
-    public QueuePosition enterQueue(String concertId, String userId) {
-        // Redis Keys
-        String activeTokenKey = RedisKeyGenerator.activeTokenKey(concertId, userId);
-        String waitQueueKey = RedisKeyGenerator.waitQueueKey(concertId);
+    public QueuePosition enterQueue(String concertId, String userId, Instant arrivedAt) {
+        List<String> keys = List.of(
+                RedisKeyGenerator.activeTokenKey(concertId, userId),
+                RedisKeyGenerator.waitQueueKey(concertId));
 
-        // Arguments
-        long timestamp = System.currentTimeMillis();
-        long currentTime = Instant.now().getEpochSecond();
+        return executeEnterQueue(concertId, userId, keys,
+                userId,
+                String.valueOf(arrivedAt.toEpochMilli()),
+                String.valueOf(Instant.now().getEpochSecond()));
+    }
 
-        List<String> keys = List.of(activeTokenKey, waitQueueKey);
-        List<String> args = List.of(
+    /**
+     * 로비 도착 티켓으로 대기열 진입 (enter_queue.lua 티켓 모드)
+     * 신규 진입일 때 티켓 사용 기록(queue:lobby-tickets)에 없던 사용자만 도착 시각을 score로 사용
+     * 기존 대기자의 맨 뒤보다 앞에 들어가면 Activation Epoch 증가
+     *
+     * @param arrivedAt 검증된 티켓의 도착 시각
+     * @param ticketValidUntil 티켓 인정 기한 (사용 기록 만료 시각)
+     */
+    public QueuePosition enterQueueWithTicket(String concertId, String userId, Instant arrivedAt,
+                                              Instant ticketValidUntil) {
+        List<String> keys = List.of(
+                RedisKeyGenerator.activeTokenKey(concertId, userId),
+                RedisKeyGenerator.waitQueueKey(concertId),
+                RedisKeyGenerator.lobbyTicketsKey(concertId),
+                RedisKeyGenerator.activationEpochKey(concertId));
+
+        Instant now = Instant.now();
+        return executeEnterQueue(concertId, userId, keys,
                 userId,
-                String.valueOf(timestamp),
-                String.valueOf(currentTime)
-        );
+                String.valueOf(arrivedAt.toEpochMilli()),
+                String.valueOf(now.getEpochSecond()),
+                String.valueOf(now.toEpochMilli()),
+                String.valueOf(ticketValidUntil.toEpochMilli()));
+    }
 
+    private QueuePosition executeEnterQueue(String concertId, String userId, List<String> keys, String... args) {
         // Lua 스크립트 실행 (단일 Redis 호출!)
-        String jsonResult = redisTemplate.execute(enterQueueScript, keys,
-                args.toArray(new String[0]));
+        String jsonResult = scriptRegistry.execute(enterQueueScript, keys, args);
 
         if (jsonResult == null || jsonResult.isEmpty()) {
             log.error("Enter queue script returned null or empty: concertId={}, userId={}",
@@ -80,6 +105,39 @@ public class RedisEnterQueueAdapter {
         return parseScriptResult(concertId, userId, jsonResult);
     }
 
+    /**
+     * 로비 도착자 일괄 적재 (load_arrivals.lua)
+     * Active Token 키는 Wait Queue와 같은 Hash Tag({concertId})를 쓰므로 Cluster에서도 스크립트 1회로 처리
+     * 기존 대기자의 맨 뒤보다 앞에 넣거나 당긴 인원만큼 Activation Epoch 증가
+     *
+     * @param concertId 콘서트 ID
+     * @param arrivals 도착 티켓 (도착 순서)
+     * @param ticketValidUntil 티켓 인정 기한 (사용 기록 만료 시각)
+     * @return 새로 적재된 인원
+     */
+    public long loadArrivals(String concertId, List<ArrivalTicket> arrivals, Instant ticketValidUntil) {
+        if (arrivals.isEmpty()) {
+            return 0L;
+        }
+
+        List<String> keys = new ArrayList<>(arrivals.size() + 3);
+        String[] args = new String[arrivals.size() * 2 + 2];
+        keys.add(RedisKeyGenerator.waitQueueKey(concertId));
+        keys.add(RedisKeyGenerator.lobbyTicketsKey(concertId));
+        keys.add(RedisKeyGenerator.activationEpochKey(concertId));
+        for (int i = 0; i < arrivals.size(); i++) {
+            ArrivalTicket arrival = arrivals.get(i);
+            keys.add(RedisKeyGenerator.activeTokenKey(concertId, arrival.userId()));
+            args[i * 2] = arrival.userId();
+            args[i * 2 + 1] = String.valueOf(arrival.arrivedAt().toEpochMilli());
+        }
+        args[args.length - 2] = String.valueOf(Instant.now().getEpochSecond());
+        args[args.length - 1] = String.valueOf(ticketValidUntil.toEpochMilli());
+
+        Long loaded = scriptRegistry.execute(loadArrivalsScript, keys, args);
+        return loaded != null ? loaded : 0L;
+    }
+
     /**
      * Lua 스크립트 결과 파싱
      *
@@ -0,0 +1,76 @@
+package personal.ai.queue.adapter.out.redis;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis 핫 키 샘플러 (Space-Saving)
+ * 샘플링된 명령의 키를 최대 capacity개까지만 세고, 가득 차면 가장 적게 센 키를 새 키로 교체합니다.
+ *
+ * - 메모리: capacity에 고정 (키 수가 늘어나도 증가하지 않음)
+ * - 정확도: 상위 키의 횟수는 실제보다 최대 (교체된 키의 횟수)만큼 크게 집계될 수 있음
+ * - 호출 빈도: 샘플링된 명령만 기록하므로 락 경합이 작음
+ */
+final class RedisHotKeySampler {
+
+    private final int capacity;
+    private final Map<NodeKey, long[]> counts = new HashMap<>();
+
+    RedisHotKeySampler(int capacity) {
+        this.capacity = Math.max(1, capacity);
+    }
+
+    synchronized void record(String node, String key) {
+        NodeKey nodeKey = new NodeKey(node, key);
+        long[] count = counts.get(nodeKey);
+        if (count != null) {
+            count[0]++;
+            return;
+        }
+
+        if (counts.size() < capacity) {
+            counts.put(nodeKey, new long[]{1});
+            return;
+        }
+
+        // 가장 적게 센 키를 교체하고 그 횟수를 이어받음
+        Map.Entry<NodeKey, long[]> min = null;
+        for (Map.Entry<NodeKey, long[]> entry : counts.entrySet()) {
+            if (min == null || entry.getValue()[0] < min.getValue()[0]) {
+                min = entry;
+            }
+        }
+        long inherited = min.getValue()[0];
+        counts.remove(min.getKey());
+        counts.put(nodeKey, new long[]{inherited + 1});
+    }
+
+    /**
+     * 상위 키를 반환하고 다음 집계 구간을 위해 초기화
+     *
+     * @param topN 반환할 키 수
+     * @return 샘플 횟수 내림차순 상위 키
+     */
+    synchronized List<HotKey> drainTop(int topN) {
+        List<HotKey> hotKeys = new ArrayList<>(counts.size());
+        counts.forEach((nodeKey, count) -> hotKeys.add(new HotKey(nodeKey.node(), nodeKey.key(), count[0])));
+        counts.clear();
+
+        hotKeys.sort(Comparator.comparingLong(HotKey::samples).reversed());
+        return hotKeys.size() > topN ? List.copyOf(hotKeys.subList(0, topN)) : hotKeys;
+    }
+
+    private record NodeKey(String node, String key) {}
+
+    /**
+     * 집계 구간의 핫 키
+     *
+     * @param node 키가 있는 노드 (host:port)
+     * @param key Redis Key
+     * @param samples 샘플링된 명령 수
+     */
+    record HotKey(String node, String key, long samples) {}
+}
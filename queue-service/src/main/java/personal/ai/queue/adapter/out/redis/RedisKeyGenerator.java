@@ -18,12 +18,19 @@ public class RedisKeyGenerator {
     private static final String ACTIVE_QUEUE_FORMAT = "queue:active:{%s}";
     private static final String ACTIVE_TOKEN_FORMAT = "active:token:{%s}:%s";
     private static final String STATS_TOTAL_WAITING_FORMAT = "stats:totalWaiting:{%s}";
+    private static final String ACTIVATION_EPOCH_FORMAT = "queue:epoch:{%s}";
+    private static final String REMOVED_EVENTS_FORMAT = "queue:removed-events:{%s}";
+    private static final String LOBBY_TICKETS_FORMAT = "queue:lobby-tickets:{%s}";
 
     // 패턴 매칭용 Prefix (SCAN 용)
     private static final String WAIT_QUEUE_PREFIX = "queue:wait:";
     private static final String ACTIVE_QUEUE_PREFIX = "queue:active:";
     private static final String ACTIVE_TOKEN_PREFIX = "active:token:";
 
+    // Key 계열 (메트릭 태그용)
+    private static final String KEY_FAMILY_NONE = "none";
+    private static final String KEY_FAMILY_OTHER = "other";
+
     /**
      * Wait Queue Key (Redis Cluster 호환)
      * queue:wait:{concertId}
@@ -74,6 +81,42 @@ public class RedisKeyGenerator {
         return String.format(STATS_TOTAL_WAITING_FORMAT, concertId);
     }
 
+    /**
+     * Activation Epoch Key (Redis Cluster 호환)
+     * queue:epoch:{concertId}
+     *
+     * Hash Tag: {concertId}
+     * Wait Queue 순번이 변하는 작업마다 당겨진 인원만큼 증가 (Wait → Active 전환 인원, Wait Queue 제거 1명)
+     * 도착 티켓/로비 적재로 기존 대기자의 맨 뒤보다 앞에 들어간 인원만큼도 증가 (뒤쪽 순번이 밀림)
+     * - 상태 조회 ETag의 버전으로 사용 (값이 같으면 WAITING 순번도 변하지 않음)
+     * - Long Polling 대기자의 순번 추정에 사용 (증가량 ≈ 앞에서 빠져나간 인원)
+     */
+    public static String activationEpochKey(String concertId) {
+        return String.format(ACTIVATION_EPOCH_FORMAT, concertId);
+    }
+
+    /**
+     * 처리한 제거 이벤트 Key (Redis Cluster 호환)
+     * queue:removed-events:{concertId}
+     *
+     * Hash Tag: {concertId}
+     * 결제 완료 이벤트 일괄 제거의 멱등 처리용 (member = eventId, score = 처리 시각)
+     */
+    public static String removedEventsKey(String concertId) {
+        return String.format(REMOVED_EVENTS_FORMAT, concertId);
+    }
+
+    /**
+     * 로비 도착 티켓 사용자 Key (Redis Cluster 호환)
+     * queue:lobby-tickets:{concertId}
+     *
+     * Hash Tag: {concertId}
+     * 로비 적재 또는 티켓 진입으로 도착 시각을 인정받은 사용자 (Set, 티켓 인정 기한에 만료)
+     */
+    public static String lobbyTicketsKey(String concertId) {
+        return String.format(LOBBY_TICKETS_FORMAT, concertId);
+    }
+
     /**
      * Wait Queue 패턴 (모든 콘서트)
      * queue:wait:{*}
@@ -105,4 +148,24 @@ public class RedisKeyGenerator {
         }
         throw new IllegalArgumentException("Invalid key format: " + key);
     }
+
+    /**
+     * Key 계열 (메트릭 태그용)
+     * Hash Tag 앞부분: queue:wait:{concertId} → queue:wait, active:token:{concertId}:userId → active:token
+     * Hash Tag가 없는 키는 콘서트/사용자별로 늘어나지 않도록 하나의 계열로 묶음
+     *
+     * @param key Redis Key (없으면 null)
+     * @return Key 계열 (Key가 없는 명령은 none, Hash Tag가 없는 키는 other)
+     */
+    public static String keyFamily(String key) {
+        if (key == null) {
+            return KEY_FAMILY_NONE;
+        }
+        int hashTagStart = key.indexOf('{');
+        if (hashTagStart <= 0) {
+            return KEY_FAMILY_OTHER;
+        }
+        int end = key.charAt(hashTagStart - 1) == ':' ? hashTagStart - 1 : hashTagStart;
+        return key.substring(0, end);
+    }
 }
@@ -1,23 +1,26 @@
 package personal.ai.queue.adapter.out.redis;
 
-import io.micrometer.core.instrument.MeterRegistry;
-import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
+import personal.ai.queue.application.port.out.QueueRepository.ActiveRemoval;
 import personal.ai.queue.domain.model.QueueStatus;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
  * Redis Lua 스크립트 실행을 캡슐화하는 실행자
  * 모든 원자적 Redis 작업을 Lua 스크립트로 처리합니다.
+ * 실행은 RedisScriptRegistry를 거쳐 EVALSHA로만 전송되며, 실행 시간도 레지스트리가 기록합니다.
  */
 @Slf4j
 @Component
+@ConditionalOnProperty(name = "queue.store", havingValue = "redis", matchIfMissing = true)
 @RequiredArgsConstructor
 public class RedisLuaScriptExecutor {
 
@@ -25,14 +28,17 @@ public class RedisLuaScriptExecutor {
     private static final double MIN_SCORE = 0.0;
     private static final String ACTIVE_TOKEN_PREFIX = "active:token:";
 
-    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisScriptRegistry scriptRegistry;
     private final RedisScript<Long> addToActiveQueueScript;
     private final RedisScript<Long> removeExpiredTokensScript;
-    private final RedisScript<Long> updateTokenExpirationScript;
+    private final RedisScript<String> extendTokenScript;
+    private final RedisScript<Long> updateTokenStatusScript;
+    private final RedisScript<String> getQueueStatusScript;
     private final RedisScript<Long> removeFromActiveQueueScript;
+    private final RedisScript<Long> removeFromActiveQueueBatchScript;
+    private final RedisScript<Long> removeFromWaitQueueScript;
     private final RedisScript<String> moveToActiveQueueScript;
-    private final RedisScript<Long> activateTokenScript;
-    private final MeterRegistry meterRegistry;
+    private final RedisScript<String> activateTokenScript;
 
     /**
      * Active Queue에 토큰을 추가합니다 (원자적 작업).
@@ -57,7 +63,7 @@ public class RedisLuaScriptExecutor {
         String status = QueueStatus.READY.name();
         String expiredAtStr = String.valueOf(expiredAt.getEpochSecond());
 
-        Long result = redisTemplate.execute(
+        Long result = scriptRegistry.execute(
                 addToActiveQueueScript,
                 List.of(activeQueueKey, tokenKey),
                 userId, score, token, status, INITIAL_EXTEND_COUNT, expiredAtStr, String.valueOf(ttlSeconds)
@@ -83,8 +89,7 @@ public class RedisLuaScriptExecutor {
     public Long executeRemoveExpiredTokens(String activeQueueKey, String concertId) {
         long now = Instant.now().getEpochSecond();
 
-        Timer.Sample sample = Timer.start(meterRegistry);
-        Long removedCount = redisTemplate.execute(
+        Long removedCount = scriptRegistry.execute(
                 removeExpiredTokensScript,
                 List.of(activeQueueKey),
                 String.valueOf(MIN_SCORE),
@@ -92,10 +97,6 @@ public class RedisLuaScriptExecutor {
                 ACTIVE_TOKEN_PREFIX,
                 concertId
         );
-        sample.stop(Timer.builder("redis.script.duration")
-                .tag("script", "remove_expired_tokens")
-                .description("Redis Lua script execution time")
-                .register(meterRegistry));
 
         if (removedCount != null && removedCount > 0) {
             log.debug("Executed removeExpiredTokens script: concertId={}, removed={}", concertId, removedCount);
@@ -105,41 +106,81 @@ public class RedisLuaScriptExecutor {
     }
 
     /**
-     * 토큰의 만료 시간을 업데이트합니다 (원자적 작업).
+     * 토큰을 연장합니다 (원자적 작업).
+     * 연장 가능 여부 확인, 연장 횟수 증가, 만료 시간 갱신을 한 번에 처리합니다.
      *
      * @param activeQueueKey Active Queue의 Redis 키
      * @param tokenKey 토큰의 Redis 키
      * @param userId 사용자 ID
-     * @param expiredAt 새로운 만료 시각
+     * @param newExpiredAt 새로운 만료 시각
      * @param ttlSeconds TTL (초)
-     * @return 성공 여부 (1: 성공, 0: 실패)
+     * @param maxExtendCount 최대 연장 횟수
+     * @return 전환 결과 JSON 문자열 (result, token)
      */
-    public boolean executeUpdateTokenExpiration(
+    public String executeExtendToken(
             String activeQueueKey,
             String tokenKey,
             String userId,
-            Instant expiredAt,
-            long ttlSeconds) {
+            Instant newExpiredAt,
+            long ttlSeconds,
+            int maxExtendCount) {
 
-        Long result = redisTemplate.execute(
-                updateTokenExpirationScript,
+        String jsonResult = scriptRegistry.execute(
+                extendTokenScript,
                 List.of(activeQueueKey, tokenKey),
                 userId,
-                String.valueOf(expiredAt.getEpochSecond()),
-                String.valueOf(ttlSeconds)
+                String.valueOf(newExpiredAt.getEpochSecond()),
+                String.valueOf(ttlSeconds),
+                String.valueOf(maxExtendCount),
+                String.valueOf(Instant.now().getEpochSecond())
         );
 
-        boolean success = result != null && result == 1L;
-        if (success) {
-            log.debug("Executed updateTokenExpiration script: userId={}, expiredAt={}", userId, expiredAt);
-        } else {
-            log.warn("Failed to execute updateTokenExpiration script");
-            if (log.isDebugEnabled()) {
-                log.debug("Update token expiration script failed: userId={}", userId);
-            }
-        }
+        log.debug("Executed extendToken script: userId={}, result={}", userId, jsonResult);
+        return jsonResult;
+    }
 
-        return success;
+    /**
+     * 토큰의 상태를 변경합니다 (원자적 작업).
+     * 토큰이 없으면 아무것도 쓰지 않습니다.
+     *
+     * @param tokenKey 토큰의 Redis 키
+     * @param status 새로운 상태
+     * @return 성공 여부 (true: 변경됨, false: 토큰 없음)
+     */
+    public boolean executeUpdateTokenStatus(String tokenKey, QueueStatus status) {
+        Long result = scriptRegistry.execute(
+                updateTokenStatusScript,
+                List.of(tokenKey),
+                status.name()
+        );
+
+        return result != null && result == 1L;
+    }
+
+    /**
+     * Active Token과 Wait Queue 순번을 조회합니다 (원자적 작업).
+     * 조회 목적에 따라 선택된 템플릿으로 실행합니다.
+     *
+     * @param template 실행할 RedisTemplate (RedisReadRouter가 선택)
+     * @param tokenKey 토큰의 Redis 키
+     * @param waitQueueKey Wait Queue의 Redis 키
+     * @param userId 사용자 ID
+     * @return 상태 JSON 문자열 (token 또는 position)
+     */
+    public String executeGetQueueStatus(
+            RedisTemplate<String, String> template,
+            String tokenKey,
+            String waitQueueKey,
+            String userId) {
+
+        String jsonResult = scriptRegistry.execute(
+                template,
+                getQueueStatusScript,
+                List.of(tokenKey, waitQueueKey),
+                userId
+        );
+
+        return jsonResult;
     }
 
     /**
@@ -151,7 +192,7 @@ public class RedisLuaScriptExecutor {
      * @return 성공 여부 (1: 성공, 0: 실패)
      */
     public boolean executeRemoveFromActiveQueue(String activeQueueKey, String tokenKey, String userId) {
-        Long result = redisTemplate.execute(
+        Long result = scriptRegistry.execute(
                 removeFromActiveQueueScript,
                 List.of(activeQueueKey, tokenKey),
                 userId
@@ -165,43 +206,93 @@ public class RedisLuaScriptExecutor {
         return success;
     }
 
+    /**
+     * Wait Queue에서 유저를 제거하고, 제거된 경우 Activation Epoch를 증가시킵니다 (원자적 작업).
+     *
+     * @param waitQueueKey Wait Queue의 Redis 키
+     * @param epochKey Activation Epoch의 Redis 키
+     * @param userId 사용자 ID
+     * @return 제거 여부
+     */
+    public boolean executeRemoveFromWaitQueue(String waitQueueKey, String epochKey, String userId) {
+        Long result = scriptRegistry.execute(
+                removeFromWaitQueueScript,
+                List.of(waitQueueKey, epochKey),
+                userId
+        );
+
+        return result != null && result == 1L;
+    }
+
+    /**
+     * 여러 유저를 Active Queue에서 제거합니다 (원자적 작업, 처리한 eventId는 건너뜀).
+     *
+     * @param activeQueueKey Active Queue의 Redis 키
+     * @param removedEventsKey 처리한 이벤트 기록의 Redis 키
+     * @param tokenKeys 토큰의 Redis 키 (removals 순서와 동일)
+     * @param removals 제거 대상
+     * @param retentionSeconds 처리 기록 보관 기간 (초)
+     * @return 실제 제거된 인원 수
+     */
+    public long executeRemoveFromActiveQueueBatch(
+            String activeQueueKey,
+            String removedEventsKey,
+            List<String> tokenKeys,
+            List<ActiveRemoval> removals,
+            long retentionSeconds) {
+
+        List<String> keys = new ArrayList<>(tokenKeys.size() + 2);
+        keys.add(activeQueueKey);
+        keys.add(removedEventsKey);
+        keys.addAll(tokenKeys);
+
+        String[] args = new String[removals.size() * 2 + 2];
+        args[0] = String.valueOf(Instant.now().getEpochSecond());
+        args[1] = String.valueOf(retentionSeconds);
+        for (int i = 0; i < removals.size(); i++) {
+            ActiveRemoval removal = removals.get(i);
+            args[i * 2 + 2] = removal.eventId() != null ? removal.eventId() : "";
+            args[i * 2 + 3] = removal.userId();
+        }
+
+        Long removed = scriptRegistry.execute(removeFromActiveQueueBatchScript, keys, args);
+
+        log.debug("Executed removeFromActiveQueueBatch script: requested={}, removed={}", removals.size(), removed);
+        return removed != null ? removed : 0L;
+    }
+
     /**
      * Wait Queue에서 Active Queue로 토큰들을 이동합니다 (원자적 작업).
      *
      * @param waitQueueKey Wait Queue의 Redis 키
      * @param activeQueueKey Active Queue의 Redis 키
+     * @param epochKey Activation Epoch의 Redis 키
      * @param concertId 콘서트 ID
-     * @param count 이동할 개수
+     * @param activeMaxSize Active Queue 최대 인원 (여유분만큼 이동)
      * @param expiredAt 만료 시각
      * @param ttlSeconds TTL (초)
-     * @return 이동된 사용자 ID들의 JSON 배열 문자열
+     * @return 이동 결과 JSON 문자열 (moved, activeSize, waitSize)
      */
     public String executeMoveToActiveQueue(
             String waitQueueKey,
             String activeQueueKey,
+            String epochKey,
             String concertId,
-            int count,
+            int activeMaxSize,
             Instant expiredAt,
             long ttlSeconds) {
 
-        Timer.Sample sample = Timer.start(meterRegistry);
-        String jsonResult = redisTemplate.execute(
+        String jsonResult = scriptRegistry.execute(
                 moveToActiveQueueScript,
-                List.of(waitQueueKey, activeQueueKey),
-                String.valueOf(count),
+                List.of(waitQueueKey, activeQueueKey, epochKey),
+                String.valueOf(activeMaxSize),
                 String.valueOf(expiredAt.getEpochSecond()),
                 ACTIVE_TOKEN_PREFIX,
                 concertId,
                 String.valueOf(ttlSeconds)
         );
-        sample.stop(Timer.builder("redis.script.duration")
-                .tag("script", "move_to_active_queue")
-                .description("Redis Lua script execution time")
-                .register(meterRegistry));
 
-        if (jsonResult != null && !jsonResult.isEmpty() && !jsonResult.equals("[]")) {
-            log.debug("Executed moveToActiveQueue script: concertId={}, result={}", concertId, jsonResult);
-        }
+        log.debug("Executed moveToActiveQueue script: concertId={}, result={}", concertId, jsonResult);
 
         return jsonResult;
     }
@@ -214,40 +305,24 @@ public class RedisLuaScriptExecutor {
      * @param userId 사용자 ID
      * @param newExpiredAt 새로운 만료 시각
      * @param ttlSeconds TTL (초)
-     * @return 성공 여부 (true: 성공 또는 이미 활성화됨, false: 실패)
+     * @return 전환 결과 JSON 문자열 (result, token)
      */
-    public boolean executeActivateToken(
+    public String executeActivateToken(
             String activeQueueKey,
             String tokenKey,
             String userId,
             Instant newExpiredAt,
             long ttlSeconds) {
 
-        Timer.Sample sample = Timer.start(meterRegistry);
-        Long result = redisTemplate.execute(
+        String jsonResult = scriptRegistry.execute(
                 activateTokenScript,
                 List.of(activeQueueKey, tokenKey),
                 userId,
                 String.valueOf(newExpiredAt.getEpochSecond()),
                 String.valueOf(ttlSeconds)
         );
-        sample.stop(Timer.builder("redis.script.duration")
-                .tag("script", "activate_token")
-                .description("Redis Lua script execution time")
-                .register(meterRegistry));
-
-        if (result != null && result == 1L) {
-            log.debug("Executed activateToken script: userId={} (activated)", userId);
-            return true;
-        } else if (result != null && result == -1L) {
-            log.debug("Executed activateToken script: userId={} (already active)", userId);
-            return true;
-        } else {
-            log.warn("Failed to execute activateToken script");
-            if (log.isDebugEnabled()) {
-                log.debug("Activate token script failed: userId={}", userId);
-            }
-            return false;
-        }
+
+        log.debug("Executed activateToken script: userId={}, result={}", userId, jsonResult);
+        return jsonResult;
     }
-}
\ No newline at end of file
+}
@@ -2,8 +2,11 @@ package personal.ai.queue.adapter.out.redis;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Repository;
 import personal.ai.queue.application.port.out.QueueRepository;
+import personal.ai.queue.domain.model.ArrivalTicket;
+import personal.ai.queue.domain.model.QueuePosition;
 import personal.ai.queue.domain.model.QueueStatus;
 import personal.ai.queue.domain.model.QueueToken;
 
@@ -17,18 +20,42 @@ import java.util.stream.Stream;
  * QueueRepository 인터페이스 구현체로, 실제 작업은 전문화된 어댑터들에게 위임합니다.
  *
  * 책임 분리:
+ * - RedisEnterQueueAdapter: 대기열 진입 (enter_queue.lua), 로비 도착자 적재 (load_arrivals.lua)
  * - RedisWaitQueueAdapter: Wait Queue 관련 작업
  * - RedisActiveQueueAdapter: Active Queue 관련 작업
  * - RedisTokenConverter: 데이터 변환
  * - RedisLuaScriptExecutor: Lua 스크립트 실행
+ * - RedisQueueSnapshotReader: 다건 상태 파이프라인 조회
+ * - RedisReadRouter: 조회 목적별 Master/Replica 라우팅
  */
 @Slf4j
 @Repository
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "queue.store", havingValue = "redis", matchIfMissing = true)
 public class RedisQueueAdapter implements QueueRepository {
 
+    private final RedisEnterQueueAdapter enterQueueAdapter;
     private final RedisWaitQueueAdapter waitQueueAdapter;
     private final RedisActiveQueueAdapter activeQueueAdapter;
+    private final RedisQueueSnapshotReader snapshotReader;
+
+    // ========== 진입 ==========
+
+    @Override
+    public QueuePosition enterQueue(String concertId, String userId, Instant arrivedAt) {
+        return enterQueueAdapter.enterQueue(concertId, userId, arrivedAt);
+    }
+
+    @Override
+    public QueuePosition enterQueueWithTicket(String concertId, String userId, Instant arrivedAt,
+                                              Instant ticketValidUntil) {
+        return enterQueueAdapter.enterQueueWithTicket(concertId, userId, arrivedAt, ticketValidUntil);
+    }
+
+    @Override
+    public long loadArrivals(String concertId, List<ArrivalTicket> arrivals, Instant ticketValidUntil) {
+        return enterQueueAdapter.loadArrivals(concertId, arrivals, ticketValidUntil);
+    }
 
     // ========== Wait Queue 관련 메서드 ==========
 
@@ -38,13 +65,13 @@ public class RedisQueueAdapter implements QueueRepository {
     }
 
     @Override
-    public Long getWaitQueuePosition(String concertId, String userId) {
-        return waitQueueAdapter.getWaitQueuePosition(concertId, userId);
+    public Long getWaitQueuePosition(String concertId, String userId, ReadPurpose purpose) {
+        return waitQueueAdapter.getWaitQueuePosition(concertId, userId, purpose);
     }
 
     @Override
-    public Long getWaitQueueSize(String concertId) {
-        return waitQueueAdapter.getWaitQueueSize(concertId);
+    public Long getWaitQueueSize(String concertId, ReadPurpose purpose) {
+        return waitQueueAdapter.getWaitQueueSize(concertId, purpose);
     }
 
     @Override
@@ -57,6 +84,11 @@ public class RedisQueueAdapter implements QueueRepository {
         waitQueueAdapter.removeFromWaitQueue(concertId, userId);
     }
 
+    @Override
+    public long getActivationEpoch(String concertId, ReadPurpose purpose) {
+        return waitQueueAdapter.getActivationEpoch(concertId, purpose);
+    }
+
     // ========== Active Queue 관련 메서드 ==========
 
     @Override
@@ -65,23 +97,29 @@ public class RedisQueueAdapter implements QueueRepository {
     }
 
     @Override
-    public Optional<QueueToken> getActiveToken(String concertId, String userId) {
-        return activeQueueAdapter.getActiveToken(concertId, userId);
+    public Optional<QueueToken> getActiveToken(String concertId, String userId, ReadPurpose purpose) {
+        return activeQueueAdapter.getActiveToken(concertId, userId, purpose);
     }
 
     @Override
-    public void updateTokenExpiration(String concertId, String userId, Instant expiredAt) {
-        activeQueueAdapter.updateTokenExpiration(concertId, userId, expiredAt);
+    public QueueEntrySnapshot getQueueEntrySnapshot(String concertId, String userId, ReadPurpose purpose) {
+        return snapshotReader.readSnapshot(concertId, userId, purpose);
     }
 
     @Override
-    public void updateTokenStatus(String concertId, String userId, QueueStatus status) {
-        activeQueueAdapter.updateTokenStatus(concertId, userId, status);
+    public List<QueueEntrySnapshot> getQueueEntrySnapshots(String concertId, List<String> userIds) {
+        return snapshotReader.readSnapshots(concertId, userIds);
     }
 
     @Override
-    public Integer incrementExtendCount(String concertId, String userId) {
-        return activeQueueAdapter.incrementExtendCount(concertId, userId);
+    public boolean updateTokenStatus(String concertId, String userId, QueueStatus status) {
+        return activeQueueAdapter.updateTokenStatus(concertId, userId, status);
+    }
+
+    @Override
+    public Optional<TokenTransition> extendTokenAtomic(String concertId, String userId, Instant newExpiredAt,
+                                                       int maxExtendCount) {
+        return activeQueueAdapter.extendTokenAtomic(concertId, userId, newExpiredAt, maxExtendCount);
     }
 
     @Override
@@ -99,15 +137,20 @@ public class RedisQueueAdapter implements QueueRepository {
         activeQueueAdapter.removeFromActiveQueue(concertId, userId);
     }
 
+    @Override
+    public long removeFromActiveQueueBatch(String concertId, List<ActiveRemoval> removals) {
+        return activeQueueAdapter.removeFromActiveQueueBatch(concertId, removals);
+    }
+
     // ========== 배치 작업 메서드 ==========
 
     @Override
-    public List<String> moveToActiveQueueAtomic(String concertId, int count, Instant expiredAt) {
-        return activeQueueAdapter.moveToActiveQueueAtomic(concertId, count, expiredAt);
+    public ActivationBatch moveToActiveQueueAtomic(String concertId, int activeMaxSize, Instant expiredAt) {
+        return activeQueueAdapter.moveToActiveQueueAtomic(concertId, activeMaxSize, expiredAt);
     }
 
     @Override
-    public boolean activateTokenAtomic(String concertId, String userId, Instant newExpiredAt) {
+    public Optional<TokenTransition> activateTokenAtomic(String concertId, String userId, Instant newExpiredAt) {
         return activeQueueAdapter.activateTokenAtomic(concertId, userId, newExpiredAt);
     }
 
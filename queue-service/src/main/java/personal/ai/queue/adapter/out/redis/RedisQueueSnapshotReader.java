@@ -0,0 +1,167 @@
+package personal.ai.queue.adapter.out.redis;
+
+import io.lettuce.core.LettuceFutures;
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.cluster.api.async.RedisClusterAsyncCommands;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import personal.ai.queue.application.config.QueueConfigProperties;
+import personal.ai.queue.application.port.out.QueueRepository.QueueEntrySnapshot;
+import personal.ai.queue.application.port.out.QueueRepository.ReadPurpose;
+import personal.ai.queue.domain.exception.QueueDataCorruptionException;
+import personal.ai.queue.domain.model.QueueToken;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상태 조회 전담 어댑터
+ * - 단건 (Master): HGETALL + ZRANK를 get_queue_status.lua 하나로 실행 (왕복 1회, 원자적)
+ * - 단건 (DISPLAY + Replica 읽기): 다건과 같은 ZRANK → HGETALL 연속 전송 (왕복 1회)
+ * - 다건: 같은 콘서트의 여러 유저에 대해 ZRANK → HGETALL을 비동기로 연달아 전송 후 한꺼번에 대기
+ *
+ * Replica에서 Lua 스크립트를 쓰지 않는 이유:
+ * - Lettuce는 EVALSHA를 쓰기 명령으로 분류하여 ReadFrom 설정과 무관하게 Master로 보냄
+ * - EVALSHA_RO는 Redis 7 이상에서만 지원되므로 같은 효과를 일반 읽기 명령으로 구현
+ *
+ * ZRANK를 HGETALL보다 먼저 보내는 이유:
+ * - 한 연결의 명령은 순서대로 실행되므로, 두 명령 사이에 Wait → Active 전환이 반영되어도
+ *   "순번 있음" 또는 "토큰 있음" 중 하나는 관측됨 (둘 다 없음(NOT_FOUND)으로 보이지 않음)
+ *
+ * 다건 조회는 연결의 비동기 명령을 직접 사용:
+ * - SHARED 모드에서는 공유 연결에 명령이 즉시 flush되어 응답 대기 없이 연속 전송 (파이프라인과 같은 효과)
+ * - executePipelined와 달리 전용 연결을 열지 않으므로 풀 없이도 배치마다 연결을 만들지 않음
+ *
+ * Redis Cluster 호환:
+ * - active:token:{concertId}:userId, queue:wait:{concertId}는 같은 Hash Slot
+ * - 배치 전체가 하나의 노드로 전송됨 (왕복 1회)
+ * - 상태 표시 전용이므로 Replica 우선 (RedisReadRouter DISPLAY)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "queue.store", havingValue = "redis", matchIfMissing = true)
+@RequiredArgsConstructor
+public class RedisQueueSnapshotReader {
+
+    private final RedisReadRouter readRouter;
+    private final RedisTokenConverter tokenConverter;
+    private final RedisLuaScriptExecutor luaScriptExecutor;
+    private final RedisTokenTrackingCache tokenCache;
+    private final QueueConfigProperties configProperties;
+
+    /**
+     * 한 유저의 Active Token과 Wait Queue 순번을 조회합니다.
+     * 로컬 토큰 캐시에 적중하면 Redis를 호출하지 않습니다.
+     * DISPLAY 목적이고 Replica 읽기가 켜져 있으면 Replica에서 읽기 명령으로 조회하고,
+     * 그 외에는 Master에서 get_queue_status.lua로 조회합니다.
+     *
+     * @param concertId 콘서트 ID
+     * @param userId 사용자 ID
+     * @param purpose 조회 목적
+     * @return 스냅샷
+     */
+    public QueueEntrySnapshot readSnapshot(String concertId, String userId, ReadPurpose purpose) {
+        var tokenKey = RedisKeyGenerator.activeTokenKey(concertId, userId);
+
+        var cached = tokenCache.getIfPresent(tokenKey);
+        if (cached.isPresent()) {
+            return new QueueEntrySnapshot(cached.get(), null);
+        }
+
+        if (purpose == ReadPurpose.DISPLAY && readRouter.isReplicaReadEnabled()) {
+            return readSnapshots(concertId, List.of(userId)).get(0);
+        }
+
+        var jsonResult = luaScriptExecutor.executeGetQueueStatus(
+                readRouter.templateFor(purpose, concertId),
+                tokenKey,
+                RedisKeyGenerator.waitQueueKey(concertId),
+                userId
+        );
+        return tokenConverter.parseQueueEntrySnapshot(jsonResult, concertId, userId);
+    }
+
+    /**
+     * 여러 유저의 Active Token과 Wait Queue 순번을 한 번에 조회합니다.
+     *
+     * @param concertId 콘서트 ID
+     * @param userIds 사용자 ID 리스트
+     * @return userIds와 같은 순서의 스냅샷 리스트
+     */
+    public List<QueueEntrySnapshot> readSnapshots(String concertId, List<String> userIds) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+
+        RedisTemplate<String, String> redisTemplate = readRouter.templateFor(ReadPurpose.DISPLAY, concertId);
+        List<QueueEntrySnapshot> snapshots = redisTemplate.execute((RedisCallback<List<QueueEntrySnapshot>>)
+                connection -> readSnapshotsAsync(connection.getNativeConnection(), concertId, userIds));
+
+        log.debug("Read queue snapshots: concertId={}, count={}", concertId, userIds.size());
+        return snapshots;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<QueueEntrySnapshot> readSnapshotsAsync(Object nativeConnection, String concertId,
+                                                        List<String> userIds) {
+        var commands = (RedisClusterAsyncCommands<byte[], byte[]>) nativeConnection;
+        var waitQueueKey = toBytes(RedisKeyGenerator.waitQueueKey(concertId));
+        long timeoutMs = configProperties.redisConnection().batchTimeoutMs();
+
+        List<RedisFuture<Map<byte[], byte[]>>> hashes = new ArrayList<>(userIds.size());
+        List<RedisFuture<Long>> ranks = new ArrayList<>(userIds.size());
+        for (String userId : userIds) {
+            ranks.add(commands.zrank(waitQueueKey, toBytes(userId)));
+            hashes.add(commands.hgetall(toBytes(RedisKeyGenerator.activeTokenKey(concertId, userId))));
+        }
+
+        List<QueueEntrySnapshot> snapshots = new ArrayList<>(userIds.size());
+        for (int i = 0; i < userIds.size(); i++) {
+            String userId = userIds.get(i);
+            Map<byte[], byte[]> hash = LettuceFutures.awaitOrCancel(hashes.get(i), timeoutMs, TimeUnit.MILLISECONDS);
+            Long rank = LettuceFutures.awaitOrCancel(ranks.get(i), timeoutMs, TimeUnit.MILLISECONDS);
+
+            snapshots.add(new QueueEntrySnapshot(toActiveToken(toHashData(hash), concertId, userId), rank));
+        }
+        return snapshots;
+    }
+
+    private static byte[] toBytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static Map<Object, Object> toHashData(Map<byte[], byte[]> hash) {
+        if (hash == null || hash.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Object, Object> hashData = new HashMap<>(hash.size());
+        hash.forEach((field, value) -> hashData.put(
+                new String(field, StandardCharsets.UTF_8),
+                new String(value, StandardCharsets.UTF_8)));
+        return hashData;
+    }
+
+    @SuppressWarnings("unchecked")
+    private QueueToken toActiveToken(Object hash, String concertId, String userId) {
+        if (!(hash instanceof Map<?, ?> hashData) || hashData.isEmpty()) {
+            return null;
+        }
+
+        try {
+            return tokenConverter.toQueueToken((Map<Object, Object>) hashData, concertId, userId);
+        } catch (Exception e) {
+            log.error("Queue data corruption detected - Token data exists but format is invalid: " +
+                    "concertId={}, userId={}, data={}", concertId, userId, hashData, e);
+            throw new QueueDataCorruptionException(e);
+        }
+    }
+}
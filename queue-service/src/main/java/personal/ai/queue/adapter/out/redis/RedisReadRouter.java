@@ -0,0 +1,267 @@
+package personal.ai.queue.adapter.out.redis;
+
+import io.lettuce.core.ReadFrom;
+import io.lettuce.core.cluster.ClusterClientOptions;
+import io.lettuce.core.cluster.ClusterTopologyRefreshOptions;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.data.redis.connection.RedisClusterConfiguration;
+import org.springframework.data.redis.connection.RedisPassword;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import personal.ai.queue.application.config.QueueConfigProperties;
+import personal.ai.queue.application.port.out.QueueRepository.ReadPurpose;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Redis 읽기 라우터 (Read-from-Replica)
+ * 조회 목적에 따라 Master 또는 Replica로 읽기를 분배합니다.
+ *
+ * 라우팅 정책:
+ * - DISPLAY (순번/상태 표시): Replica 우선 (REPLICA_PREFERRED, Replica 장애 시 Master)
+ * - ADMISSION (토큰 검증/활성화/진입 판정): 항상 Master
+ *
+ * Staleness 측정:
+ * - Replica로 읽은 콘서트의 Activation Epoch를 Master/Replica 양쪽에서 주기적으로 조회
+ * - Epoch 차이 = Replica 순번이 실제보다 뒤처진 인원 수
+ * - Replica가 Master Epoch를 따라잡기까지 걸린 시간을 Timer로 기록
+ *
+ * Replica 읽기는 Redis Cluster 모드에서만 활성화되며, 그 외에는 모든 읽기가 Master로 갑니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "queue.store", havingValue = "redis", matchIfMissing = true)
+public class RedisReadRouter {
+
+    // 최근 조회가 없는 콘서트는 Staleness 측정 대상에서 제외
+    private static final long PROBE_IDLE_TIMEOUT_MS = 60_000L;
+
+    private final RedisTemplate<String, String> masterTemplate;
+    private final RedisTemplate<String, String> replicaTemplate;
+    private final LettuceConnectionFactory replicaConnectionFactory;
+
+    private final Counter displayReplicaReads;
+    private final Counter displayMasterReads;
+    private final Counter admissionMasterReads;
+    private final Timer catchUpTimer;
+
+    // Replica로 읽은 콘서트 (concertId -> 마지막 조회 시각)
+    private final Map<String, Long> probedConcerts = new ConcurrentHashMap<>();
+    // Replica가 따라잡아야 할 Master Epoch (concertId -> 대기 중인 Epoch)
+    private final Map<String, PendingCatchUp> pendingCatchUps = new ConcurrentHashMap<>();
+    private final AtomicLong maxEpochLag = new AtomicLong();
+
+    @Autowired
+    public RedisReadRouter(RedisTemplate<String, String> redisTemplate,
+                           RedisProperties redisProperties,
+                           QueueConfigProperties configProperties,
+                           MeterRegistry meterRegistry) {
+        this(redisTemplate, createReplicaConnectionFactory(redisProperties, configProperties.readRouting()),
+                meterRegistry);
+    }
+
+    private RedisReadRouter(RedisTemplate<String, String> redisTemplate,
+                            LettuceConnectionFactory replicaConnectionFactory,
+                            MeterRegistry meterRegistry) {
+        this(redisTemplate,
+                replicaConnectionFactory != null ? createTemplate(replicaConnectionFactory) : null,
+                replicaConnectionFactory,
+                meterRegistry);
+    }
+
+    /**
+     * Replica 템플릿 직접 지정 (replicaTemplate이 null이면 모든 읽기를 Master로)
+     */
+    RedisReadRouter(RedisTemplate<String, String> masterTemplate,
+                    RedisTemplate<String, String> replicaTemplate,
+                    LettuceConnectionFactory replicaConnectionFactory,
+                    MeterRegistry meterRegistry) {
+        this.masterTemplate = masterTemplate;
+        this.replicaTemplate = replicaTemplate;
+        this.replicaConnectionFactory = replicaConnectionFactory;
+
+        this.displayReplicaReads = readCounter(meterRegistry, ReadPurpose.DISPLAY, "replica");
+        this.displayMasterReads = readCounter(meterRegistry, ReadPurpose.DISPLAY, "master");
+        this.admissionMasterReads = readCounter(meterRegistry, ReadPurpose.ADMISSION, "master");
+        this.catchUpTimer = Timer.builder("queue.redis.replica.catchup")
+                .description("Time until a replica reflects an activation epoch observed on the master")
+                .register(meterRegistry);
+        Gauge.builder("queue.redis.replica.epoch.lag", maxEpochLag, AtomicLong::get)
+                .description("Max activation epoch gap between master and replica (users not yet reflected)")
+                .register(meterRegistry);
+
+        log.info("RedisReadRouter initialized: replicaReads={}", isReplicaReadEnabled());
+    }
+
+    /**
+     * 조회 목적에 맞는 RedisTemplate 반환
+     *
+     * @param purpose 조회 목적
+     * @param concertId Staleness 측정 대상 콘서트 ID
+     * @return DISPLAY는 Replica 우선 템플릿, ADMISSION은 Master 템플릿
+     */
+    public RedisTemplate<String, String> templateFor(ReadPurpose purpose, String concertId) {
+        if (purpose == ReadPurpose.ADMISSION) {
+            admissionMasterReads.increment();
+            return masterTemplate;
+        }
+
+        if (replicaTemplate == null) {
+            displayMasterReads.increment();
+            return masterTemplate;
+        }
+
+        displayReplicaReads.increment();
+        probedConcerts.put(concertId, System.currentTimeMillis());
+        return replicaTemplate;
+    }
+
+    public boolean isReplicaReadEnabled() {
+        return replicaTemplate != null;
+    }
+
+    /**
+     * Replica Staleness 측정
+     * Replica로 읽은 콘서트에 대해 Master/Replica의 Activation Epoch를 비교
+     */
+    @Scheduled(fixedDelayString = "${queue.read-routing.staleness-probe-interval-ms:1000}")
+    public void probeReplicaStaleness() {
+        if (replicaTemplate == null) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        long maxLag = 0;
+
+        for (Map.Entry<String, Long> entry : probedConcerts.entrySet()) {
+            String concertId = entry.getKey();
+            if (now - entry.getValue() > PROBE_IDLE_TIMEOUT_MS) {
+                probedConcerts.remove(concertId, entry.getValue());
+                pendingCatchUps.remove(concertId);
+                continue;
+            }
+
+            try {
+                String epochKey = RedisKeyGenerator.activationEpochKey(concertId);
+                long masterEpoch = parseEpoch(masterTemplate.opsForValue().get(epochKey));
+                long replicaEpoch = parseEpoch(replicaTemplate.opsForValue().get(epochKey));
+                long lag = Math.max(0, masterEpoch - replicaEpoch);
+                maxLag = Math.max(maxLag, lag);
+
+                recordCatchUp(concertId, masterEpoch, replicaEpoch, now);
+            } catch (Exception e) {
+                log.warn("Replica staleness probe failed: concertId={}", concertId, e);
+            }
+        }
+
+        maxEpochLag.set(maxLag);
+    }
+
+    /**
+     * 이전에 관측한 Master Epoch를 Replica가 따라잡았다면 소요 시간 기록
+     */
+    private void recordCatchUp(String concertId, long masterEpoch, long replicaEpoch, long now) {
+        PendingCatchUp pending = pendingCatchUps.get(concertId);
+        if (pending != null && replicaEpoch >= pending.epoch()) {
+            catchUpTimer.record(now - pending.observedAtMs(), TimeUnit.MILLISECONDS);
+            pendingCatchUps.remove(concertId);
+            pending = null;
+        }
+
+        if (pending == null && replicaEpoch < masterEpoch) {
+            pendingCatchUps.put(concertId, new PendingCatchUp(masterEpoch, now));
+        }
+    }
+
+    private static long parseEpoch(String value) {
+        return value != null ? Long.parseLong(value) : 0L;
+    }
+
+    private static Counter readCounter(MeterRegistry meterRegistry, ReadPurpose purpose, String target) {
+        return Counter.builder("queue.redis.reads")
+                .description("Redis reads by purpose and routed node type")
+                .tag("purpose", purpose.name().toLowerCase())
+                .tag("target", target)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Replica 읽기용 Connection Factory 생성
+     * 기본 Connection Factory(Master 읽기)와 같은 Cluster 설정에 ReadFrom.REPLICA_PREFERRED만 적용
+     */
+    private static LettuceConnectionFactory createReplicaConnectionFactory(RedisProperties redisProperties,
+                                                                           QueueConfigProperties.ReadRouting readRouting) {
+        if (!readRouting.replicaReadsEnabled()) {
+            return null;
+        }
+
+        RedisProperties.Cluster cluster = redisProperties.getCluster();
+        if (cluster == null || cluster.getNodes() == null || cluster.getNodes().isEmpty()) {
+            log.warn("Replica reads enabled but Redis Cluster nodes are not configured - all reads go to master");
+            return null;
+        }
+
+        RedisClusterConfiguration clusterConfiguration = new RedisClusterConfiguration(cluster.getNodes());
+        if (cluster.getMaxRedirects() != null) {
+            clusterConfiguration.setMaxRedirects(cluster.getMaxRedirects());
+        }
+        clusterConfiguration.setUsername(redisProperties.getUsername());
+        clusterConfiguration.setPassword(RedisPassword.of(redisProperties.getPassword()));
+
+        ClusterTopologyRefreshOptions topologyRefresh = ClusterTopologyRefreshOptions.builder()
+                .enableAllAdaptiveRefreshTriggers()
+                .enablePeriodicRefresh(Duration.ofSeconds(30))
+                .build();
+
+        LettuceClientConfiguration clientConfiguration = LettuceClientConfiguration.builder()
+                .readFrom(ReadFrom.REPLICA_PREFERRED)
+                .commandTimeout(redisProperties.getTimeout() != null
+                        ? redisProperties.getTimeout()
+                        : Duration.ofSeconds(3))
+                .clientOptions(ClusterClientOptions.builder()
+                        .topologyRefreshOptions(topologyRefresh)
+                        .build())
+                .build();
+
+        LettuceConnectionFactory connectionFactory =
+                new LettuceConnectionFactory(clusterConfiguration, clientConfiguration);
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        return connectionFactory;
+    }
+
+    private static RedisTemplate<String, String> createTemplate(LettuceConnectionFactory connectionFactory) {
+        RedisTemplate<String, String> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        RedisConfig.applyStringSerializers(template);
+        template.afterPropertiesSet();
+        return template;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (replicaConnectionFactory != null) {
+            replicaConnectionFactory.destroy();
+        }
+    }
+
+    /**
+     * Replica가 따라잡아야 할 Master Epoch
+     */
+    private record PendingCatchUp(long epoch, long observedAtMs) {}
+}
@@ -0,0 +1,288 @@
+package personal.ai.queue.adapter.out.redis;
+
+import io.lettuce.core.RedisNoScriptException;
+import io.lettuce.core.cluster.event.ClusterTopologyChangedEvent;
+import io.lettuce.core.resource.ClientResources;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.charset.StandardCharsets;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Lua 스크립트 레지스트리
+ * 대기열 Lua 스크립트를 미리 적재하고, 요청 경로에서는 EVALSHA만 사용합니다.
+ *
+ * 적재 시점 (SCRIPT LOAD):
+ * - 애플리케이션 시작 시 (트래픽 수신 전)
+ * - Cluster 토폴로지 변경 시 (Failover로 승격된 노드, 새로 추가된 노드)
+ * - EVALSHA가 NOSCRIPT로 실패했을 때 (SCRIPT FLUSH, 재시작 등): 해당 스크립트만 적재하며,
+ *   같은 스크립트의 동시 NOSCRIPT는 한 스레드만 적재하고 나머지는 그 결과를 기다림 (Single Flight)
+ *
+ * SCRIPT LOAD는 Lettuce Cluster 클라이언트가 모든 Master 노드로 전송하며,
+ * Redis가 돌려준 SHA1이 로컬에서 계산한 값과 다르면 적재 실패로 처리합니다.
+ *
+ * Spring의 기본 실행 방식(EVALSHA 실패 시 EVAL로 본문 재전송)과 달리
+ * 요청 경로에서는 스크립트 본문을 보내지 않으며, NOSCRIPT 시 해당 스크립트 재적재 후 EVALSHA를 1회 재시도합니다.
+ *
+ * 메트릭:
+ * - redis.script.duration{script}: 스크립트 실행 시간
+ * - redis.script.noscript.retries{script}: NOSCRIPT 재시도 횟수
+ * - redis.script.loads{trigger}: 적재 횟수 (startup, topology: 전체 / noscript: 스크립트 1개)
+ * - redis.script.loaded: 마지막 적재에서 검증된 스크립트 수
+ * - 노드/Key 계열별 EVALSHA 지연은 RedisCommandTracker의 queue.redis.command.duration{script}
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "queue.store", havingValue = "redis", matchIfMissing = true)
+public class RedisScriptRegistry implements SmartInitializingSingleton {
+
+    private static final String SCRIPT_BEAN_SUFFIX = "Script";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ClientResources clientResources;
+    private final MeterRegistry meterRegistry;
+    private final Map<RedisScript<?>, String> scriptNames = new IdentityHashMap<>();
+    private final AtomicInteger loadedScripts = new AtomicInteger();
+    // NOSCRIPT 재적재 진행 중인 스크립트 (SHA1 → 적재 완료 Future)
+    private final Map<String, CompletableFuture<Void>> reloadsInFlight = new ConcurrentHashMap<>();
+    private Disposable topologySubscription;
+
+    public RedisScriptRegistry(RedisTemplate<String, String> redisTemplate,
+                               Map<String, RedisScript<?>> scripts,
+                               ClientResources clientResources,
+                               RedisCommandTracker commandTracker,
+                               MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.clientResources = clientResources;
+        this.meterRegistry = meterRegistry;
+        scripts.forEach((beanName, script) -> {
+            String name = scriptName(beanName);
+            scriptNames.put(script, name);
+            commandTracker.registerScript(script.getSha1(), name);
+        });
+
+        Gauge.builder("redis.script.loaded", loadedScripts, AtomicInteger::get)
+                .description("Lua scripts verified on Redis at the last load")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 시작 시 전체 스크립트 적재 및 토폴로지 변경 구독
+     * Redis에 연결할 수 없으면 경고만 남기고 NOSCRIPT 재적재에 맡깁니다.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        try {
+            loadAll("startup");
+        } catch (DataAccessException e) {
+            log.warn("Lua script preload skipped, scripts will be loaded on first NOSCRIPT", e);
+        }
+
+        topologySubscription = clientResources.eventBus().get()
+                .filter(ClusterTopologyChangedEvent.class::isInstance)
+                .publishOn(Schedulers.boundedElastic())
+                .subscribe(event -> reloadAfterTopologyChange());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (topologySubscription != null) {
+            topologySubscription.dispose();
+        }
+    }
+
+    /**
+     * 기본(Master) 템플릿으로 스크립트를 실행합니다.
+     */
+    public <T> T execute(RedisScript<T> script, List<String> keys, String... args) {
+        return execute(redisTemplate, script, keys, args);
+    }
+
+    /**
+     * 지정한 템플릿으로 스크립트를 EVALSHA로 실행합니다.
+     * NOSCRIPT이면 해당 스크립트만 재적재한 뒤 1회 재시도합니다.
+     *
+     * @param template 실행할 RedisTemplate
+     * @param script 등록된 스크립트
+     * @param keys KEYS
+     * @param args ARGV
+     * @return 스크립트 결과
+     */
+    public <T> T execute(RedisTemplate<String, String> template, RedisScript<T> script,
+                         List<String> keys, String... args) {
+        String name = nameOf(script);
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return evalSha(template, script, keys, args);
+        } catch (RuntimeException e) {
+            if (!isNoScript(e)) {
+                throw e;
+            }
+
+            log.warn("NOSCRIPT on EVALSHA, reloading Lua script: script={}, sha={}", name, script.getSha1());
+            Counter.builder("redis.script.noscript.retries")
+                    .tag("script", name)
+                    .description("EVALSHA retries after NOSCRIPT")
+                    .register(meterRegistry)
+                    .increment();
+
+            reloadMissing(script, name);
+            return evalSha(template, script, keys, args);
+        } finally {
+            sample.stop(Timer.builder("redis.script.duration")
+                    .tag("script", name)
+                    .description("Redis Lua script execution time")
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * 전체 스크립트를 SCRIPT LOAD하고 SHA1을 검증합니다.
+     *
+     * @param trigger 적재 원인 (메트릭 태그)
+     * @throws IllegalStateException Redis가 돌려준 SHA1이 로컬 값과 다른 경우
+     */
+    public void loadAll(String trigger) {
+        redisTemplate.execute((RedisCallback<Void>) connection -> {
+            scriptNames.forEach((script, name) -> load(connection, script, name));
+            return null;
+        });
+
+        loadedScripts.set(scriptNames.size());
+        meterRegistry.counter("redis.script.loads", "trigger", trigger).increment();
+        log.info("Loaded Lua scripts: trigger={}, count={}", trigger, scriptNames.size());
+    }
+
+    /**
+     * NOSCRIPT가 난 스크립트 1개만 적재 (Single Flight)
+     * 같은 스크립트를 적재 중인 스레드가 있으면 새로 적재하지 않고 그 결과를 기다립니다.
+     * 적재 실패는 기다리던 모든 스레드에 그대로 전달됩니다.
+     */
+    private void reloadMissing(RedisScript<?> script, String name) {
+        CompletableFuture<Void> created = new CompletableFuture<>();
+        CompletableFuture<Void> existing = reloadsInFlight.putIfAbsent(script.getSha1(), created);
+        if (existing != null) {
+            awaitReload(existing);
+            return;
+        }
+
+        try {
+            redisTemplate.execute((RedisCallback<Void>) connection -> {
+                load(connection, script, name);
+                return null;
+            });
+            meterRegistry.counter("redis.script.loads", "trigger", "noscript").increment();
+            created.complete(null);
+        } catch (RuntimeException e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            reloadsInFlight.remove(script.getSha1(), created);
+        }
+    }
+
+    private static void awaitReload(CompletableFuture<Void> reload) {
+        try {
+            reload.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void reloadAfterTopologyChange() {
+        try {
+            loadAll("topology");
+        } catch (RuntimeException e) {
+            log.error("Failed to reload Lua scripts after topology change", e);
+        }
+    }
+
+    private void load(RedisConnection connection, RedisScript<?> script, String name) {
+        String sha = connection.scriptingCommands()
+                .scriptLoad(script.getScriptAsString().getBytes(StandardCharsets.UTF_8));
+
+        if (!script.getSha1().equals(sha)) {
+            loadedScripts.set(0);
+            throw new IllegalStateException(
+                    "Lua script digest mismatch: script=" + name + ", expected=" + script.getSha1() + ", actual=" + sha);
+        }
+    }
+
+    private <T> T evalSha(RedisTemplate<String, String> template, RedisScript<T> script,
+                          List<String> keys, String[] args) {
+        byte[][] keysAndArgs = new byte[keys.size() + args.length][];
+        for (int i = 0; i < keys.size(); i++) {
+            keysAndArgs[i] = keys.get(i).getBytes(StandardCharsets.UTF_8);
+        }
+        for (int i = 0; i < args.length; i++) {
+            keysAndArgs[keys.size() + i] = args[i].getBytes(StandardCharsets.UTF_8);
+        }
+
+        ReturnType returnType = ReturnType.fromJavaType(script.getResultType());
+        return template.execute((RedisCallback<T>) connection -> toResult(
+                connection.scriptingCommands().evalSha(script.getSha1(), returnType, keys.size(), keysAndArgs),
+                script.getResultType()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T toResult(Object raw, Class<T> resultType) {
+        if (raw instanceof byte[] bytes && resultType == String.class) {
+            return (T) new String(bytes, StandardCharsets.UTF_8);
+        }
+        return (T) raw;
+    }
+
+    private String nameOf(RedisScript<?> script) {
+        String name = scriptNames.get(script);
+        if (name == null) {
+            throw new IllegalArgumentException("Unregistered Lua script: sha=" + script.getSha1());
+        }
+        return name;
+    }
+
+    private static boolean isNoScript(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof RedisNoScriptException
+                    || (cause.getMessage() != null && cause.getMessage().contains("NOSCRIPT"))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 빈 이름을 메트릭 태그로 변환 (extendTokenScript → extend_token)
+     */
+    private static String scriptName(String beanName) {
+        String base = beanName.endsWith(SCRIPT_BEAN_SUFFIX)
+                ? beanName.substring(0, beanName.length() - SCRIPT_BEAN_SUFFIX.length())
+                : beanName;
+        return base.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toLowerCase();
+    }
+}
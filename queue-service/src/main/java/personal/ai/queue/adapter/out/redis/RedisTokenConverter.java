@@ -1,18 +1,25 @@
 package personal.ai.queue.adapter.out.redis;
 
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import personal.ai.queue.application.port.out.QueueRepository.ActivationBatch;
+import personal.ai.queue.application.port.out.QueueRepository.QueueEntrySnapshot;
+import personal.ai.queue.application.port.out.QueueRepository.TokenTransition;
+import personal.ai.queue.application.port.out.QueueRepository.TransitionOutcome;
 import personal.ai.queue.domain.exception.QueueDataCorruptionException;
 import personal.ai.queue.domain.exception.QueueTokenInvalidException;
 import personal.ai.queue.domain.model.QueueStatus;
 import personal.ai.queue.domain.model.QueueToken;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * Redis 데이터와 도메인 객체 간의 변환을 담당하는 컨버터
@@ -33,6 +40,15 @@ public class RedisTokenConverter {
     private static final String FIELD_EXPIRED_AT = "expired_at";
     private static final long TTL_BUFFER_SECONDS = 60L; // TTL 버퍼 (1분)
 
+    // Lua 스크립트 JSON 결과 필드
+    private static final String RESULT_OUTCOME = "result";
+    private static final String RESULT_TOKEN = "token";
+    private static final String RESULT_POSITION = "position";
+    private static final String RESULT_MOVED = "moved";
+    private static final String RESULT_ACTIVE_SIZE = "activeSize";
+    private static final String RESULT_WAIT_SIZE = "waitSize";
+    private static final String OUTCOME_NOT_FOUND = "NOT_FOUND";
+
     /**
      * Redis Hash 데이터를 QueueToken 도메인 객체로 변환합니다.
      * 호출자는 redisHashData가 비어있지 않음을 보장해야 합니다.
@@ -55,7 +71,9 @@ public class RedisTokenConverter {
             var expiredAt = Instant.ofEpochSecond(Long.parseLong(expiredAtStr));
 
             return switch (status) {
-                case READY -> QueueToken.ready(concertId, userId, token, expiredAt);
+                // READY 상태에서 연장된 토큰도 저장된 연장 횟수를 유지
+                case READY -> QueueToken.ready(concertId, userId, token, expiredAt)
+                        .withExtension(expiredAt, extendCount);
                 case ACTIVE -> QueueToken.active(concertId, userId, token, expiredAt, extendCount);
                 default -> QueueToken.notFound(concertId, userId);
             };
@@ -83,27 +101,93 @@ public class RedisTokenConverter {
     }
 
     /**
-     * Lua 스크립트가 반환한 JSON 배열을 사용자 ID 리스트로 파싱합니다.
-     * Jackson ObjectMapper를 사용하여 올바르게 JSON을 역직렬화합니다.
+     * 토큰 전환 스크립트(activate_token.lua, extend_token.lua) 결과를 파싱합니다.
+     * 입력 형식 예시: {"result":"APPLIED","token":{"token":"...","status":"ACTIVE",...}}
      *
-     * userId에 특수문자(", ,, [, ])가 포함되어도 안전하게 파싱됩니다.
-     * 입력 형식 예시: ["USER-001","USER-002"] 또는 ["USER\"001","USER,002"]
+     * @param json Lua 스크립트 실행 결과 (JSON 객체 문자열)
+     * @param concertId 콘서트 ID
+     * @param userId 사용자 ID
+     * @return 전환 결과 (NOT_FOUND면 empty)
+     * @throws QueueDataCorruptionException JSON 파싱에 실패한 경우
+     */
+    public Optional<TokenTransition> parseTokenTransition(String json, String concertId, String userId) {
+        try {
+            JsonNode root = objectMapper.readTree(json);
+            String outcome = root.path(RESULT_OUTCOME).asText();
+            if (OUTCOME_NOT_FOUND.equals(outcome)) {
+                return Optional.empty();
+            }
+
+            QueueToken token = toQueueToken(toHashData(root.get(RESULT_TOKEN)), concertId, userId);
+            return Optional.of(new TokenTransition(TransitionOutcome.valueOf(outcome), token));
+        } catch (Exception e) {
+            log.error("Failed to parse token transition from JSON: json={}", json, e);
+            throw new QueueDataCorruptionException(e);
+        }
+    }
+
+    /**
+     * 상태 조회 스크립트(get_queue_status.lua) 결과를 파싱합니다.
+     * 입력 형식 예시: {"token":{...}} 또는 {"position":41} 또는 {}
      *
-     * @param jsonArrayString Lua 스크립트 실행 결과 (JSON 배열 문자열)
-     * @return 사용자 ID 리스트
+     * @param json Lua 스크립트 실행 결과 (JSON 객체 문자열)
+     * @param concertId 콘서트 ID
+     * @param userId 사용자 ID
+     * @return 스냅샷 (Active Token 또는 Wait Queue 순번)
      * @throws QueueDataCorruptionException JSON 파싱에 실패한 경우
      */
-    public List<String> parseUserIdsFromJson(String jsonArrayString) {
-        if (jsonArrayString == null || jsonArrayString.isEmpty() || jsonArrayString.equals("[]")) {
-            return List.of();
+    public QueueEntrySnapshot parseQueueEntrySnapshot(String json, String concertId, String userId) {
+        try {
+            JsonNode root = objectMapper.readTree(json);
+            JsonNode token = root.get(RESULT_TOKEN);
+            JsonNode position = root.get(RESULT_POSITION);
+
+            return new QueueEntrySnapshot(
+                    token != null ? toQueueToken(toHashData(token), concertId, userId) : null,
+                    position != null ? position.asLong() : null);
+        } catch (Exception e) {
+            log.error("Failed to parse queue status from JSON: json={}", json, e);
+            throw new QueueDataCorruptionException(e);
         }
+    }
 
+    /**
+     * 전환 스크립트(move_to_active_queue.lua) 결과를 파싱합니다.
+     * Lua cjson은 빈 테이블을 {}로 인코딩하므로 moved가 객체이면 빈 리스트로 처리합니다.
+     *
+     * userId에 특수문자(", ,, [, ])가 포함되어도 안전하게 파싱됩니다.
+     * 입력 형식 예시: {"moved":["USER-001","USER\"002"],"activeSize":2,"waitSize":10}
+     *
+     * @param json Lua 스크립트 실행 결과 (JSON 객체 문자열)
+     * @return 이동된 사용자 ID 리스트와 처리 후 Queue 크기
+     * @throws QueueDataCorruptionException JSON 파싱에 실패한 경우
+     */
+    public ActivationBatch parseActivationBatch(String json) {
         try {
-            // Jackson ObjectMapper로 안전하게 JSON 파싱
-            return objectMapper.readValue(jsonArrayString, new TypeReference<List<String>>() {});
+            JsonNode root = objectMapper.readTree(json);
+            JsonNode moved = root.path(RESULT_MOVED);
+
+            List<String> movedUserIds = new ArrayList<>(moved.size());
+            if (moved.isArray()) {
+                moved.forEach(userId -> movedUserIds.add(userId.asText()));
+            }
+
+            return new ActivationBatch(
+                    movedUserIds,
+                    root.path(RESULT_ACTIVE_SIZE).asLong(),
+                    root.path(RESULT_WAIT_SIZE).asLong());
         } catch (Exception e) {
-            log.error("Failed to parse user IDs from JSON: jsonArrayString={}", jsonArrayString, e);
+            log.error("Failed to parse activation batch from JSON: json={}", json, e);
             throw new QueueDataCorruptionException(e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Lua 스크립트가 반환한 토큰 JSON 객체를 Redis Hash 형태로 변환합니다.
+     */
+    private Map<Object, Object> toHashData(JsonNode token) {
+        Map<Object, Object> hashData = new HashMap<>();
+        token.fields().forEachRemaining(field -> hashData.put(field.getKey(), field.getValue().asText()));
+        return hashData;
+    }
+}
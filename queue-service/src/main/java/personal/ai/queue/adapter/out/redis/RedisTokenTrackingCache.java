@@ -0,0 +1,357 @@
+package personal.ai.queue.adapter.out.redis;
+
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.TrackingArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.push.PushListener;
+import io.lettuce.core.api.push.PushMessage;
+import io.lettuce.core.cluster.ClusterClientOptions;
+import io.lettuce.core.cluster.RedisClusterClient;
+import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
+import io.lettuce.core.cluster.models.partitions.RedisClusterNode;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.protocol.ProtocolVersion;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import personal.ai.queue.application.config.QueueConfigProperties;
+import personal.ai.queue.domain.model.QueueToken;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+/**
+ * Active Token 로컬 캐시 (Redis Server-Assisted Client-Side Caching)
+ * RESP3 CLIENT TRACKING(BCAST) 무효화 메시지로 active:token:* 해시를 로컬에 캐싱합니다.
+ *
+ * 동작:
+ * - 전용 RESP3 연결에서 CLIENT TRACKING ON BCAST PREFIX active:token: 실행 (Cluster는 Master 노드마다)
+ * - activate_token.lua, 연장, 상태 변경, 제거, 만료 등 키가 바뀌면 서버가 invalidate 메시지를 전송
+ * - 같은 인스턴스의 쓰기는 응답 직후 로컬에서도 즉시 무효화
+ *
+ * 정합성:
+ * - 로딩 중 무효화 경쟁: 조회 전에 로딩 마커를 넣고, 무효화로 마커가 사라졌다면 결과를 캐싱하지 않음
+ * - Tracking 연결 끊김: 무효화 메시지를 놓칠 수 있으므로 캐시 전체 폐기 후 재연결 전까지 캐시 미사용
+ * - 안전장치: maxAgeMs가 지난 항목은 무효화 메시지와 무관하게 다시 조회
+ * - Master에서 읽은 값만 캐싱 (Replica 값은 무효화 이후에 도착할 수 있음)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "queue.store", havingValue = "redis", matchIfMissing = true)
+public class RedisTokenTrackingCache {
+
+    private static final String INVALIDATE_MESSAGE = "invalidate";
+    private static final String TRACKED_PREFIX = "active:token:";
+
+    private final QueueConfigProperties.TokenCache cacheConfig;
+    private final RedisProperties redisProperties;
+
+    // tokenKey -> 캐시 항목 (Loading 마커 또는 Cached 값)
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final List<StatefulRedisConnection<String, String>> trackingConnections = new CopyOnWriteArrayList<>();
+    private volatile boolean trackingActive;
+
+    private RedisClient redisClient;
+    private RedisClusterClient clusterClient;
+    private StatefulRedisClusterConnection<String, String> clusterConnection;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter invalidationCounter;
+
+    public RedisTokenTrackingCache(RedisProperties redisProperties,
+                                   QueueConfigProperties configProperties,
+                                   MeterRegistry meterRegistry) {
+        this.redisProperties = redisProperties;
+        this.cacheConfig = configProperties.tokenCache();
+
+        this.hitCounter = Counter.builder("queue.token.cache.requests")
+                .description("Active token lookups served by the tracking cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("queue.token.cache.requests")
+                .description("Active token lookups served by the tracking cache")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.invalidationCounter = Counter.builder("queue.token.cache.invalidations")
+                .description("Invalidation messages received from Redis for active token keys")
+                .register(meterRegistry);
+        Gauge.builder("queue.token.cache.size", entries, Map::size)
+                .description("Number of active token hashes cached locally")
+                .register(meterRegistry);
+
+        if (cacheConfig.enabled()) {
+            enableTracking();
+        }
+    }
+
+    /**
+     * 캐시 조회 후 없으면 loader로 조회하여 캐싱
+     *
+     * @param tokenKey active:token:{concertId}:userId
+     * @param loader Master 조회 (없으면 Optional.empty())
+     * @return 토큰 (없으면 Optional.empty())
+     */
+    public Optional<QueueToken> get(String tokenKey, Supplier<Optional<QueueToken>> loader) {
+        if (!isTrackingUsable()) {
+            return loader.get();
+        }
+
+        Entry entry = entries.get(tokenKey);
+        if (entry instanceof Cached cached && !cached.isOlderThan(cacheConfig.maxAgeMs())) {
+            hitCounter.increment();
+            return Optional.of(cached.token());
+        }
+        missCounter.increment();
+
+        // 최대 크기 도달 시 새 키는 캐싱하지 않음
+        if (entry == null && entries.size() >= cacheConfig.maxEntries()) {
+            return loader.get();
+        }
+
+        // 로딩 마커: 조회 중 무효화되면 마커가 제거되어 결과를 캐싱하지 않음
+        Loading marker = new Loading();
+        entries.put(tokenKey, marker);
+
+        Optional<QueueToken> token;
+        try {
+            token = loader.get();
+        } catch (RuntimeException e) {
+            entries.remove(tokenKey, marker);
+            throw e;
+        }
+
+        if (token.isPresent() && isTrackingUsable()) {
+            entries.replace(tokenKey, marker, new Cached(token.get(), System.currentTimeMillis()));
+        } else {
+            entries.remove(tokenKey, marker);
+        }
+        return token;
+    }
+
+    /**
+     * 캐시된 값만 조회 (네트워크 조회 없음)
+     * Replica 읽기 경로에서 캐시 적중 시 사용
+     */
+    public Optional<QueueToken> getIfPresent(String tokenKey) {
+        if (!isTrackingUsable()) {
+            return Optional.empty();
+        }
+        Entry entry = entries.get(tokenKey);
+        if (entry instanceof Cached cached && !cached.isOlderThan(cacheConfig.maxAgeMs())) {
+            hitCounter.increment();
+            return Optional.of(cached.token());
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 무효화 메시지를 받을 수 있는 상태인지 확인
+     * 연결이 하나라도 끊겼다면 무효화를 놓쳤을 수 있으므로 캐시 미사용
+     */
+    private boolean isTrackingUsable() {
+        if (!trackingActive) {
+            return false;
+        }
+        for (StatefulRedisConnection<String, String> connection : trackingConnections) {
+            if (!connection.isOpen()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 로컬 무효화 (같은 인스턴스의 쓰기 직후)
+     */
+    public void invalidate(String tokenKey) {
+        entries.remove(tokenKey);
+    }
+
+    /**
+     * Tracking 연결 상태 확인 및 복구
+     * 연결이 끊겼거나 토폴로지가 바뀌면 캐시를 비우고 Tracking을 다시 설정
+     */
+    @Scheduled(fixedDelayString = "${queue.token-cache.health-check-interval-ms:5000}")
+    public void checkTracking() {
+        if (!cacheConfig.enabled()) {
+            return;
+        }
+
+        boolean healthy = isTrackingUsable() && !trackingConnections.isEmpty() && !topologyChanged();
+        if (!healthy) {
+            disableTracking();
+            enableTracking();
+        }
+    }
+
+    /**
+     * Tracking 연결 생성 및 CLIENT TRACKING 설정
+     */
+    private synchronized void enableTracking() {
+        try {
+            RedisProperties.Cluster cluster = redisProperties.getCluster();
+            if (cluster != null && cluster.getNodes() != null && !cluster.getNodes().isEmpty()) {
+                connectCluster(cluster.getNodes());
+            } else {
+                connectStandalone();
+            }
+
+            TrackingArgs trackingArgs = TrackingArgs.Builder.enabled().bcast().prefixes(TRACKED_PREFIX);
+            for (StatefulRedisConnection<String, String> connection : trackingConnections) {
+                connection.addListener((PushListener) this::onPushMessage);
+                connection.sync().clientTracking(trackingArgs);
+            }
+
+            trackingActive = true;
+            log.info("Token tracking cache enabled: nodes={}", trackingConnections.size());
+        } catch (Exception e) {
+            log.warn("Token tracking cache unavailable - falling back to Redis reads", e);
+            disableTracking();
+        }
+    }
+
+    private void connectStandalone() {
+        if (redisClient == null) {
+            redisClient = RedisClient.create(toUri(redisProperties.getHost(), redisProperties.getPort()));
+            redisClient.setOptions(ClientOptions.builder()
+                    .protocolVersion(ProtocolVersion.RESP3)
+                    .autoReconnect(false)
+                    .build());
+        }
+        trackingConnections.add(redisClient.connect());
+    }
+
+    private void connectCluster(List<String> nodes) {
+        if (clusterClient == null) {
+            List<RedisURI> seeds = nodes.stream()
+                    .map(node -> {
+                        int separator = node.lastIndexOf(':');
+                        return toUri(node.substring(0, separator), Integer.parseInt(node.substring(separator + 1)));
+                    })
+                    .toList();
+            clusterClient = RedisClusterClient.create(seeds);
+            clusterClient.setOptions(ClusterClientOptions.builder()
+                    .protocolVersion(ProtocolVersion.RESP3)
+                    .autoReconnect(false)
+                    .build());
+        }
+
+        clusterConnection = clusterClient.connect();
+        // BCAST 무효화는 노드별로 전송되므로 Master마다 Tracking 연결 설정
+        for (RedisClusterNode node : clusterConnection.getPartitions()) {
+            if (node.is(RedisClusterNode.NodeFlag.UPSTREAM)) {
+                trackingConnections.add(clusterConnection.getConnection(node.getNodeId()));
+            }
+        }
+    }
+
+    private boolean topologyChanged() {
+        if (clusterConnection == null) {
+            return false;
+        }
+        clusterClient.refreshPartitions();
+        long upstreamCount = clusterClient.getPartitions().stream()
+                .filter(node -> node.is(RedisClusterNode.NodeFlag.UPSTREAM))
+                .count();
+        return upstreamCount != trackingConnections.size();
+    }
+
+    private RedisURI toUri(String host, int port) {
+        RedisURI.Builder builder = RedisURI.builder().withHost(host).withPort(port);
+        if (redisProperties.getTimeout() != null) {
+            builder.withTimeout(redisProperties.getTimeout());
+        }
+        if (StringUtils.hasText(redisProperties.getPassword())) {
+            if (StringUtils.hasText(redisProperties.getUsername())) {
+                builder.withAuthentication(redisProperties.getUsername(), redisProperties.getPassword());
+            } else {
+                builder.withPassword(redisProperties.getPassword().toCharArray());
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * 무효화 메시지 처리
+     * 내용이 null이면 FLUSHDB 등으로 전체 무효화
+     */
+    private void onPushMessage(PushMessage message) {
+        if (!INVALIDATE_MESSAGE.equals(message.getType())) {
+            return;
+        }
+
+        List<Object> content = message.getContent(StringCodec.UTF8::decodeKey);
+        Object keys = content.size() > 1 ? content.get(1) : null;
+        if (!(keys instanceof List<?> invalidatedKeys)) {
+            entries.clear();
+            invalidationCounter.increment();
+            return;
+        }
+
+        for (Object key : invalidatedKeys) {
+            String tokenKey = key instanceof ByteBuffer buffer ? StringCodec.UTF8.decodeKey(buffer) : String.valueOf(key);
+            entries.remove(tokenKey);
+            invalidationCounter.increment();
+        }
+    }
+
+    private synchronized void disableTracking() {
+        trackingActive = false;
+        entries.clear();
+
+        try {
+            if (clusterConnection != null) {
+                // 노드별 연결은 Cluster 연결이 함께 정리
+                clusterConnection.close();
+            } else {
+                trackingConnections.forEach(StatefulRedisConnection::close);
+            }
+        } catch (Exception e) {
+            log.debug("Failed to close tracking connection", e);
+        }
+        trackingConnections.clear();
+        clusterConnection = null;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        disableTracking();
+        if (redisClient != null) {
+            redisClient.shutdown();
+        }
+        if (clusterClient != null) {
+            clusterClient.shutdown();
+        }
+    }
+
+    /**
+     * 캐시 항목
+     */
+    private sealed interface Entry permits Loading, Cached {}
+
+    /**
+     * 로딩 중 마커 (인스턴스 동일성으로 비교)
+     */
+    private static final class Loading implements Entry {}
+
+    private record Cached(QueueToken token, long loadedAtMs) implements Entry {
+        private boolean isOlderThan(long maxAgeMs) {
+            return System.currentTimeMillis() - loadedAtMs > maxAgeMs;
+        }
+    }
+}
@@ -2,9 +2,11 @@ package personal.ai.queue.adapter.out.redis;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.stereotype.Component;
+import personal.ai.queue.application.port.out.QueueRepository.ReadPurpose;
 
 import java.util.Collections;
 import java.util.List;
@@ -18,11 +20,14 @@ import java.util.stream.Collectors;
  */
 @Slf4j
 @Component
+@ConditionalOnProperty(name = "queue.store", havingValue = "redis", matchIfMissing = true)
 @RequiredArgsConstructor
 public class RedisWaitQueueAdapter {
 
     private final RedisTemplate<String, String> redisTemplate;
     private final RedisConcertIdScanner concertIdScanner;
+    private final RedisReadRouter readRouter;
+    private final RedisLuaScriptExecutor scriptExecutor;
 
     /**
      * Wait Queue에 사용자를 추가합니다.
@@ -49,22 +54,24 @@ public class RedisWaitQueueAdapter {
      *
      * @param concertId 콘서트 ID
      * @param userId 사용자 ID
+     * @param purpose 조회 목적 (Master/Replica 라우팅 기준)
      * @return Wait Queue에서의 순번 (0-based), 없으면 null
      */
-    public Long getWaitQueuePosition(String concertId, String userId) {
+    public Long getWaitQueuePosition(String concertId, String userId, ReadPurpose purpose) {
         String waitQueueKey = RedisKeyGenerator.waitQueueKey(concertId);
-        return redisTemplate.opsForZSet().rank(waitQueueKey, userId);
+        return readRouter.templateFor(purpose, concertId).opsForZSet().rank(waitQueueKey, userId);
     }
 
     /**
      * Wait Queue의 크기를 조회합니다.
      *
      * @param concertId 콘서트 ID
+     * @param purpose 조회 목적 (Master/Replica 라우팅 기준)
      * @return Wait Queue에 대기 중인 사용자 수
      */
-    public Long getWaitQueueSize(String concertId) {
+    public Long getWaitQueueSize(String concertId, ReadPurpose purpose) {
         String waitQueueKey = RedisKeyGenerator.waitQueueKey(concertId);
-        return redisTemplate.opsForZSet().size(waitQueueKey);
+        return readRouter.templateFor(purpose, concertId).opsForZSet().size(waitQueueKey);
     }
 
     /**
@@ -98,15 +105,32 @@ public class RedisWaitQueueAdapter {
 
     /**
      * Wait Queue에서 특정 사용자를 제거합니다.
+     * 뒤에 있던 사용자들의 순번이 당겨지므로 같은 스크립트에서 Epoch도 증가시킵니다.
      *
      * @param concertId 콘서트 ID
      * @param userId 사용자 ID
      */
     public void removeFromWaitQueue(String concertId, String userId) {
-        String waitQueueKey = RedisKeyGenerator.waitQueueKey(concertId);
-        redisTemplate.opsForZSet().remove(waitQueueKey, userId);
+        boolean removed = scriptExecutor.executeRemoveFromWaitQueue(
+                RedisKeyGenerator.waitQueueKey(concertId),
+                RedisKeyGenerator.activationEpochKey(concertId),
+                userId);
+
+        log.debug("Removed from wait queue: concertId={}, userId={}, removed={}", concertId, userId, removed);
+    }
 
-        log.debug("Removed from wait queue: concertId={}, userId={}", concertId, userId);
+    /**
+     * Wait Queue 순번 버전(Activation Epoch)을 조회합니다.
+     * 값이 같다면 Wait Queue의 모든 순번이 변하지 않았음을 의미합니다.
+     *
+     * @param concertId 콘서트 ID
+     * @param purpose 조회 목적 (Master/Replica 라우팅 기준)
+     * @return Activation Epoch (키가 없으면 0)
+     */
+    public long getActivationEpoch(String concertId, ReadPurpose purpose) {
+        String value = readRouter.templateFor(purpose, concertId).opsForValue()
+                .get(RedisKeyGenerator.activationEpochKey(concertId));
+        return value != null ? Long.parseLong(value) : 0L;
     }
 
     /**
@@ -11,8 +11,11 @@ import org.springframework.stereotype.Component;
 import personal.ai.queue.application.port.in.CleanupExpiredTokensUseCase;
 import personal.ai.queue.application.port.in.GetActiveConcertsUseCase;
 import personal.ai.queue.application.port.in.MoveToActiveQueueUseCase;
+import personal.ai.queue.application.port.in.OpenLobbyUseCase;
 import personal.ai.queue.application.port.out.QueueRepository;
 import personal.ai.queue.application.port.out.SchedulerLockPort;
+import personal.ai.queue.application.service.ConcertBulkheads;
+import personal.ai.queue.application.service.ConcertBulkheads.Lane;
 
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
@@ -25,6 +28,7 @@ import java.util.concurrent.atomic.AtomicReference;
  * 헥사고날 아키텍처:
  * - SchedulerLockPort를 통해 분산 락 전략을 주입받음
  * - 환경변수로 전략 교체 가능 (none / cluster)
+ * - 콘서트별 작업은 ConcertBulkheads의 SCHEDULER 허가 안에서 실행 (콘서트 간 격리)
  */
 @Slf4j
 @Component
@@ -34,6 +38,8 @@ public class QueueScheduler {
     private final MoveToActiveQueueUseCase moveToActiveQueueUseCase;
     private final CleanupExpiredTokensUseCase cleanupExpiredTokensUseCase;
     private final GetActiveConcertsUseCase getActiveConcertsUseCase;
+    private final OpenLobbyUseCase openLobbyUseCase;
+    private final ConcertBulkheads concertBulkheads;
     private final SchedulerLockPort schedulerLockPort;
     private final QueueRepository queueRepository;
     private final MeterRegistry meterRegistry;
@@ -49,6 +55,9 @@ public class QueueScheduler {
      * Wait Queue -> Active Queue 전환 스케줄러
      * 주기: application.yml의 queue.scheduler.activation-interval-ms
      * 기본값: 5초
+     *
+     * 콘서트별 작업은 ConcertBulkheads가 콘서트마다 따로 실행하므로
+     * 한 콘서트의 스크립트가 느려도 다른 콘서트의 전환 주기는 늦어지지 않음 (이전 작업이 남은 콘서트는 이번 주기 건너뜀)
      */
     @Scheduled(fixedDelayString = "${queue.scheduler.activation-interval-ms:5000}")
     public void moveWaitingUsersToActive() {
@@ -69,95 +78,16 @@ public class QueueScheduler {
                     .description("Number of concerts processed by this scheduler instance")
                     .register(meterRegistry);
 
-            int totalMoved = 0;
-
-            // 각 콘서트별로 처리 (콘서트별 락 적용)
+            // 각 콘서트별로 처리 (콘서트별 락 + 콘서트별 Bulkhead)
+            int skipped = 0;
             for (String concertId : concertIds) {
-                // 락 획득 시도
-                if (!schedulerLockPort.tryAcquire(MOVE_SCHEDULER, concertId)) {
-                    // 락 획득 실패 카운트 (다른 인스턴스가 처리 중)
-                    Counter.builder("scheduler.lock.acquire.failures")
-                            .tag("scheduler_type", MOVE_SCHEDULER)
-                            .tag("concert_id", concertId)
-                            .description("Number of lock acquisition failures (another instance processing)")
-                            .register(meterRegistry)
-                            .increment();
-
-                    log.debug("Skipping concertId={} (another instance is processing)", concertId);
-                    continue;
-                }
-
-                try {
-                    // 처리 시간 측정 (Throughput 계산용)
-                    long startTime = System.currentTimeMillis();
-                    Timer.Sample sample = Timer.start(meterRegistry);
-
-                    int moved = moveToActiveQueueUseCase.moveWaitingToActive(concertId);
-
-                    long durationMs = System.currentTimeMillis() - startTime;
-                    sample.stop(Timer.builder("scheduler.move.duration")
-                            .tag("concert_id", concertId)
-                            .description("Time taken to move users from wait to active queue")
-                            .register(meterRegistry));
-
-                    totalMoved += moved;
-
-                    // Counter로 이동된 사용자 수 기록
-                    Counter.builder("scheduler.move.users")
-                            .tag("concert_id", concertId)
-                            .description("Number of users moved from wait to active queue")
-                            .register(meterRegistry)
-                            .increment(moved);
-
-                    // Throughput 계산 (초당 처리 인원)
-                    double throughput = 0.0;
-                    if (durationMs > 0 && moved > 0) {
-                        throughput = (double) moved / (durationMs / 1000.0);
-                    }
-
-                    // Wait Queue 크기 조회
-                    Long waitQueueSize = queueRepository.getWaitQueueSize(concertId);
-
-                    // Estimated Wait Time 계산 (예상 대기 시간)
-                    double estimatedWaitSeconds = 0.0;
-                    if (throughput > 0 && waitQueueSize != null && waitQueueSize > 0) {
-                        estimatedWaitSeconds = waitQueueSize / throughput;
-                    }
-
-                    // Map에 저장 (Gauge가 참조)
-                    throughputMap.computeIfAbsent(concertId, k -> {
-                        AtomicReference<Double> ref = new AtomicReference<>(0.0);
-                        Gauge.builder("queue.throughput.users_per_second", ref, AtomicReference::get)
-                                .tag("concert_id", concertId)
-                                .description("Users processed per second (Wait → Active)")
-                                .register(meterRegistry);
-                        return ref;
-                    }).set(throughput);
-
-                    estimatedWaitMap.computeIfAbsent(concertId, k -> {
-                        AtomicReference<Double> ref = new AtomicReference<>(0.0);
-                        Gauge.builder("queue.estimated.wait.seconds", ref, AtomicReference::get)
-                                .tag("concert_id", concertId)
-                                .description("Estimated wait time for last user in queue")
-                                .register(meterRegistry);
-                        return ref;
-                    }).set(estimatedWaitSeconds);
-
-                    // 성능 측정 로그 (throughput 추가)
-                    log.info("[PERF] MoveToActive: concertId={}, movedUsers={}, throughput={:.1f} users/sec, estimatedWait={:.1f}s",
-                            concertId, moved, throughput, estimatedWaitSeconds);
-
-                } catch (Exception e) {
-                    log.error("Failed to move users for concertId={}", concertId, e);
-                } finally {
-                    // 락 해제
-                    schedulerLockPort.release(MOVE_SCHEDULER, concertId);
+                if (!concertBulkheads.dispatch(concertId, Lane.SCHEDULER, MOVE_SCHEDULER, () -> moveConcert(concertId))) {
+                    skipped++;
                 }
             }
 
-            if (totalMoved > 0) {
-                log.info("Move scheduler completed: totalMoved={}, concerts={}",
-                        totalMoved, concertIds.size());
+            if (skipped > 0) {
+                log.warn("Move scheduler skipped busy concerts: skipped={}, concerts={}", skipped, concertIds.size());
             }
 
         } catch (Exception e) {
@@ -165,16 +95,103 @@ public class QueueScheduler {
         }
     }
 
+    /**
+     * 콘서트 1개의 Wait -> Active 전환
+     */
+    private void moveConcert(String concertId) {
+        // 락 획득 시도
+        if (!schedulerLockPort.tryAcquire(MOVE_SCHEDULER, concertId)) {
+            // 락 획득 실패 카운트 (다른 인스턴스가 처리 중)
+            Counter.builder("scheduler.lock.acquire.failures")
+                    .tag("scheduler_type", MOVE_SCHEDULER)
+                    .tag("concert_id", concertId)
+                    .description("Number of lock acquisition failures (another instance processing)")
+                    .register(meterRegistry)
+                    .increment();
+
+            log.debug("Skipping concertId={} (another instance is processing)", concertId);
+            return;
+        }
+
+        try {
+            // 처리 시간 측정 (Throughput 계산용)
+            long startTime = System.currentTimeMillis();
+            Timer.Sample sample = Timer.start(meterRegistry);
+
+            int moved = moveToActiveQueueUseCase.moveWaitingToActive(concertId);
+
+            long durationMs = System.currentTimeMillis() - startTime;
+            sample.stop(Timer.builder("scheduler.move.duration")
+                    .tag("concert_id", concertId)
+                    .description("Time taken to move users from wait to active queue")
+                    .register(meterRegistry));
+
+            // Counter로 이동된 사용자 수 기록
+            Counter.builder("scheduler.move.users")
+                    .tag("concert_id", concertId)
+                    .description("Number of users moved from wait to active queue")
+                    .register(meterRegistry)
+                    .increment(moved);
+
+            // Throughput 계산 (초당 처리 인원)
+            double throughput = 0.0;
+            if (durationMs > 0 && moved > 0) {
+                throughput = (double) moved / (durationMs / 1000.0);
+            }
+
+            // Wait Queue 크기 조회
+            Long waitQueueSize = queueRepository.getWaitQueueSize(concertId);
+
+            // Estimated Wait Time 계산 (예상 대기 시간)
+            double estimatedWaitSeconds = 0.0;
+            if (throughput > 0 && waitQueueSize != null && waitQueueSize > 0) {
+                estimatedWaitSeconds = waitQueueSize / throughput;
+            }
+
+            // Map에 저장 (Gauge가 참조)
+            throughputMap.computeIfAbsent(concertId, k -> {
+                AtomicReference<Double> ref = new AtomicReference<>(0.0);
+                Gauge.builder("queue.throughput.users_per_second", ref, AtomicReference::get)
+                        .tag("concert_id", concertId)
+                        .description("Users processed per second (Wait → Active)")
+                        .register(meterRegistry);
+                return ref;
+            }).set(throughput);
+
+            estimatedWaitMap.computeIfAbsent(concertId, k -> {
+                AtomicReference<Double> ref = new AtomicReference<>(0.0);
+                Gauge.builder("queue.estimated.wait.seconds", ref, AtomicReference::get)
+                        .tag("concert_id", concertId)
+                        .description("Estimated wait time for last user in queue")
+                        .register(meterRegistry);
+                return ref;
+            }).set(estimatedWaitSeconds);
+
+            // 성능 측정 로그 (throughput 추가)
+            log.info("[PERF] MoveToActive: concertId={}, movedUsers={}, throughput={:.1f} users/sec, estimatedWait={:.1f}s",
+                    concertId, moved, throughput, estimatedWaitSeconds);
+
+        } catch (Exception e) {
+            log.error("Failed to move users for concertId={}", concertId, e);
+        } finally {
+            // 락 해제
+            schedulerLockPort.release(MOVE_SCHEDULER, concertId);
+        }
+    }
+
     /**
      * 만료된 토큰 정리 스케줄러
      * 주기: application.yml의 queue.scheduler.cleanup-interval-ms
      * 기본값: 60초 (1분)
+     * 사용하지 않는 콘서트 Bulkhead도 이 주기에 정리 (인스턴스별)
      */
     @Scheduled(fixedDelayString = "${queue.scheduler.cleanup-interval-ms:60000}")
     public void cleanupExpiredTokens() {
         try {
             log.debug("Starting cleanup scheduler with strategy: {}", schedulerLockPort.getStrategyName());
 
+            concertBulkheads.evictIdle();
+
             // 활성화된 콘서트 목록 조회
             List<String> concertIds = getActiveConcertsUseCase.getActiveConcerts();
 
@@ -189,54 +206,78 @@ public class QueueScheduler {
                     .description("Number of concerts processed by this scheduler instance")
                     .register(meterRegistry);
 
-            long totalRemoved = 0;
-
-            // 각 콘서트별로 처리 (콘서트별 락 적용)
+            // 각 콘서트별로 처리 (콘서트별 락 + 콘서트별 Bulkhead)
+            int skipped = 0;
             for (String concertId : concertIds) {
-                // 락 획득 시도
-                if (!schedulerLockPort.tryAcquire(CLEANUP_SCHEDULER, concertId)) {
-                    // 락 획득 실패 카운트
-                    Counter.builder("scheduler.lock.acquire.failures")
-                            .tag("scheduler_type", CLEANUP_SCHEDULER)
-                            .tag("concert_id", concertId)
-                            .description("Number of lock acquisition failures (another instance processing)")
-                            .register(meterRegistry)
-                            .increment();
-
-                    log.debug("Skipping cleanup for concertId={} (another instance is processing)", concertId);
-                    continue;
-                }
-
-                try {
-                    long removed = cleanupExpiredTokensUseCase.cleanupExpired(concertId);
-                    totalRemoved += removed;
-
-                    // Counter로 삭제된 토큰 수 기록
-                    if (removed > 0) {
-                        Counter.builder("scheduler.cleanup.removed")
-                                .tag("concert_id", concertId)
-                                .description("Number of expired tokens removed")
-                                .register(meterRegistry)
-                                .increment(removed);
-
-                        log.info("Cleaned up expired tokens: concertId={}, count={}",
-                                concertId, removed);
-                    }
-                } catch (Exception e) {
-                    log.error("Failed to cleanup tokens for concertId={}", concertId, e);
-                } finally {
-                    // 락 해제
-                    schedulerLockPort.release(CLEANUP_SCHEDULER, concertId);
+                if (!concertBulkheads.dispatch(concertId, Lane.SCHEDULER, CLEANUP_SCHEDULER, () -> cleanupConcert(concertId))) {
+                    skipped++;
                 }
             }
 
-            if (totalRemoved > 0) {
-                log.info("Cleanup scheduler completed: totalRemoved={}, concerts={}",
-                        totalRemoved, concertIds.size());
+            if (skipped > 0) {
+                log.warn("Cleanup scheduler skipped busy concerts: skipped={}, concerts={}", skipped, concertIds.size());
             }
 
         } catch (Exception e) {
             log.error("Cleanup scheduler failed", e);
         }
     }
+
+    /**
+     * 콘서트 1개의 만료 토큰 정리
+     */
+    private void cleanupConcert(String concertId) {
+        // 락 획득 시도
+        if (!schedulerLockPort.tryAcquire(CLEANUP_SCHEDULER, concertId)) {
+            // 락 획득 실패 카운트
+            Counter.builder("scheduler.lock.acquire.failures")
+                    .tag("scheduler_type", CLEANUP_SCHEDULER)
+                    .tag("concert_id", concertId)
+                    .description("Number of lock acquisition failures (another instance processing)")
+                    .register(meterRegistry)
+                    .increment();
+
+            log.debug("Skipping cleanup for concertId={} (another instance is processing)", concertId);
+            return;
+        }
+
+        try {
+            long removed = cleanupExpiredTokensUseCase.cleanupExpired(concertId);
+
+            // Counter로 삭제된 토큰 수 기록
+            if (removed > 0) {
+                Counter.builder("scheduler.cleanup.removed")
+                        .tag("concert_id", concertId)
+                        .description("Number of expired tokens removed")
+                        .register(meterRegistry)
+                        .increment(removed);
+
+                log.info("Cleaned up expired tokens: concertId={}, count={}",
+                        concertId, removed);
+            }
+        } catch (Exception e) {
+            log.error("Failed to cleanup tokens for concertId={}", concertId, e);
+        } finally {
+            // 락 해제
+            schedulerLockPort.release(CLEANUP_SCHEDULER, concertId);
+        }
+    }
+
+    /**
+     * 로비 오픈 스케줄러
+     * 오픈 시각이 지난 콘서트의 로비 도착자를 Wait Queue로 적재
+     * 인스턴스마다 자신이 받은 도착자만 적재하므로 분산 락 없이 모든 인스턴스에서 실행
+     * 주기: application.yml의 queue.lobby.open-check-interval-ms
+     */
+    @Scheduled(fixedDelayString = "${queue.lobby.open-check-interval-ms:200}")
+    public void openDueLobbies() {
+        try {
+            long loaded = openLobbyUseCase.openDueLobbies();
+            if (loaded > 0) {
+                log.info("Lobby scheduler completed: loaded={}", loaded);
+            }
+        } catch (Exception e) {
+            log.error("Lobby scheduler failed", e);
+        }
+    }
 }
@@ -2,6 +2,9 @@ package personal.ai.queue.application.config;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Instant;
+import java.util.Map;
+
 /**
  * Queue 설정 Properties
  * application.yml의 queue.* 설정을 바인딩
@@ -11,7 +14,15 @@ public record QueueConfigProperties(
         Active active,
         Scheduler scheduler,
         Polling polling,
-        Cache cache
+        LongPoll longPoll,
+        ReadRouting readRouting,
+        TokenCache tokenCache,
+        RedisConnection redisConnection,
+        Cache cache,
+        Lobby lobby,
+        Bulkhead bulkhead,
+        Removal removal,
+        RedisMetrics redisMetrics
 ) {
     public record Active(
             int maxSize,
@@ -30,9 +41,60 @@ public record QueueConfigProperties(
             long minIntervalMs,
             int rateLimitCapacity,
             double rateLimitRefillRate,  // Token Bucket: 초당 리필 토큰 수
-            int executorPoolSize
+            int executorPoolSize,        // 동시에 실행 가능한 폴링 배치 수
+            long statusEpochCacheMs,     // 상태 조회 ETag용 Activation Epoch 로컬 캐시 (밀리초)
+            long wheelTickMs,            // 타이밍 휠 슬롯 간격 (밀리초)
+            int wheelSize,               // 타이밍 휠 슬롯 수 (2의 거듭제곱으로 올림)
+            int batchMaxSize             // 콘서트별 파이프라인 1회당 최대 조회 인원
+    ) {}
+
+    /**
+     * Long Polling 설정
+     * SSE를 쓸 수 없는 클라이언트가 의미 있는 순번 변화가 있을 때만 응답받도록 요청을 보류
+     */
+    public record LongPoll(
+            long timeoutMs,              // 최대 보류 시간 (밀리초)
+            long watchIntervalMs,        // 콘서트별 Activation Epoch 확인 주기 (밀리초)
+            long minPositionDelta,       // 응답 기준 최소 순번 변화량
+            double positionDeltaRatio    // 응답 기준 순번 변화 비율 (현재 순번 대비)
+    ) {}
+
+    /**
+     * Redis 읽기 라우팅 설정
+     * 표시용 조회만 Replica로 보내고, 입장 판정 조회는 Master에 유지
+     */
+    public record ReadRouting(
+            boolean replicaReadsEnabled,       // 표시용 조회 Replica 읽기 여부 (Cluster 모드에서만 적용)
+            long stalenessProbeIntervalMs      // Master/Replica Epoch 비교 주기 (밀리초)
+    ) {}
+
+    /**
+     * Active Token 로컬 캐시 설정 (RESP3 CLIENT TRACKING)
+     * Redis 무효화 메시지로 토큰 해시를 로컬에 캐싱하여 반복 검증 시 네트워크 왕복 제거
+     */
+    public record TokenCache(
+            boolean enabled,                   // Tracking 캐시 사용 여부 (Redis 6+ 필요)
+            int maxEntries,                    // 최대 캐시 항목 수 (초과 시 새 키는 캐싱하지 않음)
+            long maxAgeMs,                     // 무효화 누락 대비 최대 보관 시간 (밀리초)
+            long healthCheckIntervalMs         // Tracking 연결/토폴로지 확인 주기 (밀리초)
     ) {}
 
+    /**
+     * Redis 연결 모드 설정 (Lettuce)
+     * SHARED: 노드당 하나의 멀티플렉싱 연결을 모든 요청이 공유 (명령은 즉시 flush되어 자동 파이프라이닝)
+     * POOLED: 요청마다 풀에서 전용 연결을 빌려 사용 (spring.data.redis.lettuce.pool.enabled=true 필요)
+     */
+    public record RedisConnection(
+            Mode mode,                         // 연결 모드
+            int maxInFlightPerNode,            // 노드(연결)당 응답 대기 명령 상한 (초과 시 즉시 거절, 0 이하면 무제한)
+            long batchTimeoutMs                // 다건 비동기 조회 대기 시간 (밀리초)
+    ) {
+        public enum Mode {
+            SHARED,
+            POOLED
+        }
+    }
+
     /**
      * Quick Win 최적화: 캐싱 설정
      * totalWaiting 캐싱으로 ZCARD 호출 빈도 감소
@@ -40,4 +102,55 @@ public record QueueConfigProperties(
     public record Cache(
             int totalWaitingTtlSeconds  // totalWaiting 캐시 TTL (초)
     ) {}
+
+    /**
+     * 오픈 전 로비 설정
+     * 판매 오픈 전 진입 요청에는 Redis 없이 서명된 도착 티켓만 발급하고,
+     * 오픈 시각에 인스턴스별로 모아 둔 도착자를 도착 순서대로 Wait Queue에 일괄 적재
+     */
+    public record Lobby(
+            boolean enabled,                   // 로비 사용 여부
+            String secret,                     // 도착 티켓 HMAC-SHA256 서명 키 (모든 인스턴스 동일)
+            Map<String, Instant> openAt,       // 콘서트별 판매 오픈 시각 (ISO-8601)
+            int loadBatchSize,                 // 적재 스크립트 1회당 인원
+            long openCheckIntervalMs,          // 오픈 시각 확인 주기 (밀리초)
+            long ticketGraceSeconds            // 오픈 후 도착 티켓 인정 기간 (초)
+    ) {}
+
+    /**
+     * 콘서트별 Bulkhead 설정
+     * 콘서트마다 진입/SSE 폴링/스케줄러 작업의 동시 실행 수를 따로 제한하여
+     * 인기 콘서트 한 곳의 부하가 다른 콘서트의 지연으로 번지지 않도록 격리
+     */
+    public record Bulkhead(
+            boolean enabled,                   // Bulkhead 사용 여부
+            int entryPermits,                  // 콘서트당 동시 진입 처리 수 (가중치 1 기준)
+            int pollingPermits,                // 콘서트당 동시 SSE 배치 폴링 수 (가중치 1 기준)
+            int schedulerPermits,              // 콘서트당 동시 스케줄러 작업 수 (같은 종류 작업은 1개만 실행)
+            long acquireTimeoutMs,             // 진입 요청의 허가 대기 시간 (초과 시 503)
+            long idleEvictMs,                  // 사용하지 않은 콘서트 Bulkhead를 메트릭과 함께 제거하기까지의 시간
+            Map<String, Integer> weights       // 콘서트별 가중치 (진입/폴링 허가 수 배율, 기본 1)
+    ) {}
+
+    /**
+     * 결제 완료 이벤트 제거 설정
+     * 배치 리스너는 poll 1회분 이벤트를 콘서트별로 묶어 스크립트 1회로 제거하고 배치 단위로 Ack
+     */
+    public record Removal(
+            boolean batchListenerEnabled,      // 배치 리스너 사용 여부 (false면 이벤트 1건씩 처리)
+            int batchMaxPollRecords,           // 배치 리스너 poll 1회당 최대 레코드 수
+            long processedEventRetentionSeconds // 처리한 eventId 보관 기간 (재전달 중복 제거 범위, 초)
+    ) {}
+
+    /**
+     * Redis 명령 계측 설정 (Lettuce Tracing)
+     * 명령/노드/Key 계열별 지연 Timer와 샘플링 기반 핫 키 집계
+     */
+    public record RedisMetrics(
+            boolean commandTimersEnabled,      // 명령별 지연 Timer 기록 여부
+            int hotKeySampleEvery,             // 핫 키 샘플링 간격 (명령 N개 중 1개, 0 이하면 샘플링 안 함)
+            int hotKeyTopN,                    // 노출할 상위 핫 키 수
+            int hotKeyCapacity,                // 샘플러가 동시에 세는 최대 키 수
+            long hotKeyWindowMs                // 핫 키 집계 주기 (밀리초)
+    ) {}
 }
@@ -16,9 +16,15 @@ public interface EnterQueueUseCase {
 
     /**
      * 대기열 진입 커맨드
+     * arrivalTicket: 오픈 전 로비에서 발급받은 도착 티켓 (없으면 null)
      */
     record EnterQueueCommand(
             String concertId,
-            String userId
-    ) {}
+            String userId,
+            String arrivalTicket
+    ) {
+        public EnterQueueCommand(String concertId, String userId) {
+            this(concertId, userId, null);
+        }
+    }
 }
@@ -2,6 +2,8 @@ package personal.ai.queue.application.port.in;
 
 import personal.ai.queue.domain.model.QueueToken;
 
+import java.util.List;
+
 /**
  * 대기열 상태 조회 UseCase (Input Port)
  */
@@ -14,6 +16,14 @@ public interface GetQueueStatusUseCase {
      */
     QueueToken getStatus(GetQueueStatusQuery query);
 
+    /**
+     * 같은 콘서트의 여러 유저 상태를 한 번에 조회 (SSE 폴링 배치용)
+     * @param concertId 콘서트 ID
+     * @param userIds 유저 ID 리스트
+     * @return userIds와 같은 순서의 토큰 정보
+     */
+    List<QueueToken> getStatuses(String concertId, List<String> userIds);
+
     /**
      * 상태 조회 쿼리
      */
@@ -0,0 +1,17 @@
+package personal.ai.queue.application.port.in;
+
+/**
+ * 대기열 상태 버전 조회 UseCase (Input Port)
+ * 조건부 상태 조회(If-None-Match)에서 토큰 Hash를 읽지 않고 변경 여부를 판단
+ */
+public interface GetQueueStatusVersionUseCase {
+
+    /**
+     * 콘서트의 Wait Queue 순번 버전(Activation Epoch) 조회
+     * 값이 같다면 WAITING 사용자의 순번/상태도 변하지 않음
+     * 증가량은 Wait Queue 앞쪽에서 빠져나간 인원 수와 같음
+     * @param concertId 콘서트 ID
+     * @return 현재 Epoch
+     */
+    long getStatusVersion(String concertId);
+}
@@ -0,0 +1,14 @@
+package personal.ai.queue.application.port.in;
+
+/**
+ * 로비 오픈 UseCase (Input Port)
+ * 스케줄러가 주기적으로 호출하여 오픈 시각이 지난 콘서트의 로비 도착자를 Wait Queue에 적재
+ */
+public interface OpenLobbyUseCase {
+
+    /**
+     * 오픈 시각이 지난 모든 콘서트의 로비 도착자 적재
+     * @return 새로 적재된 인원
+     */
+    long openDueLobbies();
+}
@@ -1,5 +1,7 @@
 package personal.ai.queue.application.port.in;
 
+import java.util.List;
+
 /**
  * Remove From Queue Use Case
  * 결제 완료 시 대기열에서 유저 제거
@@ -12,11 +14,25 @@ public interface RemoveFromQueueUseCase {
      */
     void removeFromQueue(RemoveFromQueueCommand command);
 
+    /**
+     * Active Queue에서 여러 유저를 일괄 제거 (결제 완료 이벤트 배치)
+     * 콘서트별로 묶어 저장소 호출 1회로 처리하며, 같은 eventId는 한 번만 반영
+     * @param commands 제거 명령 목록
+     * @return 실제 제거된 인원 수
+     */
+    long removeAllFromQueue(List<RemoveFromQueueCommand> commands);
+
     /**
      * 대기열 제거 명령
+     * @param eventId 제거를 요청한 이벤트 ID (없으면 null, 멱등 처리 기준)
      */
     record RemoveFromQueueCommand(
             String concertId,
-            String userId
-    ) {}
+            String userId,
+            String eventId
+    ) {
+        public RemoveFromQueueCommand(String concertId, String userId) {
+            this(concertId, userId, null);
+        }
+    }
 }
@@ -1,5 +1,7 @@
 package personal.ai.queue.application.port.out;
 
+import personal.ai.queue.domain.model.ArrivalTicket;
+import personal.ai.queue.domain.model.QueuePosition;
 import personal.ai.queue.domain.model.QueueToken;
 
 import java.time.Instant;
@@ -8,10 +10,57 @@ import java.util.Optional;
 
 /**
  * Queue Repository (Output Port)
- * Redis 대기열 저장소 인터페이스
+ * 대기열 저장소 인터페이스
+ *
+ * 구현체 (queue.store):
+ * - redis (기본): RedisQueueAdapter - Redis Cluster, 다중 인스턴스 공유
+ * - memory: InMemoryQueueRepository - 단일 노드 배포, Redis 없는 벤치마크
+ *
+ * 조회 목적(ReadPurpose):
+ * - 목적을 받지 않는 조회는 ADMISSION (최신 데이터 보장)
+ * - 화면 표시용 조회만 DISPLAY로 요청하여 Replica 읽기를 허용
+ *
+ * 왕복 예산:
+ * - 메서드 1회 호출 = Redis 왕복 최대 1회 (조회 후 쓰기가 필요한 작업은 Lua 스크립트 하나로 처리)
+ * - 유스케이스는 요청당 이 포트를 최대 1회만 호출
  */
 public interface QueueRepository {
 
+    /**
+     * 대기열 진입 (Active Token 확인 + Wait Queue 확인 + 신규 진입을 원자적으로 처리)
+     * @param concertId 콘서트 ID
+     * @param userId 유저 ID
+     * @return 진입 결과 (ACTIVE: 미만료 토큰 보유, WAITING: 이미 대기 중, NEW: 신규 진입)
+     */
+    default QueuePosition enterQueue(String concertId, String userId) {
+        return enterQueue(concertId, userId, Instant.now());
+    }
+
+    /**
+     * 도착 시각을 지정한 대기열 진입
+     * @param arrivedAt 대기 순서 기준 시각
+     */
+    QueuePosition enterQueue(String concertId, String userId, Instant arrivedAt);
+
+    /**
+     * 로비 도착 티켓으로 대기열 진입 (오픈 후, 사용자당 1회)
+     * 티켓을 처음 사용하면 도착 시각을 대기 순서 기준(score)으로 사용하고,
+     * 이미 사용했거나 로비 적재로 들어온 적이 있으면 현재 시각으로 진입
+     * @param arrivedAt 검증된 티켓의 도착 시각
+     * @param ticketValidUntil 티켓 인정 기한 (사용 기록 보관 기한)
+     */
+    QueuePosition enterQueueWithTicket(String concertId, String userId, Instant arrivedAt, Instant ticketValidUntil);
+
+    /**
+     * 로비 도착자 일괄 적재 (오픈 시각)
+     * 미만료 Active Token 보유자는 건너뛰고, 이미 대기 중이면 더 이른 도착 시각만 반영
+     * 적재한 사용자는 티켓 사용으로 기록 (이후 같은 티켓으로 다시 앞 순서를 받지 않음)
+     * @param arrivals 같은 콘서트의 도착 티켓 (도착 순서)
+     * @param ticketValidUntil 티켓 인정 기한 (사용 기록 보관 기한)
+     * @return 새로 적재된 인원
+     */
+    long loadArrivals(String concertId, List<ArrivalTicket> arrivals, Instant ticketValidUntil);
+
     /**
      * Wait Queue에 유저 추가
      * @param concertId 콘서트 ID
@@ -26,14 +75,35 @@ public interface QueueRepository {
      * @param userId 유저 ID
      * @return 순번 (없으면 null)
      */
-    Long getWaitQueuePosition(String concertId, String userId);
+    default Long getWaitQueuePosition(String concertId, String userId) {
+        return getWaitQueuePosition(concertId, userId, ReadPurpose.ADMISSION);
+    }
+
+    /**
+     * Wait Queue에서 유저의 순번 조회 (조회 목적 지정)
+     * @param concertId 콘서트 ID
+     * @param userId 유저 ID
+     * @param purpose 조회 목적 (DISPLAY는 Replica에서 약간 지연된 값일 수 있음)
+     * @return 순번 (없으면 null)
+     */
+    Long getWaitQueuePosition(String concertId, String userId, ReadPurpose purpose);
 
     /**
      * Wait Queue 전체 인원 수
      * @param concertId 콘서트 ID
      * @return 대기 인원 수
      */
-    Long getWaitQueueSize(String concertId);
+    default Long getWaitQueueSize(String concertId) {
+        return getWaitQueueSize(concertId, ReadPurpose.ADMISSION);
+    }
+
+    /**
+     * Wait Queue 전체 인원 수 (조회 목적 지정)
+     * @param concertId 콘서트 ID
+     * @param purpose 조회 목적
+     * @return 대기 인원 수
+     */
+    Long getWaitQueueSize(String concertId, ReadPurpose purpose);
 
     /**
      * Wait Queue에서 지정된 개수만큼 Pop
@@ -58,31 +128,61 @@ public interface QueueRepository {
      * @param userId 유저 ID
      * @return 토큰 정보
      */
-    Optional<QueueToken> getActiveToken(String concertId, String userId);
+    default Optional<QueueToken> getActiveToken(String concertId, String userId) {
+        return getActiveToken(concertId, userId, ReadPurpose.ADMISSION);
+    }
 
     /**
-     * Active Token의 만료 시간 갱신
+     * Active Queue에서 유저의 토큰 조회 (조회 목적 지정)
+     * 토큰 검증/활성화/연장처럼 입장을 결정하는 조회는 반드시 ADMISSION
      * @param concertId 콘서트 ID
      * @param userId 유저 ID
-     * @param expiredAt 새로운 만료 시간
+     * @param purpose 조회 목적
+     * @return 토큰 정보
+     */
+    Optional<QueueToken> getActiveToken(String concertId, String userId, ReadPurpose purpose);
+
+    /**
+     * 유저의 Active Token과 Wait Queue 순번을 원자적으로 조회 (Lua 스크립트 1회)
+     * Wait → Active 전환 도중에도 둘 중 하나는 반드시 관측됨
+     * @param concertId 콘서트 ID
+     * @param userId 유저 ID
+     * @param purpose 조회 목적
+     * @return 스냅샷 (Active Token이 있으면 순번은 null)
+     */
+    QueueEntrySnapshot getQueueEntrySnapshot(String concertId, String userId, ReadPurpose purpose);
+
+    /**
+     * 여러 유저의 Active Token과 Wait Queue 순번을 한 번에 조회 (파이프라인)
+     * 같은 콘서트의 키는 같은 Hash Slot에 있으므로 단일 노드 왕복 1회로 처리
+     * SSE 상태 표시 전용이므로 DISPLAY 목적으로 조회
+     * @param concertId 콘서트 ID
+     * @param userIds 유저 ID 리스트
+     * @return userIds와 같은 순서의 스냅샷 리스트
      */
-    void updateTokenExpiration(String concertId, String userId, Instant expiredAt);
+    List<QueueEntrySnapshot> getQueueEntrySnapshots(String concertId, List<String> userIds);
 
     /**
      * Active Token의 상태 변경 (READY -> ACTIVE)
+     * 토큰이 없으면 아무것도 쓰지 않음 (TTL 없는 불완전한 Hash 생성 방지)
      * @param concertId 콘서트 ID
      * @param userId 유저 ID
      * @param status 새로운 상태
+     * @return true: 변경됨, false: 토큰 없음
      */
-    void updateTokenStatus(String concertId, String userId, personal.ai.queue.domain.model.QueueStatus status);
+    boolean updateTokenStatus(String concertId, String userId, personal.ai.queue.domain.model.QueueStatus status);
 
     /**
-     * Active Token의 연장 횟수 증가
+     * 토큰 연장 검증 + 연장 횟수 증가 + 만료 시간 갱신을 원자적으로 처리
+     * 연장 조건은 QueueToken.ensureCanExtend와 동일 (횟수 미만, 미만료, READY/ACTIVE)
      * @param concertId 콘서트 ID
      * @param userId 유저 ID
-     * @return 증가된 연장 횟수
+     * @param newExpiredAt 새로운 만료 시간
+     * @param maxExtendCount 최대 연장 횟수
+     * @return APPLIED: 연장 후 토큰, REJECTED: 현재 토큰 (토큰 없으면 empty)
      */
-    Integer incrementExtendCount(String concertId, String userId);
+    Optional<TokenTransition> extendTokenAtomic(String concertId, String userId, Instant newExpiredAt,
+                                                int maxExtendCount);
 
     /**
      * Active Queue 전체 인원 수
@@ -105,6 +205,15 @@ public interface QueueRepository {
      */
     void removeFromActiveQueue(String concertId, String userId);
 
+    /**
+     * 여러 유저를 Active Queue에서 일괄 제거 (결제 완료 이벤트 배치)
+     * 이미 처리한 eventId는 건너뛰므로 같은 이벤트가 재전달되어도 한 번만 반영 (그 사이 재진입한 유저를 다시 제거하지 않음)
+     * @param concertId 콘서트 ID
+     * @param removals 제거 대상 (eventId가 null이면 중복 확인 없이 제거)
+     * @return 실제 제거된 인원 수
+     */
+    long removeFromActiveQueueBatch(String concertId, List<ActiveRemoval> removals);
+
     /**
      * Wait Queue에서 유저 제거
      * @param concertId 콘서트 ID
@@ -113,23 +222,43 @@ public interface QueueRepository {
     void removeFromWaitQueue(String concertId, String userId);
 
     /**
-     * Wait Queue에서 Pop하고 Active Queue에 원자적으로 추가
+     * Wait Queue 순번 버전 조회 (Activation Epoch)
+     * Wait → Active 전환 인원, Wait Queue 제거 인원만큼 누적 증가
+     * @param concertId 콘서트 ID
+     * @return 현재 Epoch (없으면 0)
+     */
+    default long getActivationEpoch(String concertId) {
+        return getActivationEpoch(concertId, ReadPurpose.ADMISSION);
+    }
+
+    /**
+     * Wait Queue 순번 버전 조회 (조회 목적 지정)
+     * 상태 표시와 같은 목적으로 조회해야 같은 노드 기준의 Epoch와 순번이 짝지어짐
+     * @param concertId 콘서트 ID
+     * @param purpose 조회 목적
+     * @return 현재 Epoch (없으면 0)
+     */
+    long getActivationEpoch(String concertId, ReadPurpose purpose);
+
+    /**
+     * Active Queue 여유분만큼 Wait Queue에서 Pop하고 Active Queue에 원자적으로 추가
+     * 여유분 계산(Active Queue 크기 조회)까지 스크립트 안에서 처리
      * 실패 시 자동 롤백으로 데이터 손실 방지
      * @param concertId 콘서트 ID
-     * @param count 전환할 인원 수
+     * @param activeMaxSize Active Queue 최대 인원
      * @param expiredAt 만료 시간 (READY 상태)
-     * @return 성공적으로 이동된 유저 ID 리스트
+     * @return 이동된 유저 ID 리스트와 처리 후 Queue 크기
      */
-    List<String> moveToActiveQueueAtomic(String concertId, int count, Instant expiredAt);
+    ActivationBatch moveToActiveQueueAtomic(String concertId, int activeMaxSize, Instant expiredAt);
 
     /**
      * READY → ACTIVE 상태 전환 및 만료 시간 갱신을 원자적으로 처리
      * @param concertId 콘서트 ID
      * @param userId 유저 ID
      * @param newExpiredAt 새로운 만료 시간 (ACTIVE 상태)
-     * @return true: 성공, false: 실패 (토큰 없음 또는 이미 ACTIVE)
+     * @return APPLIED: 전환됨, ALREADY_APPLIED: 이미 ACTIVE, REJECTED: READY가 아님 (토큰 없으면 empty)
      */
-    boolean activateTokenAtomic(String concertId, String userId, Instant newExpiredAt);
+    Optional<TokenTransition> activateTokenAtomic(String concertId, String userId, Instant newExpiredAt);
 
     /**
      * 활성화된 콘서트 ID 목록 조회
@@ -137,4 +266,79 @@ public interface QueueRepository {
      * @return 콘서트 ID 리스트
      */
     List<String> getActiveConcertIds();
+
+    /**
+     * 유저의 대기열 저장 상태 스냅샷
+     * @param activeToken Active Token (없으면 null)
+     * @param waitQueuePosition Wait Queue 순번 (0-based, 없으면 null)
+     */
+    record QueueEntrySnapshot(
+            QueueToken activeToken,
+            Long waitQueuePosition
+    ) {}
+
+    /**
+     * 토큰 상태 전환 결과 (활성화, 연장)
+     * @param outcome 전환 결과
+     * @param token 처리 후 토큰 (REJECTED는 변경 없는 현재 토큰)
+     */
+    record TokenTransition(
+            TransitionOutcome outcome,
+            QueueToken token
+    ) {}
+
+    /**
+     * 토큰 상태 전환 결과 구분
+     */
+    enum TransitionOutcome {
+        /**
+         * 전환 적용됨
+         */
+        APPLIED,
+        /**
+         * 이미 전환된 상태 (멱등 처리)
+         */
+        ALREADY_APPLIED,
+        /**
+         * 전환 조건 불충족 (변경 없음)
+         */
+        REJECTED
+    }
+
+    /**
+     * Wait → Active 전환 결과
+     * @param movedUserIds 이동된 유저 ID 리스트
+     * @param activeQueueSize 처리 후 Active Queue 크기
+     * @param waitQueueSize 처리 후 Wait Queue 크기
+     */
+    record ActivationBatch(
+            List<String> movedUserIds,
+            long activeQueueSize,
+            long waitQueueSize
+    ) {}
+
+    /**
+     * Active Queue 일괄 제거 대상
+     * @param eventId 제거를 요청한 이벤트 ID (멱등 처리 기준)
+     * @param userId 유저 ID
+     */
+    record ActiveRemoval(
+            String eventId,
+            String userId
+    ) {}
+
+    /**
+     * 조회 목적
+     * 저장소 구현체가 읽기 노드(Master/Replica)를 결정하는 기준
+     */
+    enum ReadPurpose {
+        /**
+         * 화면 표시용 (순번, 대기 인원, 상태 폴링) - Replica 읽기 허용
+         */
+        DISPLAY,
+        /**
+         * 입장 판정용 (토큰 검증, 활성화, 진입 검증) - 항상 Master
+         */
+        ADMISSION
+    }
 }
@@ -0,0 +1,105 @@
+package personal.ai.queue.application.service;
+
+import personal.ai.queue.domain.model.ArrivalTicket;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * 도착 티켓 서명/검증 (HMAC-SHA256)
+ *
+ * 형식: base64url(concertId).base64url(userId).arrivedAtMillis.base64url(signature)
+ * - 서명 대상은 마지막 '.' 앞의 문자열 전체
+ * - 같은 서명 키를 쓰는 모든 인스턴스가 저장소 조회 없이 검증 가능
+ * - 서명 키는 UTF-8 기준 32바이트 이상 (HMAC-SHA256 출력 길이 미만의 키는 거부)
+ */
+public class ArrivalTicketSigner {
+
+    static final int MIN_SECRET_BYTES = 32;
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final String SEPARATOR = ".";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final Mac prototype;
+
+    public ArrivalTicketSigner(String secret) {
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalArgumentException("Arrival ticket secret must not be blank");
+        }
+        byte[] key = secret.getBytes(StandardCharsets.UTF_8);
+        if (key.length < MIN_SECRET_BYTES) {
+            throw new IllegalArgumentException(
+                    "Arrival ticket secret must be at least " + MIN_SECRET_BYTES + " bytes: length=" + key.length);
+        }
+
+        try {
+            prototype = Mac.getInstance(ALGORITHM);
+            prototype.init(new SecretKeySpec(key, ALGORITHM));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC-SHA256 is not available", e);
+        }
+    }
+
+    public String sign(ArrivalTicket ticket) {
+        String payload = encode(ticket.concertId()) + SEPARATOR
+                + encode(ticket.userId()) + SEPARATOR
+                + ticket.arrivedAt().toEpochMilli();
+        return payload + SEPARATOR + ENCODER.encodeToString(mac(payload));
+    }
+
+    /**
+     * 서명 검증 후 티켓 복원
+     *
+     * @return 서명이 유효하면 티켓, 형식 오류나 위변조면 empty
+     */
+    public Optional<ArrivalTicket> verify(String signedTicket) {
+        if (signedTicket == null) {
+            return Optional.empty();
+        }
+
+        int signatureStart = signedTicket.lastIndexOf(SEPARATOR);
+        String[] fields = signatureStart > 0 ? signedTicket.substring(0, signatureStart).split("\\.", -1) : new String[0];
+        if (fields.length != 3) {
+            return Optional.empty();
+        }
+
+        try {
+            String payload = signedTicket.substring(0, signatureStart);
+            byte[] signature = DECODER.decode(signedTicket.substring(signatureStart + 1));
+            if (!MessageDigest.isEqual(mac(payload), signature)) {
+                return Optional.empty();
+            }
+
+            return Optional.of(new ArrivalTicket(
+                    decode(fields[0]), decode(fields[1]), Instant.ofEpochMilli(Long.parseLong(fields[2]))));
+        } catch (IllegalArgumentException e) {
+            // Base64/숫자 형식 오류 (NumberFormatException 포함)
+            return Optional.empty();
+        }
+    }
+
+    private byte[] mac(String payload) {
+        try {
+            Mac mac = (Mac) prototype.clone();
+            return mac.doFinal(payload.getBytes(StandardCharsets.UTF_8));
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException("HMAC instance is not cloneable", e);
+        }
+    }
+
+    private static String encode(String value) {
+        return ENCODER.encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decode(String value) {
+        return new String(DECODER.decode(value), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,369 @@
+package personal.ai.queue.application.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import personal.ai.queue.application.config.QueueConfigProperties;
+import personal.ai.queue.domain.exception.QueueConcertBusyException;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 콘서트별 Bulkhead
+ * 진입, SSE 폴링, 스케줄러 작업의 동시 실행 수를 콘서트마다 따로 제한합니다.
+ *
+ * 격리 대상:
+ * - Redis 연결은 모든 콘서트가 공유하므로, 한 콘서트가 응답 대기 명령을 쌓으면 다른 콘서트의 지연도 함께 늘어남
+ * - 콘서트별 허가 수 = 기본 허가 수 × 가중치 → 공유 연결의 In-flight 한도를 가중치에 비례해 나눠 씀
+ * - 스케줄러 작업은 콘서트별 Virtual Thread에서 실행하여 느린 콘서트가 다른 콘서트의 전환 주기를 늦추지 않음
+ * - 같은 콘서트의 같은 종류 작업(전환/정리)은 1개만 실행 (이전 작업이 남아 있으면 이번 주기 건너뜀)
+ *
+ * 정리: 요청의 concertId마다 생성되므로, idle-evict-ms 동안 사용하지 않고 허가가 모두 반납된 Bulkhead는
+ * evictIdle()에서 메트릭과 함께 제거 (존재하지 않는 콘서트 ID로 힙과 메트릭 시계열이 계속 늘지 않도록)
+ *
+ * 허가를 얻지 못하면:
+ * - 진입: acquire-timeout-ms 동안 대기 후 QueueConcertBusyException (503)
+ * - 폴링/스케줄러: 대기하지 않고 이번 주기를 건너뜀
+ *
+ * 메트릭 (concert_id, lane 태그):
+ * - queue.bulkhead.in_use: 사용 중인 허가 수
+ * - queue.bulkhead.saturation: 사용 중인 허가 비율 (0~1)
+ * - queue.bulkhead.rejected: 허가를 얻지 못한 요청/작업 수
+ */
+@Slf4j
+@Component
+public class ConcertBulkheads {
+
+    private static final int DEFAULT_WEIGHT = 1;
+    private static final List<String> METER_NAMES =
+            List.of("queue.bulkhead.in_use", "queue.bulkhead.saturation", "queue.bulkhead.rejected");
+
+    /**
+     * 콘서트 안에서 서로 독립적으로 제한하는 작업 구분
+     */
+    public enum Lane {
+        ENTRY,
+        POLLING,
+        SCHEDULER;
+
+        private final String tag = name().toLowerCase();
+
+        public String tag() {
+            return tag;
+        }
+    }
+
+    private final QueueConfigProperties.Bulkhead config;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, ConcertBulkhead> bulkheads = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @Autowired
+    public ConcertBulkheads(QueueConfigProperties configProperties, MeterRegistry meterRegistry) {
+        this(configProperties.bulkhead(), meterRegistry);
+    }
+
+    public ConcertBulkheads(QueueConfigProperties.Bulkhead bulkhead, MeterRegistry meterRegistry) {
+        this.config = bulkhead != null && bulkhead.enabled() ? bulkhead : null;
+        this.meterRegistry = meterRegistry;
+
+        if (config != null) {
+            log.info("Concert bulkheads enabled: entryPermits={}, pollingPermits={}, schedulerPermits={}, weights={}",
+                    config.entryPermits(), config.pollingPermits(), config.schedulerPermits(), config.weights());
+        }
+    }
+
+    /**
+     * 제한 없이 바로 실행하는 인스턴스 (스케줄러 작업도 호출 스레드에서 실행)
+     */
+    public static ConcertBulkheads unbounded() {
+        return new ConcertBulkheads((QueueConfigProperties.Bulkhead) null, null);
+    }
+
+    /**
+     * 허가를 얻어 호출 (허가 대기 시간 초과 시 예외)
+     *
+     * @throws QueueConcertBusyException 콘서트의 허가를 제한 시간 안에 얻지 못한 경우
+     */
+    public <T> T call(String concertId, Lane lane, Supplier<T> call) {
+        if (config == null) {
+            return call.get();
+        }
+
+        ConcertBulkhead bulkhead = acquire(concertId, lane, config.acquireTimeoutMs());
+        if (bulkhead == null) {
+            rejected(concertId, lane);
+            throw new QueueConcertBusyException(concertId, lane.tag());
+        }
+
+        try {
+            return call.get();
+        } finally {
+            bulkhead.permits(lane).release();
+        }
+    }
+
+    /**
+     * 대기 없이 허가 획득 시도 (성공 시 release 필수)
+     *
+     * @return 획득 여부
+     */
+    public boolean tryAcquire(String concertId, Lane lane) {
+        if (config == null) {
+            return true;
+        }
+
+        if (acquire(concertId, lane, 0) == null) {
+            rejected(concertId, lane);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 허가 반납 (허가를 쥔 Bulkhead는 정리되지 않으므로 같은 Bulkhead에 반납됨)
+     */
+    public void release(String concertId, Lane lane) {
+        if (config != null) {
+            bulkhead(concertId).permits(lane).release();
+        }
+    }
+
+    /**
+     * 허가를 얻으면 콘서트 작업을 Virtual Thread에서 실행
+     * 같은 콘서트의 같은 종류(job) 작업이 아직 실행 중이거나 허가가 모두 사용 중이면 실행하지 않음
+     *
+     * @param job 작업 종류 (예: move, cleanup)
+     * @return 실행 여부
+     */
+    public boolean dispatch(String concertId, Lane lane, String job, Runnable task) {
+        if (config == null) {
+            task.run();
+            return true;
+        }
+
+        ConcertBulkhead bulkhead = acquire(concertId, lane, 0);
+        if (bulkhead == null) {
+            rejected(concertId, lane);
+            return false;
+        }
+        if (!bulkhead.startJob(job)) {
+            bulkhead.permits(lane).release();
+            log.debug("Concert job still in flight, skipping: concertId={}, job={}", concertId, job);
+            return false;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    bulkhead.finishJob(job);
+                    bulkhead.permits(lane).release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            bulkhead.finishJob(job);
+            bulkhead.permits(lane).release();
+            throw e;
+        }
+        return true;
+    }
+
+    /**
+     * idle-evict-ms 동안 사용하지 않았고 허가가 모두 반납된 Bulkhead와 그 메트릭 제거
+     *
+     * @return 제거한 Bulkhead 수
+     */
+    public int evictIdle() {
+        if (config == null) {
+            return 0;
+        }
+
+        long now = System.nanoTime();
+        long idleNanos = TimeUnit.MILLISECONDS.toNanos(config.idleEvictMs());
+        int evicted = 0;
+        for (String concertId : bulkheads.keySet()) {
+            // 같은 키의 생성과 겹치지 않도록 제거와 메트릭 정리를 한 번에 수행
+            boolean[] removed = {false};
+            bulkheads.computeIfPresent(concertId, (id, bulkhead) -> {
+                if (!bulkhead.tryRetire(now, idleNanos)) {
+                    return bulkhead;
+                }
+                removeMeters(id);
+                removed[0] = true;
+                return null;
+            });
+            if (removed[0]) {
+                evicted++;
+            }
+        }
+
+        if (evicted > 0) {
+            log.debug("Evicted idle concert bulkheads: evicted={}, remaining={}", evicted, bulkheads.size());
+        }
+        return evicted;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                log.warn("Bulkhead executor did not terminate in time, forcing shutdown...");
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 허가 획득 (정리 중인 Bulkhead에서 얻었으면 반납하고 새 Bulkhead에서 다시 시도)
+     *
+     * @return 허가를 얻은 Bulkhead (얻지 못하면 null)
+     */
+    private ConcertBulkhead acquire(String concertId, Lane lane, long timeoutMs) {
+        while (true) {
+            ConcertBulkhead bulkhead = bulkhead(concertId);
+            Semaphore permits = bulkhead.permits(lane);
+            try {
+                if (!permits.tryAcquire(timeoutMs, TimeUnit.MILLISECONDS)) {
+                    return null;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+
+            if (!bulkhead.isRetired()) {
+                bulkhead.touch();
+                return bulkhead;
+            }
+            permits.release();
+        }
+    }
+
+    private void rejected(String concertId, Lane lane) {
+        Counter.builder("queue.bulkhead.rejected")
+                .tag("concert_id", concertId)
+                .tag("lane", lane.tag())
+                .description("Requests or tasks that could not get a concert bulkhead permit")
+                .register(meterRegistry)
+                .increment();
+
+        log.debug("Concert bulkhead saturated: concertId={}, lane={}", concertId, lane.tag());
+    }
+
+    private void removeMeters(String concertId) {
+        for (String name : METER_NAMES) {
+            meterRegistry.find(name).tag("concert_id", concertId).meters().forEach(meterRegistry::remove);
+        }
+    }
+
+    private ConcertBulkhead bulkhead(String concertId) {
+        return bulkheads.computeIfAbsent(concertId, this::createBulkhead);
+    }
+
+    private ConcertBulkhead createBulkhead(String concertId) {
+        int weight = Math.max(DEFAULT_WEIGHT, weightOf(concertId));
+
+        Map<Lane, Integer> limits = new EnumMap<>(Lane.class);
+        limits.put(Lane.ENTRY, Math.max(1, config.entryPermits() * weight));
+        limits.put(Lane.POLLING, Math.max(1, config.pollingPermits() * weight));
+        limits.put(Lane.SCHEDULER, Math.max(1, config.schedulerPermits()));
+
+        ConcertBulkhead bulkhead = new ConcertBulkhead(limits);
+        limits.forEach((lane, limit) -> {
+            Semaphore permits = bulkhead.permits(lane);
+            Gauge.builder("queue.bulkhead.in_use", permits, p -> limit - p.availablePermits())
+                    .tag("concert_id", concertId)
+                    .tag("lane", lane.tag())
+                    .description("Concert bulkhead permits in use")
+                    .register(meterRegistry);
+            Gauge.builder("queue.bulkhead.saturation", permits, p -> (double) (limit - p.availablePermits()) / limit)
+                    .tag("concert_id", concertId)
+                    .tag("lane", lane.tag())
+                    .description("Fraction of concert bulkhead permits in use")
+                    .register(meterRegistry);
+        });
+
+        log.debug("Created concert bulkhead: concertId={}, weight={}, limits={}", concertId, weight, limits);
+        return bulkhead;
+    }
+
+    private int weightOf(String concertId) {
+        Map<String, Integer> weights = config.weights();
+        return weights != null ? weights.getOrDefault(concertId, DEFAULT_WEIGHT) : DEFAULT_WEIGHT;
+    }
+
+    /**
+     * 콘서트 1개의 작업별 허가 + 실행 중인 스케줄러 작업 종류
+     */
+    private static final class ConcertBulkhead {
+
+        private final Map<Lane, Integer> limits;
+        private final Map<Lane, Semaphore> permits = new EnumMap<>(Lane.class);
+        private final Set<String> inFlightJobs = ConcurrentHashMap.newKeySet();
+        private volatile long lastUsedNanos = System.nanoTime();
+        private volatile boolean retired;
+
+        ConcertBulkhead(Map<Lane, Integer> limits) {
+            this.limits = limits;
+            limits.forEach((lane, limit) -> permits.put(lane, new Semaphore(limit)));
+        }
+
+        Semaphore permits(Lane lane) {
+            return permits.get(lane);
+        }
+
+        void touch() {
+            lastUsedNanos = System.nanoTime();
+        }
+
+        boolean isRetired() {
+            return retired;
+        }
+
+        boolean startJob(String job) {
+            return inFlightJobs.add(job);
+        }
+
+        void finishJob(String job) {
+            inFlightJobs.remove(job);
+        }
+
+        /**
+         * 정리 표시 후 허가가 모두 반납됐는지 확인 (사용 중이면 표시 취소)
+         * 표시를 먼저 하므로, 확인 이후 허가를 얻은 요청은 표시를 보고 새 Bulkhead로 다시 시도함
+         */
+        boolean tryRetire(long now, long idleNanos) {
+            if (now - lastUsedNanos < idleNanos) {
+                return false;
+            }
+
+            retired = true;
+            boolean unused = limits.entrySet().stream()
+                    .allMatch(entry -> permits.get(entry.getKey()).availablePermits() == entry.getValue());
+            if (!unused) {
+                retired = false;
+            }
+            return unused;
+        }
+    }
+}
@@ -3,10 +3,14 @@ package personal.ai.queue.application.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import personal.ai.queue.adapter.out.redis.RedisEnterQueueAdapter;
 import personal.ai.queue.application.port.in.EnterQueueUseCase;
+import personal.ai.queue.application.port.out.QueueRepository;
+import personal.ai.queue.application.service.ConcertBulkheads.Lane;
 import personal.ai.queue.domain.model.QueuePosition;
 
+import java.time.Instant;
+import java.util.Optional;
+
 /**
  * Enter Queue Service (SRP)
  * 단일 책임: 대기열 진입
@@ -15,13 +19,18 @@ import personal.ai.queue.domain.model.QueuePosition;
  *   - 기존: 6회 Redis 호출 (HGETALL + ZRANK + ZCARD + ZADD + ZRANK + ZCARD)
  *   - 개선: 1회 Lua 스크립트 호출
  *   - 효과: 네트워크 RTT 5회 절약 (약 5ms), 예상 TPS +30~50%
+ *
+ * 오픈 전 로비: 판매 오픈 전에는 저장소 호출 없이 도착 티켓만 발급 (QueueLobby)
+ * 콘서트별 Bulkhead: 저장소 진입 호출은 콘서트의 ENTRY 허가 안에서만 실행 (ConcertBulkheads)
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class EnterQueueService implements EnterQueueUseCase {
 
-    private final RedisEnterQueueAdapter redisEnterQueueAdapter;
+    private final QueueRepository queueRepository;
+    private final QueueLobby queueLobby;
+    private final ConcertBulkheads concertBulkheads;
 
     @Override
     public QueuePosition enter(EnterQueueCommand command) {
@@ -30,11 +39,26 @@ public class EnterQueueService implements EnterQueueUseCase {
 
         log.debug("Enter queue request: concertId={}, userId={}", concertId, userId);
 
+        // 오픈 전: 도착만 기록하고 도착 티켓 발급 (Redis 호출 없음)
+        Optional<QueuePosition> lobbyPosition = queueLobby.tryEnter(concertId, userId, command.arrivalTicket());
+        if (lobbyPosition.isPresent()) {
+            return lobbyPosition.get();
+        }
+
+        // 오픈 후 도착 티켓 제시 (인정 기간 내, 사용자당 1회): 로비 도착 시각을 대기 순서 기준으로 사용
+        Instant arrivedAt = queueLobby.verifiedArrival(concertId, userId, command.arrivalTicket());
+        if (arrivedAt != null) {
+            Instant ticketValidUntil = queueLobby.ticketValidUntil(concertId);
+            return concertBulkheads.call(concertId, Lane.ENTRY,
+                    () -> queueRepository.enterQueueWithTicket(concertId, userId, arrivedAt, ticketValidUntil));
+        }
+
         // Phase 3-2: 단일 Lua 스크립트로 모든 검증 및 진입 처리
         // 1. Active Token 확인
         // 2. Wait Queue 확인
         // 3. 신규 진입 처리
         // → 모두 하나의 원자적 연산으로 처리
-        return redisEnterQueueAdapter.enterQueue(concertId, userId);
+        return concertBulkheads.call(concertId, Lane.ENTRY,
+                () -> queueRepository.enterQueue(concertId, userId));
     }
 }
@@ -1,15 +1,14 @@
 package personal.ai.queue.application.service;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
-import personal.ai.queue.adapter.out.redis.RedisKeyGenerator;
 import personal.ai.queue.application.config.QueueConfigProperties;
 import personal.ai.queue.application.port.out.QueueRepository;
 import personal.ai.queue.domain.model.QueueConfig;
 import personal.ai.queue.domain.model.QueuePosition;
 
+import java.time.Clock;
 import java.time.Duration;
 import java.util.Optional;
 
@@ -19,20 +18,36 @@ import java.util.Optional;
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class QueueEntryValidatorImpl implements QueueEntryValidator {
 
     private static final int POSITION_DISPLAY_OFFSET = 1;
 
     private final QueueRepository queueRepository;
     private final QueueConfig queueConfig;
-    private final RedisTemplate<String, String> redisTemplate;
     private final QueueConfigProperties queueConfigProperties;
+    private final Clock clock;
+
+    @Autowired
+    public QueueEntryValidatorImpl(QueueRepository queueRepository, QueueConfig queueConfig,
+            QueueConfigProperties queueConfigProperties) {
+        this(queueRepository, queueConfig, queueConfigProperties, Clock.systemUTC());
+    }
+
+    /**
+     * 만료 판정 기준 시계 지정 (시뮬레이터의 가상 시계 등)
+     */
+    public QueueEntryValidatorImpl(QueueRepository queueRepository, QueueConfig queueConfig,
+            QueueConfigProperties queueConfigProperties, Clock clock) {
+        this.queueRepository = queueRepository;
+        this.queueConfig = queueConfig;
+        this.queueConfigProperties = queueConfigProperties;
+        this.clock = clock;
+    }
 
     @Override
     public Optional<QueuePosition> checkActiveUser(String concertId, String userId) {
         var activeToken = queueRepository.getActiveToken(concertId, userId);
-        if (activeToken.isPresent() && !activeToken.get().isExpired()) {
+        if (activeToken.isPresent() && !activeToken.get().isExpired(clock.instant())) {
             log.debug("User already active: concertId={}, userId={}", concertId, userId);
             return Optional.of(QueuePosition.alreadyActive(activeToken.get()));
         }
@@ -0,0 +1,219 @@
+package personal.ai.queue.application.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import personal.ai.queue.application.config.QueueConfigProperties;
+import personal.ai.queue.domain.model.ArrivalTicket;
+import personal.ai.queue.domain.model.QueuePosition;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 오픈 전 로비
+ *
+ * 판매 오픈 시각(queue.lobby.open-at) 전의 진입 요청은 저장소를 거치지 않고
+ * 인스턴스 메모리에 도착 시각만 기록한 뒤 서명된 도착 티켓을 돌려줍니다.
+ * 오픈 시각이 지나면 QueueLobbyService가 도착자를 도착 순서대로 Wait Queue에 일괄 적재합니다.
+ *
+ * 다중 인스턴스:
+ * - 인스턴스마다 자신이 받은 도착자만 적재하며, Wait Queue score가 도착 시각이므로 적재 시점과 무관하게 도착 순서 유지
+ * - 인스턴스 재시작 등으로 적재 전 도착 기록이 사라지면, 사용자가 오픈 후 티켓과 함께 재진입해 도착 시각을 인정받음
+ * - 다른 인스턴스에서 받은 티켓으로 로비에 재진입하면 티켓의 (더 이른) 도착 시각을 유지
+ *
+ * 티켓 인정 범위:
+ * - 도착 시각이 오픈 시각 이전이고, 현재가 오픈 시각 + ticketGraceSeconds 이내일 때만 인정
+ * - 오픈 후 티켓 재진입은 사용자당 1회 (저장소가 로비 적재/티켓 진입 사용자를 ticketValidUntil까지 기록)
+ *
+ * 서명 키:
+ * - 로비 사용 시 기본값(application.yml) 그대로이거나 32바이트 미만이면 기동 실패 (QUEUE_LOBBY_SECRET 필수)
+ */
+@Slf4j
+@Component
+public class QueueLobby {
+
+    private static final long SECONDS_PER_MINUTE = 60L;
+    private static final long DEFAULT_TICKET_GRACE_SECONDS = 300L;
+    static final String PLACEHOLDER_SECRET = "local-lobby-secret-change-me";
+
+    private final Map<String, Instant> openAt;
+    private final ArrivalTicketSigner signer;
+    private final Duration ticketGrace;
+    private final Clock clock;
+    private final Map<String, LobbyBuffer> buffers = new ConcurrentHashMap<>();
+
+    @Autowired
+    public QueueLobby(QueueConfigProperties configProperties) {
+        this(configProperties.lobby(), Clock.systemUTC());
+    }
+
+    public QueueLobby(QueueConfigProperties.Lobby lobby, Clock clock) {
+        boolean enabled = lobby != null && lobby.enabled();
+        this.openAt = enabled && lobby.openAt() != null ? Map.copyOf(lobby.openAt()) : Map.of();
+        if (enabled && PLACEHOLDER_SECRET.equals(lobby.secret())) {
+            throw new IllegalStateException("queue.lobby.secret must be set (QUEUE_LOBBY_SECRET) when the lobby is enabled");
+        }
+        this.signer = enabled ? new ArrivalTicketSigner(lobby.secret()) : null;
+        this.ticketGrace = Duration.ofSeconds(enabled && lobby.ticketGraceSeconds() > 0
+                ? lobby.ticketGraceSeconds()
+                : DEFAULT_TICKET_GRACE_SECONDS);
+        this.clock = clock;
+    }
+
+    /**
+     * 로비를 사용하지 않는 인스턴스 (모든 진입이 바로 저장소로 전달됨)
+     */
+    public static QueueLobby disabled() {
+        return new QueueLobby(null, Clock.systemUTC());
+    }
+
+    /**
+     * 오픈 전이면 도착을 기록하고 도착 티켓을 발급
+     *
+     * @param presentedTicket 이전에 발급받은 도착 티켓 (없으면 null)
+     * @return 로비 진입 결과 (오픈 이후이거나 로비 대상이 아니면 empty)
+     */
+    public Optional<QueuePosition> tryEnter(String concertId, String userId, String presentedTicket) {
+        Instant opensAt = openAt.get(concertId);
+        Instant now = clock.instant();
+        if (opensAt == null || !now.isBefore(opensAt)) {
+            return Optional.empty();
+        }
+
+        Instant presentedArrival = verifiedArrival(concertId, userId, presentedTicket);
+        Instant arrival = presentedArrival != null && presentedArrival.isBefore(now) ? presentedArrival : now;
+
+        LobbyBuffer buffer = buffers.computeIfAbsent(concertId, id -> new LobbyBuffer());
+        LobbyBuffer.Arrival recorded = buffer.arrive(userId, arrival);
+        if (recorded == null) {
+            // 적재가 이미 시작됨 → 일반 진입
+            return Optional.empty();
+        }
+
+        String ticket = signer.sign(new ArrivalTicket(concertId, userId, recorded.arrivedAt()));
+        int minutesUntilOpen = (int) Math.ceil(
+                (double) Duration.between(now, opensAt).toSeconds() / SECONDS_PER_MINUTE);
+
+        return Optional.of(QueuePosition.inLobby(concertId, userId, ticket, minutesUntilOpen, recorded.isNew()));
+    }
+
+    /**
+     * 도착 티켓 검증
+     * 서명, 콘서트/사용자 일치, 도착 시각 < 오픈 시각, 현재 <= 오픈 시각 + 인정 기간을 모두 만족해야 인정
+     *
+     * @return 인정된 티켓의 도착 시각 (아니면 null)
+     */
+    public Instant verifiedArrival(String concertId, String userId, String presentedTicket) {
+        if (signer == null || presentedTicket == null || presentedTicket.isBlank()) {
+            return null;
+        }
+
+        Instant opensAt = openAt.get(concertId);
+        if (opensAt == null || clock.instant().isAfter(opensAt.plus(ticketGrace))) {
+            log.debug("Ignoring arrival ticket outside lobby window: concertId={}, userId={}", concertId, userId);
+            return null;
+        }
+
+        return signer.verify(presentedTicket)
+                .filter(ticket -> ticket.isFor(concertId, userId))
+                .filter(ticket -> ticket.arrivedAt().isBefore(opensAt))
+                .map(ArrivalTicket::arrivedAt)
+                .orElseGet(() -> {
+                    log.debug("Ignoring invalid arrival ticket: concertId={}, userId={}", concertId, userId);
+                    return null;
+                });
+    }
+
+    /**
+     * 도착 티켓 인정 기한 (오픈 시각 + 인정 기간)
+     * 저장소는 이 시각까지 티켓을 사용한 사용자를 기록하여 재사용을 막음
+     *
+     * @return 인정 기한 (로비 대상 콘서트가 아니면 null)
+     */
+    public Instant ticketValidUntil(String concertId) {
+        Instant opensAt = openAt.get(concertId);
+        return opensAt != null ? opensAt.plus(ticketGrace) : null;
+    }
+
+    /**
+     * 오픈 시각이 지났고 적재 대기 중인 도착자가 있는 콘서트
+     */
+    public List<String> dueConcertIds() {
+        Instant now = clock.instant();
+        return buffers.entrySet().stream()
+                .filter(entry -> !now.isBefore(openAt.get(entry.getKey())) && entry.getValue().hasPending())
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    /**
+     * 도착 기록을 닫고 도착 순서대로 꺼냄 (이후 로비 진입은 일반 진입으로 처리)
+     */
+    public List<ArrivalTicket> drain(String concertId) {
+        LobbyBuffer buffer = buffers.get(concertId);
+        if (buffer == null) {
+            return List.of();
+        }
+
+        List<ArrivalTicket> arrivals = new ArrayList<>();
+        buffer.close().forEach((userId, arrival) -> arrivals.add(new ArrivalTicket(concertId, userId, arrival)));
+        arrivals.sort(ArrivalTicket.ARRIVAL_ORDER);
+        return arrivals;
+    }
+
+    /**
+     * 적재에 실패한 도착자를 되돌림 (다음 확인 주기에 재시도)
+     */
+    public void restore(String concertId, List<ArrivalTicket> arrivals) {
+        buffers.computeIfAbsent(concertId, id -> new LobbyBuffer()).restore(arrivals);
+    }
+
+    /**
+     * 콘서트 1개의 도착 기록
+     * 도착 기록과 닫기가 경합하지 않도록 모니터로 보호
+     */
+    private static final class LobbyBuffer {
+
+        record Arrival(Instant arrivedAt, boolean isNew) {}
+
+        private Map<String, Instant> arrivals = new HashMap<>();
+        private boolean closed;
+
+        synchronized Arrival arrive(String userId, Instant arrivedAt) {
+            if (closed) {
+                return null;
+            }
+
+            Instant previous = arrivals.get(userId);
+            if (previous != null && !arrivedAt.isBefore(previous)) {
+                return new Arrival(previous, false);
+            }
+            arrivals.put(userId, arrivedAt);
+            return new Arrival(arrivedAt, previous == null);
+        }
+
+        synchronized boolean hasPending() {
+            return !arrivals.isEmpty();
+        }
+
+        synchronized Map<String, Instant> close() {
+            closed = true;
+            Map<String, Instant> drained = arrivals;
+            arrivals = new HashMap<>();
+            return drained;
+        }
+
+        synchronized void restore(List<ArrivalTicket> restored) {
+            restored.forEach(ticket -> arrivals.merge(ticket.userId(), ticket.arrivedAt(),
+                    (current, previous) -> current.isBefore(previous) ? current : previous));
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package personal.ai.queue.application.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import personal.ai.queue.application.config.QueueConfigProperties;
+import personal.ai.queue.application.port.in.OpenLobbyUseCase;
+import personal.ai.queue.application.port.out.QueueRepository;
+import personal.ai.queue.domain.model.ArrivalTicket;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Queue Lobby Service (SRP)
+ * 단일 책임: 오픈 시각에 로비 도착자를 Wait Queue로 적재
+ *
+ * 도착 순서대로 loadBatchSize명씩 적재 스크립트 1회로 처리 (배치당 Redis 왕복 1회)
+ * 실패한 배치부터는 로비로 되돌려 다음 확인 주기에 재시도하며, 적재는 멱등 (이미 대기 중이면 이른 도착 시각만 반영)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class QueueLobbyService implements OpenLobbyUseCase {
+
+    private static final int DEFAULT_LOAD_BATCH_SIZE = 1000;
+
+    private final QueueLobby queueLobby;
+    private final QueueRepository queueRepository;
+    private final QueueConfigProperties configProperties;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public long openDueLobbies() {
+        long totalLoaded = 0;
+        for (String concertId : queueLobby.dueConcertIds()) {
+            totalLoaded += open(concertId);
+        }
+        return totalLoaded;
+    }
+
+    private long open(String concertId) {
+        List<ArrivalTicket> arrivals = queueLobby.drain(concertId);
+        Instant ticketValidUntil = queueLobby.ticketValidUntil(concertId);
+        int batchSize = loadBatchSize();
+        long loaded = 0;
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        for (int from = 0; from < arrivals.size(); from += batchSize) {
+            List<ArrivalTicket> batch = arrivals.subList(from, Math.min(from + batchSize, arrivals.size()));
+            try {
+                loaded += queueRepository.loadArrivals(concertId, batch, ticketValidUntil);
+            } catch (Exception e) {
+                log.error("Failed to load lobby arrivals, retrying next cycle: concertId={}, remaining={}",
+                        concertId, arrivals.size() - from, e);
+                queueLobby.restore(concertId, List.copyOf(arrivals.subList(from, arrivals.size())));
+                break;
+            }
+        }
+        sample.stop(Timer.builder("queue.lobby.load.duration")
+                .tag("concert_id", concertId)
+                .description("Time taken to load lobby arrivals into wait queue")
+                .register(meterRegistry));
+
+        Counter.builder("queue.lobby.loaded")
+                .tag("concert_id", concertId)
+                .description("Lobby arrivals loaded into wait queue at open time")
+                .register(meterRegistry)
+                .increment(loaded);
+
+        log.info("Lobby opened: concertId={}, arrivals={}, loaded={}", concertId, arrivals.size(), loaded);
+        return loaded;
+    }
+
+    private int loadBatchSize() {
+        QueueConfigProperties.Lobby lobby = configProperties.lobby();
+        return lobby != null && lobby.loadBatchSize() > 0 ? lobby.loadBatchSize() : DEFAULT_LOAD_BATCH_SIZE;
+    }
+}
@@ -7,11 +7,21 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import personal.ai.queue.application.port.in.RemoveFromQueueUseCase;
 import personal.ai.queue.application.port.out.QueueRepository;
+import personal.ai.queue.application.port.out.QueueRepository.ActiveRemoval;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Queue Removal Service (SRP)
  * 단일 책임: 대기열에서 사용자 제거
  * Phase 4: Exit Rate 메트릭 추가
+ *
+ * 일괄 제거: 결제 완료 이벤트 배치를 콘서트별로 묶어 콘서트당 저장소 호출 1회로 처리
  */
 @Slf4j
 @Service
@@ -37,4 +47,39 @@ public class QueueRemovalService implements RemoveFromQueueUseCase {
         log.info("User removed from Active Queue: concertId={}, userId={}",
                 command.concertId(), command.userId());
     }
+
+    @Override
+    public long removeAllFromQueue(List<RemoveFromQueueCommand> commands) {
+        // 콘서트별로 묶고, 같은 배치 안에서 중복된 eventId는 한 번만 전달
+        Map<String, List<ActiveRemoval>> removalsByConcert = new LinkedHashMap<>();
+        Set<String> eventIds = new HashSet<>();
+        for (RemoveFromQueueCommand command : commands) {
+            if (command.eventId() != null && !eventIds.add(command.eventId())) {
+                continue;
+            }
+            removalsByConcert.computeIfAbsent(command.concertId(), k -> new ArrayList<>())
+                    .add(new ActiveRemoval(command.eventId(), command.userId()));
+        }
+
+        long totalRemoved = 0;
+        for (Map.Entry<String, List<ActiveRemoval>> entry : removalsByConcert.entrySet()) {
+            String concertId = entry.getKey();
+            List<ActiveRemoval> removals = entry.getValue();
+
+            long removed = queueRepository.removeFromActiveQueueBatch(concertId, removals);
+            totalRemoved += removed;
+
+            Counter.builder("queue.exit.count")
+                    .tag("concert_id", concertId)
+                    .tag("service", "queue-service")
+                    .description("Number of users exited from Active Queue")
+                    .register(meterRegistry)
+                    .increment(removed);
+
+            log.info("Users removed from Active Queue in batch: concertId={}, requested={}, removed={}",
+                    concertId, removals.size(), removed);
+        }
+
+        return totalRemoved;
+    }
 }
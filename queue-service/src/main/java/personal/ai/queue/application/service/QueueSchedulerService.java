@@ -8,6 +8,7 @@ import org.springframework.stereotype.Service;
 import personal.ai.queue.application.port.in.CleanupExpiredTokensUseCase;
 import personal.ai.queue.application.port.in.MoveToActiveQueueUseCase;
 import personal.ai.queue.application.port.out.QueueRepository;
+import personal.ai.queue.application.port.out.QueueRepository.ActivationBatch;
 import personal.ai.queue.domain.model.QueueConfig;
 import personal.ai.queue.domain.service.QueueDomainService;
 
@@ -34,49 +35,35 @@ public class QueueSchedulerService implements
     public int moveWaitingToActive(String concertId) {
         log.debug("Moving users from wait to active queue: concertId={}", concertId);
 
-        // 현재 Active Queue 크기 확인
-        Long currentActiveSize = queueRepository.getActiveQueueSize(concertId);
-
-        // 현재 Wait Queue 크기 확인
-        Long currentWaitSize = queueRepository.getWaitQueueSize(concertId);
+        // 여유분 계산, Wait Queue Pop, Active Queue 추가를 Lua Script 하나로 처리 (Redis 왕복 1회)
+        // 실패 시 롤백으로 데이터 손실 방지
+        Instant expiration = domainService.calculateReadyExpiration();
+        ActivationBatch batch = queueRepository.moveToActiveQueueAtomic(
+                concertId,
+                queueConfig.activeMaxSize(),
+                expiration
+        );
 
         // Gauge로 Active Queue 크기 기록
-        Gauge.builder("queue.active.size", currentActiveSize, Long::doubleValue)
+        Gauge.builder("queue.active.size", batch.activeQueueSize(), Long::doubleValue)
                 .tag("concert_id", concertId)
                 .description("Current size of active queue")
                 .register(meterRegistry);
 
         // Gauge로 Wait Queue 크기 기록
-        Gauge.builder("queue.wait.size", currentWaitSize, Long::doubleValue)
+        Gauge.builder("queue.wait.size", batch.waitQueueSize(), Long::doubleValue)
                 .tag("concert_id", concertId)
                 .description("Number of users waiting in wait queue")
                 .register(meterRegistry);
 
-        // 전환 가능한 인원 계산
-        int availableSlots = domainService.calculateBatchSize(currentActiveSize);
-
-        if (availableSlots <= 0) {
-            log.debug("No available slots: concertId={}, currentSize={}",
-                    concertId, currentActiveSize);
-            return 0;
-        }
-
-        // Wait Queue에서 Pop하고 Active Queue에 원자적으로 추가
-        // Lua Script로 처리하여 데이터 손실 방지
-        Instant expiration = domainService.calculateReadyExpiration();
-        List<String> movedUserIds = queueRepository.moveToActiveQueueAtomic(
-                concertId,
-                availableSlots,
-                expiration
-        );
-
+        List<String> movedUserIds = batch.movedUserIds();
         if (movedUserIds.isEmpty()) {
-            log.debug("No users moved: concertId={}", concertId);
+            log.debug("No users moved: concertId={}, activeSize={}", concertId, batch.activeQueueSize());
             return 0;
         }
 
-        log.info("Moved users to active queue atomically: concertId={}, moved={}, available={}",
-                concertId, movedUserIds.size(), availableSlots);
+        log.info("Moved users to active queue atomically: concertId={}, moved={}, activeSize={}",
+                concertId, movedUserIds.size(), batch.activeQueueSize());
 
         return movedUserIds.size();
     }
@@ -1,14 +1,23 @@
 package personal.ai.queue.application.service;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import personal.ai.queue.application.config.QueueConfigProperties;
 import personal.ai.queue.application.port.in.GetActiveConcertsUseCase;
 import personal.ai.queue.application.port.in.GetQueueStatusUseCase;
+import personal.ai.queue.application.port.in.GetQueueStatusVersionUseCase;
 import personal.ai.queue.application.port.out.QueueRepository;
+import personal.ai.queue.application.port.out.QueueRepository.QueueEntrySnapshot;
+import personal.ai.queue.application.port.out.QueueRepository.ReadPurpose;
 import personal.ai.queue.domain.model.QueueToken;
 
+import java.time.Clock;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Queue Status Query Service (SRP)
@@ -16,37 +25,130 @@ import java.util.List;
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
-public class QueueStatusQueryService implements GetQueueStatusUseCase, GetActiveConcertsUseCase {
+public class QueueStatusQueryService implements GetQueueStatusUseCase, GetActiveConcertsUseCase,
+        GetQueueStatusVersionUseCase {
 
     private static final int POSITION_DISPLAY_OFFSET = 1;
+    // 캐시 항목 상한 (임의의 concertId 폴링으로 맵이 커지지 않도록, 넘으면 캐시 없이 조회)
+    private static final int MAX_CACHED_EPOCHS = 10_000;
 
     private final QueueRepository queueRepository;
+    private final QueueConfigProperties configProperties;
+    private final Clock clock;
 
+    // 콘서트별 Activation Epoch 로컬 캐시 (같은 콘서트의 폴링 요청이 하나의 GET을 공유)
+    // 캐시 유효 시간이 지난 항목은 유효 시간마다 한 번씩 일괄 제거
+    private final Map<String, CachedEpoch> epochCache = new ConcurrentHashMap<>();
+    private final AtomicLong lastEpochEvictionMs = new AtomicLong();
+
+    @Autowired
+    public QueueStatusQueryService(QueueRepository queueRepository, QueueConfigProperties configProperties) {
+        this(queueRepository, configProperties, Clock.systemUTC());
+    }
+
+    /**
+     * 만료 판정 기준 시계 지정 (시뮬레이터의 가상 시계 등)
+     */
+    public QueueStatusQueryService(QueueRepository queueRepository, QueueConfigProperties configProperties,
+            Clock clock) {
+        this.queueRepository = queueRepository;
+        this.configProperties = configProperties;
+        this.clock = clock;
+    }
+
+    /**
+     * 상태 조회 (표시용)
+     * 입장 판정에 쓰이지 않으므로 DISPLAY 목적으로 조회 (Replica 읽기 허용)
+     * Active Token과 Wait Queue 순번을 한 번에 조회 (Redis 왕복 1회)
+     */
     @Override
     public QueueToken getStatus(GetQueueStatusQuery query) {
-        var activeToken = queueRepository.getActiveToken(query.concertId(), query.userId());
-
-        if (activeToken.isPresent()) {
-            var token = activeToken.get();
-            if (token.isExpired()) {
-                log.debug("Token expired: concertId={}, userId={}", query.concertId(), query.userId());
-                return QueueToken.expired(query.concertId(), query.userId());
-            }
-            return token;
+        QueueEntrySnapshot snapshot = queueRepository.getQueueEntrySnapshot(
+                query.concertId(), query.userId(), ReadPurpose.DISPLAY);
+
+        return snapshot.activeToken() != null
+                ? resolveActiveToken(snapshot.activeToken(), query.concertId(), query.userId())
+                : resolveWaitingToken(snapshot.waitQueuePosition(), query.concertId(), query.userId());
+    }
+
+    @Override
+    public List<QueueToken> getStatuses(String concertId, List<String> userIds) {
+        List<QueueEntrySnapshot> snapshots = queueRepository.getQueueEntrySnapshots(concertId, userIds);
+
+        List<QueueToken> tokens = new ArrayList<>(userIds.size());
+        for (int i = 0; i < userIds.size(); i++) {
+            String userId = userIds.get(i);
+            QueueEntrySnapshot snapshot = snapshots.get(i);
+
+            tokens.add(snapshot.activeToken() != null
+                    ? resolveActiveToken(snapshot.activeToken(), concertId, userId)
+                    : resolveWaitingToken(snapshot.waitQueuePosition(), concertId, userId));
         }
+        return tokens;
+    }
+
+    private QueueToken resolveActiveToken(QueueToken token, String concertId, String userId) {
+        if (token.isExpired(clock.instant())) {
+            log.debug("Token expired: concertId={}, userId={}", concertId, userId);
+            return QueueToken.expired(concertId, userId);
+        }
+        return token;
+    }
 
-        Long position = queueRepository.getWaitQueuePosition(query.concertId(), query.userId());
+    private QueueToken resolveWaitingToken(Long position, String concertId, String userId) {
         if (position != null) {
-            return QueueToken.waiting(query.concertId(), query.userId(), position + POSITION_DISPLAY_OFFSET);
+            return QueueToken.waiting(concertId, userId, position + POSITION_DISPLAY_OFFSET);
         }
 
-        log.debug("Token not found in queue: concertId={}, userId={}", query.concertId(), query.userId());
-        return QueueToken.notFound(query.concertId(), query.userId());
+        log.debug("Token not found in queue: concertId={}, userId={}", concertId, userId);
+        return QueueToken.notFound(concertId, userId);
     }
 
     @Override
     public List<String> getActiveConcerts() {
         return queueRepository.getActiveConcertIds();
     }
+
+    /**
+     * Activation Epoch 조회 (로컬 캐시)
+     * 캐시 유효 시간만큼 READY 전환 인지가 늦어질 수 있으나, 권장 폴링 간격보다 충분히 짧게 유지
+     * 유효 시간이 지난 항목은 제거하고, 상한(MAX_CACHED_EPOCHS)을 넘으면 새 콘서트는 캐시하지 않음
+     */
+    @Override
+    public long getStatusVersion(String concertId) {
+        long cacheMs = configProperties.polling().statusEpochCacheMs();
+        if (cacheMs <= 0) {
+            return queueRepository.getActivationEpoch(concertId, ReadPurpose.DISPLAY);
+        }
+
+        long now = clock.millis();
+        CachedEpoch cached = epochCache.get(concertId);
+        if (cached != null && now - cached.loadedAtMs() < cacheMs) {
+            return cached.epoch();
+        }
+
+        long epoch = queueRepository.getActivationEpoch(concertId, ReadPurpose.DISPLAY);
+        evictExpiredEpochs(now, cacheMs);
+        if (cached != null || epochCache.size() < MAX_CACHED_EPOCHS) {
+            epochCache.put(concertId, new CachedEpoch(epoch, now));
+        }
+        return epoch;
+    }
+
+    /**
+     * 유효 시간이 지난 Epoch 캐시 항목 제거 (유효 시간당 한 스레드만 수행)
+     */
+    private void evictExpiredEpochs(long now, long cacheMs) {
+        long last = lastEpochEvictionMs.get();
+        if (now - last < cacheMs || !lastEpochEvictionMs.compareAndSet(last, now)) {
+            return;
+        }
+        epochCache.values().removeIf(entry -> now - entry.loadedAtMs() >= cacheMs);
+    }
+
+    int cachedEpochCount() {
+        return epochCache.size();
+    }
+
+    private record CachedEpoch(long epoch, long loadedAtMs) {}
 }
@@ -5,7 +5,10 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import personal.ai.queue.application.port.in.ExtendTokenUseCase;
 import personal.ai.queue.application.port.out.QueueRepository;
+import personal.ai.queue.application.port.out.QueueRepository.TransitionOutcome;
+import personal.ai.queue.domain.exception.QueueTokenInvalidException;
 import personal.ai.queue.domain.exception.QueueTokenNotFoundException;
+import personal.ai.queue.domain.model.QueueConfig;
 import personal.ai.queue.domain.model.QueueToken;
 import personal.ai.queue.domain.service.QueueDomainService;
 
@@ -14,6 +17,9 @@ import java.time.Instant;
 /**
  * Token Extension Service (SRP)
  * 단일 책임: 토큰 연장
+ *
+ * 검증과 연장(횟수 증가 + 만료 시간 갱신)을 저장소에서 원자적으로 처리 (Redis 왕복 1회)
+ * 거절된 경우 저장소가 돌려준 현재 토큰으로 도메인 규칙을 적용해 거절 사유를 결정
  */
 @Slf4j
 @Service
@@ -22,24 +28,30 @@ public class TokenExtensionService implements ExtendTokenUseCase {
 
     private final QueueRepository queueRepository;
     private final QueueDomainService domainService;
+    private final QueueConfig queueConfig;
 
     @Override
     public QueueToken extend(ExtendTokenCommand command) {
-        var token = queueRepository.getActiveToken(command.concertId(), command.userId())
+        Instant newExpiration = domainService.calculateActiveExpiration();
+
+        var transition = queueRepository.extendTokenAtomic(
+                        command.concertId(), command.userId(), newExpiration, queueConfig.maxExtensionCount())
                 .orElseThrow(() -> {
                     log.warn("Token not found for extension: concertId={}", command.concertId());
                     return new QueueTokenNotFoundException(command.concertId(), command.userId());
                 });
 
-        token.ensureCanExtend();
+        if (transition.outcome() != TransitionOutcome.APPLIED) {
+            transition.token().ensureCanExtend(domainService.now());
 
-        int newExtendCount = queueRepository.incrementExtendCount(command.concertId(), command.userId());
-        Instant newExpiration = domainService.calculateActiveExpiration();
-        queueRepository.updateTokenExpiration(command.concertId(), command.userId(), newExpiration);
+            // 저장소와 도메인 판단이 어긋난 경우 (만료 경계 시각 등)
+            log.warn("Token extension rejected: concertId={}", command.concertId());
+            throw new QueueTokenInvalidException(command.concertId(), command.userId());
+        }
 
         log.debug("Token extended: concertId={}, userId={}, extendCount={}",
-                command.concertId(), command.userId(), newExtendCount);
+                command.concertId(), command.userId(), transition.token().extendCount());
 
-        return token.withExtension(newExpiration, newExtendCount);
+        return transition.token();
     }
 }
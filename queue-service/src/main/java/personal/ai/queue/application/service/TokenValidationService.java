@@ -1,22 +1,37 @@
 package personal.ai.queue.application.service;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import personal.ai.queue.application.port.in.ValidateTokenUseCase;
 import personal.ai.queue.application.port.out.QueueRepository;
 import personal.ai.queue.domain.exception.QueueTokenNotFoundException;
 
+import java.time.Clock;
+
 /**
  * Token Validation Service (SRP)
  * 단일 책임: 토큰 유효성 검증
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class TokenValidationService implements ValidateTokenUseCase {
 
     private final QueueRepository queueRepository;
+    private final Clock clock;
+
+    @Autowired
+    public TokenValidationService(QueueRepository queueRepository) {
+        this(queueRepository, Clock.systemUTC());
+    }
+
+    /**
+     * 만료 판정 기준 시계 지정 (시뮬레이터의 가상 시계 등)
+     */
+    public TokenValidationService(QueueRepository queueRepository, Clock clock) {
+        this.queueRepository = queueRepository;
+        this.clock = clock;
+    }
 
     @Override
     public void validate(ValidateTokenQuery query) {
@@ -26,7 +41,7 @@ public class TokenValidationService implements ValidateTokenUseCase {
                     return new QueueTokenNotFoundException(query.concertId(), query.userId());
                 });
 
-        token.ensureValidFor(query.token());
+        token.ensureValidFor(query.token(), clock.instant());
 
         log.debug("Token validated: concertId={}, userId={}", query.concertId(), query.userId());
     }
@@ -0,0 +1,15 @@
+package personal.ai.queue.domain.exception;
+
+import personal.ai.common.exception.BusinessException;
+import personal.ai.common.exception.ErrorCode;
+
+/**
+ * 콘서트별 처리 한도(Bulkhead)를 초과했을 때 발생하는 예외
+ * 다른 콘서트의 처리에는 영향이 없으며, 클라이언트는 잠시 후 재시도
+ */
+public class QueueConcertBusyException extends BusinessException {
+
+    public QueueConcertBusyException(String concertId, String lane) {
+        super(ErrorCode.QUEUE_SERVICE_UNAVAILABLE, "concertId: " + concertId + ", lane: " + lane);
+    }
+}
@@ -0,0 +1,28 @@
+package personal.ai.queue.domain.model;
+
+import java.time.Instant;
+import java.util.Comparator;
+
+/**
+ * 도착 티켓 (Value Object)
+ * 판매 오픈 전 로비에 도착한 사용자와 도착 시각
+ * 오픈 시 도착 시각 순서대로 Wait Queue에 적재되며, 도착 시각이 Wait Queue score가 됨
+ */
+public record ArrivalTicket(
+        String concertId,
+        String userId,
+        Instant arrivedAt
+) {
+    /**
+     * 적재 순서: 도착 시각, 같으면 userId 사전순 (ZSET 동점 정렬과 동일)
+     */
+    public static final Comparator<ArrivalTicket> ARRIVAL_ORDER =
+            Comparator.comparing(ArrivalTicket::arrivedAt).thenComparing(ArrivalTicket::userId);
+
+    /**
+     * 같은 콘서트/사용자에게 발급된 티켓인지 확인
+     */
+    public boolean isFor(String concertId, String userId) {
+        return this.concertId.equals(concertId) && this.userId.equals(userId);
+    }
+}
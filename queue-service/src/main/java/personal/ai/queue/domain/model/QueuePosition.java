@@ -59,6 +59,27 @@ public record QueuePosition(
                                 false);
         }
 
+        /**
+         * 오픈 전 로비 정보 생성
+         * token에는 서명된 도착 티켓을 담고, 예상 대기 시간은 오픈까지 남은 시간
+         */
+        public static QueuePosition inLobby(
+                        String concertId,
+                        String userId,
+                        String arrivalTicket,
+                        int minutesUntilOpen,
+                        boolean isNewEntry) {
+                return new QueuePosition(
+                                concertId,
+                                userId,
+                                null, // 순번은 오픈 시 적재 후 결정
+                                null,
+                                minutesUntilOpen,
+                                QueueStatus.LOBBY.name(),
+                                arrivalTicket,
+                                isNewEntry);
+        }
+
         private static QueuePosition create(
                         String concertId,
                         String userId,
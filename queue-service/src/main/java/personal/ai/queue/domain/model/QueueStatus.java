@@ -5,6 +5,11 @@ package personal.ai.queue.domain.model;
  * 유저의 대기열 진행 상태를 나타냄
  */
 public enum QueueStatus {
+    /**
+     * 오픈 전 로비 (도착 티켓만 발급, 오픈 시 도착 순서대로 Wait Queue에 적재)
+     */
+    LOBBY,
+
     /**
      * 대기 중 (Wait Queue에 존재)
      */
@@ -109,12 +109,14 @@ public record QueueToken(
 
     /**
      * 만료되었는지 확인
+     *
+     * @param now 판정 기준 시각 (호출 측 Clock 기준, 시뮬레이터는 가상 시계)
      */
-    public boolean isExpired() {
+    public boolean isExpired(Instant now) {
         if (expiredAt == null) {
             return false;
         }
-        return Instant.now().isAfter(expiredAt);
+        return now.isAfter(expiredAt);
     }
 
     // ========== Domain Validation Methods (Tell, Don't Ask) ==========
@@ -124,16 +126,17 @@ public record QueueToken(
      * 서비스 레이어의 조건 분기를 도메인으로 위임
      *
      * @param requestedToken 요청된 토큰 값
+     * @param now            만료 판정 기준 시각
      * @throws QueueTokenInvalidException 토큰 불일치 또는 비활성 상태
      * @throws QueueTokenExpiredException 만료된 토큰
      */
-    public void ensureValidFor(String requestedToken) {
+    public void ensureValidFor(String requestedToken, Instant now) {
         // Null check: this.token or requestedToken이 null이면 토큰 불일치
         if (this.token == null || requestedToken == null || !this.token.equals(requestedToken)) {
             throw new QueueTokenInvalidException(concertId, userId);
         }
 
-        if (isExpired()) {
+        if (isExpired(now)) {
             throw new QueueTokenExpiredException(concertId, userId);
         }
 
@@ -145,15 +148,16 @@ public record QueueToken(
     /**
      * 연장 가능 여부 검증
      *
+     * @param now 만료 판정 기준 시각
      * @throws QueueExtensionLimitExceededException 연장 한도 초과
      * @throws QueueTokenInvalidException           활성 상태가 아님
      */
-    public void ensureCanExtend() {
+    public void ensureCanExtend(Instant now) {
         if (!canExtend()) {
             throw new QueueExtensionLimitExceededException(concertId, userId);
         }
 
-        if (isExpired()) {
+        if (isExpired(now)) {
             throw new QueueTokenExpiredException(concertId, userId);
         }
 
@@ -5,6 +5,7 @@ import personal.ai.queue.domain.exception.QueueTokenInvalidException;
 import personal.ai.queue.domain.model.QueueConfig;
 import personal.ai.queue.domain.model.QueueToken;
 
+import java.time.Clock;
 import java.time.Instant;
 import java.util.UUID;
 
@@ -15,9 +16,25 @@ import java.util.UUID;
 public class QueueDomainService {
 
     private final QueueConfig config;
+    private final Clock clock;
 
     public QueueDomainService(QueueConfig config) {
+        this(config, Clock.systemUTC());
+    }
+
+    /**
+     * 만료 시각 계산 기준 시계 지정 (시뮬레이터의 가상 시계 등)
+     */
+    public QueueDomainService(QueueConfig config, Clock clock) {
         this.config = config;
+        this.clock = clock;
+    }
+
+    /**
+     * 현재 시각 (만료 판정 기준)
+     */
+    public Instant now() {
+        return clock.instant();
     }
 
     /**
@@ -32,7 +49,7 @@ public class QueueDomainService {
      * 현재 시간 + 5분
      */
     public Instant calculateReadyExpiration() {
-        return Instant.now().plusSeconds(config.tokenTtlSeconds());
+        return clock.instant().plusSeconds(config.tokenTtlSeconds());
     }
 
     /**
@@ -40,7 +57,7 @@ public class QueueDomainService {
      * 현재 시간 + 10분
      */
     public Instant calculateActiveExpiration() {
-        return Instant.now().plusSeconds(config.activatedTtlSeconds());
+        return clock.instant().plusSeconds(config.activatedTtlSeconds());
     }
 
     /**
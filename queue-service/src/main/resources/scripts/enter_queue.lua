@@ -17,6 +17,12 @@
 -- ARGV[2]: score (진입 시각 timestamp)
 -- ARGV[3]: currentTime (현재 시각, 만료 확인용)
 --
+-- 로비 도착 티켓 진입 시 (선택):
+-- KEYS[3]: queue:lobby-tickets:{concertId} (Set, 도착 시각을 인정받은 사용자)
+-- KEYS[4]: queue:epoch:{concertId} (String, 맨 뒤보다 앞에 넣으면 증가)
+-- ARGV[4]: 티켓을 이미 사용한 경우의 score (현재 시각 timestamp)
+-- ARGV[5]: KEYS[3] 만료 시각 (티켓 인정 기한 timestamp ms)
+--
 -- Return: JSON string
 -- {
 --   "status": "ACTIVE" | "WAITING" | "NEW",
@@ -82,6 +88,20 @@ end
 -- ============================================
 -- 3. Wait Queue 신규 진입
 -- ============================================
+-- 도착 티켓은 사용자당 1회만 도착 시각(score)을 인정, 이미 사용했으면 현재 시각으로 진입
+-- 도착 시각이 기존 대기자의 맨 뒤보다 앞이면 뒤쪽 순번이 밀리므로 Activation Epoch 증가 (ETag/Long Polling 추정 무효화)
+if KEYS[3] then
+    if redis.call('SADD', KEYS[3], userId) == 0 then
+        score = tonumber(ARGV[4])
+    end
+    redis.call('PEXPIREAT', KEYS[3], ARGV[5])
+
+    local tail = redis.call('ZRANGE', waitQueueKey, -1, -1, 'WITHSCORES')
+    if tail[2] and score < tonumber(tail[2]) then
+        redis.call('INCR', KEYS[4])
+    end
+end
+
 -- ZADD: Wait Queue에 추가
 redis.call('ZADD', waitQueueKey, score, userId)
 
@@ -0,0 +1,67 @@
+-- extend_token.lua
+-- 토큰 연장 (조회 + 검증 + 연장 횟수 증가 + 만료 시간 갱신)을 원자적으로 처리
+-- 기존 3회 호출 (HGETALL → HINCRBY → update_token_expiration.lua)을 1회로 통합
+--
+-- KEYS[1]: Active Queue Key (ZSet)
+-- KEYS[2]: Token Key (Hash)
+-- ARGV[1]: User ID
+-- ARGV[2]: New Expiration Time (epoch seconds)
+-- ARGV[3]: TTL (seconds)
+-- ARGV[4]: Max Extend Count (최대 연장 횟수)
+-- ARGV[5]: Current Time (epoch seconds, 만료 확인용)
+--
+-- Return: JSON string
+-- {
+--   "result": "APPLIED" | "REJECTED" | "NOT_FOUND",
+--   "token": {...} (APPLIED: 연장 후 토큰, REJECTED: 현재 토큰)
+-- }
+--
+-- 연장 조건 (QueueToken.ensureCanExtend와 동일):
+--   - extend_count < 최대 연장 횟수
+--   - 만료되지 않음 (expired_at >= currentTime)
+--   - 상태가 READY 또는 ACTIVE
+
+local queueKey = KEYS[1]
+local tokenKey = KEYS[2]
+local userId = ARGV[1]
+local newExpiredAt = tonumber(ARGV[2])
+local ttl = tonumber(ARGV[3])
+local maxExtendCount = tonumber(ARGV[4])
+local currentTime = tonumber(ARGV[5])
+
+local function readToken()
+    local raw = redis.call('HGETALL', tokenKey)
+    local data = {}
+    for i = 1, #raw, 2 do
+        data[raw[i]] = raw[i + 1]
+    end
+    return data
+end
+
+-- 1. 토큰 조회
+if redis.call('EXISTS', tokenKey) == 0 then
+    return cjson.encode({ result = 'NOT_FOUND' })
+end
+
+local token = readToken()
+local extendCount = tonumber(token['extend_count']) or 0
+local expiredAt = tonumber(token['expired_at']) or 0
+local status = token['status']
+
+-- 2. 연장 가능 여부 확인 (거절 사유는 애플리케이션이 현재 토큰으로 판단)
+if extendCount >= maxExtendCount
+        or expiredAt < currentTime
+        or (status ~= 'ACTIVE' and status ~= 'READY') then
+    return cjson.encode({ result = 'REJECTED', token = token })
+end
+
+-- 3. 연장 횟수 증가 + 만료 시간 갱신
+redis.call('HINCRBY', tokenKey, 'extend_count', 1)
+redis.call('HSET', tokenKey, 'expired_at', newExpiredAt)
+redis.call('ZADD', queueKey, newExpiredAt, userId)
+
+if ttl > 0 then
+    redis.call('EXPIRE', tokenKey, ttl)
+end
+
+return cjson.encode({ result = 'APPLIED', token = readToken() })
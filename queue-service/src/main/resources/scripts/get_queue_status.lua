@@ -0,0 +1,36 @@
+-- get_queue_status.lua
+-- 대기열 상태 조회 (Active Token + Wait Queue 순번)를 원자적으로 처리
+-- 기존 2회 호출 (HGETALL → ZRANK)을 1회로 통합
+-- Wait → Active 전환 도중에 조회해도 "둘 다 없음(NOT_FOUND)"이 관측되지 않음
+--
+-- KEYS[1]: Token Key (Hash)
+-- KEYS[2]: Wait Queue Key (ZSet)
+-- ARGV[1]: User ID
+--
+-- Return: JSON string
+-- {
+--   "token": {...} (Active Token이 있을 때만),
+--   "position": number (Active Token이 없고 Wait Queue에 있을 때만, 0-based)
+-- }
+
+local tokenKey = KEYS[1]
+local waitQueueKey = KEYS[2]
+local userId = ARGV[1]
+
+-- 1. Active Token 확인
+local raw = redis.call('HGETALL', tokenKey)
+if #raw > 0 then
+    local token = {}
+    for i = 1, #raw, 2 do
+        token[raw[i]] = raw[i + 1]
+    end
+    return cjson.encode({ token = token })
+end
+
+-- 2. Wait Queue 순번 확인
+local rank = redis.call('ZRANK', waitQueueKey, userId)
+if rank then
+    return cjson.encode({ position = rank })
+end
+
+return '{}'
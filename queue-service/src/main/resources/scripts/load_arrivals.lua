@@ -0,0 +1,68 @@
+-- load_arrivals.lua
+-- 오픈 전 로비 도착자를 Wait Queue에 일괄 적재
+--
+-- 목적: 오픈 직전 진입 요청을 Redis 없이 처리하고, 오픈 시각에 배치 단위로 한 번에 적재
+--   - 도착 시각(ms)을 score로 사용하므로 여러 인스턴스가 각자 적재해도 도착 순서 유지
+--   - 멱등: 이미 대기 중이면 더 이른 도착 시각만 반영 (티켓 재진입, 재시도 배치)
+--   - 미만료 Active Token 보유자는 건너뜀 (먼저 적재된 인스턴스 분이 이미 활성화된 경우)
+--   - 적재 대상 사용자는 티켓 사용으로 기록 (오픈 후 같은 티켓으로 다시 앞 순서를 받지 않음)
+--   - 기존 대기자의 맨 뒤보다 앞에 넣거나 앞으로 당긴 인원만큼 Activation Epoch 증가 (뒤쪽 대기자 순번 변화)
+--
+-- KEYS[1]: queue:wait:{concertId} (ZSet)
+-- KEYS[2]: queue:lobby-tickets:{concertId} (Set, 도착 시각을 인정받은 사용자)
+-- KEYS[3]: queue:epoch:{concertId} (String, Activation Epoch)
+-- KEYS[4..N+3]: active:token:{concertId}:userId (Hash, ARGV 순서와 동일)
+-- ARGV[2i-1]: userId
+-- ARGV[2i]: score (도착 시각 timestamp ms)
+-- ARGV[2N+1]: currentTime (현재 시각 초, 만료 확인용)
+-- ARGV[2N+2]: KEYS[2] 만료 시각 (티켓 인정 기한 timestamp ms)
+--
+-- Return: 새로 적재된 인원 수
+
+local waitQueueKey = KEYS[1]
+local ticketsKey = KEYS[2]
+local epochKey = KEYS[3]
+local currentTime = tonumber(ARGV[#ARGV - 1])
+local loaded = 0
+local inserted_ahead = 0
+
+-- 현재 맨 뒤 score (빈 대기열이면 nil)
+local tail = redis.call('ZRANGE', waitQueueKey, -1, -1, 'WITHSCORES')
+local tailScore = tail[2] and tonumber(tail[2]) or nil
+
+for i = 4, #KEYS do
+    local userId = ARGV[(i - 4) * 2 + 1]
+    local score = tonumber(ARGV[(i - 4) * 2 + 2])
+    redis.call('SADD', ticketsKey, userId)
+
+    local expiredAt = tonumber(redis.call('HGET', KEYS[i], 'expired_at'))
+    if not expiredAt or expiredAt <= currentTime then
+        local currentScore = redis.call('ZSCORE', waitQueueKey, userId)
+
+        local changed = false
+        if not currentScore then
+            redis.call('ZADD', waitQueueKey, score, userId)
+            loaded = loaded + 1
+            changed = true
+        elseif score < tonumber(currentScore) then
+            redis.call('ZADD', waitQueueKey, score, userId)
+            changed = true
+        end
+
+        if changed then
+            if tailScore and score < tailScore then
+                inserted_ahead = inserted_ahead + 1
+            elseif not tailScore or score > tailScore then
+                tailScore = score
+            end
+        end
+    end
+end
+
+if inserted_ahead > 0 then
+    redis.call('INCRBY', epochKey, inserted_ahead)
+end
+
+redis.call('PEXPIREAT', ticketsKey, ARGV[#ARGV])
+
+return loaded
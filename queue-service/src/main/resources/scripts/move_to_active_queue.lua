@@ -4,33 +4,55 @@
 --
 -- KEYS[1]: Wait Queue Key (ZSet)
 -- KEYS[2]: Active Queue Key (ZSet)
--- ARGV[1]: Batch Size (전환할 인원 수)
+-- KEYS[3]: Activation Epoch Key (String, 누적 전환 인원 = 순번 변경 버전)
+-- ARGV[1]: Active Max Size (Active Queue 최대 인원, 여유분만큼만 전환)
 -- ARGV[2]: Expiration Time (epoch seconds, READY 상태 만료 시간)
 -- ARGV[3]: Token Key Prefix ("active:token:")
 -- ARGV[4]: Concert ID
 -- ARGV[5]: TTL (seconds)
 --
--- Return: JSON array of moved user IDs
--- Example: ["USER-001", "USER-002", "USER-003"]
+-- Return: JSON object
+-- {
+--   "moved": ["USER-001", "USER-002"] (빈 경우 [] 또는 {}),
+--   "activeSize": number (처리 후 Active Queue 크기),
+--   "waitSize": number (처리 후 Wait Queue 크기)
+-- }
 --
 -- 동작:
+-- 0. Active Queue 여유분 계산 (기존 ZCARD 2회 호출을 스크립트에 통합)
 -- 1. Wait Queue에서 ZPOPMIN (가장 먼저 대기한 N명)
 -- 2. 각 유저별로 토큰 생성 및 Active Queue 추가
 -- 3. 실패 시 해당 유저는 Wait Queue에 다시 추가 (롤백)
+-- 4. 이동한 인원만큼 Activation Epoch 증가 (상태 조회 ETag 무효화, 대기자 순번 추정)
 
 local waitQueueKey = KEYS[1]
 local activeQueueKey = KEYS[2]
-local batchSize = tonumber(ARGV[1])
+local epochKey = KEYS[3]
+local activeMaxSize = tonumber(ARGV[1])
 local expiredAt = tonumber(ARGV[2])
 local tokenPrefix = ARGV[3]
 local concertId = ARGV[4]
 local ttl = tonumber(ARGV[5])
 
+local function result(movedUserIds)
+    return cjson.encode({
+        moved = movedUserIds,
+        activeSize = redis.call('ZCARD', activeQueueKey),
+        waitSize = redis.call('ZCARD', waitQueueKey)
+    })
+end
+
+-- 0. 전환 가능 인원 계산
+local batchSize = activeMaxSize - redis.call('ZCARD', activeQueueKey)
+if batchSize <= 0 then
+    return result({})
+end
+
 -- 1. Wait Queue에서 Pop
 local poppedUsers = redis.call('ZPOPMIN', waitQueueKey, batchSize)
 
 if #poppedUsers == 0 then
-    return "[]"  -- 빈 배열 반환 (JSON 문자열)
+    return result({})
 end
 
 -- 2. 성공한 유저 ID 목록
@@ -72,8 +94,12 @@ for i = 1, #poppedUsers, 2 do
     end
 end
 
--- 4. 성공한 유저 ID 목록 반환 (JSON 배열)
+-- 4. 모든 유저가 롤백된 경우
 if #movedUserIds == 0 then
-    return "[]"  -- 빈 배열 (모든 유저가 롤백된 경우)
+    return result({})
 end
-return cjson.encode(movedUserIds)
+
+-- 5. Wait Queue 순번이 이동 인원만큼 당겨졌으므로 Epoch도 같은 값만큼 증가
+redis.call('INCRBY', epochKey, #movedUserIds)
+
+return result(movedUserIds)
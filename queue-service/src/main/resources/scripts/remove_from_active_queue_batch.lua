@@ -0,0 +1,48 @@
+-- remove_from_active_queue_batch.lua
+-- 결제 완료 이벤트 배치로 여러 유저를 Active Queue에서 원자적으로 제거
+--
+-- 목적: 이벤트 1건마다 스크립트 1회 대신 콘서트당 스크립트 1회로 처리
+--   - 멱등: 처리한 eventId를 기록하고, 이미 기록된 eventId는 건너뜀
+--     (재전달된 이벤트가 그 사이 재진입해 토큰을 받은 유저를 다시 제거하지 않음)
+--   - 처리 기록은 보관 기간이 지나면 정리 (ZSET score = 처리 시각)
+--
+-- KEYS[1]: queue:active:{concertId} (ZSet)
+-- KEYS[2]: queue:removed-events:{concertId} (ZSet, 처리한 eventId)
+-- KEYS[3..N+2]: active:token:{concertId}:userId (Hash, ARGV 순서와 동일)
+-- ARGV[1]: currentTime (현재 시각 초)
+-- ARGV[2]: retentionSeconds (처리 기록 보관 기간)
+-- ARGV[2i+1]: eventId (빈 문자열이면 중복 확인 없이 제거)
+-- ARGV[2i+2]: userId
+--
+-- Return: 실제 제거된 인원 수
+
+local activeQueueKey = KEYS[1]
+local processedKey = KEYS[2]
+local currentTime = tonumber(ARGV[1])
+local retentionSeconds = tonumber(ARGV[2])
+local removed = 0
+
+-- 1. 보관 기간이 지난 처리 기록 정리
+redis.call('ZREMRANGEBYSCORE', processedKey, '-inf', currentTime - retentionSeconds)
+
+-- 2. 처음 보는 eventId만 제거 처리
+for i = 3, #KEYS do
+    local eventId = ARGV[(i - 3) * 2 + 3]
+    local userId = ARGV[(i - 3) * 2 + 4]
+
+    if eventId == '' or redis.call('ZADD', processedKey, 'NX', currentTime, eventId) == 1 then
+        local zsetRemoved = redis.call('ZREM', activeQueueKey, userId)
+        local hashRemoved = redis.call('DEL', KEYS[i])
+
+        if zsetRemoved > 0 or hashRemoved > 0 then
+            removed = removed + 1
+        end
+    end
+end
+
+-- 3. 처리 기록 키는 마지막 처리 후 보관 기간 동안 유지
+if redis.call('EXISTS', processedKey) == 1 then
+    redis.call('EXPIRE', processedKey, retentionSeconds)
+end
+
+return removed
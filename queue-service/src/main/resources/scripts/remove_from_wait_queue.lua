@@ -0,0 +1,21 @@
+-- remove_from_wait_queue.lua
+-- Wait Queue에서 유저를 제거하고 Activation Epoch를 원자적으로 증가
+--
+-- 목적: ZREM과 Epoch 증가 사이에 실패하면 Epoch가 그대로 남아 뒤 대기자들이 계속 304(이전 순번)를 받음
+--
+-- KEYS[1]: Wait Queue Key (ZSet)
+-- KEYS[2]: Activation Epoch Key (String)
+-- ARGV[1]: User ID
+--
+-- Return:
+--   1: 제거됨 (Epoch 증가)
+--   0: 대기 중이 아님
+
+local removed = redis.call('ZREM', KEYS[1], ARGV[1])
+
+-- 뒤에 있던 사용자들의 순번이 당겨지므로 Epoch 증가
+if removed > 0 then
+    redis.call('INCR', KEYS[2])
+end
+
+return removed
@@ -0,0 +1,20 @@
+-- update_token_status.lua
+-- 토큰 상태를 원자적으로 변경
+-- 토큰이 없을 때 HSET이 TTL 없는 불완전한 Hash를 만들지 않도록 존재 여부와 함께 처리
+--
+-- KEYS[1]: Token Key (Hash)
+-- ARGV[1]: New Status (READY | ACTIVE)
+--
+-- Return:
+--   1: 성공
+--   0: 실패 (토큰이 존재하지 않음)
+
+local tokenKey = KEYS[1]
+local status = ARGV[1]
+
+if redis.call('EXISTS', tokenKey) == 0 then
+    return 0
+end
+
+redis.call('HSET', tokenKey, 'status', status)
+return 1
@@ -0,0 +1,101 @@
+package personal.ai.queue.adapter.in.consumer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.Acknowledgment;
+import personal.ai.queue.application.port.in.RemoveFromQueueUseCase;
+import personal.ai.queue.application.port.in.RemoveFromQueueUseCase.RemoveFromQueueCommand;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+@DisplayName("결제 완료 이벤트 배치 Consumer 테스트")
+class PaymentEventBatchConsumerTest {
+
+    private static final String TOPIC = "booking.payment.completed";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private RemoveFromQueueUseCase removeFromQueueUseCase;
+    private Acknowledgment acknowledgment;
+    private PaymentEventBatchConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        removeFromQueueUseCase = mock(RemoveFromQueueUseCase.class);
+        acknowledgment = mock(Acknowledgment.class);
+        consumer = new PaymentEventBatchConsumer(
+                removeFromQueueUseCase, new ObjectMapper().findAndRegisterModules(), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("배치의 유효한 이벤트를 한 번에 제거하고, 읽을 수 없는 이벤트는 제외한 뒤 배치 전체를 Ack한다")
+    void removesValidEventsInOneCall() {
+        // Given: 유효 2건 (콘서트 2개) + 역직렬화 불가 1건 + 필수 값 누락 1건
+        var records = List.of(
+                record(0, event("EVENT-1", "CONCERT-001", "USER-1")),
+                record(1, "not-json"),
+                record(2, event("EVENT-2", "CONCERT-002", "USER-2")),
+                record(3, "{\"eventId\":\"EVENT-3\",\"concertId\":\"CONCERT-001\"}"));
+        given(removeFromQueueUseCase.removeAllFromQueue(anyList())).willReturn(2L);
+
+        // When
+        consumer.handlePaymentCompletedBatch(records, acknowledgment);
+
+        // Then: 유스케이스 호출 1회 (eventId 포함), Ack 1회
+        then(removeFromQueueUseCase).should().removeAllFromQueue(List.of(
+                new RemoveFromQueueCommand("CONCERT-001", "USER-1", "EVENT-1"),
+                new RemoveFromQueueCommand("CONCERT-002", "USER-2", "EVENT-2")));
+        then(acknowledgment).should().acknowledge();
+        assertThat(meterRegistry.get("queue.removal.invalid.events").counter().count()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("queue.removal.batch.size").summary().totalAmount()).isEqualTo(4.0);
+    }
+
+    @Test
+    @DisplayName("제거에 실패하면 Ack하지 않고 예외를 던져 배치를 재처리한다")
+    void doesNotAckWhenRemovalFails() {
+        // Given
+        var records = List.of(record(0, event("EVENT-1", "CONCERT-001", "USER-1")));
+        given(removeFromQueueUseCase.removeAllFromQueue(anyList()))
+                .willThrow(new IllegalStateException("redis down"));
+
+        // When & Then
+        assertThatThrownBy(() -> consumer.handlePaymentCompletedBatch(records, acknowledgment))
+                .isInstanceOf(RuntimeException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+        then(acknowledgment).should(never()).acknowledge();
+    }
+
+    @Test
+    @DisplayName("유효한 이벤트가 없으면 저장소를 호출하지 않고 Ack한다")
+    void acksBatchWithoutValidEvents() {
+        // Given
+        var records = List.of(record(0, "not-json"));
+
+        // When
+        consumer.handlePaymentCompletedBatch(records, acknowledgment);
+
+        // Then
+        then(removeFromQueueUseCase).should(never()).removeAllFromQueue(anyList());
+        then(acknowledgment).should().acknowledge();
+    }
+
+    private static ConsumerRecord<String, String> record(long offset, String value) {
+        return new ConsumerRecord<>(TOPIC, 0, offset, null, value);
+    }
+
+    private static String event(String eventId, String concertId, String userId) {
+        return String.format("{\"eventId\":\"%s\",\"concertId\":\"%s\",\"userId\":\"%s\",\"amount\":50000}",
+                eventId, concertId, userId);
+    }
+}
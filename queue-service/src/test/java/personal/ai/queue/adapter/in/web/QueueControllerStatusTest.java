@@ -0,0 +1,148 @@
+package personal.ai.queue.adapter.in.web;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import personal.ai.queue.adapter.in.web.filter.RateLimitFilter;
+import personal.ai.queue.adapter.in.web.service.PollingIntervalPolicy;
+import personal.ai.queue.adapter.in.web.service.QueueLongPollingService;
+import personal.ai.queue.adapter.in.web.service.QueuePollingService;
+import personal.ai.queue.application.port.in.ActivateTokenUseCase;
+import personal.ai.queue.application.port.in.EnterQueueUseCase;
+import personal.ai.queue.application.port.in.ExtendTokenUseCase;
+import personal.ai.queue.application.port.in.GetQueueStatusUseCase;
+import personal.ai.queue.application.port.in.GetQueueStatusVersionUseCase;
+import personal.ai.queue.application.port.in.RemoveFromQueueUseCase;
+import personal.ai.queue.application.port.in.ValidateTokenUseCase;
+import personal.ai.queue.domain.model.QueueToken;
+
+import java.time.Instant;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 대기열 상태 조회 조건부 요청(ETag/304) 단위 테스트
+ * @WebMvcTest를 사용하여 컨트롤러 계층만 테스트
+ */
+@WebMvcTest(value = QueueController.class,
+        excludeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = RateLimitFilter.class))
+@DisplayName("대기열 상태 조회 ETag/Cache-Control 테스트")
+class QueueControllerStatusTest {
+
+    private static final String CONCERT_ID = "CONCERT-001";
+    private static final String USER_ID = "USER-001";
+    private static final long EPOCH = 5L;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private EnterQueueUseCase enterQueueUseCase;
+    @MockBean
+    private GetQueueStatusUseCase getQueueStatusUseCase;
+    @MockBean
+    private GetQueueStatusVersionUseCase getQueueStatusVersionUseCase;
+    @MockBean
+    private ActivateTokenUseCase activateTokenUseCase;
+    @MockBean
+    private ExtendTokenUseCase extendTokenUseCase;
+    @MockBean
+    private ValidateTokenUseCase validateTokenUseCase;
+    @MockBean
+    private RemoveFromQueueUseCase removeFromQueueUseCase;
+    @MockBean
+    private QueuePollingService queuePollingService;
+    @MockBean
+    private QueueLongPollingService queueLongPollingService;
+    @MockBean
+    private PollingIntervalPolicy pollingIntervalPolicy;
+
+    @Test
+    @DisplayName("WAITING 응답은 Epoch 기반 ETag와 권장 폴링 간격의 Cache-Control을 포함한다")
+    void waitingResponseHasETagAndCacheControl() throws Exception {
+        // Given: Epoch 5에서 120번째로 대기 중
+        QueueToken waiting = QueueToken.waiting(CONCERT_ID, USER_ID, 120L);
+        given(getQueueStatusVersionUseCase.getStatusVersion(CONCERT_ID)).willReturn(EPOCH);
+        given(getQueueStatusUseCase.getStatus(any())).willReturn(waiting);
+        given(pollingIntervalPolicy.recommendedIntervalMs(waiting)).willReturn(3000L);
+        given(pollingIntervalPolicy.minIntervalMs()).willReturn(1000L);
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/queue/status")
+                        .param("concertId", CONCERT_ID)
+                        .param("userId", USER_ID))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"5-120\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=3, private"))
+                .andExpect(jsonPath("$.data.position").value(120));
+    }
+
+    @Test
+    @DisplayName("If-None-Match의 Epoch가 현재와 같으면 상태 조회 없이 304를 응답한다")
+    void notModifiedWhenEpochUnchanged() throws Exception {
+        // Given: 클라이언트가 Epoch 5의 ETag를 보유, 현재 Epoch도 5
+        given(getQueueStatusVersionUseCase.getStatusVersion(CONCERT_ID)).willReturn(EPOCH);
+        given(pollingIntervalPolicy.minIntervalMs()).willReturn(1000L);
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/queue/status")
+                        .param("concertId", CONCERT_ID)
+                        .param("userId", USER_ID)
+                        .header(HttpHeaders.IF_NONE_MATCH, "W/\"5-120\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"5-120\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=1, private"))
+                .andExpect(content().string(""));
+
+        verify(getQueueStatusUseCase, never()).getStatus(any());
+    }
+
+    @Test
+    @DisplayName("Epoch가 바뀌었으면 If-None-Match가 있어도 새 상태를 응답한다")
+    void returnsBodyWhenEpochChanged() throws Exception {
+        // Given: 클라이언트는 Epoch 5의 ETag, 그 사이 전환으로 Epoch 6
+        QueueToken waiting = QueueToken.waiting(CONCERT_ID, USER_ID, 100L);
+        given(getQueueStatusVersionUseCase.getStatusVersion(CONCERT_ID)).willReturn(EPOCH + 1);
+        given(getQueueStatusUseCase.getStatus(any())).willReturn(waiting);
+        given(pollingIntervalPolicy.recommendedIntervalMs(waiting)).willReturn(3000L);
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/queue/status")
+                        .param("concertId", CONCERT_ID)
+                        .param("userId", USER_ID)
+                        .header(HttpHeaders.IF_NONE_MATCH, "W/\"5-120\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"6-100\""))
+                .andExpect(jsonPath("$.data.position").value(100));
+    }
+
+    @Test
+    @DisplayName("WAITING이 아닌 응답에는 ETag를 붙이지 않는다")
+    void nonWaitingResponseHasNoETag() throws Exception {
+        // Given: 이미 READY로 전환된 사용자
+        QueueToken ready = QueueToken.ready(CONCERT_ID, USER_ID, "token-1", Instant.now().plusSeconds(300));
+        given(getQueueStatusVersionUseCase.getStatusVersion(CONCERT_ID)).willReturn(EPOCH);
+        given(getQueueStatusUseCase.getStatus(any())).willReturn(ready);
+        given(pollingIntervalPolicy.recommendedIntervalMs(ready)).willReturn(3000L);
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/queue/status")
+                        .param("concertId", CONCERT_ID)
+                        .param("userId", USER_ID))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=3, private"))
+                .andExpect(jsonPath("$.data.status").value("READY"));
+    }
+}
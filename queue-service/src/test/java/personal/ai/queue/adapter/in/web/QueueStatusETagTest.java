@@ -0,0 +1,52 @@
+package personal.ai.queue.adapter.in.web;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대기열 상태 조회 ETag 단위 테스트
+ */
+@DisplayName("QueueStatusETag 단위 테스트")
+class QueueStatusETagTest {
+
+    @Test
+    @DisplayName("같은 Epoch로 발급된 ETag는 일치한다")
+    void matchesSameEpoch() {
+        // Given: Epoch 7에서 순번 120으로 발급된 ETag
+        String etag = QueueStatusETag.of(7L, 120L);
+
+        // When & Then: 현재 Epoch도 7이면 일치한다
+        assertThat(QueueStatusETag.findMatching(etag, 7L)).isEqualTo(etag);
+    }
+
+    @Test
+    @DisplayName("Epoch가 바뀌면 일치하지 않는다")
+    void doesNotMatchChangedEpoch() {
+        // Given: Epoch 7에서 발급된 ETag
+        String etag = QueueStatusETag.of(7L, 120L);
+
+        // When & Then: 스케줄러가 전환하여 Epoch가 8이 되면 일치하지 않는다
+        assertThat(QueueStatusETag.findMatching(etag, 8L)).isNull();
+    }
+
+    @Test
+    @DisplayName("여러 개의 ETag 중 일치하는 값을 찾는다")
+    void findsMatchInList() {
+        // Given: 프록시가 여러 ETag를 전달한 경우
+        String header = "\"unrelated\", W/\"3-10\", W/\"4-9\"";
+
+        // When & Then: 현재 Epoch와 같은 ETag를 반환한다
+        assertThat(QueueStatusETag.findMatching(header, 4L)).isEqualTo("W/\"4-9\"");
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 헤더는 무시한다")
+    void ignoresMalformedHeader() {
+        assertThat(QueueStatusETag.findMatching(null, 1L)).isNull();
+        assertThat(QueueStatusETag.findMatching("", 1L)).isNull();
+        assertThat(QueueStatusETag.findMatching("*", 1L)).isNull();
+        assertThat(QueueStatusETag.findMatching("W/\"abc-1\"", 1L)).isNull();
+    }
+}
@@ -0,0 +1,74 @@
+package personal.ai.queue.adapter.in.web.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Hashed Timing Wheel 단위 테스트
+ */
+@DisplayName("HashedTimingWheel 단위 테스트")
+class HashedTimingWheelTest {
+
+    private final List<List<String>> firedBatches = new CopyOnWriteArrayList<>();
+    private HashedTimingWheel<String> wheel;
+
+    @AfterEach
+    void tearDown() {
+        if (wheel != null) {
+            wheel.close();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 슬롯에서 만료된 타이머는 한 번에 전달된다")
+    void firesSameSlotTimersAsOneBatch() {
+        // Given: 10ms 틱 휠에 같은 지연으로 등록된 타이머 3개
+        wheel = new HashedTimingWheel<>("test-wheel", 10, 64, firedBatches::add);
+        wheel.schedule("a", 50);
+        wheel.schedule("b", 50);
+        wheel.schedule("c", 50);
+
+        // When & Then: 세 항목이 하나의 배치로 만료된다
+        await().atMost(Duration.ofSeconds(2))
+                .untilAsserted(() -> assertThat(firedBatches).containsExactly(List.of("a", "b", "c")));
+        assertThat(wheel.pendingTimeouts()).isZero();
+    }
+
+    @Test
+    @DisplayName("취소된 타이머는 만료되지 않는다")
+    void cancelledTimerDoesNotFire() throws InterruptedException {
+        // Given: 등록 직후 취소된 타이머
+        wheel = new HashedTimingWheel<>("test-wheel", 10, 64, firedBatches::add);
+        HashedTimingWheel.Timeout<String> timeout = wheel.schedule("cancelled", 30);
+        wheel.schedule("kept", 30);
+
+        // When: 만료 전에 취소하면
+        assertThat(timeout.cancel()).isTrue();
+
+        // Then: 취소되지 않은 항목만 만료된다
+        await().atMost(Duration.ofSeconds(2))
+                .untilAsserted(() -> assertThat(firedBatches).containsExactly(List.of("kept")));
+        assertThat(timeout.cancel()).isFalse();
+    }
+
+    @Test
+    @DisplayName("휠 한 바퀴보다 긴 지연도 정확히 만료된다")
+    void firesTimerLongerThanOneRotation() {
+        // Given: 한 바퀴 = 8 슬롯 * 10ms = 80ms 인 휠에 200ms 타이머
+        wheel = new HashedTimingWheel<>("test-wheel", 10, 8, firedBatches::add);
+        long start = System.nanoTime();
+        wheel.schedule("late", 200);
+
+        // When & Then: 200ms 이후에 만료된다
+        await().atMost(Duration.ofSeconds(2)).until(() -> !firedBatches.isEmpty());
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(200));
+    }
+}
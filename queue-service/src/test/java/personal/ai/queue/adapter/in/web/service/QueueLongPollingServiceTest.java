@@ -0,0 +1,297 @@
+package personal.ai.queue.adapter.in.web.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.context.request.async.StandardServletAsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncManager;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import personal.ai.common.dto.ApiResponse;
+import personal.ai.queue.adapter.in.web.dto.QueueTokenResponse;
+import personal.ai.queue.application.config.QueueConfigProperties;
+import personal.ai.queue.application.port.in.GetQueueStatusUseCase;
+import personal.ai.queue.application.port.in.GetQueueStatusVersionUseCase;
+import personal.ai.queue.domain.model.QueueStatus;
+import personal.ai.queue.domain.model.QueueToken;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * QueueLongPollingService 응답 기준/Epoch 감지/재조회 테스트
+ * 응답 기준: max(100, 순번 * 0.1)만큼 당겨지면 응답 (순번 1000 → 900 이하)
+ */
+@DisplayName("Long Polling 대기열 상태 조회 테스트")
+class QueueLongPollingServiceTest {
+
+    private static final String CONCERT_ID = "CONCERT-001";
+    private static final String USER_ID = "USER-001";
+    private static final String OTHER_USER_ID = "USER-002";
+    private static final long EPOCH = 5L;
+
+    private GetQueueStatusUseCase getQueueStatusUseCase;
+    private GetQueueStatusVersionUseCase getQueueStatusVersionUseCase;
+    private List<Runnable> submitted;
+    private QueueLongPollingService service;
+
+    @BeforeEach
+    void setUp() {
+        getQueueStatusUseCase = mock(GetQueueStatusUseCase.class);
+        getQueueStatusVersionUseCase = mock(GetQueueStatusVersionUseCase.class);
+        PollingIntervalPolicy pollingIntervalPolicy = mock(PollingIntervalPolicy.class);
+        submitted = new ArrayList<>();
+
+        // 재조회 실행 시점을 테스트에서 제어하도록 제출된 작업을 모아 둠
+        service = new QueueLongPollingService(
+                getQueueStatusUseCase,
+                getQueueStatusVersionUseCase,
+                pollingIntervalPolicy,
+                new QueueConfigProperties.LongPoll(30_000, 500, 100, 0.1),
+                100,
+                new SimpleMeterRegistry(),
+                submitted::add);
+    }
+
+    @Test
+    @DisplayName("순번이 기준 이상 당겨졌으면 보류 없이 바로 응답한다")
+    void respondsImmediatelyWhenThresholdReached() {
+        // Given: 클라이언트는 1000번을 받았고 현재 900번
+        givenEpoch(EPOCH);
+        givenStatus(QueueToken.waiting(CONCERT_ID, USER_ID, 900L));
+
+        // When
+        var result = service.poll(CONCERT_ID, USER_ID, 1000L);
+
+        // Then
+        assertThat(positionOf(result)).isEqualTo(900L);
+    }
+
+    @Test
+    @DisplayName("순번 변화가 기준 미만이면 요청을 보류한다")
+    void parksWhenBelowThreshold() {
+        // Given: 1000번 → 950번 (기준 900번 미달)
+        givenEpoch(EPOCH);
+        givenStatus(QueueToken.waiting(CONCERT_ID, USER_ID, 950L));
+
+        // When
+        var result = service.poll(CONCERT_ID, USER_ID, 1000L);
+
+        // Then
+        assertThat(result.hasResult()).isFalse();
+    }
+
+    @Test
+    @DisplayName("보류 시간이 지나면 그 시점의 상태로 응답한다")
+    void respondsWithCurrentStatusOnTimeout() throws Exception {
+        // Given
+        givenEpoch(EPOCH);
+        givenStatus(QueueToken.waiting(CONCERT_ID, USER_ID, 1000L));
+        var result = service.poll(CONCERT_ID, USER_ID, null);
+        ThrowingRunnable timeout = startAsync(result);
+        givenStatus(QueueToken.waiting(CONCERT_ID, USER_ID, 980L));
+
+        // When
+        timeout.run();
+
+        // Then
+        assertThat(positionOf(result)).isEqualTo(980L);
+    }
+
+    @Test
+    @DisplayName("Epoch가 바뀌지 않았거나 추정 순번이 기준에 못 미치면 재조회하지 않는다")
+    void skipsEvaluationUntilEstimateReachesTarget() {
+        // Given: Epoch 5, 1000번에서 보류
+        parkAt(1000L);
+
+        // When: 변화 없음 → 50명 전환 (추정 950번)
+        service.watchEpochs();
+        givenEpoch(EPOCH + 50);
+        service.watchEpochs();
+
+        // Then
+        assertThat(submitted).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Epoch 증가로 추정 순번이 기준을 넘으면 깨어나 실제 상태로 응답한다")
+    void wakesUpOnEpochChange() {
+        // Given: 1000번에서 보류 후 100명 전환 (추정 900번)
+        var result = parkAt(1000L);
+        givenEpoch(EPOCH + 100);
+        givenStatuses(QueueToken.waiting(CONCERT_ID, USER_ID, 890L));
+
+        // When
+        service.watchEpochs();
+        runSubmitted();
+
+        // Then
+        assertThat(positionOf(result)).isEqualTo(890L);
+    }
+
+    @Test
+    @DisplayName("추정이 빗나가면 실제 순번으로 기준점을 갱신하고 계속 보류한다")
+    void rebasesWhenEstimateMissed() {
+        // Given: 1000번에서 보류, 100명 전환됐지만 실제 순번은 990번 (앞사람 대신 뒷사람이 이탈)
+        var result = parkAt(1000L);
+        givenEpoch(EPOCH + 100);
+        givenStatuses(QueueToken.waiting(CONCERT_ID, USER_ID, 990L));
+        service.watchEpochs();
+        runSubmitted();
+        assertThat(result.hasResult()).isFalse();
+
+        // When: 이후 50명 전환 (기준점 990번 기준 추정 940번 → 재조회하지 않음)
+        givenEpoch(EPOCH + 150);
+        service.watchEpochs();
+
+        // Then
+        assertThat(submitted).isEmpty();
+
+        // When: 다시 50명 전환 (추정 890번 → 재조회)
+        givenEpoch(EPOCH + 200);
+        givenStatuses(QueueToken.waiting(CONCERT_ID, USER_ID, 890L));
+        service.watchEpochs();
+        runSubmitted();
+
+        // Then
+        assertThat(positionOf(result)).isEqualTo(890L);
+    }
+
+    @Test
+    @DisplayName("재조회가 끝나기 전에는 Epoch가 다시 바뀌어도 같은 대기자를 재제출하지 않는다")
+    void doesNotResubmitWhileEvaluationInFlight() {
+        // Given
+        var result = parkAt(1000L);
+        givenEpoch(EPOCH + 100);
+        service.watchEpochs();
+
+        // When: 첫 재조회가 실행되기 전에 Epoch가 다시 증가
+        givenEpoch(EPOCH + 120);
+        service.watchEpochs();
+
+        // Then
+        assertThat(submitted).hasSize(1);
+
+        // When: 재조회 완료 후 기준 미달로 기준점 갱신, 다음 Epoch 증가에서 다시 제출 가능
+        givenStatuses(QueueToken.waiting(CONCERT_ID, USER_ID, 950L));
+        runSubmitted();
+        givenEpoch(EPOCH + 200);
+        service.watchEpochs();
+
+        // Then
+        assertThat(result.hasResult()).isFalse();
+        assertThat(submitted).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("같은 콘서트의 재조회 대상은 배치 조회 1회로 함께 조회한다")
+    void evaluatesWaitersOfConcertInOneBatch() {
+        // Given: 두 사용자가 각각 1000번(기준 900번), 1200번(기준 1080번)에서 보류
+        givenEpoch(EPOCH);
+        givenStatus(QueueToken.waiting(CONCERT_ID, USER_ID, 1000L));
+        var first = service.poll(CONCERT_ID, USER_ID, null);
+        givenStatus(QueueToken.waiting(CONCERT_ID, OTHER_USER_ID, 1200L));
+        var second = service.poll(CONCERT_ID, OTHER_USER_ID, null);
+
+        // 150명 전환 → 추정 850번, 1050번으로 둘 다 기준 도달
+        givenEpoch(EPOCH + 150);
+        given(getQueueStatusUseCase.getStatuses(eq(CONCERT_ID), anyList())).willAnswer(invocation -> {
+            List<String> userIds = invocation.getArgument(1);
+            return userIds.stream()
+                    .map(userId -> userId.equals(USER_ID)
+                            ? QueueToken.waiting(CONCERT_ID, userId, 850L)
+                            : QueueToken.ready(CONCERT_ID, userId, "token", Instant.now().plusSeconds(300)))
+                    .toList();
+        });
+
+        // When
+        service.watchEpochs();
+
+        // Then
+        assertThat(submitted).hasSize(1);
+        runSubmitted();
+        assertThat(positionOf(first)).isEqualTo(850L);
+        assertThat(statusOf(second)).isEqualTo(QueueStatus.READY);
+        verify(getQueueStatusUseCase, times(1)).getStatuses(eq(CONCERT_ID), anyList());
+    }
+
+    private DeferredResult<ResponseEntity<ApiResponse<QueueTokenResponse>>> parkAt(long position) {
+        givenEpoch(EPOCH);
+        givenStatus(QueueToken.waiting(CONCERT_ID, USER_ID, position));
+        var result = service.poll(CONCERT_ID, USER_ID, null);
+        assertThat(result.hasResult()).isFalse();
+        return result;
+    }
+
+    private void givenEpoch(long epoch) {
+        given(getQueueStatusVersionUseCase.getStatusVersion(CONCERT_ID)).willReturn(epoch);
+    }
+
+    private void givenStatus(QueueToken token) {
+        given(getQueueStatusUseCase.getStatus(any())).willReturn(token);
+    }
+
+    private void givenStatuses(QueueToken token) {
+        given(getQueueStatusUseCase.getStatuses(CONCERT_ID, List.of(token.userId()))).willReturn(List.of(token));
+    }
+
+    private void runSubmitted() {
+        List<Runnable> tasks = new ArrayList<>(submitted);
+        submitted.clear();
+        tasks.forEach(Runnable::run);
+    }
+
+    /**
+     * 서블릿 비동기 처리를 시작하고, 컨테이너 타임아웃을 흉내 내는 작업을 반환
+     */
+    private static ThrowingRunnable startAsync(DeferredResult<?> result) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAsyncSupported(true);
+        WebAsyncManager asyncManager = WebAsyncUtils.getAsyncManager(request);
+        asyncManager.setAsyncWebRequest(new StandardServletAsyncWebRequest(request, new MockHttpServletResponse()));
+        asyncManager.startDeferredResultProcessing(result);
+
+        MockAsyncContext asyncContext = (MockAsyncContext) request.getAsyncContext();
+        return () -> {
+            for (AsyncListener listener : asyncContext.getListeners()) {
+                listener.onTimeout(new AsyncEvent(asyncContext));
+            }
+        };
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static long positionOf(DeferredResult<ResponseEntity<ApiResponse<QueueTokenResponse>>> result) {
+        assertThat(result.hasResult()).isTrue();
+        var response = (ResponseEntity<ApiResponse<QueueTokenResponse>>) result.getResult();
+        return response.getBody().data().position();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static QueueStatus statusOf(DeferredResult<ResponseEntity<ApiResponse<QueueTokenResponse>>> result) {
+        assertThat(result.hasResult()).isTrue();
+        var response = (ResponseEntity<ApiResponse<QueueTokenResponse>>) result.getResult();
+        return response.getBody().data().status();
+    }
+}
@@ -0,0 +1,133 @@
+package personal.ai.queue.adapter.in.web.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 유휴 SSE 세션 메모리 벤치마크
+ * 기존 구조(복합 키 맵 2개 + 콜백 람다 3개 + 폴링 작업)와 SseSessionRegistry의 세션당 힙 사용량 비교
+ *
+ * 실행: RUN_BENCHMARKS=true ./gradlew :queue-service:test --tests "*SseSessionFootprintBenchmark"
+ * 옵션: SSE_BENCHMARK_SESSIONS (기본 200,000)
+ *
+ * 측정값은 SseEmitter와 타이밍 휠 타이머를 포함한 애플리케이션 레벨 사용량이며,
+ * Tomcat 커넥션/요청 객체와 소켓 버퍼는 포함하지 않음
+ */
+@DisplayName("SSE 세션 메모리 벤치마크")
+@EnabledIfEnvironmentVariable(named = "RUN_BENCHMARKS", matches = "true")
+class SseSessionFootprintBenchmark {
+
+    private static final long HEAP_BUDGET_BYTES = 2L * 1024 * 1024 * 1024; // 2GB
+    private static final long POLL_DELAY_MS = 60 * 60 * 1000L; // 측정 중 만료되지 않도록 1시간
+    private static final int CONCERT_COUNT = 10;
+
+    private final MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
+
+    @Test
+    @DisplayName("유휴 SSE 세션당 바이트와 2GB 힙 수용량")
+    void measureIdleSessionFootprint() throws InterruptedException {
+        int sessionCount = Integer.parseInt(System.getenv().getOrDefault("SSE_BENCHMARK_SESSIONS", "200000"));
+
+        long legacyBytes = measure(sessionCount, (Populator<LegacyPollTask>) this::populateLegacy);
+        long registryBytes = measure(sessionCount, (Populator<SseSessionRegistry.SseSession>) this::populateRegistry);
+
+        System.out.printf("%n[SSE session footprint] sessions=%,d%n", sessionCount);
+        report("legacy (composite keys, 2 maps, 3 lambdas)", legacyBytes, sessionCount);
+        report("SseSessionRegistry", registryBytes, sessionCount);
+
+        assertThat(registryBytes).isLessThan(legacyBytes);
+    }
+
+    private void report(String label, long totalBytes, int sessionCount) {
+        long bytesPerSession = totalBytes / sessionCount;
+        System.out.printf("  %-45s %,6d bytes/session, ~%,d idle sessions per 2GB heap%n",
+                label, bytesPerSession, HEAP_BUDGET_BYTES / Math.max(bytesPerSession, 1));
+    }
+
+    private <T> long measure(int sessionCount, Populator<T> populator) throws InterruptedException {
+        try (HashedTimingWheel<T> wheel = new HashedTimingWheel<>("benchmark-wheel", 100, 512, items -> { })) {
+            long before = usedHeapAfterGc();
+            Object retained = populator.populate(sessionCount, wheel);
+            // 휠 워커가 등록 큐를 버킷으로 옮길 때까지 대기
+            Thread.sleep(500);
+            long after = usedHeapAfterGc();
+            assertThat(retained).isNotNull();
+            return after - before;
+        }
+    }
+
+    /**
+     * 기존 구조: concertId:userId 키로 emitter 맵과 타이머 맵을 각각 관리
+     */
+    private Object populateLegacy(int sessionCount, HashedTimingWheel<LegacyPollTask> wheel) {
+        Map<String, SseEmitter> emitters = new ConcurrentHashMap<>();
+        Map<String, HashedTimingWheel.Timeout<LegacyPollTask>> schedules = new ConcurrentHashMap<>();
+
+        for (int i = 0; i < sessionCount; i++) {
+            String concertId = requestConcertId(i);
+            String userId = "user-" + i;
+            String key = concertId + ":" + userId;
+
+            SseEmitter emitter = new SseEmitter(30 * 60 * 1000L);
+            emitters.put(key, emitter);
+            emitter.onCompletion(() -> {
+                emitters.remove(key);
+                schedules.remove(key);
+            });
+            emitter.onTimeout(() -> {
+                emitters.remove(key);
+                schedules.remove(key);
+            });
+            emitter.onError(e -> {
+                emitters.remove(key);
+                schedules.remove(key);
+            });
+
+            schedules.put(key, wheel.schedule(new LegacyPollTask(concertId, userId, key, emitter), POLL_DELAY_MS));
+        }
+        return List.of(emitters, schedules);
+    }
+
+    private Object populateRegistry(int sessionCount, HashedTimingWheel<SseSessionRegistry.SseSession> wheel) {
+        SseSessionRegistry registry = new SseSessionRegistry();
+
+        for (int i = 0; i < sessionCount; i++) {
+            SseSessionRegistry.SseSession session =
+                    registry.register(requestConcertId(i), "user-" + i, new SseEmitter(30 * 60 * 1000L));
+            session.schedulePoll(wheel, POLL_DELAY_MS);
+        }
+        return registry;
+    }
+
+    /**
+     * 요청마다 새로 만들어지는 concertId 문자열 (요청 파라미터 바인딩과 동일)
+     */
+    private static String requestConcertId(int i) {
+        return new StringBuilder("concert-").append(i % CONCERT_COUNT).toString();
+    }
+
+    private long usedHeapAfterGc() throws InterruptedException {
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return memoryBean.getHeapMemoryUsage().getUsed();
+    }
+
+    @FunctionalInterface
+    private interface Populator<T> {
+        Object populate(int sessionCount, HashedTimingWheel<T> wheel);
+    }
+
+    private record LegacyPollTask(String concertId, String userId, String key, SseEmitter emitter) {}
+}
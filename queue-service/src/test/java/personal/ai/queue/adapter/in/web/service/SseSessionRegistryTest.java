@@ -0,0 +1,81 @@
+package personal.ai.queue.adapter.in.web.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import personal.ai.queue.adapter.in.web.service.SseSessionRegistry.SseSession;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SSE 세션 레지스트리 단위 테스트
+ */
+@DisplayName("SseSessionRegistry 단위 테스트")
+class SseSessionRegistryTest {
+
+    private final SseSessionRegistry registry = new SseSessionRegistry();
+
+    @Test
+    @DisplayName("같은 사용자가 재구독하면 이전 세션은 닫히고 교체된다")
+    void resubscribeReplacesPreviousSession() {
+        // Given: 기존 세션
+        SseSession previous = registry.register("concert-1", "user-1", new SseEmitter());
+
+        // When: 같은 사용자가 다시 구독하면
+        SseSession current = registry.register("concert-1", "user-1", new SseEmitter());
+
+        // Then: 이전 세션만 닫히고 세션 수는 유지된다
+        assertThat(previous.isClosed()).isTrue();
+        assertThat(current.isClosed()).isFalse();
+        assertThat(registry.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("교체된 세션의 늦은 완료 콜백은 새 세션을 제거하지 않는다")
+    void staleCompletionCallbackKeepsCurrentSession() {
+        // Given: 재구독으로 교체된 세션
+        SseSession previous = registry.register("concert-1", "user-1", new SseEmitter());
+        SseSession current = registry.register("concert-1", "user-1", new SseEmitter());
+
+        // When: 이전 연결의 완료 콜백이 늦게 실행되어도
+        previous.run();
+
+        // Then: 새 세션은 유지된다
+        assertThat(current.isClosed()).isFalse();
+        assertThat(registry.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("마지막 세션이 제거되면 콘서트 그룹도 제거된다")
+    void removesEmptyConcertGroup() {
+        // Given: 두 콘서트에 각각 세션 1개
+        SseSession session = registry.register("concert-1", "user-1", new SseEmitter());
+        registry.register("concert-2", "user-2", new SseEmitter());
+
+        // When: 완료 콜백으로 세션이 제거되면
+        session.run();
+
+        // Then: 빈 콘서트 그룹이 남지 않는다
+        assertThat(registry.size()).isEqualTo(1);
+        assertThat(registry.concertCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("세션당 메모리는 구조 크기와 실제 userId 키 크기의 평균이다")
+    void footprintTracksUserIdKeys() {
+        // Given: 8자 userId(48바이트)와 16자 userId(56바이트) 세션
+        registry.register("concert-1", "user-001", new SseEmitter());
+        SseSession longer = registry.register("concert-1", "user-00000000002", new SseEmitter());
+
+        // Then
+        assertThat(registry.footprintBytesPerSession())
+                .isEqualTo(SseSessionRegistry.STRUCTURE_BYTES_PER_SESSION + 52.0);
+
+        // When: 모든 세션이 제거되면
+        longer.run();
+        registry.closeAll();
+
+        // Then
+        assertThat(registry.footprintBytesPerSession()).isZero();
+    }
+}
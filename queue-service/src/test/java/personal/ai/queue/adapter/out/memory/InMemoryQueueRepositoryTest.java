@@ -0,0 +1,250 @@
+package personal.ai.queue.adapter.out.memory;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import personal.ai.queue.application.port.out.QueueRepository.ActiveRemoval;
+import personal.ai.queue.application.port.out.QueueRepository.TransitionOutcome;
+import personal.ai.queue.domain.model.ArrivalTicket;
+import personal.ai.queue.domain.model.QueueConfig;
+import personal.ai.queue.domain.model.QueueStatus;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("인메모리 대기열 저장소 테스트")
+class InMemoryQueueRepositoryTest {
+
+    private static final String CONCERT_ID = "CONCERT-001";
+
+    private InMemoryQueueRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        // 조회할 때마다 1ms씩 흐르는 시계 (진입 시각 score가 겹치지 않도록)
+        AtomicLong millis = new AtomicLong(System.currentTimeMillis());
+        Clock clock = mock(Clock.class);
+        given(clock.millis()).willAnswer(invocation -> millis.incrementAndGet());
+        given(clock.instant()).willAnswer(invocation -> Instant.ofEpochMilli(millis.incrementAndGet()));
+        repository = new InMemoryQueueRepository(QueueConfig.defaultConfig(), clock);
+    }
+
+    @Test
+    @DisplayName("진입 순서대로 순번을 부여하고, 재진입은 기존 순번을 유지한다")
+    void enterKeepsFifoOrder() {
+        // Given: 3명이 차례로 진입
+        repository.enterQueue(CONCERT_ID, "USER-1");
+        repository.enterQueue(CONCERT_ID, "USER-2");
+        var third = repository.enterQueue(CONCERT_ID, "USER-3");
+
+        // When: 두 번째 사용자가 재진입하면
+        var reentered = repository.enterQueue(CONCERT_ID, "USER-2");
+
+        // Then: 신규 진입은 맨 뒤, 재진입은 기존 순번 (1-based)
+        assertThat(third.position()).isEqualTo(3L);
+        assertThat(third.isNewEntry()).isTrue();
+        assertThat(reentered.position()).isEqualTo(2L);
+        assertThat(reentered.isNewEntry()).isFalse();
+        assertThat(reentered.totalWaiting()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("중간 이탈 시 뒤 순번이 당겨지고 Epoch가 증가한다")
+    void removalShiftsRanksAndBumpsEpoch() {
+        // Given: 3명 대기
+        List.of("USER-1", "USER-2", "USER-3").forEach(userId -> repository.addToWaitQueue(CONCERT_ID, userId));
+
+        // When: 가운데 사용자가 이탈하면
+        repository.removeFromWaitQueue(CONCERT_ID, "USER-2");
+
+        // Then
+        assertThat(repository.getWaitQueuePosition(CONCERT_ID, "USER-3")).isEqualTo(1L);
+        assertThat(repository.getWaitQueuePosition(CONCERT_ID, "USER-2")).isNull();
+        assertThat(repository.getWaitQueueSize(CONCERT_ID)).isEqualTo(2L);
+        assertThat(repository.getActivationEpoch(CONCERT_ID)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("번호표 공간이 늘어나도 순번은 대기 중인 앞사람 수와 같다")
+    void ranksStayExactAcrossGrowth() {
+        // Given: 초기 용량을 넘는 인원이 진입하고, 3명 중 1명씩 이탈
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            String userId = "USER-" + i;
+            repository.addToWaitQueue(CONCERT_ID, userId);
+            expected.add(userId);
+        }
+        for (int i = 0; i < 5_000; i += 3) {
+            repository.removeFromWaitQueue(CONCERT_ID, "USER-" + i);
+            expected.remove("USER-" + i);
+        }
+
+        // When: 앞에서 100명이 빠지면
+        var popped = repository.popFromWaitQueue(CONCERT_ID, 100);
+
+        // Then: 꺼낸 순서와 남은 순번이 기대 목록과 같다
+        assertThat(popped).isEqualTo(expected.subList(0, 100));
+        List<String> remaining = expected.subList(100, expected.size());
+        for (int rank = 0; rank < remaining.size(); rank += 97) {
+            assertThat(repository.getWaitQueuePosition(CONCERT_ID, remaining.get(rank))).isEqualTo((long) rank);
+        }
+    }
+
+    @Test
+    @DisplayName("진입 순서는 도착 시각 순서이며, 같은 시각이면 userId 사전순이다")
+    void enterOrdersByArrivedAt() {
+        // Given: 늦게 도착한 사용자가 먼저 진입
+        Instant base = Instant.parse("2026-03-01T11:00:00Z");
+        repository.enterQueue(CONCERT_ID, "USER-LATE", base.plusSeconds(10));
+        repository.enterQueue(CONCERT_ID, "USER-B", base);
+
+        // When: 같은 시각에 도착한 사용자가 진입
+        var tied = repository.enterQueue(CONCERT_ID, "USER-A", base);
+
+        // Then: ZSET과 같이 (score, userId) 순서
+        assertThat(tied.position()).isEqualTo(1L);
+        assertThat(repository.getWaitQueuePosition(CONCERT_ID, "USER-B")).isEqualTo(1L);
+        assertThat(repository.getWaitQueuePosition(CONCERT_ID, "USER-LATE")).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("티켓 첫 사용은 도착 시각으로 앞에 들어가 Epoch를 올리고, 같은 티켓 재사용은 맨 뒤로 진입한다")
+    void ticketEntryHonorsArrivalOnce() {
+        // Given: 오픈 후 일반 진입한 대기자
+        Instant validUntil = Instant.now().plusSeconds(300);
+        repository.enterQueue(CONCERT_ID, "USER-LATE");
+
+        // When: 오픈 전 도착 시각의 티켓으로 진입
+        var ticketEntry = repository.enterQueueWithTicket(
+                CONCERT_ID, "USER-1", Instant.now().minusSeconds(60), validUntil);
+
+        // Then: 기존 대기자 앞, 뒤쪽 순번이 밀렸으므로 Epoch 증가
+        assertThat(ticketEntry.position()).isEqualTo(1L);
+        assertThat(repository.getActivationEpoch(CONCERT_ID)).isEqualTo(1L);
+
+        // When: 대기열에서 빠진 뒤 같은 티켓으로 재진입
+        repository.removeFromWaitQueue(CONCERT_ID, "USER-1");
+        var replay = repository.enterQueueWithTicket(
+                CONCERT_ID, "USER-1", Instant.now().minusSeconds(60), validUntil);
+
+        // Then: 현재 시각으로 맨 뒤
+        assertThat(replay.position()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("로비 적재는 도착 시각 순서로 끼워 넣고, 맨 뒤보다 앞에 넣거나 당긴 인원만큼 Epoch를 올린다")
+    void loadArrivalsOrdersByArrivedAt() {
+        // Given: 티켓으로 먼저 들어온 대기자 2명
+        Instant base = Instant.parse("2026-03-01T10:59:00Z");
+        Instant validUntil = Instant.now().plusSeconds(300);
+        repository.enterQueue(CONCERT_ID, "USER-A", base.plusSeconds(2));
+        repository.enterQueue(CONCERT_ID, "USER-B", base.plusSeconds(1));
+
+        // When: USER-A는 더 이른 시각으로, USER-C는 맨 뒤보다 앞에, USER-D는 맨 뒤에 적재
+        long loaded = repository.loadArrivals(CONCERT_ID, List.of(
+                new ArrivalTicket(CONCERT_ID, "USER-A", base),
+                new ArrivalTicket(CONCERT_ID, "USER-C", base.plusMillis(500)),
+                new ArrivalTicket(CONCERT_ID, "USER-D", base.plusSeconds(3))), validUntil);
+
+        // Then: load_arrivals.lua와 같은 결과
+        assertThat(loaded).isEqualTo(2L);
+        assertThat(repository.getActivationEpoch(CONCERT_ID)).isEqualTo(2L);
+        assertThat(repository.popFromWaitQueue(CONCERT_ID, 4))
+                .containsExactly("USER-A", "USER-C", "USER-B", "USER-D");
+
+        // And: 적재된 사용자는 티켓으로 다시 앞 순서를 받지 않음
+        repository.enterQueue(CONCERT_ID, "USER-LATE");
+        assertThat(repository.enterQueueWithTicket(CONCERT_ID, "USER-C", base, validUntil).position())
+                .isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("Active Queue 여유분만큼만 READY 토큰을 발급한다")
+    void moveFillsOnlyFreeSlots() {
+        // Given: 3명 대기
+        List.of("USER-1", "USER-2", "USER-3").forEach(userId -> repository.addToWaitQueue(CONCERT_ID, userId));
+        Instant expiredAt = Instant.now().plusSeconds(300);
+
+        // When: 최대 2명까지 전환
+        var first = repository.moveToActiveQueueAtomic(CONCERT_ID, 2, expiredAt);
+        var second = repository.moveToActiveQueueAtomic(CONCERT_ID, 2, expiredAt);
+
+        // Then
+        assertThat(first.movedUserIds()).containsExactly("USER-1", "USER-2");
+        assertThat(first.activeQueueSize()).isEqualTo(2L);
+        assertThat(first.waitQueueSize()).isEqualTo(1L);
+        assertThat(second.movedUserIds()).isEmpty();
+        assertThat(repository.getActivationEpoch(CONCERT_ID)).isEqualTo(2L);
+        assertThat(repository.getActiveToken(CONCERT_ID, "USER-1"))
+                .hasValueSatisfying(token -> assertThat(token.status()).isEqualTo(QueueStatus.READY));
+        assertThat(repository.getQueueEntrySnapshot(CONCERT_ID, "USER-3", null).waitQueuePosition()).isZero();
+    }
+
+    @Test
+    @DisplayName("활성화와 연장은 Lua 스크립트와 같은 전환 결과를 돌려준다")
+    void transitionsMatchScripts() {
+        // Given: READY 토큰
+        repository.addToWaitQueue(CONCERT_ID, "USER-1");
+        repository.moveToActiveQueueAtomic(CONCERT_ID, 10, Instant.now().plusSeconds(300));
+        Instant newExpiredAt = Instant.now().plusSeconds(600);
+
+        // When & Then: 활성화는 1회만 적용
+        assertThat(repository.activateTokenAtomic(CONCERT_ID, "USER-1", newExpiredAt))
+                .hasValueSatisfying(t -> assertThat(t.outcome()).isEqualTo(TransitionOutcome.APPLIED));
+        assertThat(repository.activateTokenAtomic(CONCERT_ID, "USER-1", newExpiredAt))
+                .hasValueSatisfying(t -> assertThat(t.outcome()).isEqualTo(TransitionOutcome.ALREADY_APPLIED));
+
+        // When & Then: 연장은 최대 횟수까지만 적용
+        assertThat(repository.extendTokenAtomic(CONCERT_ID, "USER-1", newExpiredAt, 1))
+                .hasValueSatisfying(t -> assertThat(t.token().extendCount()).isEqualTo(1));
+        assertThat(repository.extendTokenAtomic(CONCERT_ID, "USER-1", newExpiredAt, 1))
+                .hasValueSatisfying(t -> assertThat(t.outcome()).isEqualTo(TransitionOutcome.REJECTED));
+
+        // When & Then: 토큰이 없으면 empty
+        assertThat(repository.activateTokenAtomic(CONCERT_ID, "USER-404", newExpiredAt)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("일괄 제거는 같은 이벤트를 한 번만 반영하여 재진입한 사용자를 다시 제거하지 않는다")
+    void batchRemovalIsIdempotentByEventId() {
+        // Given: 결제 완료로 제거된 뒤 다시 토큰을 받은 사용자
+        repository.addToActiveQueue(CONCERT_ID, "USER-1", "T-1", Instant.now().plusSeconds(300));
+        var removal = List.of(new ActiveRemoval("EVENT-1", "USER-1"));
+        assertThat(repository.removeFromActiveQueueBatch(CONCERT_ID, removal)).isEqualTo(1L);
+        repository.addToActiveQueue(CONCERT_ID, "USER-1", "T-2", Instant.now().plusSeconds(300));
+
+        // When: 같은 이벤트가 재전달되면
+        long removed = repository.removeFromActiveQueueBatch(CONCERT_ID, removal);
+
+        // Then
+        assertThat(removed).isZero();
+        assertThat(repository.getActiveToken(CONCERT_ID, "USER-1"))
+                .hasValueSatisfying(token -> assertThat(token.token()).isEqualTo("T-2"));
+    }
+
+    @Test
+    @DisplayName("만료 시각이 지난 토큰만 정리하고, 빈 콘서트는 활성 목록에서 빠진다")
+    void removeExpiredTokens() {
+        // Given: 만료된 토큰 1개, 유효한 토큰 1개
+        repository.addToActiveQueue(CONCERT_ID, "USER-1", "T-1", Instant.now().minusSeconds(1));
+        repository.addToActiveQueue(CONCERT_ID, "USER-2", "T-2", Instant.now().plusSeconds(300));
+
+        // When
+        Long removed = repository.removeExpiredTokens(CONCERT_ID);
+
+        // Then
+        assertThat(removed).isEqualTo(1L);
+        assertThat(repository.getActiveQueueSize(CONCERT_ID)).isEqualTo(1L);
+        assertThat(repository.getActiveConcertIds()).containsExactly(CONCERT_ID);
+
+        repository.removeFromActiveQueue(CONCERT_ID, "USER-2");
+        assertThat(repository.getActiveConcertIds()).isEmpty();
+    }
+}
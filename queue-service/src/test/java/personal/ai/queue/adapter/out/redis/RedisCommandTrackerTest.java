@@ -0,0 +1,55 @@
+package personal.ai.queue.adapter.out.redis;
+
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.output.ValueOutput;
+import io.lettuce.core.protocol.Command;
+import io.lettuce.core.protocol.CommandArgs;
+import io.lettuce.core.protocol.CommandType;
+import io.lettuce.core.tracing.Tracer;
+import io.lettuce.core.tracing.Tracing;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import personal.ai.queue.application.config.QueueConfigProperties;
+
+import java.net.InetSocketAddress;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Redis 명령 추적기 테스트")
+class RedisCommandTrackerTest {
+
+    @Test
+    @DisplayName("핫 키 메트릭에는 실제 Key 대신 Key 계열과 순위만 태그로 붙는다")
+    void hotKeyMetricsDoNotExposeKeys() {
+        // Given: 모든 명령을 샘플링하는 추적기
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RedisCommandTracker tracker = new RedisCommandTracker(meterRegistry, new QueueConfigProperties(
+                null, null, null, null, null, null, null, null, null, null, null,
+                new QueueConfigProperties.RedisMetrics(false, 1, 10, 256, 10_000)));
+        Tracing.Endpoint node = tracker.createEndpoint(InetSocketAddress.createUnresolved("redis-1", 6379));
+
+        // When: 사용자 ID가 들어간 Key에 명령 3건 후 집계
+        for (int i = 0; i < 3; i++) {
+            Tracer.Span span = tracker.getTracerProvider().getTracer().nextSpan();
+            span.start(get("active:token:{CONCERT-001}:USER-42"));
+            span.remoteEndpoint(node);
+            span.finish();
+        }
+        tracker.publishHotKeys();
+
+        // Then
+        assertThat(meterRegistry.get("queue.redis.hotkey.ops")
+                .tags("node", "redis-1:6379", "key_family", "active:token", "rank", "1")
+                .gauge().value()).isPositive();
+        assertThat(meterRegistry.find("queue.redis.hotkey.ops").meters())
+                .extracting(Meter::getId)
+                .allSatisfy(id -> assertThat(id.getTag("key")).isNull());
+    }
+
+    private static Command<String, String, String> get(String key) {
+        return new Command<>(CommandType.GET, new ValueOutput<>(StringCodec.UTF8),
+                new CommandArgs<>(StringCodec.UTF8).addKey(key));
+    }
+}
@@ -0,0 +1,211 @@
+package personal.ai.queue.adapter.out.redis;
+
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.api.StatefulConnection;
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.resource.DefaultClientResources;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Redis 연결 모드 벤치마크
+ * 공유 연결(SHARED, 자동 파이프라이닝)과 연결 풀(POOLED, max-active 50)의 처리량/지연 비교
+ *
+ * 실행: RUN_BENCHMARKS=true ./gradlew :queue-service:test --tests "*RedisConnectionModeBenchmark"
+ * 옵션: REDIS_BENCHMARK_CONCURRENCY (기본 1000,5000,10000), REDIS_BENCHMARK_REQUESTS (요청자당 요청 수, 기본 20)
+ *
+ * 요청 1건 = 상태 조회와 같은 HGETALL + ZRANK (가상 스레드에서 블로킹 RedisTemplate 호출)
+ * Docker가 필요하며, 측정값은 로컬 컨테이너 기준이므로 모드 간 상대 비교용
+ */
+@DisplayName("Redis 연결 모드 벤치마크")
+@EnabledIfEnvironmentVariable(named = "RUN_BENCHMARKS", matches = "true")
+class RedisConnectionModeBenchmark {
+
+    private static final int POOL_MAX_ACTIVE = 50;
+    private static final int MAX_IN_FLIGHT_PER_NODE = 100_000;
+    private static final String TOKEN_KEY = "active:token:{bench}:user-1";
+    private static final String WAIT_QUEUE_KEY = "queue:wait:{bench}";
+
+    private static GenericContainer<?> redis;
+
+    @BeforeAll
+    static void startRedis() {
+        redis = new GenericContainer<>(DockerImageName.parse("redis:7.2-alpine")).withExposedPorts(6379);
+        redis.start();
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        redis.stop();
+    }
+
+    @Test
+    @DisplayName("동시 요청 1k/5k/10k에서 SHARED와 POOLED 처리량 및 지연 비교")
+    void compareConnectionModes() throws InterruptedException {
+        int[] concurrencyLevels = Arrays.stream(System.getenv()
+                        .getOrDefault("REDIS_BENCHMARK_CONCURRENCY", "1000,5000,10000").split(","))
+                .map(String::trim)
+                .mapToInt(Integer::parseInt)
+                .toArray();
+        int requestsPerClient = Integer.parseInt(System.getenv().getOrDefault("REDIS_BENCHMARK_REQUESTS", "20"));
+
+        System.out.printf("%n[Redis connection mode] requests/client=%d, pool max-active=%d%n",
+                requestsPerClient, POOL_MAX_ACTIVE);
+        System.out.printf("  %-8s %8s %12s %10s %10s %10s %8s%n",
+                "mode", "clients", "req/s", "p50(ms)", "p99(ms)", "max(ms)", "errors");
+
+        for (int concurrency : concurrencyLevels) {
+            Result shared = run("SHARED", concurrency, requestsPerClient);
+            Result pooled = run("POOLED", concurrency, requestsPerClient);
+
+            assertThat(shared.completed()).isPositive();
+            assertThat(pooled.completed()).isPositive();
+        }
+    }
+
+    private Result run(String mode, int concurrency, int requestsPerClient) throws InterruptedException {
+        ClientResources clientResources = DefaultClientResources.builder()
+                .tracing(new RedisCommandTracker(new SimpleMeterRegistry()))
+                .build();
+        LettuceConnectionFactory connectionFactory = createConnectionFactory(mode, clientResources);
+
+        try {
+            RedisTemplate<String, String> template = new RedisTemplate<>();
+            template.setConnectionFactory(connectionFactory);
+            RedisConfig.applyStringSerializers(template);
+            template.afterPropertiesSet();
+
+            template.opsForHash().putAll(TOKEN_KEY, Map.of(
+                    "token", "t", "status", "ACTIVE", "extend_count", "0", "expired_at", "0"));
+            template.opsForZSet().add(WAIT_QUEUE_KEY, "user-1", 1);
+
+            // 워밍업
+            execute(template, Math.min(concurrency, 100), requestsPerClient);
+
+            Result result = execute(template, concurrency, requestsPerClient);
+            System.out.printf("  %-8s %,8d %,12.0f %10.2f %10.2f %10.2f %,8d%n",
+                    mode, concurrency, result.opsPerSecond(), result.p50Ms(), result.p99Ms(), result.maxMs(),
+                    result.errors());
+            return result;
+        } finally {
+            connectionFactory.destroy();
+            clientResources.shutdown();
+        }
+    }
+
+    private Result execute(RedisTemplate<String, String> template, int concurrency, int requestsPerClient)
+            throws InterruptedException {
+        long[] latencies = new long[concurrency * requestsPerClient];
+        AtomicInteger index = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(concurrency);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < concurrency; c++) {
+                executor.execute(() -> {
+                    try {
+                        start.await();
+                        for (int r = 0; r < requestsPerClient; r++) {
+                            long begin = System.nanoTime();
+                            try {
+                                template.opsForHash().entries(TOKEN_KEY);
+                                template.opsForZSet().rank(WAIT_QUEUE_KEY, "user-1");
+                                latencies[index.getAndIncrement()] = System.nanoTime() - begin;
+                            } catch (RuntimeException e) {
+                                errors.incrementAndGet();
+                            }
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+
+            long begin = System.nanoTime();
+            start.countDown();
+            done.await();
+            long elapsedNanos = System.nanoTime() - begin;
+
+            int completed = index.get();
+            long[] sorted = Arrays.copyOf(latencies, completed);
+            Arrays.sort(sorted);
+            return new Result(
+                    completed,
+                    errors.get(),
+                    completed / (elapsedNanos / 1_000_000_000.0),
+                    percentileMs(sorted, 0.50),
+                    percentileMs(sorted, 0.99),
+                    completed > 0 ? sorted[completed - 1] / 1_000_000.0 : 0);
+        }
+    }
+
+    private static double percentileMs(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1);
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    private static LettuceConnectionFactory createConnectionFactory(String mode, ClientResources clientResources) {
+        RedisStandaloneConfiguration standalone =
+                new RedisStandaloneConfiguration(redis.getHost(), redis.getMappedPort(6379));
+        ClientOptions clientOptions = ClientOptions.builder()
+                .requestQueueSize(MAX_IN_FLIGHT_PER_NODE)
+                .build();
+
+        LettuceClientConfiguration clientConfiguration;
+        if (mode.equals("POOLED")) {
+            GenericObjectPoolConfig<StatefulConnection<?, ?>> poolConfig = new GenericObjectPoolConfig<>();
+            poolConfig.setMaxTotal(POOL_MAX_ACTIVE);
+            poolConfig.setMaxIdle(POOL_MAX_ACTIVE);
+            poolConfig.setMaxWait(Duration.ofSeconds(30));
+            clientConfiguration = LettucePoolingClientConfiguration.builder()
+                    .poolConfig(poolConfig)
+                    .clientResources(clientResources)
+                    .clientOptions(clientOptions)
+                    .commandTimeout(Duration.ofSeconds(30))
+                    .build();
+        } else {
+            clientConfiguration = LettuceClientConfiguration.builder()
+                    .clientResources(clientResources)
+                    .clientOptions(clientOptions)
+                    .commandTimeout(Duration.ofSeconds(30))
+                    .build();
+        }
+
+        LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(standalone, clientConfiguration);
+        connectionFactory.setShareNativeConnection(mode.equals("SHARED"));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        return connectionFactory;
+    }
+
+    private record Result(int completed, int errors, double opsPerSecond, double p50Ms, double p99Ms,
+                          double maxMs) {}
+}
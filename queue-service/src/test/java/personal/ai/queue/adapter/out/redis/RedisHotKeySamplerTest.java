@@ -0,0 +1,43 @@
+package personal.ai.queue.adapter.out.redis;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Redis 핫 키 샘플러 테스트")
+class RedisHotKeySamplerTest {
+
+    @Test
+    @DisplayName("추적 용량을 넘는 키가 들어와도 가장 많이 샘플링된 키가 상위에 남는다")
+    void keepsHottestKeyWithinCapacity() {
+        // Given: 용량 3인 샘플러
+        RedisHotKeySampler sampler = new RedisHotKeySampler(3);
+
+        // When: 핫 키 100회 + 서로 다른 키 10개가 1회씩 샘플링되면
+        for (int i = 0; i < 100; i++) {
+            sampler.record("node-1", "queue:wait:{CONCERT-001}");
+        }
+        for (int i = 0; i < 10; i++) {
+            sampler.record("node-1", "active:token:{CONCERT-002}:USER-" + i);
+        }
+
+        // Then: 핫 키가 1위, 정확한 횟수 유지
+        var top = sampler.drainTop(2);
+        assertThat(top).hasSize(2);
+        assertThat(top.get(0).key()).isEqualTo("queue:wait:{CONCERT-001}");
+        assertThat(top.get(0).samples()).isEqualTo(100);
+
+        // And: 조회 후 다음 집계 구간을 위해 초기화
+        assertThat(sampler.drainTop(2)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Key 계열은 Hash Tag 앞부분이며, Hash Tag가 없는 키는 하나로 묶인다")
+    void keyFamilyIsPrefixBeforeHashTag() {
+        assertThat(RedisKeyGenerator.keyFamily("queue:wait:{CONCERT-001}")).isEqualTo("queue:wait");
+        assertThat(RedisKeyGenerator.keyFamily("active:token:{CONCERT-001}:USER-1")).isEqualTo("active:token");
+        assertThat(RedisKeyGenerator.keyFamily("some-plain-key")).isEqualTo("other");
+        assertThat(RedisKeyGenerator.keyFamily(null)).isEqualTo("none");
+    }
+}
@@ -0,0 +1,183 @@
+package personal.ai.queue.adapter.out.redis;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로비 도착 티켓 Lua 스크립트 테스트 (enter_queue.lua 티켓 모드, load_arrivals.lua)
+ * 티켓 1회 사용 규칙과 앞 순서 삽입 시 Activation Epoch 증가를 실제 Redis에서 검증 (Docker가 없으면 건너뜀)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("로비 도착 티켓 Lua 스크립트 테스트")
+class RedisLobbyScriptTest {
+
+    private static final String CONCERT_ID = "CONCERT-001";
+    private static final String USER_ID = "USER-001";
+    private static final long ARRIVED_AT_MS = Instant.parse("2026-03-01T10:59:00Z").toEpochMilli();
+
+    @Container
+    private static final GenericContainer<?> REDIS =
+            new GenericContainer<>(DockerImageName.parse("redis:7.2-alpine")).withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private final RedisScript<String> enterQueueScript =
+            RedisScript.of(new ClassPathResource("scripts/enter_queue.lua"), String.class);
+    private final RedisScript<Long> loadArrivalsScript =
+            RedisScript.of(new ClassPathResource("scripts/load_arrivals.lua"), Long.class);
+
+    private final String waitQueueKey = RedisKeyGenerator.waitQueueKey(CONCERT_ID);
+    private final String ticketsKey = RedisKeyGenerator.lobbyTicketsKey(CONCERT_ID);
+    private final String epochKey = RedisKeyGenerator.activationEpochKey(CONCERT_ID);
+    private final String tokenKey = RedisKeyGenerator.activeTokenKey(CONCERT_ID, USER_ID);
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getFirstMappedPort()));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void flush() {
+        redisTemplate.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+    }
+
+    @Test
+    @DisplayName("티켓 첫 사용은 도착 시각으로 진입하고, 같은 티켓을 다시 쓰면 현재 시각으로 진입한다")
+    void ticketIsSingleUse() {
+        // Given: 티켓으로 진입 (도착 시각 인정)
+        enterWithTicket();
+        assertThat(scoreOf(USER_ID)).isEqualTo(ARRIVED_AT_MS);
+
+        // When: 활성화/만료 등으로 대기열에서 빠진 뒤 같은 티켓으로 재진입
+        redisTemplate.opsForZSet().remove(waitQueueKey, USER_ID);
+        long now = enterWithTicket();
+
+        // Then
+        assertThat(scoreOf(USER_ID)).isEqualTo(now);
+    }
+
+    @Test
+    @DisplayName("로비 적재로 들어온 사용자는 이후 티켓을 제시해도 도착 시각을 다시 인정받지 못한다")
+    void drainedUserCannotReplayTicket() {
+        // Given: 오픈 시각 적재
+        Long loaded = loadArrivals(USER_ID, ARRIVED_AT_MS);
+        assertThat(loaded).isEqualTo(1L);
+
+        // When: 대기열에서 빠진 뒤 티켓으로 재진입
+        redisTemplate.opsForZSet().remove(waitQueueKey, USER_ID);
+        long now = enterWithTicket();
+
+        // Then
+        assertThat(scoreOf(USER_ID)).isEqualTo(now);
+        assertThat(redisTemplate.getExpire(ticketsKey)).isPositive();
+    }
+
+    @Test
+    @DisplayName("티켓 진입이 기존 대기자보다 앞에 들어가면 Activation Epoch가 증가한다")
+    void ticketEntryAheadOfTailBumpsEpoch() {
+        // Given: 오픈 후 일반 진입한 대기자
+        redisTemplate.opsForZSet().add(waitQueueKey, "USER-LATE", System.currentTimeMillis());
+
+        // When: 오픈 전 도착 시각의 티켓으로 진입
+        enterWithTicket();
+
+        // Then: 뒤쪽 대기자 순번이 밀렸으므로 Epoch 증가
+        assertThat(redisTemplate.opsForZSet().rank(waitQueueKey, "USER-LATE")).isEqualTo(1L);
+        assertThat(epoch()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("티켓 진입이 맨 뒤에 들어가면 Activation Epoch를 바꾸지 않는다")
+    void ticketEntryAtTailKeepsEpoch() {
+        // Given: 티켓 도착 시각보다 먼저 도착한 대기자
+        redisTemplate.opsForZSet().add(waitQueueKey, "USER-EARLY", ARRIVED_AT_MS - 1000);
+
+        // When
+        enterWithTicket();
+
+        // Then
+        assertThat(epoch()).isZero();
+    }
+
+    @Test
+    @DisplayName("로비 적재는 맨 뒤보다 앞에 넣거나 당긴 인원만큼 Activation Epoch를 증가시킨다")
+    void loadArrivalsBumpsEpochByInsertedAhead() {
+        // Given: 티켓으로 먼저 들어온 대기자 2명 (USER-A는 이후 더 이른 도착 시각으로 당겨짐)
+        redisTemplate.opsForZSet().add(waitQueueKey, "USER-A", ARRIVED_AT_MS + 2000);
+        redisTemplate.opsForZSet().add(waitQueueKey, "USER-B", ARRIVED_AT_MS + 1000);
+
+        // When: USER-A를 더 이른 시각으로, USER-C를 기존 맨 뒤보다 앞에, USER-D를 맨 뒤에 적재
+        redisTemplate.execute(loadArrivalsScript,
+                List.of(waitQueueKey, ticketsKey, epochKey,
+                        RedisKeyGenerator.activeTokenKey(CONCERT_ID, "USER-A"),
+                        RedisKeyGenerator.activeTokenKey(CONCERT_ID, "USER-C"),
+                        RedisKeyGenerator.activeTokenKey(CONCERT_ID, "USER-D")),
+                "USER-A", String.valueOf(ARRIVED_AT_MS),
+                "USER-C", String.valueOf(ARRIVED_AT_MS + 500),
+                "USER-D", String.valueOf(ARRIVED_AT_MS + 3000),
+                nowSeconds(), validUntilMs());
+
+        // Then: USER-A, USER-C 2명만 기존 대기자(USER-B) 앞에 들어감
+        assertThat(epoch()).isEqualTo(2L);
+    }
+
+    private Long loadArrivals(String userId, long arrivedAtMs) {
+        return redisTemplate.execute(loadArrivalsScript,
+                List.of(waitQueueKey, ticketsKey, epochKey, RedisKeyGenerator.activeTokenKey(CONCERT_ID, userId)),
+                userId, String.valueOf(arrivedAtMs), nowSeconds(), validUntilMs());
+    }
+
+    private long epoch() {
+        String value = redisTemplate.opsForValue().get(epochKey);
+        return value != null ? Long.parseLong(value) : 0L;
+    }
+
+    private long enterWithTicket() {
+        long now = System.currentTimeMillis();
+        redisTemplate.execute(enterQueueScript, List.of(tokenKey, waitQueueKey, ticketsKey, epochKey),
+                USER_ID, String.valueOf(ARRIVED_AT_MS), nowSeconds(), String.valueOf(now), validUntilMs());
+        return now;
+    }
+
+    private long scoreOf(String userId) {
+        return redisTemplate.opsForZSet().score(waitQueueKey, userId).longValue();
+    }
+
+    private static String nowSeconds() {
+        return String.valueOf(Instant.now().getEpochSecond());
+    }
+
+    private static String validUntilMs() {
+        return String.valueOf(Instant.now().plusSeconds(300).toEpochMilli());
+    }
+}
@@ -0,0 +1,105 @@
+package personal.ai.queue.adapter.out.redis;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import personal.ai.queue.application.config.QueueConfigProperties;
+import personal.ai.queue.application.port.out.QueueRepository.ReadPurpose;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("Redis 읽기 라우터 테스트")
+class RedisReadRouterTest {
+
+    private static final String CONCERT_ID = "CONCERT-001";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private RedisTemplate<String, String> masterTemplate;
+    private RedisTemplate<String, String> replicaTemplate;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        masterTemplate = mock(RedisTemplate.class);
+        replicaTemplate = mock(RedisTemplate.class);
+    }
+
+    @Test
+    @DisplayName("Replica가 있으면 표시용 조회는 Replica로, 입장 판정 조회는 Master로 보낸다")
+    void routesDisplayToReplicaAndAdmissionToMaster() {
+        // Given
+        var router = new RedisReadRouter(masterTemplate, replicaTemplate, null, meterRegistry);
+
+        // When & Then
+        assertThat(router.isReplicaReadEnabled()).isTrue();
+        assertThat(router.templateFor(ReadPurpose.DISPLAY, CONCERT_ID)).isSameAs(replicaTemplate);
+        assertThat(router.templateFor(ReadPurpose.ADMISSION, CONCERT_ID)).isSameAs(masterTemplate);
+        assertThat(reads(ReadPurpose.DISPLAY, "replica")).isEqualTo(1.0);
+        assertThat(reads(ReadPurpose.ADMISSION, "master")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Replica 읽기가 꺼져 있거나 Cluster 노드가 없으면 모든 조회를 Master로 보낸다")
+    void routesEverythingToMasterWithoutReplica() {
+        // Given: Replica 읽기 비활성 / 활성이지만 Cluster 노드 미설정
+        var disabled = new RedisReadRouter(masterTemplate, new RedisProperties(),
+                configProperties(false), meterRegistry);
+        var standalone = new RedisReadRouter(masterTemplate, new RedisProperties(),
+                configProperties(true), new SimpleMeterRegistry());
+
+        // When & Then
+        assertThat(disabled.isReplicaReadEnabled()).isFalse();
+        assertThat(standalone.isReplicaReadEnabled()).isFalse();
+        assertThat(disabled.templateFor(ReadPurpose.DISPLAY, CONCERT_ID)).isSameAs(masterTemplate);
+        assertThat(standalone.templateFor(ReadPurpose.DISPLAY, CONCERT_ID)).isSameAs(masterTemplate);
+        assertThat(disabled.templateFor(ReadPurpose.ADMISSION, CONCERT_ID)).isSameAs(masterTemplate);
+        assertThat(reads(ReadPurpose.DISPLAY, "master")).isEqualTo(1.0);
+        assertThat(reads(ReadPurpose.DISPLAY, "replica")).isZero();
+    }
+
+    @Test
+    @DisplayName("Replica로 읽은 콘서트의 Epoch 차이를 기록하고, 따라잡으면 지연 시간을 기록한다")
+    @SuppressWarnings("unchecked")
+    void probesReplicaStaleness() {
+        // Given: Replica로 조회된 콘서트, Master Epoch 5 / Replica Epoch 3
+        var router = new RedisReadRouter(masterTemplate, replicaTemplate, null, meterRegistry);
+        ValueOperations<String, String> masterValues = mock(ValueOperations.class);
+        ValueOperations<String, String> replicaValues = mock(ValueOperations.class);
+        given(masterTemplate.opsForValue()).willReturn(masterValues);
+        given(replicaTemplate.opsForValue()).willReturn(replicaValues);
+        String epochKey = RedisKeyGenerator.activationEpochKey(CONCERT_ID);
+        given(masterValues.get(epochKey)).willReturn("5");
+        given(replicaValues.get(epochKey)).willReturn("3", "5");
+        router.templateFor(ReadPurpose.DISPLAY, CONCERT_ID);
+
+        // When: 첫 측정
+        router.probeReplicaStaleness();
+
+        // Then: 뒤처진 인원 2
+        assertThat(meterRegistry.get("queue.redis.replica.epoch.lag").gauge().value()).isEqualTo(2.0);
+
+        // When: Replica가 따라잡은 뒤 측정
+        router.probeReplicaStaleness();
+
+        // Then
+        assertThat(meterRegistry.get("queue.redis.replica.epoch.lag").gauge().value()).isZero();
+        assertThat(meterRegistry.get("queue.redis.replica.catchup").timer().count()).isEqualTo(1L);
+    }
+
+    private double reads(ReadPurpose purpose, String target) {
+        return meterRegistry.get("queue.redis.reads")
+                .tags("purpose", purpose.name().toLowerCase(), "target", target)
+                .counter().count();
+    }
+
+    private static QueueConfigProperties configProperties(boolean replicaReadsEnabled) {
+        var readRouting = new QueueConfigProperties.ReadRouting(replicaReadsEnabled, 1000);
+        return new QueueConfigProperties(null, null, null, null, readRouting, null, null, null, null, null, null, null);
+    }
+}
@@ -0,0 +1,157 @@
+package personal.ai.queue.adapter.out.redis;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 결제 완료 배치 제거 Lua 스크립트 테스트 (remove_from_active_queue_batch.lua)
+ * 배치 제거, eventId 중복 제거(ZADD NX), 처리 기록 보관 기간 정리를 실제 Redis에서 검증 (Docker가 없으면 건너뜀)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("결제 완료 배치 제거 Lua 스크립트 테스트")
+class RedisRemovalBatchScriptTest {
+
+    private static final String CONCERT_ID = "CONCERT-001";
+    private static final long RETENTION_SECONDS = 3600;
+
+    @Container
+    private static final GenericContainer<?> REDIS =
+            new GenericContainer<>(DockerImageName.parse("redis:7.2-alpine")).withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private final RedisScript<Long> removeBatchScript =
+            RedisScript.of(new ClassPathResource("scripts/remove_from_active_queue_batch.lua"), Long.class);
+
+    private final String activeQueueKey = RedisKeyGenerator.activeQueueKey(CONCERT_ID);
+    private final String processedKey = RedisKeyGenerator.removedEventsKey(CONCERT_ID);
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getFirstMappedPort()));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void flush() {
+        redisTemplate.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+    }
+
+    @Test
+    @DisplayName("배치의 사용자를 Active Queue와 토큰에서 한 번에 제거하고 실제 제거 인원을 돌려준다")
+    void removesBatch() {
+        // Given: 활성 사용자 2명 (USER-3은 이미 없음)
+        activate("USER-1");
+        activate("USER-2");
+
+        // When
+        long removed = removeBatch(nowSeconds(), "EVENT-1", "USER-1", "EVENT-2", "USER-2", "EVENT-3", "USER-3");
+
+        // Then
+        assertThat(removed).isEqualTo(2L);
+        assertThat(redisTemplate.opsForZSet().zCard(activeQueueKey)).isZero();
+        assertThat(redisTemplate.hasKey(RedisKeyGenerator.activeTokenKey(CONCERT_ID, "USER-1"))).isFalse();
+        assertThat(redisTemplate.opsForZSet().size(processedKey)).isEqualTo(3L);
+        assertThat(redisTemplate.getExpire(processedKey)).isPositive();
+    }
+
+    @Test
+    @DisplayName("이미 처리한 eventId는 건너뛰므로 재전달된 이벤트가 재진입한 사용자를 다시 제거하지 않는다")
+    void skipsProcessedEventIds() {
+        // Given: EVENT-1로 제거된 뒤 재진입해 다시 활성화된 사용자
+        activate("USER-1");
+        removeBatch(nowSeconds(), "EVENT-1", "USER-1");
+        activate("USER-1");
+
+        // When: 같은 배치 안의 중복과 재전달
+        long removed = removeBatch(nowSeconds(), "EVENT-1", "USER-1", "EVENT-1", "USER-1");
+
+        // Then
+        assertThat(removed).isZero();
+        assertThat(redisTemplate.opsForZSet().score(activeQueueKey, "USER-1")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("eventId가 빈 문자열이면 중복 확인 없이 제거한다")
+    void removesWithoutEventId() {
+        // Given
+        activate("USER-1");
+
+        // When
+        long removed = removeBatch(nowSeconds(), "", "USER-1");
+
+        // Then: 처리 기록을 남기지 않음
+        assertThat(removed).isEqualTo(1L);
+        assertThat(redisTemplate.hasKey(processedKey)).isFalse();
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 처리 기록은 정리되어 같은 eventId가 다시 반영된다")
+    void trimsProcessedEventsPastRetention() {
+        // Given: 보관 기간보다 오래된 처리 기록과 최근 처리 기록
+        long now = Instant.now().getEpochSecond();
+        redisTemplate.opsForZSet().add(processedKey, "EVENT-OLD", now - RETENTION_SECONDS - 1);
+        redisTemplate.opsForZSet().add(processedKey, "EVENT-RECENT", now - 10);
+        activate("USER-1");
+        activate("USER-2");
+
+        // When
+        long removed = removeBatch(String.valueOf(now), "EVENT-OLD", "USER-1", "EVENT-RECENT", "USER-2");
+
+        // Then: 오래된 기록만 정리되어 다시 처리됨
+        assertThat(removed).isEqualTo(1L);
+        assertThat(redisTemplate.opsForZSet().score(processedKey, "EVENT-OLD")).isEqualTo((double) now);
+        assertThat(redisTemplate.opsForZSet().score(activeQueueKey, "USER-2")).isNotNull();
+    }
+
+    private long removeBatch(String currentTime, String... eventIdAndUserIds) {
+        List<String> keys = new ArrayList<>(List.of(activeQueueKey, processedKey));
+        List<String> args = new ArrayList<>(List.of(currentTime, String.valueOf(RETENTION_SECONDS)));
+        for (int i = 0; i < eventIdAndUserIds.length; i += 2) {
+            keys.add(RedisKeyGenerator.activeTokenKey(CONCERT_ID, eventIdAndUserIds[i + 1]));
+            args.add(eventIdAndUserIds[i]);
+            args.add(eventIdAndUserIds[i + 1]);
+        }
+        return redisTemplate.execute(removeBatchScript, keys, args.toArray());
+    }
+
+    private void activate(String userId) {
+        long expiredAt = Instant.now().plusSeconds(600).getEpochSecond();
+        redisTemplate.opsForZSet().add(activeQueueKey, userId, expiredAt);
+        redisTemplate.opsForHash().put(RedisKeyGenerator.activeTokenKey(CONCERT_ID, userId), "token", "TOKEN-" + userId);
+    }
+
+    private static String nowSeconds() {
+        return String.valueOf(Instant.now().getEpochSecond());
+    }
+}
@@ -0,0 +1,131 @@
+package personal.ai.queue.adapter.out.redis;
+
+import io.lettuce.core.RedisNoScriptException;
+import io.lettuce.core.resource.ClientResources;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisScriptingCommands;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@DisplayName("Lua 스크립트 레지스트리 테스트")
+class RedisScriptRegistryTest {
+
+    private static final List<String> KEYS = List.of("active:token:{CONCERT-001}:USER-1");
+
+    private final RedisScript<Long> extendTokenScript = RedisScript.of("return 1", Long.class);
+    private final RedisScript<Long> enterQueueScript = RedisScript.of("return 2", Long.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private RedisTemplate<String, String> redisTemplate;
+    private RedisScriptingCommands scriptingCommands;
+    private RedisScriptRegistry registry;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(RedisTemplate.class);
+        scriptingCommands = mock(RedisScriptingCommands.class);
+        RedisConnection connection = mock(RedisConnection.class);
+        given(connection.scriptingCommands()).willReturn(scriptingCommands);
+        given(redisTemplate.execute(any(RedisCallback.class)))
+                .willAnswer(invocation -> invocation.<RedisCallback<?>>getArgument(0).doInRedis(connection));
+
+        registry = new RedisScriptRegistry(redisTemplate,
+                Map.of("extendTokenScript", extendTokenScript, "enterQueueScript", enterQueueScript),
+                mock(ClientResources.class), mock(RedisCommandTracker.class), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("NOSCRIPT이면 해당 스크립트만 재적재한 뒤 EVALSHA를 1회 재시도한다")
+    void reloadsOnlyMissingScriptAndRetries() {
+        // Given: 첫 EVALSHA는 NOSCRIPT, 재적재 후에는 성공
+        given(scriptingCommands.evalSha(eq(extendTokenScript.getSha1()), any(ReturnType.class), anyInt(),
+                any(byte[][].class)))
+                .willThrow(new RedisNoScriptException("NOSCRIPT No matching script"))
+                .willReturn(1L);
+        given(scriptingCommands.scriptLoad(any(byte[].class))).willReturn(extendTokenScript.getSha1());
+
+        // When
+        Long result = registry.execute(extendTokenScript, KEYS, "600");
+
+        // Then: 결과 반환, NOSCRIPT 난 스크립트만 적재
+        assertThat(result).isEqualTo(1L);
+        then(scriptingCommands).should().scriptLoad(body(extendTokenScript));
+        then(scriptingCommands).should(never()).scriptLoad(body(enterQueueScript));
+        assertThat(meterRegistry.get("redis.script.noscript.retries")
+                .tag("script", "extend_token").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("redis.script.loads")
+                .tag("trigger", "noscript").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("같은 스크립트의 동시 NOSCRIPT는 한 스레드만 재적재하고 나머지는 결과를 기다린다")
+    void concurrentNoScriptLoadsOnce() throws InterruptedException {
+        // Given: 적재 전까지 EVALSHA는 NOSCRIPT, 적재는 release까지 대기
+        AtomicBoolean loaded = new AtomicBoolean();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(scriptingCommands.evalSha(eq(extendTokenScript.getSha1()), any(ReturnType.class), anyInt(),
+                any(byte[][].class)))
+                .willAnswer(invocation -> {
+                    if (!loaded.get()) {
+                        throw new RedisNoScriptException("NOSCRIPT No matching script");
+                    }
+                    return 1L;
+                });
+        given(scriptingCommands.scriptLoad(any(byte[].class))).willAnswer(invocation -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            loaded.set(true);
+            return extendTokenScript.getSha1();
+        });
+
+        // When: 첫 스레드가 적재 중일 때 두 번째 스레드도 NOSCRIPT를 받으면
+        AtomicReference<Long> leaderResult = new AtomicReference<>();
+        AtomicReference<Long> followerResult = new AtomicReference<>();
+        Thread leader = Thread.ofPlatform()
+                .start(() -> leaderResult.set(registry.execute(extendTokenScript, KEYS, "600")));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        Thread follower = Thread.ofPlatform()
+                .start(() -> followerResult.set(registry.execute(extendTokenScript, KEYS, "600")));
+        await().atMost(Duration.ofSeconds(5)).until(() -> follower.getState() == Thread.State.WAITING);
+        release.countDown();
+        leader.join(5_000);
+        follower.join(5_000);
+
+        // Then: 적재는 1회, 두 스레드 모두 재시도로 결과를 받음
+        then(scriptingCommands).should(times(1)).scriptLoad(any(byte[].class));
+        assertThat(leaderResult.get()).isEqualTo(1L);
+        assertThat(followerResult.get()).isEqualTo(1L);
+    }
+
+    private static byte[] body(RedisScript<?> script) {
+        return script.getScriptAsString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,132 @@
+package personal.ai.queue.adapter.out.redis;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+import personal.ai.queue.application.config.QueueConfigProperties;
+import personal.ai.queue.domain.model.QueueToken;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Active Token 로컬 캐시 테스트 (RESP3 CLIENT TRACKING)
+ * 다른 연결의 쓰기로 서버가 보낸 무효화 메시지에 캐시 항목이 제거되는지 실제 Redis에서 검증 (Docker가 없으면 건너뜀)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Active Token 로컬 캐시 테스트")
+class RedisTokenTrackingCacheTest {
+
+    private static final String CONCERT_ID = "CONCERT-001";
+    private static final String USER_ID = "USER-001";
+
+    @Container
+    private static final GenericContainer<?> REDIS =
+            new GenericContainer<>(DockerImageName.parse("redis:7.2-alpine")).withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final String tokenKey = RedisKeyGenerator.activeTokenKey(CONCERT_ID, USER_ID);
+    private final AtomicInteger loads = new AtomicInteger();
+    private RedisTokenTrackingCache cache;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getFirstMappedPort()));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+
+        RedisProperties redisProperties = new RedisProperties();
+        redisProperties.setHost(REDIS.getHost());
+        redisProperties.setPort(REDIS.getFirstMappedPort());
+        var tokenCache = new QueueConfigProperties.TokenCache(true, 1000, 60_000, 5000);
+        cache = new RedisTokenTrackingCache(redisProperties,
+                new QueueConfigProperties(null, null, null, null, null, tokenCache, null, null, null, null, null, null),
+                meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        cache.shutdown();
+    }
+
+    @Test
+    @DisplayName("캐시된 토큰은 다시 조회하지 않고, 다른 연결이 키를 바꾸면 무효화되어 다시 조회한다")
+    void invalidatesOnServerMessage() {
+        // Given: 캐시된 토큰
+        redisTemplate.opsForHash().put(tokenKey, "token", "TOKEN-1");
+        assertThat(cache.get(tokenKey, loader())).isPresent();
+        assertThat(cache.get(tokenKey, loader())).isPresent();
+        assertThat(loads.get()).isEqualTo(1);
+
+        // When: 다른 연결(다른 인스턴스)이 토큰 해시 변경
+        redisTemplate.opsForHash().put(tokenKey, "status", "ACTIVE");
+
+        // Then: 무효화 메시지 수신 후 캐시 항목 제거 → 다음 조회는 저장소 조회
+        await().atMost(Duration.ofSeconds(5))
+                .until(() -> cache.getIfPresent(tokenKey).isEmpty());
+        cache.get(tokenKey, loader());
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(meterRegistry.get("queue.token.cache.invalidations").counter().count()).isPositive();
+    }
+
+    @Test
+    @DisplayName("추적 대상이 아닌 키가 바뀌어도 캐시 항목은 유지된다")
+    void ignoresUntrackedKeys() {
+        // Given
+        redisTemplate.opsForHash().put(tokenKey, "token", "TOKEN-1");
+        cache.get(tokenKey, loader());
+
+        // When: 다른 Prefix의 키 변경 후, 추적 대상 키 변경으로 메시지 도착 시점 확인
+        redisTemplate.opsForValue().set(RedisKeyGenerator.activationEpochKey(CONCERT_ID), "1");
+        String otherTokenKey = RedisKeyGenerator.activeTokenKey(CONCERT_ID, "USER-002");
+        redisTemplate.opsForHash().put(otherTokenKey, "token", "TOKEN-2");
+        await().atMost(Duration.ofSeconds(5))
+                .until(() -> meterRegistry.get("queue.token.cache.invalidations").counter().count() > 0);
+
+        // Then
+        assertThat(cache.getIfPresent(tokenKey)).isPresent();
+    }
+
+    private Supplier<Optional<QueueToken>> loader() {
+        return () -> {
+            loads.incrementAndGet();
+            return Optional.of(QueueToken.active(CONCERT_ID, USER_ID, "TOKEN-1", Instant.now().plusSeconds(600), 0));
+        };
+    }
+}
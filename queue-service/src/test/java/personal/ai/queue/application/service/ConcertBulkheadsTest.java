@@ -0,0 +1,102 @@
+package personal.ai.queue.application.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import personal.ai.queue.application.config.QueueConfigProperties;
+import personal.ai.queue.application.service.ConcertBulkheads.Lane;
+import personal.ai.queue.domain.exception.QueueConcertBusyException;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("콘서트별 Bulkhead 테스트")
+class ConcertBulkheadsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ConcertBulkheads bulkheads = new ConcertBulkheads(
+            new QueueConfigProperties.Bulkhead(true, 1, 2, 2, 10, 600_000, Map.of("HOT", 2)),
+            meterRegistry);
+
+    @Test
+    @DisplayName("한 콘서트의 허가가 모두 사용 중이어도 다른 콘서트는 영향받지 않는다")
+    void saturationIsIsolatedPerConcert() {
+        // Given: HOT 콘서트의 폴링 허가 소진 (기본 2 × 가중치 2)
+        for (int i = 0; i < 4; i++) {
+            assertThat(bulkheads.tryAcquire("HOT", Lane.POLLING)).isTrue();
+        }
+
+        // When & Then
+        assertThat(bulkheads.tryAcquire("HOT", Lane.POLLING)).isFalse();
+        assertThat(bulkheads.tryAcquire("COLD", Lane.POLLING)).isTrue();
+        assertThat(meterRegistry.get("queue.bulkhead.saturation")
+                .tags("concert_id", "HOT", "lane", "polling").gauge().value()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("queue.bulkhead.rejected")
+                .tags("concert_id", "HOT", "lane", "polling").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("진입 허가를 제한 시간 안에 얻지 못하면 503 예외를 던지고, 허가가 반납되면 다시 진입할 수 있다")
+    void entryRejectsWhenSaturated() {
+        // Given: COLD 콘서트의 진입 허가 1개 사용 중
+        assertThat(bulkheads.tryAcquire("COLD", Lane.ENTRY)).isTrue();
+
+        // When & Then
+        assertThatThrownBy(() -> bulkheads.call("COLD", Lane.ENTRY, () -> "entered"))
+                .isInstanceOf(QueueConcertBusyException.class);
+
+        bulkheads.release("COLD", Lane.ENTRY);
+        assertThat(bulkheads.call("COLD", Lane.ENTRY, () -> "entered")).isEqualTo("entered");
+    }
+
+    @Test
+    @DisplayName("같은 콘서트의 같은 종류 스케줄러 작업은 허가가 남아 있어도 중복 실행하지 않는다")
+    void skipsSameJobStillInFlight() throws InterruptedException {
+        // Given: 스케줄러 허가 2개, move 작업이 끝나지 않은 상태
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch cleaned = new CountDownLatch(1);
+        assertThat(bulkheads.dispatch("COLD", Lane.SCHEDULER, "move", () -> awaitQuietly(release))).isTrue();
+
+        // When & Then: 두 번째 move는 건너뛰고, cleanup은 남은 허가로 실행
+        assertThat(bulkheads.dispatch("COLD", Lane.SCHEDULER, "move", () -> { })).isFalse();
+        assertThat(bulkheads.dispatch("COLD", Lane.SCHEDULER, "cleanup", cleaned::countDown)).isTrue();
+        assertThat(cleaned.await(5, TimeUnit.SECONDS)).isTrue();
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("사용하지 않는 콘서트의 Bulkhead는 메트릭과 함께 제거되고, 허가를 쥔 콘서트는 남는다")
+    void evictsIdleBulkheadsWithMeters() {
+        // Given: 즉시 정리 대상이 되는 설정, RANDOM은 반납 완료, BUSY는 허가 사용 중
+        ConcertBulkheads evicting = new ConcertBulkheads(
+                new QueueConfigProperties.Bulkhead(true, 1, 1, 2, 10, 0, Map.of()), meterRegistry);
+        assertThat(evicting.tryAcquire("RANDOM", Lane.POLLING)).isTrue();
+        evicting.release("RANDOM", Lane.POLLING);
+        assertThat(evicting.tryAcquire("BUSY", Lane.POLLING)).isTrue();
+
+        // When
+        int evicted = evicting.evictIdle();
+
+        // Then
+        assertThat(evicted).isEqualTo(1);
+        assertThat(meterRegistry.find("queue.bulkhead.in_use").tag("concert_id", "RANDOM").meters()).isEmpty();
+        assertThat(meterRegistry.find("queue.bulkhead.in_use").tag("concert_id", "BUSY").meters()).isNotEmpty();
+
+        // 사용 중이던 허가는 같은 Bulkhead에 반납되어 다시 쓸 수 있음
+        evicting.release("BUSY", Lane.POLLING);
+        assertThat(evicting.tryAcquire("BUSY", Lane.POLLING)).isTrue();
+        assertThat(evicting.tryAcquire("BUSY", Lane.POLLING)).isFalse();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
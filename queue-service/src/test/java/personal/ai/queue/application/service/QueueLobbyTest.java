@@ -0,0 +1,149 @@
+package personal.ai.queue.application.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import personal.ai.queue.application.config.QueueConfigProperties;
+import personal.ai.queue.domain.model.ArrivalTicket;
+import personal.ai.queue.domain.model.QueueStatus;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("오픈 전 로비 테스트")
+class QueueLobbyTest {
+
+    private static final String CONCERT_ID = "CONCERT-001";
+    private static final String OTHER_CONCERT_ID = "CONCERT-002";
+    private static final String SECRET = "test-lobby-secret-0123456789abcdef";
+    private static final Instant OPEN_AT = Instant.parse("2026-03-01T11:00:00Z");
+    private static final long GRACE_SECONDS = 300;
+
+    private static QueueLobby lobbyAt(Instant now) {
+        return new QueueLobby(lobbyWithSecret(SECRET), Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    private static QueueConfigProperties.Lobby lobbyWithSecret(String secret) {
+        return new QueueConfigProperties.Lobby(true, secret,
+                Map.of(CONCERT_ID, OPEN_AT, OTHER_CONCERT_ID, OPEN_AT), 1000, 200, GRACE_SECONDS);
+    }
+
+    @Test
+    @DisplayName("로비를 켜면서 서명 키가 기본값이거나 32바이트 미만이면 기동에 실패한다")
+    void rejectsWeakSecretWhenEnabled() {
+        // Given
+        Clock clock = Clock.fixed(OPEN_AT, ZoneOffset.UTC);
+
+        // When & Then
+        assertThatThrownBy(() -> new QueueLobby(lobbyWithSecret(QueueLobby.PLACEHOLDER_SECRET), clock))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new QueueLobby(lobbyWithSecret("short-secret"), clock))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(QueueLobby.disabled()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("오픈 전 진입은 저장소 대신 로비에 기록되고 도착 티켓을 받는다")
+    void enterBeforeOpenIssuesTicket() {
+        // Given: 오픈 10분 전
+        QueueLobby lobby = lobbyAt(OPEN_AT.minusSeconds(600));
+
+        // When
+        var position = lobby.tryEnter(CONCERT_ID, "USER-1", null);
+
+        // Then
+        assertThat(position).hasValueSatisfying(p -> {
+            assertThat(p.status()).isEqualTo(QueueStatus.LOBBY.name());
+            assertThat(p.estimatedWaitMinutes()).isEqualTo(10);
+            assertThat(lobby.verifiedArrival(CONCERT_ID, "USER-1", p.token()))
+                    .isEqualTo(OPEN_AT.minusSeconds(600));
+        });
+        assertThat(lobbyAt(OPEN_AT).tryEnter(CONCERT_ID, "USER-1", null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스의 티켓으로 재진입하면 더 이른 도착 시각을 유지하고, 도착 순서대로 꺼낸다")
+    void drainKeepsArrivalOrder() {
+        // Given: 다른 인스턴스에서 더 일찍 받은 USER-2의 티켓
+        String earlierTicket = lobbyAt(OPEN_AT.minusSeconds(900))
+                .tryEnter(CONCERT_ID, "USER-2", null).orElseThrow().token();
+        QueueLobby lobby = lobbyAt(OPEN_AT.minusSeconds(60));
+
+        // When
+        lobby.tryEnter(CONCERT_ID, "USER-1", null);
+        lobby.tryEnter(CONCERT_ID, "USER-2", earlierTicket);
+
+        // Then
+        assertThat(lobby.drain(CONCERT_ID))
+                .extracting(ArrivalTicket::userId)
+                .containsExactly("USER-2", "USER-1");
+    }
+
+    @Test
+    @DisplayName("변조되었거나 다른 사용자의 티켓은 인정하지 않는다")
+    void rejectsForeignOrTamperedTicket() {
+        // Given
+        QueueLobby lobby = lobbyAt(OPEN_AT.minusSeconds(60));
+        String ticket = lobby.tryEnter(CONCERT_ID, "USER-1", null).orElseThrow().token();
+
+        // When & Then
+        assertThat(lobby.verifiedArrival(CONCERT_ID, "USER-2", ticket)).isNull();
+        assertThat(lobby.verifiedArrival(CONCERT_ID, "USER-1", ticket.substring(0, ticket.length() - 2) + "AA"))
+                .isNull();
+    }
+
+    @Test
+    @DisplayName("오픈 후에도 인정 기간 안에서는 티켓의 도착 시각을 인정한다")
+    void acceptsTicketWithinGracePeriod() {
+        // Given: 오픈 1분 전에 받은 티켓
+        String ticket = lobbyAt(OPEN_AT.minusSeconds(60)).tryEnter(CONCERT_ID, "USER-1", null).orElseThrow().token();
+
+        // When & Then: 오픈 5분 후 (인정 기간 마지막 시각)
+        QueueLobby lobby = lobbyAt(OPEN_AT.plusSeconds(GRACE_SECONDS));
+        assertThat(lobby.verifiedArrival(CONCERT_ID, "USER-1", ticket)).isEqualTo(OPEN_AT.minusSeconds(60));
+        assertThat(lobby.ticketValidUntil(CONCERT_ID)).isEqualTo(OPEN_AT.plusSeconds(GRACE_SECONDS));
+    }
+
+    @Test
+    @DisplayName("인정 기간이 지난 뒤 제시한 티켓은 인정하지 않는다")
+    void rejectsTicketReplayedAfterGracePeriod() {
+        // Given
+        String ticket = lobbyAt(OPEN_AT.minusSeconds(60)).tryEnter(CONCERT_ID, "USER-1", null).orElseThrow().token();
+
+        // When & Then: 인정 기간 1초 경과
+        assertThat(lobbyAt(OPEN_AT.plusSeconds(GRACE_SECONDS + 1)).verifiedArrival(CONCERT_ID, "USER-1", ticket))
+                .isNull();
+    }
+
+    @Test
+    @DisplayName("도착 시각이 오픈 시각 이후인 티켓은 서명이 유효해도 인정하지 않는다")
+    void rejectsTicketArrivedAfterOpen() {
+        // Given: 같은 서명 키로 만든, 오픈 후 도착 시각의 티켓
+        String lateTicket = new ArrivalTicketSigner(SECRET)
+                .sign(new ArrivalTicket(CONCERT_ID, "USER-1", OPEN_AT.plusSeconds(10)));
+
+        // When & Then
+        assertThat(lobbyAt(OPEN_AT.plusSeconds(30)).verifiedArrival(CONCERT_ID, "USER-1", lateTicket)).isNull();
+    }
+
+    @Test
+    @DisplayName("다른 콘서트에서 받은 티켓은 인정하지 않는다")
+    void rejectsTicketForAnotherConcert() {
+        // Given: CONCERT-001 로비에서 오픈 15분 전에 받은 티켓
+        String ticket = lobbyAt(OPEN_AT.minusSeconds(900)).tryEnter(CONCERT_ID, "USER-1", null).orElseThrow().token();
+        QueueLobby lobby = lobbyAt(OPEN_AT.minusSeconds(60));
+
+        // When: CONCERT-002 로비에 제시
+        lobby.tryEnter(OTHER_CONCERT_ID, "USER-1", ticket);
+
+        // Then: 도착 시각을 옮겨 오지 않고 지금(오픈 1분 전) 도착으로 기록, 오픈 후 진입에도 인정하지 않음
+        assertThat(lobby.drain(OTHER_CONCERT_ID))
+                .extracting(ArrivalTicket::arrivedAt)
+                .containsExactly(OPEN_AT.minusSeconds(60));
+        assertThat(lobbyAt(OPEN_AT.plusSeconds(30)).verifiedArrival(OTHER_CONCERT_ID, "USER-1", ticket)).isNull();
+    }
+}
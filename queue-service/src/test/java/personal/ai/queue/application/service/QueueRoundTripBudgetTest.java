@@ -0,0 +1,228 @@
+package personal.ai.queue.application.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import personal.ai.queue.adapter.out.redis.RedisLuaScriptExecutor;
+import personal.ai.queue.adapter.out.redis.RedisQueueSnapshotReader;
+import personal.ai.queue.adapter.out.redis.RedisReadRouter;
+import personal.ai.queue.adapter.out.redis.RedisTokenConverter;
+import personal.ai.queue.adapter.out.redis.RedisTokenTrackingCache;
+import personal.ai.queue.application.config.QueueConfigProperties;
+import personal.ai.queue.application.port.in.ActivateTokenUseCase.ActivateTokenCommand;
+import personal.ai.queue.application.port.in.EnterQueueUseCase.EnterQueueCommand;
+import personal.ai.queue.application.port.in.ExtendTokenUseCase.ExtendTokenCommand;
+import personal.ai.queue.application.port.in.GetQueueStatusUseCase.GetQueueStatusQuery;
+import personal.ai.queue.application.port.in.RemoveFromQueueUseCase.RemoveFromQueueCommand;
+import personal.ai.queue.application.port.in.ValidateTokenUseCase.ValidateTokenQuery;
+import personal.ai.queue.application.port.out.QueueRepository;
+import personal.ai.queue.application.port.out.QueueRepository.ActivationBatch;
+import personal.ai.queue.application.port.out.QueueRepository.ActiveRemoval;
+import personal.ai.queue.application.port.out.QueueRepository.QueueEntrySnapshot;
+import personal.ai.queue.application.port.out.QueueRepository.ReadPurpose;
+import personal.ai.queue.application.port.out.QueueRepository.TokenTransition;
+import personal.ai.queue.application.port.out.QueueRepository.TransitionOutcome;
+import personal.ai.queue.domain.model.QueueConfig;
+import personal.ai.queue.domain.model.QueueToken;
+import personal.ai.queue.domain.service.QueueDomainService;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.never;
+
+/**
+ * Redis 왕복 예산 테스트
+ * 저장소 포트 메서드 1회 = Redis 왕복 최대 1회이므로,
+ * 요청 경로의 유스케이스가 포트를 최대 1회만 호출하는지 검증
+ */
+@DisplayName("대기열 유스케이스 Redis 왕복 예산 테스트")
+class QueueRoundTripBudgetTest {
+
+    private static final int ROUND_TRIP_BUDGET = 1;
+    private static final String CONCERT_ID = "CONCERT-001";
+    private static final String USER_ID = "USER-001";
+    private static final String TOKEN = "TOKEN-001";
+
+    private QueueRepository queueRepository;
+    private QueueDomainService domainService;
+    private QueueConfig queueConfig;
+
+    @BeforeEach
+    void setUp() {
+        queueRepository = mock(QueueRepository.class);
+        queueConfig = QueueConfig.defaultConfig();
+        domainService = new QueueDomainService(queueConfig);
+    }
+
+    @Test
+    @DisplayName("대기열 진입과 제거는 왕복 1회로 처리한다")
+    void enterAndRemoveWithinBudget() {
+        // Given: 진입/제거 서비스
+        var enterService = new EnterQueueService(queueRepository, QueueLobby.disabled(), ConcertBulkheads.unbounded());
+        var removalService = new QueueRemovalService(queueRepository, new SimpleMeterRegistry());
+
+        // When & Then: 진입
+        enterService.enter(new EnterQueueCommand(CONCERT_ID, USER_ID));
+        assertRoundTripsAndReset();
+
+        // When & Then: 제거
+        removalService.removeFromQueue(new RemoveFromQueueCommand(CONCERT_ID, USER_ID));
+        assertRoundTripsAndReset();
+    }
+
+    @Test
+    @DisplayName("결제 완료 배치 제거는 콘서트당 왕복 1회로 처리한다")
+    void batchRemovalWithinBudgetPerConcert() {
+        // Given: 같은 콘서트 3건 (1건은 같은 이벤트 재전달)
+        var removalService = new QueueRemovalService(queueRepository, new SimpleMeterRegistry());
+        var commands = List.of(
+                new RemoveFromQueueCommand(CONCERT_ID, USER_ID, "EVENT-1"),
+                new RemoveFromQueueCommand(CONCERT_ID, "USER-002", "EVENT-2"),
+                new RemoveFromQueueCommand(CONCERT_ID, USER_ID, "EVENT-1"));
+
+        // When
+        removalService.removeAllFromQueue(commands);
+
+        // Then: 중복 이벤트는 저장소에 전달하지 않음
+        then(queueRepository).should().removeFromActiveQueueBatch(CONCERT_ID, List.of(
+                new ActiveRemoval("EVENT-1", USER_ID),
+                new ActiveRemoval("EVENT-2", "USER-002")));
+        assertRoundTripsAndReset();
+    }
+
+    @Test
+    @DisplayName("상태 조회는 Active Token과 대기 순번을 왕복 1회로 조회한다")
+    void statusQueriesWithinBudget() {
+        // Given: 대기 중인 사용자
+        var queryService = new QueueStatusQueryService(queueRepository, configProperties());
+        given(queueRepository.getQueueEntrySnapshot(CONCERT_ID, USER_ID, ReadPurpose.DISPLAY))
+                .willReturn(new QueueEntrySnapshot(null, 9L));
+        given(queueRepository.getQueueEntrySnapshots(eq(CONCERT_ID), anyList()))
+                .willReturn(List.of(new QueueEntrySnapshot(null, 9L), new QueueEntrySnapshot(null, 10L)));
+        clearInvocations(queueRepository);
+
+        // When & Then: 단건 상태 조회
+        var status = queryService.getStatus(new GetQueueStatusQuery(CONCERT_ID, USER_ID));
+        assertThat(status.position()).isEqualTo(10L);
+        assertRoundTripsAndReset();
+
+        // When & Then: 다건 상태 조회 (SSE 배치)
+        queryService.getStatuses(CONCERT_ID, List.of(USER_ID, "USER-002"));
+        assertRoundTripsAndReset();
+
+        // When & Then: 상태 버전 조회 (ETag)
+        queryService.getStatusVersion(CONCERT_ID);
+        assertRoundTripsAndReset();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("표시용 단건 상태 조회는 Replica 템플릿에서 왕복 1회로 조회하고, 입장 판정 조회만 Master 스크립트를 사용한다")
+    void displayStatusReadsGoToReplica() {
+        // Given: Replica 읽기가 켜진 라우터
+        RedisTemplate<String, String> masterTemplate = mock(RedisTemplate.class);
+        RedisTemplate<String, String> replicaTemplate = mock(RedisTemplate.class);
+        var readRouter = mock(RedisReadRouter.class);
+        var scriptExecutor = mock(RedisLuaScriptExecutor.class);
+        var tokenConverter = mock(RedisTokenConverter.class);
+        given(readRouter.isReplicaReadEnabled()).willReturn(true);
+        given(readRouter.templateFor(ReadPurpose.DISPLAY, CONCERT_ID)).willReturn(replicaTemplate);
+        given(readRouter.templateFor(ReadPurpose.ADMISSION, CONCERT_ID)).willReturn(masterTemplate);
+        given(replicaTemplate.execute(any(RedisCallback.class))).willReturn(List.of(new QueueEntrySnapshot(null, 9L)));
+        given(scriptExecutor.executeGetQueueStatus(eq(masterTemplate), any(), any(), eq(USER_ID))).willReturn("{}");
+        given(tokenConverter.parseQueueEntrySnapshot("{}", CONCERT_ID, USER_ID))
+                .willReturn(new QueueEntrySnapshot(null, null));
+        var reader = new RedisQueueSnapshotReader(readRouter, tokenConverter, scriptExecutor,
+                mock(RedisTokenTrackingCache.class), configProperties());
+
+        // When & Then: DISPLAY → Replica에서 읽기 명령 1회, EVALSHA 없음 (Master 미사용)
+        var snapshot = reader.readSnapshot(CONCERT_ID, USER_ID, ReadPurpose.DISPLAY);
+        assertThat(snapshot.waitQueuePosition()).isEqualTo(9L);
+        assertThat(roundTrips(replicaTemplate)).isEqualTo(ROUND_TRIP_BUDGET);
+        assertThat(roundTrips(masterTemplate)).isZero();
+        then(scriptExecutor).should(never()).executeGetQueueStatus(any(), any(), any(), any());
+
+        // When & Then: ADMISSION → Master 템플릿으로 스크립트 1회
+        clearInvocations(replicaTemplate);
+        reader.readSnapshot(CONCERT_ID, USER_ID, ReadPurpose.ADMISSION);
+        then(scriptExecutor).should().executeGetQueueStatus(eq(masterTemplate), any(), any(), eq(USER_ID));
+        assertThat(roundTrips(replicaTemplate)).isZero();
+    }
+
+    @Test
+    @DisplayName("토큰 검증, 활성화, 연장은 각각 왕복 1회로 처리한다")
+    void tokenOperationsWithinBudget() {
+        // Given: ACTIVE 상태의 토큰
+        var activeToken = QueueToken.active(CONCERT_ID, USER_ID, TOKEN, Instant.now().plusSeconds(600), 0);
+        given(queueRepository.getActiveToken(CONCERT_ID, USER_ID)).willReturn(Optional.of(activeToken));
+        given(queueRepository.activateTokenAtomic(eq(CONCERT_ID), eq(USER_ID), any()))
+                .willReturn(Optional.of(new TokenTransition(TransitionOutcome.APPLIED, activeToken)));
+        given(queueRepository.extendTokenAtomic(eq(CONCERT_ID), eq(USER_ID), any(), anyInt()))
+                .willReturn(Optional.of(new TokenTransition(TransitionOutcome.APPLIED,
+                        activeToken.withExtension(Instant.now().plusSeconds(600), 1))));
+        clearInvocations(queueRepository);
+
+        // When & Then: 검증
+        new TokenValidationService(queueRepository).validate(new ValidateTokenQuery(CONCERT_ID, USER_ID, TOKEN));
+        assertRoundTripsAndReset();
+
+        // When & Then: 활성화
+        new TokenActivationService(queueRepository, domainService)
+                .activate(new ActivateTokenCommand(CONCERT_ID, USER_ID));
+        assertRoundTripsAndReset();
+
+        // When & Then: 연장
+        var extended = new TokenExtensionService(queueRepository, domainService, queueConfig)
+                .extend(new ExtendTokenCommand(CONCERT_ID, USER_ID));
+        assertThat(extended.extendCount()).isEqualTo(1);
+        assertRoundTripsAndReset();
+    }
+
+    @Test
+    @DisplayName("스케줄러는 콘서트당 전환과 정리를 각각 왕복 1회로 처리한다")
+    void schedulerWithinBudgetPerConcert() {
+        // Given: 전환 결과
+        var schedulerService = new QueueSchedulerService(
+                queueRepository, domainService, queueConfig, new SimpleMeterRegistry());
+        given(queueRepository.moveToActiveQueueAtomic(eq(CONCERT_ID), anyInt(), any()))
+                .willReturn(new ActivationBatch(List.of(USER_ID), 1L, 0L));
+        clearInvocations(queueRepository);
+
+        // When & Then: Wait → Active 전환
+        assertThat(schedulerService.moveWaitingToActive(CONCERT_ID)).isEqualTo(1);
+        assertRoundTripsAndReset();
+
+        // When & Then: 만료 토큰 정리
+        schedulerService.cleanupExpired(CONCERT_ID);
+        assertRoundTripsAndReset();
+    }
+
+    private void assertRoundTripsAndReset() {
+        assertThat(roundTrips(queueRepository)).isLessThanOrEqualTo(ROUND_TRIP_BUDGET);
+        clearInvocations(queueRepository);
+    }
+
+    private static int roundTrips(Object mock) {
+        return mockingDetails(mock).getInvocations().size();
+    }
+
+    private static QueueConfigProperties configProperties() {
+        var polling = new QueueConfigProperties.Polling(1000, 5000, 100, 500, 10, 1.0, 4, 0, 100, 512, 500);
+        return new QueueConfigProperties(null, null, polling, null, null, null, null, null, null, null, null, null);
+    }
+}
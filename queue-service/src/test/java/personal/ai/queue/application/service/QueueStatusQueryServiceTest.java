@@ -0,0 +1,76 @@
+package personal.ai.queue.application.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import personal.ai.queue.application.config.QueueConfigProperties;
+import personal.ai.queue.application.port.out.QueueRepository;
+import personal.ai.queue.application.port.out.QueueRepository.ReadPurpose;
+
+import java.time.Clock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+
+@DisplayName("대기열 상태 조회 서비스 테스트")
+class QueueStatusQueryServiceTest {
+
+    private static final long EPOCH_CACHE_MS = 500;
+    private static final String CONCERT_ID = "CONCERT-001";
+
+    private QueueRepository queueRepository;
+    private Clock clock;
+    private QueueStatusQueryService queryService;
+
+    @BeforeEach
+    void setUp() {
+        queueRepository = mock(QueueRepository.class);
+        clock = mock(Clock.class);
+        queryService = new QueueStatusQueryService(queueRepository, configProperties(), clock);
+        given(queueRepository.getActivationEpoch(anyString(), eq(ReadPurpose.DISPLAY))).willReturn(7L);
+    }
+
+    @Test
+    @DisplayName("유효 시간 안의 Epoch 조회는 저장소 조회 1회를 공유한다")
+    void sharesEpochWithinCacheWindow() {
+        // Given
+        given(clock.millis()).willReturn(1_000L, 1_100L, 1_600L);
+
+        // When: 유효 시간 안 2회, 지난 뒤 1회
+        queryService.getStatusVersion(CONCERT_ID);
+        queryService.getStatusVersion(CONCERT_ID);
+        queryService.getStatusVersion(CONCERT_ID);
+
+        // Then
+        then(queueRepository).should(times(2)).getActivationEpoch(CONCERT_ID, ReadPurpose.DISPLAY);
+    }
+
+    @Test
+    @DisplayName("유효 시간이 지난 콘서트의 Epoch 캐시 항목은 제거된다")
+    void evictsExpiredEpochs() {
+        // Given: 서로 다른 콘서트 3개의 Epoch 캐시
+        given(clock.millis()).willReturn(1_000L);
+        queryService.getStatusVersion("CONCERT-A");
+        queryService.getStatusVersion("CONCERT-B");
+        queryService.getStatusVersion("CONCERT-C");
+        assertThat(queryService.cachedEpochCount()).isEqualTo(3);
+
+        // When: 유효 시간이 지난 뒤 다른 콘서트를 조회하면
+        given(clock.millis()).willReturn(1_000L + EPOCH_CACHE_MS);
+        queryService.getStatusVersion(CONCERT_ID);
+
+        // Then: 이전 항목은 제거되고 새 항목만 남음
+        assertThat(queryService.cachedEpochCount()).isEqualTo(1);
+    }
+
+    private static QueueConfigProperties configProperties() {
+        var polling = new QueueConfigProperties.Polling(1000, 5000, 100, 500, 10, 1.0, 4,
+                EPOCH_CACHE_MS, 100, 512, 500);
+        return new QueueConfigProperties(null, null, polling, null, null, null, null, null, null, null, null, null);
+    }
+}
@@ -0,0 +1,110 @@
+package personal.ai.queue.application.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import personal.ai.queue.application.config.QueueConfigProperties;
+import personal.ai.queue.application.port.in.ExtendTokenUseCase.ExtendTokenCommand;
+import personal.ai.queue.application.port.in.GetQueueStatusUseCase.GetQueueStatusQuery;
+import personal.ai.queue.application.port.in.ValidateTokenUseCase.ValidateTokenQuery;
+import personal.ai.queue.application.port.out.QueueRepository;
+import personal.ai.queue.application.port.out.QueueRepository.QueueEntrySnapshot;
+import personal.ai.queue.application.port.out.QueueRepository.ReadPurpose;
+import personal.ai.queue.application.port.out.QueueRepository.TokenTransition;
+import personal.ai.queue.application.port.out.QueueRepository.TransitionOutcome;
+import personal.ai.queue.domain.exception.QueueTokenExpiredException;
+import personal.ai.queue.domain.model.QueueConfig;
+import personal.ai.queue.domain.model.QueueStatus;
+import personal.ai.queue.domain.model.QueueToken;
+import personal.ai.queue.domain.service.QueueDomainService;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 토큰 만료 판정 시계 테스트
+ * 만료 판정이 시스템 시계가 아닌 주입한 Clock 기준인지 검증 (시뮬레이터 가상 시계 등)
+ */
+@DisplayName("토큰 만료 판정 시계 테스트")
+class TokenExpiryClockTest {
+
+    private static final String CONCERT_ID = "CONCERT-001";
+    private static final String USER_ID = "USER-001";
+    private static final String TOKEN = "TOKEN-001";
+    // 실제 시각보다 과거인 가상 시계 기준
+    private static final Instant VIRTUAL_NOW = Instant.parse("2020-01-01T00:00:00Z");
+
+    private QueueRepository queueRepository;
+    private QueueConfig queueConfig;
+
+    @BeforeEach
+    void setUp() {
+        queueRepository = mock(QueueRepository.class);
+        queueConfig = QueueConfig.defaultConfig();
+    }
+
+    @Test
+    @DisplayName("주입한 시계 기준으로 만료 전이면 실제 시각이 지났어도 유효하다")
+    void validUntilInjectedClockPassesExpiry() {
+        // Given: 가상 시계 기준 10분 뒤 만료 (실제 시각 기준으로는 이미 만료)
+        var token = QueueToken.active(CONCERT_ID, USER_ID, TOKEN, VIRTUAL_NOW.plusSeconds(600), 0);
+        given(queueRepository.getActiveToken(CONCERT_ID, USER_ID)).willReturn(Optional.of(token));
+        given(queueRepository.getQueueEntrySnapshot(CONCERT_ID, USER_ID, ReadPurpose.DISPLAY))
+                .willReturn(new QueueEntrySnapshot(token, null));
+
+        // When & Then: 검증 통과
+        assertThatCode(() -> new TokenValidationService(queueRepository, clockAt(VIRTUAL_NOW))
+                .validate(new ValidateTokenQuery(CONCERT_ID, USER_ID, TOKEN)))
+                .doesNotThrowAnyException();
+
+        // And: 상태 조회와 재진입 검증도 활성 토큰으로 판정
+        var status = new QueueStatusQueryService(queueRepository, configProperties(), clockAt(VIRTUAL_NOW))
+                .getStatus(new GetQueueStatusQuery(CONCERT_ID, USER_ID));
+        assertThat(status.status()).isEqualTo(QueueStatus.ACTIVE);
+        var entryValidator = new QueueEntryValidatorImpl(
+                queueRepository, queueConfig, configProperties(), clockAt(VIRTUAL_NOW));
+        assertThat(entryValidator.checkActiveUser(CONCERT_ID, USER_ID)).isPresent();
+    }
+
+    @Test
+    @DisplayName("주입한 시계가 만료 시각을 지나면 검증과 연장 모두 만료로 거절한다")
+    void expiredByInjectedClock() {
+        // Given: 가상 시계 기준 1초 전에 만료된 토큰
+        var clock = clockAt(VIRTUAL_NOW);
+        var token = QueueToken.active(CONCERT_ID, USER_ID, TOKEN, VIRTUAL_NOW.minusSeconds(1), 0);
+        given(queueRepository.getActiveToken(CONCERT_ID, USER_ID)).willReturn(Optional.of(token));
+        given(queueRepository.extendTokenAtomic(eq(CONCERT_ID), eq(USER_ID), any(), anyInt()))
+                .willReturn(Optional.of(new TokenTransition(TransitionOutcome.REJECTED, token)));
+
+        // When & Then: 검증 거절
+        assertThatThrownBy(() -> new TokenValidationService(queueRepository, clock)
+                .validate(new ValidateTokenQuery(CONCERT_ID, USER_ID, TOKEN)))
+                .isInstanceOf(QueueTokenExpiredException.class);
+
+        // And: 연장 거절 사유도 도메인 서비스 시계 기준으로 만료
+        var extensionService = new TokenExtensionService(
+                queueRepository, new QueueDomainService(queueConfig, clock), queueConfig);
+        assertThatThrownBy(() -> extensionService.extend(new ExtendTokenCommand(CONCERT_ID, USER_ID)))
+                .isInstanceOf(QueueTokenExpiredException.class);
+    }
+
+    private static Clock clockAt(Instant instant) {
+        return Clock.fixed(instant, ZoneOffset.UTC);
+    }
+
+    private static QueueConfigProperties configProperties() {
+        var polling = new QueueConfigProperties.Polling(1000, 5000, 100, 500, 10, 1.0, 4, 0, 100, 512, 500);
+        return new QueueConfigProperties(null, null, polling, null, null, null, null, null, null, null, null, null);
+    }
+}
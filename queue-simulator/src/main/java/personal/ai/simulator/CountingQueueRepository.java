@@ -0,0 +1,183 @@
+package personal.ai.simulator;
+
+import lombok.RequiredArgsConstructor;
+import personal.ai.queue.application.port.out.QueueRepository;
+import personal.ai.queue.domain.model.ArrivalTicket;
+import personal.ai.queue.domain.model.QueuePosition;
+import personal.ai.queue.domain.model.QueueStatus;
+import personal.ai.queue.domain.model.QueueToken;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Redis 명령 수를 세는 QueueRepository 데코레이터
+ * 포트 메서드 1회 호출을 Redis 왕복 1회(Lua 스크립트 또는 단일 명령)로 기록하고,
+ * 서비스가 버리는 활성화 배치 결과를 시뮬레이터가 읽을 수 있도록 보관한다.
+ */
+@RequiredArgsConstructor
+final class CountingQueueRepository implements QueueRepository {
+
+    private final QueueRepository delegate;
+    private final RedisOpsRecorder recorder;
+    private ActivationBatch lastActivation = new ActivationBatch(List.of(), 0L, 0L);
+
+    /**
+     * 마지막 moveToActiveQueueAtomic 결과
+     */
+    ActivationBatch lastActivation() {
+        return lastActivation;
+    }
+
+    /**
+     * 활성 콘서트가 없어 전환을 건너뛴 주기에 이전 배치를 다시 읽지 않도록 비움
+     */
+    void resetLastActivation() {
+        lastActivation = new ActivationBatch(List.of(), 0L, 0L);
+    }
+
+    /**
+     * 진입 시각은 저장소의 가상 시계 기준 (기본 구현의 Instant.now()를 쓰지 않음)
+     */
+    @Override
+    public QueuePosition enterQueue(String concertId, String userId) {
+        recorder.record("enter_queue", 1);
+        return delegate.enterQueue(concertId, userId);
+    }
+
+    @Override
+    public QueuePosition enterQueue(String concertId, String userId, Instant arrivedAt) {
+        recorder.record("enter_queue", 1);
+        return delegate.enterQueue(concertId, userId, arrivedAt);
+    }
+
+    @Override
+    public QueuePosition enterQueueWithTicket(String concertId, String userId, Instant arrivedAt,
+                                              Instant ticketValidUntil) {
+        recorder.record("enter_queue", 1);
+        return delegate.enterQueueWithTicket(concertId, userId, arrivedAt, ticketValidUntil);
+    }
+
+    @Override
+    public long loadArrivals(String concertId, List<ArrivalTicket> arrivals, Instant ticketValidUntil) {
+        recorder.record("load_arrivals", 1);
+        return delegate.loadArrivals(concertId, arrivals, ticketValidUntil);
+    }
+
+    @Override
+    public Long addToWaitQueue(String concertId, String userId) {
+        recorder.record("add_to_wait_queue", 1);
+        return delegate.addToWaitQueue(concertId, userId);
+    }
+
+    @Override
+    public Long getWaitQueuePosition(String concertId, String userId, ReadPurpose purpose) {
+        recorder.record("get_wait_queue_position", 1);
+        return delegate.getWaitQueuePosition(concertId, userId, purpose);
+    }
+
+    @Override
+    public Long getWaitQueueSize(String concertId, ReadPurpose purpose) {
+        recorder.record("get_wait_queue_size", 1);
+        return delegate.getWaitQueueSize(concertId, purpose);
+    }
+
+    @Override
+    public List<String> popFromWaitQueue(String concertId, int count) {
+        recorder.record("pop_from_wait_queue", 1);
+        return delegate.popFromWaitQueue(concertId, count);
+    }
+
+    @Override
+    public void addToActiveQueue(String concertId, String userId, String token, Instant expiredAt) {
+        recorder.record("add_to_active_queue", 1);
+        delegate.addToActiveQueue(concertId, userId, token, expiredAt);
+    }
+
+    @Override
+    public Optional<QueueToken> getActiveToken(String concertId, String userId, ReadPurpose purpose) {
+        recorder.record("get_active_token", 1);
+        return delegate.getActiveToken(concertId, userId, purpose);
+    }
+
+    @Override
+    public QueueEntrySnapshot getQueueEntrySnapshot(String concertId, String userId, ReadPurpose purpose) {
+        recorder.record("get_queue_status", 1);
+        return delegate.getQueueEntrySnapshot(concertId, userId, purpose);
+    }
+
+    @Override
+    public List<QueueEntrySnapshot> getQueueEntrySnapshots(String concertId, List<String> userIds) {
+        recorder.record("get_queue_status_batch", 1);
+        return delegate.getQueueEntrySnapshots(concertId, userIds);
+    }
+
+    @Override
+    public boolean updateTokenStatus(String concertId, String userId, QueueStatus status) {
+        recorder.record("update_token_status", 1);
+        return delegate.updateTokenStatus(concertId, userId, status);
+    }
+
+    @Override
+    public Optional<TokenTransition> extendTokenAtomic(String concertId, String userId, Instant newExpiredAt,
+                                                       int maxExtendCount) {
+        recorder.record("extend_token", 1);
+        return delegate.extendTokenAtomic(concertId, userId, newExpiredAt, maxExtendCount);
+    }
+
+    @Override
+    public Long getActiveQueueSize(String concertId) {
+        recorder.record("get_active_queue_size", 1);
+        return delegate.getActiveQueueSize(concertId);
+    }
+
+    @Override
+    public Long removeExpiredTokens(String concertId) {
+        recorder.record("remove_expired_tokens", 1);
+        return delegate.removeExpiredTokens(concertId);
+    }
+
+    @Override
+    public void removeFromActiveQueue(String concertId, String userId) {
+        recorder.record("remove_from_active_queue", 1);
+        delegate.removeFromActiveQueue(concertId, userId);
+    }
+
+    @Override
+    public long removeFromActiveQueueBatch(String concertId, List<ActiveRemoval> removals) {
+        recorder.record("remove_from_active_queue_batch", 1);
+        return delegate.removeFromActiveQueueBatch(concertId, removals);
+    }
+
+    @Override
+    public void removeFromWaitQueue(String concertId, String userId) {
+        recorder.record("remove_from_wait_queue", 1);
+        delegate.removeFromWaitQueue(concertId, userId);
+    }
+
+    @Override
+    public long getActivationEpoch(String concertId, ReadPurpose purpose) {
+        recorder.record("get_activation_epoch", 1);
+        return delegate.getActivationEpoch(concertId, purpose);
+    }
+
+    @Override
+    public ActivationBatch moveToActiveQueueAtomic(String concertId, int activeMaxSize, Instant expiredAt) {
+        recorder.record("move_to_active_queue", 1);
+        lastActivation = delegate.moveToActiveQueueAtomic(concertId, activeMaxSize, expiredAt);
+        return lastActivation;
+    }
+
+    @Override
+    public Optional<TokenTransition> activateTokenAtomic(String concertId, String userId, Instant newExpiredAt) {
+        recorder.record("activate_token", 1);
+        return delegate.activateTokenAtomic(concertId, userId, newExpiredAt);
+    }
+
+    @Override
+    public List<String> getActiveConcertIds() {
+        recorder.record("get_active_concert_ids", 1);
+        return delegate.getActiveConcertIds();
+    }
+}
@@ -0,0 +1,437 @@
+package personal.ai.simulator;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import personal.ai.common.exception.BusinessException;
+import personal.ai.queue.adapter.out.memory.InMemoryQueueRepository;
+import personal.ai.queue.application.port.in.ActivateTokenUseCase.ActivateTokenCommand;
+import personal.ai.queue.application.port.in.EnterQueueUseCase.EnterQueueCommand;
+import personal.ai.queue.application.port.in.ExtendTokenUseCase.ExtendTokenCommand;
+import personal.ai.queue.application.port.in.RemoveFromQueueUseCase.RemoveFromQueueCommand;
+import personal.ai.queue.application.service.ConcertBulkheads;
+import personal.ai.queue.application.service.EnterQueueService;
+import personal.ai.queue.application.service.QueueLobby;
+import personal.ai.queue.application.service.QueueRemovalService;
+import personal.ai.queue.application.service.QueueSchedulerService;
+import personal.ai.queue.application.service.TokenActivationService;
+import personal.ai.queue.application.service.TokenExtensionService;
+import personal.ai.queue.domain.model.QueueConfig;
+import personal.ai.queue.domain.model.QueueToken;
+import personal.ai.queue.domain.service.QueueDomainService;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+
+/**
+ * 대기열 → 예매 파이프라인 이산 사건 시뮬레이터
+ *
+ * queue-service의 유스케이스(진입, Wait → Active 전환, 만료 정리, 활성화, 연장, 퇴장)를
+ * 인메모리 저장소 위에서 가상 시계로 실행하므로, 활성화/만료 규칙은 운영 코드와 같다.
+ * 사용자 행동(도착, 폴링, 이탈, 좌석 선택 경합, 결제 지연)은 SimulationConfig의 확률 모델을 따른다.
+ *
+ * 결정성:
+ * - 사건은 (가상 시각, 등록 순서) 순으로 처리하고, 난수는 시드 하나에서만 뽑는다
+ * - 같은 설정이면 같은 리포트를 돌려준다
+ *
+ * 폴링은 사건으로 만들지 않고 활성화 주기마다 대기 인원 × 폴링 주기로 조회 명령 수를 적산한다.
+ * 활성화된 사용자가 READY를 알아차리는 시각만 개별 사건(다음 폴링까지의 균등 지연)으로 처리한다.
+ *
+ * 스레드 안전하지 않음 (인스턴스 하나는 한 번만 실행)
+ */
+public final class QueueSimulator {
+
+    static final String CONCERT_ID = "SIM-CONCERT";
+
+    /**
+     * 만료 몇 초 전에 연장을 시도하는지 (예매 페이지의 연장 안내 시점)
+     */
+    private static final long EXTENSION_LEAD_MILLIS = 30_000L;
+    private static final long MILLIS_PER_MINUTE = 60_000L;
+
+    private enum EventType {
+        ARRIVAL, ABANDON, ACTIVATION_TICK, CLEANUP_TICK, NOTICE, SEAT_PICK, PAYMENT_DONE, EXTENSION, TOKEN_EXPIRY
+    }
+
+    private record Event(long time, long sequence, EventType type, int user) implements Comparable<Event> {
+        @Override
+        public int compareTo(Event other) {
+            int byTime = Long.compare(time, other.time);
+            return byTime != 0 ? byTime : Long.compare(sequence, other.sequence);
+        }
+    }
+
+    private final SimulationConfig config;
+    private final SplittableRandom random;
+    private final VirtualClock clock = new VirtualClock();
+    private final RedisOpsRecorder opsRecorder = new RedisOpsRecorder(clock);
+    private final CountingQueueRepository repository;
+    private final EnterQueueService enterQueueService;
+    private final QueueSchedulerService schedulerService;
+    private final TokenActivationService activationService;
+    private final TokenExtensionService extensionService;
+    private final QueueRemovalService removalService;
+    private final SeatInventory seats;
+
+    private final PriorityQueue<Event> events = new PriorityQueue<>();
+    private long nextSequence;
+
+    private final UserStage[] stages;
+    private final long[] arrivedAt;
+    private final long[] tokenExpiresAt;
+    private final int[] targetSeats;
+    private final int[] seatAttempts;
+    private final long[] waitMillis;
+    private final long[] purchaseMillis;
+    private int activatedCount;
+    private int purchasedCount;
+    private int unresolved;
+    private int ghostsWaiting;
+    private int engaged;
+
+    private long seatConflicts;
+    private long soldOutAt = -1;
+    private long[] purchasesPerMinute = new long[360];
+    private double pendingPolls;
+    private double occupiedSlotSum;
+    private double engagedSlotSum;
+    private long slotSamples;
+
+    public QueueSimulator(SimulationConfig config) {
+        this.config = config;
+        this.random = new SplittableRandom(config.seed());
+
+        QueueConfig queueConfig = config.queueConfig();
+        QueueDomainService domainService = new QueueDomainService(queueConfig, clock);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        this.repository = new CountingQueueRepository(new InMemoryQueueRepository(queueConfig, clock), opsRecorder);
+        this.enterQueueService = new EnterQueueService(repository, QueueLobby.disabled(), ConcertBulkheads.unbounded());
+        this.schedulerService = new QueueSchedulerService(repository, domainService, queueConfig, meterRegistry);
+        this.activationService = new TokenActivationService(repository, domainService);
+        this.extensionService = new TokenExtensionService(repository, domainService, queueConfig);
+        this.removalService = new QueueRemovalService(repository, meterRegistry);
+        this.seats = new SeatInventory(config.seats(), config.hotSeatRatio());
+
+        int users = config.users();
+        this.stages = new UserStage[users];
+        this.arrivedAt = new long[users];
+        this.tokenExpiresAt = new long[users];
+        this.targetSeats = new int[users];
+        this.seatAttempts = new int[users];
+        this.waitMillis = new long[users];
+        this.purchaseMillis = new long[users];
+    }
+
+    /**
+     * 모든 사용자가 결과에 도달하거나 최대 가상 시간에 이를 때까지 실행
+     * (남은 이탈 타이머 등은 처리하지 않으므로 가상 시간은 마지막 사용자의 결과 시각)
+     */
+    public SimulationReport run() {
+        scheduleArrivals();
+        schedule(0, EventType.ACTIVATION_TICK, -1);
+        schedule(0, EventType.CLEANUP_TICK, -1);
+
+        long limit = config.maxSimulatedSeconds() * 1_000;
+        while (unresolved > 0 && !events.isEmpty()) {
+            Event event = events.poll();
+            if (event.time() > limit) {
+                break;
+            }
+            clock.advanceTo(event.time());
+            handle(event);
+        }
+
+        return report();
+    }
+
+    private void handle(Event event) {
+        int user = event.user();
+        switch (event.type()) {
+            case ARRIVAL -> arrive(user);
+            case ABANDON -> abandon(user);
+            case ACTIVATION_TICK -> activationTick();
+            case CLEANUP_TICK -> cleanupTick();
+            case NOTICE -> notice(user);
+            case SEAT_PICK -> pickSeat(user);
+            case PAYMENT_DONE -> completePayment(user);
+            case EXTENSION -> extend(user);
+            case TOKEN_EXPIRY -> expire(user);
+        }
+    }
+
+    // ========== 대기 ==========
+
+    private void scheduleArrivals() {
+        for (int user = 0; user < config.users(); user++) {
+            int window = random.nextDouble() < config.burstRatio() ? config.burstSeconds() : config.arrivalWindowSeconds();
+            schedule((long) (random.nextDouble() * window * 1_000), EventType.ARRIVAL, user);
+        }
+        unresolved = config.users();
+    }
+
+    private void arrive(int user) {
+        enterQueueService.enter(new EnterQueueCommand(CONCERT_ID, userId(user)));
+        stages[user] = UserStage.WAITING;
+        arrivedAt[user] = clock.elapsedMillis();
+
+        if (config.meanPatienceSeconds() > 0) {
+            scheduleAfter(exponentialMillis(config.meanPatienceSeconds()), EventType.ABANDON, user);
+        }
+    }
+
+    /**
+     * 대기 이탈: 이탈 API가 없으므로 폴링만 멈추고 대기열에는 남는다
+     */
+    private void abandon(int user) {
+        if (stages[user] == UserStage.WAITING) {
+            stages[user] = UserStage.GHOST;
+            ghostsWaiting++;
+        }
+    }
+
+    private void activationTick() {
+        schedulerService.moveAllConcerts();
+
+        var batch = repository.lastActivation();
+        List<String> moved = batch.movedUserIds();
+        for (int rank = 0; rank < moved.size(); rank++) {
+            activated(userIndex(moved.get(rank)), rank);
+        }
+        repository.resetLastActivation();
+
+        recordPolls(batch.waitQueueSize());
+        occupiedSlotSum += (double) batch.activeQueueSize() / config.activeMaxSize();
+        engagedSlotSum += (double) engaged / config.activeMaxSize();
+        slotSamples++;
+
+        if (unresolved > 0) {
+            scheduleAfter(config.activationIntervalMs(), EventType.ACTIVATION_TICK, -1);
+        }
+    }
+
+    private void activated(int user, int rank) {
+        long now = clock.elapsedMillis();
+        waitMillis[activatedCount++] = now - arrivedAt[user];
+
+        if (stages[user] == UserStage.GHOST) {
+            ghostsWaiting--;
+            resolve(user, UserStage.ABANDONED);
+            return;
+        }
+
+        // 다음 폴링에서 READY를 확인 (전환 시점 순번에 따른 폴링 주기 내 균등 지연)
+        stages[user] = UserStage.READY;
+        long interval = rank < config.pollFastThreshold() ? config.pollFastIntervalMs() : config.pollSlowIntervalMs();
+        scheduleAfter((long) (random.nextDouble() * interval), EventType.NOTICE, user);
+    }
+
+    /**
+     * 대기 중인 사용자의 상태 조회 수 적산 (이탈한 사용자는 폴링하지 않음)
+     */
+    private void recordPolls(long waiting) {
+        long pollers = Math.max(0, waiting - ghostsWaiting);
+        if (pollers == 0) {
+            return;
+        }
+
+        double fastPollers = Math.min(waiting, config.pollFastThreshold()) * ((double) pollers / waiting);
+        double slowPollers = pollers - fastPollers;
+        double interval = config.activationIntervalMs();
+        pendingPolls += fastPollers * interval / config.pollFastIntervalMs()
+                + slowPollers * interval / config.pollSlowIntervalMs();
+
+        long polls = (long) pendingPolls;
+        pendingPolls -= polls;
+        opsRecorder.record("get_queue_status", polls);
+    }
+
+    private void cleanupTick() {
+        schedulerService.cleanupAllConcerts();
+
+        if (unresolved > 0) {
+            scheduleAfter(config.cleanupIntervalMs(), EventType.CLEANUP_TICK, -1);
+        }
+    }
+
+    // ========== 예매 ==========
+
+    /**
+     * READY 확인 → 예매 페이지 진입 (READY → ACTIVE)
+     */
+    private void notice(int user) {
+        if (random.nextDouble() < config.noShowRatio()) {
+            resolve(user, UserStage.NO_SHOW);
+            return;
+        }
+
+        QueueToken token;
+        try {
+            token = activationService.activate(new ActivateTokenCommand(CONCERT_ID, userId(user)));
+        } catch (BusinessException e) {
+            resolve(user, UserStage.READY_EXPIRED);
+            return;
+        }
+
+        stages[user] = UserStage.SELECTING;
+        engaged++;
+        scheduleTokenDeadline(user, token);
+        startSeatSelection(user);
+    }
+
+    private void startSeatSelection(int user) {
+        int seat = seats.pickFree(random, config.hotPickRatio());
+        if (seat < 0) {
+            resolve(user, UserStage.SOLD_OUT);
+            return;
+        }
+
+        targetSeats[user] = seat;
+        scheduleAfter(exponentialMillis(config.meanSeatSelectSeconds()), EventType.SEAT_PICK, user);
+    }
+
+    private void pickSeat(int user) {
+        if (stages[user] != UserStage.SELECTING) {
+            return;
+        }
+
+        if (seats.tryHold(targetSeats[user])) {
+            stages[user] = UserStage.PAYING;
+            scheduleAfter(exponentialMillis(config.meanPaymentSeconds()), EventType.PAYMENT_DONE, user);
+            return;
+        }
+
+        // 고민하는 동안 다른 사용자가 먼저 점유
+        seatConflicts++;
+        if (++seatAttempts[user] >= config.maxSeatAttempts()) {
+            resolve(user, UserStage.SEAT_CONFLICT);
+            return;
+        }
+        startSeatSelection(user);
+    }
+
+    private void completePayment(int user) {
+        if (stages[user] != UserStage.PAYING) {
+            return;
+        }
+
+        if (random.nextDouble() < config.paymentFailureRatio()) {
+            seats.release(targetSeats[user]);
+            resolve(user, UserStage.PAYMENT_FAILED);
+            return;
+        }
+
+        seats.sell(targetSeats[user]);
+        long now = clock.elapsedMillis();
+        purchaseMillis[purchasedCount++] = now - arrivedAt[user];
+        recordPurchase(now);
+        if (seats.isSoldOut() && soldOutAt < 0) {
+            soldOutAt = now;
+        }
+
+        // 결제 완료 이벤트 → Active Queue 퇴장
+        removalService.removeFromQueue(new RemoveFromQueueCommand(CONCERT_ID, userId(user)));
+        resolve(user, UserStage.PURCHASED);
+    }
+
+    // ========== 토큰 만료/연장 ==========
+
+    private void scheduleTokenDeadline(int user, QueueToken token) {
+        tokenExpiresAt[user] = token.expiredAt().toEpochMilli() - VirtualClock.EPOCH.toEpochMilli();
+        long extendAt = tokenExpiresAt[user] - EXTENSION_LEAD_MILLIS;
+        schedule(Math.max(clock.elapsedMillis(), extendAt), EventType.EXTENSION, user);
+    }
+
+    private void extend(int user) {
+        if (!stages[user].isBooking()) {
+            return;
+        }
+
+        try {
+            scheduleTokenDeadline(user, extensionService.extend(new ExtendTokenCommand(CONCERT_ID, userId(user))));
+        } catch (BusinessException e) {
+            schedule(tokenExpiresAt[user], EventType.TOKEN_EXPIRY, user);
+        }
+    }
+
+    private void expire(int user) {
+        if (!stages[user].isBooking()) {
+            return;
+        }
+
+        if (stages[user] == UserStage.PAYING) {
+            seats.release(targetSeats[user]);
+        }
+        resolve(user, UserStage.TOKEN_EXPIRED);
+    }
+
+    // ========== 공통 ==========
+
+    private void resolve(int user, UserStage outcome) {
+        if (stages[user] != null && stages[user].isBooking()) {
+            engaged--;
+        }
+        stages[user] = outcome;
+        unresolved--;
+    }
+
+    private void recordPurchase(long now) {
+        int minute = (int) (now / MILLIS_PER_MINUTE);
+        if (minute >= purchasesPerMinute.length) {
+            purchasesPerMinute = Arrays.copyOf(purchasesPerMinute, Math.max(minute + 1, purchasesPerMinute.length * 2));
+        }
+        purchasesPerMinute[minute]++;
+    }
+
+    private long exponentialMillis(double meanSeconds) {
+        return (long) (-meanSeconds * 1_000 * Math.log(1 - random.nextDouble()));
+    }
+
+    private void scheduleAfter(long delayMillis, EventType type, int user) {
+        schedule(clock.elapsedMillis() + delayMillis, type, user);
+    }
+
+    private void schedule(long time, EventType type, int user) {
+        events.add(new Event(time, nextSequence++, type, user));
+    }
+
+    private static String userId(int user) {
+        return "U" + user;
+    }
+
+    private static int userIndex(String userId) {
+        return Integer.parseInt(userId, 1, userId.length(), 10);
+    }
+
+    private SimulationReport report() {
+        Map<UserStage, Long> outcomes = new EnumMap<>(UserStage.class);
+        for (UserStage stage : stages) {
+            UserStage outcome = stage != null ? stage : UserStage.WAITING;
+            outcomes.merge(outcome, 1L, Long::sum);
+        }
+
+        long simulatedSeconds = Math.max(1, (clock.elapsedMillis() + 999) / 1_000);
+        long activeMinutes = Math.max(1, (clock.elapsedMillis() + MILLIS_PER_MINUTE - 1) / MILLIS_PER_MINUTE);
+
+        return new SimulationReport(
+                config.users(),
+                outcomes,
+                unresolved,
+                simulatedSeconds,
+                soldOutAt >= 0 ? soldOutAt / 1_000 : -1,
+                seats.sold(),
+                (double) purchasedCount / activeMinutes,
+                Arrays.stream(purchasesPerMinute).max().orElse(0L),
+                SimulationReport.Distribution.of(waitMillis, activatedCount),
+                SimulationReport.Distribution.of(purchaseMillis, purchasedCount),
+                seatConflicts,
+                slotSamples > 0 ? occupiedSlotSum / slotSamples : 0.0,
+                slotSamples > 0 ? engagedSlotSum / slotSamples : 0.0,
+                opsRecorder.total(),
+                opsRecorder.meanPerSecond(simulatedSeconds),
+                opsRecorder.peakPerSecond(),
+                opsRecorder.totals());
+    }
+}
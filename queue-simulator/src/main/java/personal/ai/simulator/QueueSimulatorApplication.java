@@ -0,0 +1,42 @@
+package personal.ai.simulator;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 대기열 시뮬레이터 실행 진입점
+ *
+ * 사용법:
+ *   ./gradlew :queue-simulator:run --args="--users=300000 --active-max-size=3000 --token-ttl-seconds=180"
+ *
+ * 옵션 이름은 SimulationConfig 필드의 케밥 케이스이며, 지정하지 않은 값은 SimulationConfig.defaults()를 따른다.
+ */
+public final class QueueSimulatorApplication {
+
+    private QueueSimulatorApplication() {
+    }
+
+    public static void main(String[] args) {
+        SimulationConfig config = SimulationConfig.defaults().with(parseOptions(args));
+        System.out.println(config);
+
+        long startedAt = System.nanoTime();
+        SimulationReport report = new QueueSimulator(config).run();
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        System.out.print(report.format());
+        System.out.printf("%nWall time        : %,dms%n", elapsedMillis);
+    }
+
+    static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Options must look like --name=value, but was: " + arg);
+            }
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return options;
+    }
+}
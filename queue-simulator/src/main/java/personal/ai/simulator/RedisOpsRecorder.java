@@ -0,0 +1,58 @@
+package personal.ai.simulator;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Redis 명령 수 기록기
+ * 저장소 포트 호출 1회를 Redis 왕복 1회로 보고 (QueueRoundTripBudgetTest 기준), 가상 시각 1초 단위로 집계한다.
+ */
+final class RedisOpsRecorder {
+
+    private final VirtualClock clock;
+    private final Map<String, Long> totals = new TreeMap<>();
+    private long[] perSecond = new long[3_600];
+    private long lastSecond;
+
+    RedisOpsRecorder(VirtualClock clock) {
+        this.clock = clock;
+    }
+
+    void record(String operation, long count) {
+        if (count <= 0) {
+            return;
+        }
+
+        totals.merge(operation, count, Long::sum);
+
+        int second = (int) (clock.elapsedMillis() / 1_000);
+        if (second >= perSecond.length) {
+            perSecond = Arrays.copyOf(perSecond, Math.max(second + 1, perSecond.length * 2));
+        }
+        perSecond[second] += count;
+        lastSecond = Math.max(lastSecond, second);
+    }
+
+    /**
+     * 연산별 누적 명령 수 (이름순)
+     */
+    Map<String, Long> totals() {
+        return new TreeMap<>(totals);
+    }
+
+    long total() {
+        return totals.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    long peakPerSecond() {
+        return Arrays.stream(perSecond, 0, (int) lastSecond + 1).max().orElse(0L);
+    }
+
+    /**
+     * 0초부터 durationSeconds까지의 평균 초당 명령 수
+     */
+    double meanPerSecond(long durationSeconds) {
+        return durationSeconds > 0 ? (double) total() / durationSeconds : 0.0;
+    }
+}
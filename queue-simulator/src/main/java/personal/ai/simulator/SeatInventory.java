@@ -0,0 +1,99 @@
+package personal.ai.simulator;
+
+import java.util.SplittableRandom;
+
+/**
+ * 좌석 재고 (선호 구역 + 일반 구역)
+ *
+ * 빈 좌석을 구역별 배열에 두고 위치 인덱스로 O(1) 무작위 선택/제거한다.
+ * 사용자는 선택 시점에 빈 좌석을 고르고, 고민하는 동안 다른 사용자가 먼저 점유하면 충돌로 본다.
+ */
+final class SeatInventory {
+
+    private static final byte FREE = 0;
+    private static final byte HELD = 1;
+    private static final byte SOLD = 2;
+    private static final int NONE = -1;
+
+    private final byte[] states;
+    private final int hotSeats;
+    private final int[][] pools = new int[2][];
+    private final int[] poolSizes = new int[2];
+    private final int[] positions;
+    private int sold;
+
+    SeatInventory(int seats, double hotSeatRatio) {
+        this.states = new byte[seats];
+        this.hotSeats = (int) Math.round(seats * hotSeatRatio);
+        this.positions = new int[seats];
+        pools[0] = new int[hotSeats];
+        pools[1] = new int[seats - hotSeats];
+        for (int seat = 0; seat < seats; seat++) {
+            int pool = poolOf(seat);
+            positions[seat] = poolSizes[pool];
+            pools[pool][poolSizes[pool]++] = seat;
+        }
+    }
+
+    /**
+     * 빈 좌석 하나를 고름 (hotPickRatio 확률로 선호 구역 우선, 비었으면 다른 구역)
+     *
+     * @return 좌석 번호 (빈 좌석이 없으면 -1)
+     */
+    int pickFree(SplittableRandom random, double hotPickRatio) {
+        int preferred = random.nextDouble() < hotPickRatio ? 0 : 1;
+        int pool = poolSizes[preferred] > 0 ? preferred : 1 - preferred;
+        if (poolSizes[pool] == 0) {
+            return NONE;
+        }
+        return pools[pool][random.nextInt(poolSizes[pool])];
+    }
+
+    /**
+     * 좌석 점유 (이미 점유/판매된 좌석이면 실패)
+     */
+    boolean tryHold(int seat) {
+        if (states[seat] != FREE) {
+            return false;
+        }
+        states[seat] = HELD;
+        removeFromPool(seat);
+        return true;
+    }
+
+    void release(int seat) {
+        if (states[seat] == HELD) {
+            states[seat] = FREE;
+            int pool = poolOf(seat);
+            positions[seat] = poolSizes[pool];
+            pools[pool][poolSizes[pool]++] = seat;
+        }
+    }
+
+    void sell(int seat) {
+        if (states[seat] == HELD) {
+            states[seat] = SOLD;
+            sold++;
+        }
+    }
+
+    int sold() {
+        return sold;
+    }
+
+    boolean isSoldOut() {
+        return sold == states.length;
+    }
+
+    private int poolOf(int seat) {
+        return seat < hotSeats ? 0 : 1;
+    }
+
+    private void removeFromPool(int seat) {
+        int pool = poolOf(seat);
+        int position = positions[seat];
+        int last = pools[pool][--poolSizes[pool]];
+        pools[pool][position] = last;
+        positions[last] = position;
+    }
+}
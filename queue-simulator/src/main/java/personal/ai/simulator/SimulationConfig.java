@@ -0,0 +1,172 @@
+package personal.ai.simulator;
+
+import personal.ai.queue.domain.model.QueueConfig;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 시뮬레이션 설정 (Value Object)
+ * 대기열 정책(queue-service 설정과 같은 이름)과 사용자 행동 모델을 함께 담는다.
+ *
+ * 사용자 행동 모델:
+ * - 도착: burstRatio 비율은 오픈 직후 burstSeconds 동안, 나머지는 arrivalWindowSeconds 동안 균등 도착
+ * - 이탈: 대기 인내 시간 ~ 지수분포(meanPatienceSeconds, 0이면 이탈 없음)
+ *         이탈 API가 없으므로 폴링만 멈추고 대기열에는 남는다 (활성화되면 READY 슬롯을 TTL까지 점유)
+ * - 미입장: 활성화된 사용자 중 noShowRatio 비율은 예매 페이지에 들어오지 않음
+ * - 좌석 선택: 선택 시간 ~ 지수분포(meanSeatSelectSeconds), 선택 시점에 보이는 빈 좌석 중 선호 구역 우선
+ * - 결제: 소요 시간 ~ 지수분포(meanPaymentSeconds), paymentFailureRatio 비율로 실패
+ */
+public record SimulationConfig(
+        long seed,
+        int users,
+        int burstSeconds,
+        double burstRatio,
+        int arrivalWindowSeconds,
+        int activeMaxSize,
+        int tokenTtlSeconds,
+        int activatedTtlSeconds,
+        int maxExtensionCount,
+        long activationIntervalMs,
+        long cleanupIntervalMs,
+        long pollFastIntervalMs,
+        long pollSlowIntervalMs,
+        int pollFastThreshold,
+        double meanPatienceSeconds,
+        double noShowRatio,
+        int seats,
+        double hotSeatRatio,
+        double hotPickRatio,
+        double meanSeatSelectSeconds,
+        int maxSeatAttempts,
+        double meanPaymentSeconds,
+        double paymentFailureRatio,
+        long maxSimulatedSeconds
+) {
+    private static final Set<String> KEYS = Set.of(
+            "seed", "users", "burst-seconds", "burst-ratio", "arrival-window-seconds",
+            "active-max-size", "token-ttl-seconds", "activated-ttl-seconds", "max-extension-count",
+            "activation-interval-ms", "cleanup-interval-ms",
+            "poll-fast-interval-ms", "poll-slow-interval-ms", "poll-fast-threshold",
+            "mean-patience-seconds", "no-show-ratio",
+            "seats", "hot-seat-ratio", "hot-pick-ratio", "mean-seat-select-seconds", "max-seat-attempts",
+            "mean-payment-seconds", "payment-failure-ratio", "max-simulated-seconds");
+
+    public SimulationConfig {
+        requirePositive("users", users);
+        requirePositive("burstSeconds", burstSeconds);
+        requirePositive("arrivalWindowSeconds", arrivalWindowSeconds);
+        requirePositive("activeMaxSize", activeMaxSize);
+        requirePositive("tokenTtlSeconds", tokenTtlSeconds);
+        requirePositive("activatedTtlSeconds", activatedTtlSeconds);
+        requirePositive("activationIntervalMs", activationIntervalMs);
+        requirePositive("cleanupIntervalMs", cleanupIntervalMs);
+        requirePositive("pollFastIntervalMs", pollFastIntervalMs);
+        requirePositive("pollSlowIntervalMs", pollSlowIntervalMs);
+        requirePositive("seats", seats);
+        requirePositive("maxSeatAttempts", maxSeatAttempts);
+        requirePositive("maxSimulatedSeconds", maxSimulatedSeconds);
+        requireRatio("burstRatio", burstRatio);
+        requireRatio("noShowRatio", noShowRatio);
+        requireRatio("hotSeatRatio", hotSeatRatio);
+        requireRatio("hotPickRatio", hotPickRatio);
+        requireRatio("paymentFailureRatio", paymentFailureRatio);
+        if (maxExtensionCount < 0 || pollFastThreshold < 0 || meanPatienceSeconds < 0
+                || meanSeatSelectSeconds < 0 || meanPaymentSeconds < 0) {
+            throw new IllegalArgumentException("counts and mean durations must be non-negative");
+        }
+    }
+
+    /**
+     * 기본 설정: 30만 명 티켓 오픈 (queue-service application.yml 기본값 + 관측 기반 행동 모델)
+     */
+    public static SimulationConfig defaults() {
+        return new SimulationConfig(
+                42L,
+                300_000, 60, 0.7, 1_800,
+                50_000, 300, 600, 2,
+                1_000L, 1_000L,
+                3_000L, 10_000L, 1_000,
+                900.0, 0.05,
+                50_000, 0.2, 0.6,
+                40.0, 5,
+                20.0, 0.03,
+                6 * 3_600L);
+    }
+
+    /**
+     * 대기열 도메인 설정으로 변환 (활성화 주기는 초 단위, 최소 1초)
+     */
+    public QueueConfig queueConfig() {
+        int intervalSeconds = (int) Math.max(1, activationIntervalMs / 1_000);
+        return new QueueConfig(activeMaxSize, tokenTtlSeconds, activatedTtlSeconds, maxExtensionCount, intervalSeconds);
+    }
+
+    /**
+     * 명령행 인자(--active-max-size=3000 형식)로 덮어쓴 설정
+     *
+     * @param overrides 케밥 케이스 키와 값
+     * @throws IllegalArgumentException 알 수 없는 키
+     */
+    public SimulationConfig with(Map<String, String> overrides) {
+        overrides.keySet().stream()
+                .filter(key -> !KEYS.contains(key))
+                .findFirst()
+                .ifPresent(key -> {
+                    throw new IllegalArgumentException("Unknown simulation option: --" + key);
+                });
+
+        return new SimulationConfig(
+                longOf(overrides, "seed", seed),
+                intOf(overrides, "users", users),
+                intOf(overrides, "burst-seconds", burstSeconds),
+                doubleOf(overrides, "burst-ratio", burstRatio),
+                intOf(overrides, "arrival-window-seconds", arrivalWindowSeconds),
+                intOf(overrides, "active-max-size", activeMaxSize),
+                intOf(overrides, "token-ttl-seconds", tokenTtlSeconds),
+                intOf(overrides, "activated-ttl-seconds", activatedTtlSeconds),
+                intOf(overrides, "max-extension-count", maxExtensionCount),
+                longOf(overrides, "activation-interval-ms", activationIntervalMs),
+                longOf(overrides, "cleanup-interval-ms", cleanupIntervalMs),
+                longOf(overrides, "poll-fast-interval-ms", pollFastIntervalMs),
+                longOf(overrides, "poll-slow-interval-ms", pollSlowIntervalMs),
+                intOf(overrides, "poll-fast-threshold", pollFastThreshold),
+                doubleOf(overrides, "mean-patience-seconds", meanPatienceSeconds),
+                doubleOf(overrides, "no-show-ratio", noShowRatio),
+                intOf(overrides, "seats", seats),
+                doubleOf(overrides, "hot-seat-ratio", hotSeatRatio),
+                doubleOf(overrides, "hot-pick-ratio", hotPickRatio),
+                doubleOf(overrides, "mean-seat-select-seconds", meanSeatSelectSeconds),
+                intOf(overrides, "max-seat-attempts", maxSeatAttempts),
+                doubleOf(overrides, "mean-payment-seconds", meanPaymentSeconds),
+                doubleOf(overrides, "payment-failure-ratio", paymentFailureRatio),
+                longOf(overrides, "max-simulated-seconds", maxSimulatedSeconds));
+    }
+
+    private static int intOf(Map<String, String> overrides, String key, int current) {
+        String value = overrides.get(key);
+        return value != null ? Integer.parseInt(value) : current;
+    }
+
+    private static long longOf(Map<String, String> overrides, String key, long current) {
+        String value = overrides.get(key);
+        return value != null ? Long.parseLong(value) : current;
+    }
+
+    private static double doubleOf(Map<String, String> overrides, String key, double current) {
+        String value = overrides.get(key);
+        return value != null ? Double.parseDouble(value) : current;
+    }
+
+    private static void requirePositive(String name, long value) {
+        if (value <= 0) {
+            throw new IllegalArgumentException(name + " must be positive (> 0), but was: " + value);
+        }
+    }
+
+    private static void requireRatio(String name, double value) {
+        if (value < 0 || value > 1) {
+            throw new IllegalArgumentException(name + " must be within [0, 1], but was: " + value);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package personal.ai.simulator;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * 시뮬레이션 결과
+ *
+ * @param users               전체 사용자 수
+ * @param outcomes            단계별 사용자 수 (미해결 사용자는 진행 중 단계)
+ * @param unresolved          최대 가상 시간 안에 결과에 도달하지 못한 사용자 수
+ * @param simulatedSeconds    마지막 사건까지의 가상 시간 (초)
+ * @param soldOutAtSeconds    매진 시각 (초, 매진되지 않았으면 -1)
+ * @param seatsSold           판매 좌석 수
+ * @param purchasesPerMinute  분당 평균 예매 완료 수
+ * @param peakPurchasesPerMinute 최대 분당 예매 완료 수
+ * @param queueWait           진입 → READY 전환 대기 시간 분포
+ * @param timeToPurchase      진입 → 결제 완료 시간 분포
+ * @param seatConflicts       좌석 선택 충돌 횟수
+ * @param slotOccupancy       Active Queue 평균 점유율 (READY/ACTIVE 토큰 수 / 최대 크기)
+ * @param slotEngagement      실제 예매 중(좌석 선택/결제)인 슬롯 비율
+ * @param redisOps            전체 Redis 명령 수
+ * @param meanRedisOpsPerSecond 평균 초당 Redis 명령 수
+ * @param peakRedisOpsPerSecond 최대 초당 Redis 명령 수
+ * @param redisOpsByOperation 연산별 Redis 명령 수
+ */
+public record SimulationReport(
+        int users,
+        Map<UserStage, Long> outcomes,
+        int unresolved,
+        long simulatedSeconds,
+        long soldOutAtSeconds,
+        int seatsSold,
+        double purchasesPerMinute,
+        long peakPurchasesPerMinute,
+        Distribution queueWait,
+        Distribution timeToPurchase,
+        long seatConflicts,
+        double slotOccupancy,
+        double slotEngagement,
+        long redisOps,
+        double meanRedisOpsPerSecond,
+        long peakRedisOpsPerSecond,
+        Map<String, Long> redisOpsByOperation
+) {
+
+    /**
+     * 시간 분포 (초)
+     */
+    public record Distribution(long count, double p50, double p90, double p99, double max) {
+
+        static Distribution of(long[] millis, int count) {
+            if (count == 0) {
+                return new Distribution(0, 0, 0, 0, 0);
+            }
+
+            long[] sorted = Arrays.copyOf(millis, count);
+            Arrays.sort(sorted);
+            return new Distribution(count,
+                    percentile(sorted, 0.50), percentile(sorted, 0.90), percentile(sorted, 0.99),
+                    sorted[count - 1] / 1_000.0);
+        }
+
+        private static double percentile(long[] sorted, double quantile) {
+            int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return sorted[Math.max(0, index)] / 1_000.0;
+        }
+
+        String format() {
+            return String.format("p50=%.1fs p90=%.1fs p99=%.1fs max=%.1fs (n=%d)", p50, p90, p99, max, count);
+        }
+    }
+
+    public long outcome(UserStage stage) {
+        return outcomes.getOrDefault(stage, 0L);
+    }
+
+    /**
+     * 콘솔 출력용 요약
+     */
+    public String format() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%n=== Queue Simulation Report ===%n"));
+        sb.append(String.format("Users            : %,d (unresolved %,d)%n", users, unresolved));
+        sb.append(String.format("Simulated time   : %,ds%n", simulatedSeconds));
+        sb.append(String.format("Seats sold       : %,d%s%n", seatsSold,
+                soldOutAtSeconds >= 0 ? String.format(" (sold out at %,ds)", soldOutAtSeconds) : ""));
+
+        sb.append(String.format("%n-- Outcomes --%n"));
+        outcomes.forEach((stage, count) -> sb.append(String.format("%-16s : %,d (%s)%n",
+                stage, count, stage.description())));
+
+        sb.append(String.format("%n-- Throughput --%n"));
+        sb.append(String.format("Purchases/min    : mean %.1f, peak %,d%n", purchasesPerMinute, peakPurchasesPerMinute));
+        sb.append(String.format("Seat conflicts   : %,d%n", seatConflicts));
+
+        sb.append(String.format("%n-- Latency --%n"));
+        sb.append(String.format("Queue wait       : %s%n", queueWait.format()));
+        sb.append(String.format("Time to purchase : %s%n", timeToPurchase.format()));
+
+        sb.append(String.format("%n-- Active slots --%n"));
+        sb.append(String.format("Occupancy        : %.1f%%%n", slotOccupancy * 100));
+        sb.append(String.format("Engaged          : %.1f%%%n", slotEngagement * 100));
+
+        sb.append(String.format("%n-- Redis --%n"));
+        sb.append(String.format("Ops              : %,d total, mean %.0f/s, peak %,d/s%n",
+                redisOps, meanRedisOpsPerSecond, peakRedisOpsPerSecond));
+        redisOpsByOperation.forEach((operation, count) -> sb.append(String.format("  %-24s : %,d%n", operation, count)));
+
+        return sb.toString();
+    }
+}
@@ -0,0 +1,41 @@
+package personal.ai.simulator;
+
+/**
+ * 시뮬레이션 사용자의 진행 단계와 최종 결과
+ */
+public enum UserStage {
+
+    // ========== 진행 중 ==========
+    WAITING("대기 중"),
+    GHOST("이탈 (대기열에 남음)"),
+    READY("READY 확인 전"),
+    SELECTING("좌석 선택 중"),
+    PAYING("결제 중"),
+
+    // ========== 최종 결과 ==========
+    PURCHASED("예매 완료"),
+    ABANDONED("대기 중 이탈"),
+    NO_SHOW("READY 후 미입장"),
+    READY_EXPIRED("READY 만료 후 입장"),
+    TOKEN_EXPIRED("예매 중 토큰 만료"),
+    SEAT_CONFLICT("좌석 경합으로 포기"),
+    SOLD_OUT("매진"),
+    PAYMENT_FAILED("결제 실패");
+
+    private final String description;
+
+    UserStage(String description) {
+        this.description = description;
+    }
+
+    public String description() {
+        return description;
+    }
+
+    /**
+     * Active Queue 슬롯을 실제 예매에 쓰고 있는 단계
+     */
+    public boolean isBooking() {
+        return this == SELECTING || this == PAYING;
+    }
+}
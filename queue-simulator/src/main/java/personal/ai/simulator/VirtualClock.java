@@ -0,0 +1,57 @@
+package personal.ai.simulator;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/**
+ * 가상 시계
+ * 시뮬레이터가 사건 시각으로 직접 이동시키며, 저장소/도메인 서비스의 만료 계산 기준이 된다.
+ *
+ * 스레드 안전하지 않음 (시뮬레이션은 단일 스레드)
+ */
+final class VirtualClock extends Clock {
+
+    /**
+     * 결과 재현을 위한 고정 시작 시각
+     */
+    static final Instant EPOCH = Instant.parse("2026-01-01T00:00:00Z");
+
+    private long elapsedMillis;
+
+    /**
+     * 시작 시각으로부터 경과 시간 (ms)
+     */
+    long elapsedMillis() {
+        return elapsedMillis;
+    }
+
+    void advanceTo(long elapsedMillis) {
+        if (elapsedMillis < this.elapsedMillis) {
+            throw new IllegalStateException(
+                    "Virtual time cannot go back: now=" + this.elapsedMillis + ", requested=" + elapsedMillis);
+        }
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    @Override
+    public Instant instant() {
+        return EPOCH.plusMillis(elapsedMillis);
+    }
+
+    @Override
+    public long millis() {
+        return EPOCH.toEpochMilli() + elapsedMillis;
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        throw new UnsupportedOperationException("VirtualClock is UTC only");
+    }
+}
@@ -0,0 +1,47 @@
+package personal.ai.simulator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("대기열 시뮬레이터 테스트")
+class QueueSimulatorTest {
+
+    private static final SimulationConfig SMALL_OPEN = SimulationConfig.defaults().with(Map.of(
+            "users", "20000",
+            "active-max-size", "2000",
+            "seats", "5000",
+            "arrival-window-seconds", "600"));
+
+    @Test
+    @DisplayName("같은 시드면 같은 리포트를 돌려준다")
+    void sameSeedSameReport() {
+        // When: 같은 설정으로 두 번 실행
+        SimulationReport first = new QueueSimulator(SMALL_OPEN).run();
+        SimulationReport second = new QueueSimulator(SMALL_OPEN).run();
+
+        // Then
+        assertThat(second).isEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("모든 사용자가 하나의 결과에 도달하고, 판매 좌석은 재고를 넘지 않는다")
+    void everyUserResolved() {
+        // When
+        SimulationReport report = new QueueSimulator(SMALL_OPEN).run();
+
+        // Then: 사용자 수 보존
+        long resolved = report.outcomes().values().stream().mapToLong(Long::longValue).sum();
+        assertThat(report.unresolved()).isZero();
+        assertThat(resolved).isEqualTo(20_000L);
+
+        // Then: 예매 완료 = 판매 좌석 ≤ 재고, Active Queue 최대 크기 준수
+        assertThat(report.outcome(UserStage.PURCHASED)).isEqualTo(report.seatsSold());
+        assertThat(report.seatsSold()).isLessThanOrEqualTo(5_000);
+        assertThat(report.slotOccupancy()).isBetween(0.0, 1.0);
+        assertThat(report.redisOpsByOperation()).containsEntry("enter_queue", 20_000L);
+    }
+}